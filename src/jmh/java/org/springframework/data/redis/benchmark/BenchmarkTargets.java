@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.memory.InMemoryConnectionFactory;
+
+/**
+ * Creates the connection factories the benchmarks run against: <tt>memory</tt> (in-process, the default) or
+ * <tt>jedis</tt> (a local Redis server, configured through the <tt>redis.host</tt> and <tt>redis.port</tt> system
+ * properties).
+ *
+ * @author agent
+ */
+abstract class BenchmarkTargets {
+
+	static final String MEMORY = "memory";
+	static final String JEDIS = "jedis";
+
+	static RedisConnectionFactory connectionFactory(String target) {
+		if (MEMORY.equals(target)) {
+			return new InMemoryConnectionFactory();
+		}
+		if (JEDIS.equals(target)) {
+			JedisConnectionFactory factory = new JedisConnectionFactory();
+			factory.setHostName(System.getProperty("redis.host", "localhost"));
+			factory.setPort(Integer.getInteger("redis.port", 6379));
+			factory.setUsePool(true);
+			factory.afterPropertiesSet();
+			return factory;
+		}
+		throw new IllegalArgumentException("Unknown benchmark target " + target);
+	}
+
+	static void destroy(RedisConnectionFactory factory) throws Exception {
+		if (factory instanceof DisposableBean) {
+			((DisposableBean) factory).destroy();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Get (hit and miss) and put latency of a {@link Cache} created by {@link RedisCacheManager}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+	@Param({ BenchmarkTargets.MEMORY })
+	public String target;
+
+	@Param({ "false", "true" })
+	public boolean usePrefix;
+
+	private RedisConnectionFactory connectionFactory;
+	private Cache cache;
+
+	@Setup
+	public void setUp() {
+		connectionFactory = BenchmarkTargets.connectionFactory(target);
+
+		RedisTemplate<Object, Object> template = new RedisTemplate<Object, Object>();
+		template.setConnectionFactory(connectionFactory);
+		template.afterPropertiesSet();
+
+		RedisCacheManager cacheManager = new RedisCacheManager(template);
+		cacheManager.setUsePrefix(usePrefix);
+		cache = cacheManager.getCache("benchmark");
+		cache.put("hit", "cached value");
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		cache.clear();
+		BenchmarkTargets.destroy(connectionFactory);
+	}
+
+	@Benchmark
+	public ValueWrapper getHit() {
+		return cache.get("hit");
+	}
+
+	@Benchmark
+	public ValueWrapper getMiss() {
+		return cache.get("miss");
+	}
+
+	@Benchmark
+	public void put() {
+		cache.put("put", "cached value");
+	}
+}
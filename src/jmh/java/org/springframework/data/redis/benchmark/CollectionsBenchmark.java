@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.support.collections.DefaultRedisList;
+import org.springframework.data.redis.support.collections.DefaultRedisMap;
+import org.springframework.data.redis.support.collections.RedisList;
+import org.springframework.data.redis.support.collections.RedisMap;
+
+/**
+ * Per-operation cost of the Redis-backed collections.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionsBenchmark {
+
+	@Param({ BenchmarkTargets.MEMORY })
+	public String target;
+
+	private RedisConnectionFactory connectionFactory;
+	private RedisMap<String, String> map;
+	private RedisList<String> list;
+
+	@Setup
+	public void setUp() {
+		connectionFactory = BenchmarkTargets.connectionFactory(target);
+		StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+
+		map = new DefaultRedisMap<String, String>("benchmark:map", template);
+		map.put("field", "value");
+		list = new DefaultRedisList<String>("benchmark:list", template);
+		list.add("value");
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		map.getOperations().delete(map.getKey());
+		list.getOperations().delete(list.getKey());
+		BenchmarkTargets.destroy(connectionFactory);
+	}
+
+	@Benchmark
+	public String mapGet() {
+		return map.get("field");
+	}
+
+	@Benchmark
+	public String mapPut() {
+		return map.put("field", "value");
+	}
+
+	@Benchmark
+	public boolean mapContainsKey() {
+		return map.containsKey("field");
+	}
+
+	@Benchmark
+	public String listPushPop() {
+		list.offer("value");
+		return list.poll();
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.util.ByteArrayMap;
+import org.springframework.data.redis.connection.memory.InMemoryConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Dispatch cost of {@link RedisMessageListenerContainer}: the time from publishing a message until the listener
+ * registered for its channel has been invoked, depending on the number of channels the container listens to.
+ * <p/>
+ * Runs in-process only - messages published to the in-memory store are delivered on the publishing thread and
+ * the container dispatches them through a {@link SyncTaskExecutor}, so the whole round trip is measured
+ * without any network or thread hand-off noise.
+ * <p/>
+ * Run with the GC profiler (<tt>-prof gc</tt>) to see the allocations per message (<tt>gc.alloc.rate.norm</tt>):
+ * {@link #channelLookup()} resolves the channel the way the store and the container do and should report zero,
+ * while {@link #publishAndDispatch()} is left with the copy of the published message and the listener plumbing.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerDispatchBenchmark {
+
+	@Param({ "1", "10", "100" })
+	public int channels;
+
+	private InMemoryConnectionFactory connectionFactory;
+	private RedisMessageListenerContainer container;
+	private RedisConnection connection;
+	private byte[] channel;
+	private byte[] message;
+	private final ByteArrayMap<MessageListener> listeners = new ByteArrayMap<MessageListener>();
+
+	private final AtomicLong received = new AtomicLong();
+
+	@Setup
+	public void setUp() throws Exception {
+		connectionFactory = new InMemoryConnectionFactory();
+
+		container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.setTaskExecutor(new SyncTaskExecutor());
+		container.setSubscriptionExecutor(new SimpleAsyncTaskExecutor());
+
+		MessageListener listener = new MessageListener() {
+			public void onMessage(Message message, byte[] pattern) {
+				received.incrementAndGet();
+			}
+		};
+
+		for (int i = 0; i < channels; i++) {
+			container.addMessageListener(listener, new ChannelTopic("benchmark:channel:" + i));
+			listeners.put(("benchmark:channel:" + i).getBytes(), listener);
+		}
+		container.afterPropertiesSet();
+		container.start();
+
+		connection = connectionFactory.getConnection();
+		// the last channel is the one published to
+		channel = ("benchmark:channel:" + (channels - 1)).getBytes();
+		message = "message".getBytes();
+
+		// the container returns as soon as the subscription task is scheduled; wait until it is delivering
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+		while (received.get() == 0) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new IllegalStateException("Listener container did not subscribe in time");
+			}
+			connection.publish(channel, message);
+			Thread.sleep(10);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		connection.close();
+		container.destroy();
+		connectionFactory.destroy();
+	}
+
+	@Benchmark
+	public long publishAndDispatch() {
+		return connection.publish(channel, message);
+	}
+
+	@Benchmark
+	public boolean channelLookup() {
+		return listeners.containsKey(channel);
+	}
+}
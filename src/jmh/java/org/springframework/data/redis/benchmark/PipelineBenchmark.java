@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.PipelineResult;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.PipelineResultHandler;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Cost of a batch of writes issued one command at a time, as a single pipeline and as a chunked pipeline.
+ * Each benchmark invocation issues <tt>batchSize</tt> commands.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+
+	@Param({ BenchmarkTargets.MEMORY })
+	public String target;
+
+	@Param({ "10", "100", "1000" })
+	public int batchSize;
+
+	private RedisConnectionFactory connectionFactory;
+	private StringRedisTemplate template;
+	private byte[][] keys;
+	private byte[] value;
+
+	private RedisCallback<Object> batch;
+
+	private final PipelineResultHandler discardingHandler = new PipelineResultHandler() {
+		public void handleResults(List<PipelineResult> results, long offset) {
+		}
+	};
+
+	@Setup
+	public void setUp() {
+		connectionFactory = BenchmarkTargets.connectionFactory(target);
+		template = new StringRedisTemplate(connectionFactory);
+
+		keys = new byte[batchSize][];
+		for (int i = 0; i < batchSize; i++) {
+			keys[i] = ("benchmark:pipeline:" + i).getBytes();
+		}
+		value = "value".getBytes();
+
+		batch = new RedisCallback<Object>() {
+			public Object doInRedis(RedisConnection connection) throws DataAccessException {
+				for (byte[] key : keys) {
+					connection.set(key, value);
+				}
+				return null;
+			}
+		};
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		RedisConnection connection = connectionFactory.getConnection();
+		try {
+			connection.del(keys);
+		} finally {
+			connection.close();
+		}
+		BenchmarkTargets.destroy(connectionFactory);
+	}
+
+	@Benchmark
+	public Object individualCommands() {
+		return template.execute(batch);
+	}
+
+	@Benchmark
+	public Object pipelined() {
+		return template.execute(batch, true, true);
+	}
+
+	@Benchmark
+	public long chunkedPipeline() {
+		return template.executePipelined(batch, discardingHandler, 64);
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.FastJsonRedisSerializer;
+import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationUtils;
+
+/**
+ * Serialization throughput of the object serializers, for a single value and for a multi-value reply
+ * (as converted by {@link SerializationUtils}).
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+	public static class Payload implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private String name;
+		private int age;
+		private List<String> tags;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+
+	@Param({ "jdk", "jackson", "fastjson" })
+	public String serializer;
+
+	private RedisSerializer<Payload> redisSerializer;
+	private Payload payload;
+	private byte[] raw;
+	private List<byte[]> rawValues;
+
+	@Setup
+	public void setUp() {
+		redisSerializer = createSerializer(serializer);
+
+		payload = new Payload();
+		payload.setName("spring-data-redis");
+		payload.setAge(42);
+		payload.setTags(Arrays.asList("redis", "serializer", "benchmark"));
+
+		raw = redisSerializer.serialize(payload);
+		rawValues = new ArrayList<byte[]>(100);
+		for (int i = 0; i < 100; i++) {
+			rawValues.add(raw);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static RedisSerializer<Payload> createSerializer(String name) {
+		if ("jdk".equals(name)) {
+			return (RedisSerializer) new JdkSerializationRedisSerializer();
+		}
+		if ("jackson".equals(name)) {
+			return new JacksonJsonRedisSerializer<Payload>(Payload.class);
+		}
+		if ("fastjson".equals(name)) {
+			return new FastJsonRedisSerializer<Payload>(Payload.class);
+		}
+		throw new IllegalArgumentException("Unknown serializer " + name);
+	}
+
+	@Benchmark
+	public byte[] serialize() {
+		return redisSerializer.serialize(payload);
+	}
+
+	@Benchmark
+	public Payload deserialize() {
+		return redisSerializer.deserialize(raw);
+	}
+
+	@Benchmark
+	public List<Payload> deserializeList() {
+		return SerializationUtils.deserialize(rawValues, redisSerializer);
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * Per-command overhead of {@link StringRedisTemplate}: the same command issued directly on a connection
+ * (the baseline), through a template callback and through the value operations.
+ * <p/>
+ * Run with the GC profiler (<tt>-prof gc</tt>) to see the allocations per command (<tt>gc.alloc.rate.norm</tt>):
+ * {@link #valueOpsGet()} uses a shared command while {@link #callbackPerCallGet()} allocates a callback on each
+ * call, as the operations used to.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateBenchmark {
+
+	private static final String KEY = "benchmark:template";
+	private static final byte[] RAW_KEY = KEY.getBytes();
+	private static final byte[] RAW_VALUE = "value".getBytes();
+	private static final String HASH_KEY = KEY + ":hash";
+
+	@Param({ BenchmarkTargets.MEMORY })
+	public String target;
+
+	private RedisConnectionFactory connectionFactory;
+	private RedisConnection connection;
+	private StringRedisTemplate template;
+	private ValueOperations<String, String> valueOps;
+
+	private final RedisCallback<byte[]> getCallback = new RedisCallback<byte[]>() {
+		public byte[] doInRedis(RedisConnection connection) throws DataAccessException {
+			return connection.get(RAW_KEY);
+		}
+	};
+
+	@Setup
+	public void setUp() {
+		connectionFactory = BenchmarkTargets.connectionFactory(target);
+		connection = connectionFactory.getConnection();
+		connection.set(RAW_KEY, RAW_VALUE);
+		template = new StringRedisTemplate(connectionFactory);
+		valueOps = template.opsForValue();
+		template.opsForHash().put(HASH_KEY, "field", "value");
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		connection.del(RAW_KEY, HASH_KEY.getBytes());
+		connection.close();
+		BenchmarkTargets.destroy(connectionFactory);
+	}
+
+	@Benchmark
+	public byte[] connectionGet() {
+		return connection.get(RAW_KEY);
+	}
+
+	@Benchmark
+	public byte[] templateCallbackGet() {
+		return template.execute(getCallback);
+	}
+
+	@Benchmark
+	public String valueOpsGet() {
+		return valueOps.get(KEY);
+	}
+
+	@Benchmark
+	public String callbackPerCallGet() {
+		return template.execute(new RedisCallback<String>() {
+			public String doInRedis(RedisConnection connection) throws DataAccessException {
+				return template.getStringSerializer().deserialize(connection.get(RAW_KEY));
+			}
+		}, true);
+	}
+
+	@Benchmark
+	public Object hashOpsGet() {
+		HashOperations<String, Object, Object> hashOps = template.opsForHash();
+		return hashOps.get(HASH_KEY, "field");
+	}
+
+	@Benchmark
+	public void valueOpsSet() {
+		valueOps.set(KEY, "value");
+	}
+
+	@Benchmark
+	public Long valueOpsIncrement() {
+		return valueOps.increment(KEY + ":counter", 1);
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis;
+
+/**
+ * Exception thrown right away (without contacting the server) when the circuit breaker guarding Redis is open,
+ * that is after too many recent failures.
+ * 
+ * @see org.springframework.data.redis.connection.breaker.CircuitBreaker
+ * @author agent
+ */
+public class RedisCircuitOpenException extends RedisConnectionFailureException {
+
+	public RedisCircuitOpenException(String msg) {
+		super(msg);
+	}
+}
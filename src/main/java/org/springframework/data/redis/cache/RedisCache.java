@@ -19,9 +19,13 @@ package org.springframework.data.redis.cache;
 import java.util.Arrays;
 import java.util.Set;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.RedisCircuitOpenException;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -36,6 +40,8 @@ import org.springframework.util.Assert;
 @SuppressWarnings("unchecked")
 class RedisCache implements Cache {
 
+	private static final Log log = LogFactory.getLog(RedisCache.class);
+
 	private static final int PAGE_SIZE = 128;
 	private final String name;
 	private final RedisTemplate template;
@@ -44,6 +50,7 @@ class RedisCache implements Cache {
 	private final byte[] cacheLockName;
 	private long WAIT_FOR_LOCK = 300;
 	private final long expiration;
+	private final boolean failSafe;
 
 	/**
 	 * 
@@ -55,12 +62,28 @@ class RedisCache implements Cache {
 	 * @param expiration
 	 */
 	RedisCache(String name, byte[] prefix, RedisTemplate<? extends Object, ? extends Object> template, long expiration) {
+		this(name, prefix, template, expiration, false);
+	}
+
+	/**
+	 * 
+	 * Constructs a new <code>RedisCache</code> instance.
+	 *
+	 * @param name cache name
+	 * @param prefix
+	 * @param template
+	 * @param expiration
+	 * @param failSafe whether lookups and updates should be skipped (rather than fail) when Redis is unavailable
+	 */
+	RedisCache(String name, byte[] prefix, RedisTemplate<? extends Object, ? extends Object> template,
+			long expiration, boolean failSafe) {
 
 		Assert.hasText(name, "non-empty cache name is required");
 		this.name = name;
 		this.template = template;
 		this.prefix = prefix;
 		this.expiration = expiration;
+		this.failSafe = failSafe;
 
 		StringRedisSerializer stringSerializer = new StringRedisSerializer();
 
@@ -85,37 +108,54 @@ class RedisCache implements Cache {
 
 
 	public ValueWrapper get(final Object key) {
-		return (ValueWrapper) template.execute(new RedisCallback<ValueWrapper>() {
+		try {
+			return (ValueWrapper) template.execute(new RedisCallback<ValueWrapper>() {
 
-			public ValueWrapper doInRedis(RedisConnection connection) throws DataAccessException {
-				waitForLock(connection);
-				byte[] bs = connection.get(computeKey(key));
-				return (bs == null ? null : new SimpleValueWrapper(template.getValueSerializer().deserialize(bs)));
-			}
-		}, true);
+				public ValueWrapper doInRedis(RedisConnection connection) throws DataAccessException {
+					waitForLock(connection);
+					byte[] bs = connection.get(computeKey(key));
+					return (bs == null ? null : new SimpleValueWrapper(template.getValueSerializer().deserialize(bs)));
+				}
+			}, true);
+		} catch (DataAccessResourceFailureException ex) {
+			// treat as a cache miss
+			handleFailure(ex, "get");
+			return null;
+		}
 	}
 
 
 	public void put(final Object key, final Object value) {
 		final byte[] k = computeKey(key);
 
-		template.execute(new RedisCallback<Object>() {
-			public Object doInRedis(RedisConnection connection) throws DataAccessException {
-				waitForLock(connection);
-				connection.multi();
-				connection.set(k, template.getValueSerializer().serialize(value));
-				connection.zAdd(setName, 0, k);
-
-				if (expiration > 0) {
-					connection.expire(k, expiration);
-					// update the expiration of the set of keys as well
-					connection.expire(setName, expiration);
-				}
-				connection.exec();
+		try {
+			template.execute(new RedisCallback<Object>() {
+				public Object doInRedis(RedisConnection connection) throws DataAccessException {
+					waitForLock(connection);
+					byte[] v = template.getValueSerializer().serialize(value);
+					connection.multi();
+					if (expiration > 0) {
+						// value and expiration in one command
+						connection.setEx(k, expiration, v);
+					}
+					else {
+						connection.set(k, v);
+					}
+					connection.zAdd(setName, 0, k);
+
+					if (expiration > 0) {
+						// update the expiration of the set of keys as well
+						connection.expire(setName, expiration);
+					}
+					connection.exec();
 
-				return null;
-			}
-		}, true);
+					return null;
+				}
+			}, true);
+		} catch (DataAccessResourceFailureException ex) {
+			// skip caching
+			handleFailure(ex, "put");
+		}
 	}
 
 
@@ -169,6 +209,24 @@ class RedisCache implements Cache {
 		}, true);
 	}
 
+	/**
+	 * Rethrows the given exception unless the cache is fail-safe. Evictions and clears are never skipped
+	 * since that would leave stale entries behind once Redis is available again.
+	 */
+	private void handleFailure(DataAccessResourceFailureException ex, String operation) {
+		if (!failSafe) {
+			throw ex;
+		}
+		if (ex instanceof RedisCircuitOpenException) {
+			if (log.isDebugEnabled()) {
+				log.debug("Redis unavailable; skipping cache " + operation + " on " + name);
+			}
+		}
+		else {
+			log.warn("Redis unavailable; skipping cache " + operation + " on " + name, ex);
+		}
+	}
+
 	private byte[] computeKey(Object key) {
 		byte[] k = template.getKeySerializer().serialize(key);
 
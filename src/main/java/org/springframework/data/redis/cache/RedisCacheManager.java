@@ -42,6 +42,7 @@ public class RedisCacheManager implements CacheManager {
 
 	private boolean usePrefix;
 	private RedisCachePrefix cachePrefix = new DefaultRedisCachePrefix();
+	private boolean failSafe = false;
 
 	// 0 - never expire
 	private long defaultExpiration = 0;
@@ -55,7 +56,8 @@ public class RedisCacheManager implements CacheManager {
 		Cache c = caches.get(name);
 		if (c == null) {
 			long expiration = computeExpiration(name);
-			c = new RedisCache(name, (usePrefix ? cachePrefix.prefix(name) : null), template, expiration);
+			c = new RedisCache(name, (usePrefix ? cachePrefix.prefix(name) : null), template, expiration,
+					failSafe);
 			caches.put(name, c);
 		}
 
@@ -78,6 +80,18 @@ public class RedisCacheManager implements CacheManager {
 		this.usePrefix = usePrefix;
 	}
 
+	/**
+	 * Indicates whether cache lookups and updates are skipped (treated as misses) when Redis is unavailable
+	 * (for example when the connection fails or a circuit breaker is open) instead of propagating the exception.
+	 * Evictions and clears still fail to avoid leaving stale entries behind. Default is false.
+	 *
+	 * @param failSafe whether caches degrade gracefully on connection failures
+	 * @see org.springframework.data.redis.connection.breaker.CircuitBreakingRedisConnectionFactory
+	 */
+	public void setFailSafe(boolean failSafe) {
+		this.failSafe = failSafe;
+	}
+
 	/**
 	 * Sets the cachePrefix.
 	 *
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.redis.connection;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -92,6 +93,26 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.bRPopLPush(timeout, srcKey, dstKey);
 	}
 
+	public Long bitCount(byte[] key) {
+		return delegate.bitCount(key);
+	}
+
+	public Long bitCount(byte[] key, long begin, long end) {
+		return delegate.bitCount(key, begin, end);
+	}
+
+	public Long bitOp(BitOperation op, byte[] destination, byte[]... keys) {
+		return delegate.bitOp(op, destination, keys);
+	}
+
+	public Long bitPos(byte[] key, boolean bit) {
+		return delegate.bitPos(key, bit);
+	}
+
+	public Long bitPos(byte[] key, boolean bit, long begin, long end) {
+		return delegate.bitPos(key, bit, begin, end);
+	}
+
 	public void close() throws RedisSystemException {
 		delegate.close();
 	}
@@ -108,6 +129,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.decrBy(key, value);
 	}
 
+	public byte[] dump(byte[] key) {
+		return delegate.dump(key);
+	}
+
 	public Long del(byte[]... keys) {
 		return delegate.del(keys);
 	}
@@ -136,6 +161,14 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.expireAt(key, unixTime);
 	}
 
+	public Boolean pExpire(byte[] key, long millis) {
+		return delegate.pExpire(key, millis);
+	}
+
+	public Boolean pExpireAt(byte[] key, long unixTimeInMillis) {
+		return delegate.pExpireAt(key, unixTimeInMillis);
+	}
+
 	public void flushAll() {
 		delegate.flushAll();
 	}
@@ -176,6 +209,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.hDel(key, field);
 	}
 
+	public Long hDel(byte[] key, byte[]... fields) {
+		return delegate.hDel(key, fields);
+	}
+
 	public Boolean hExists(byte[] key, byte[] field) {
 		return delegate.hExists(key, field);
 	}
@@ -312,6 +349,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.persist(key);
 	}
 
+	public void migrate(byte[] key, String host, int port, int dbIndex, long timeoutInMillis) {
+		delegate.migrate(key, host, port, dbIndex, timeoutInMillis);
+	}
+
 	public Boolean move(byte[] key, int dbIndex) {
 		return delegate.move(key, dbIndex);
 	}
@@ -332,6 +373,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.randomKey();
 	}
 
+	public void restore(byte[] key, long ttlInMillis, byte[] serializedValue) {
+		delegate.restore(key, ttlInMillis, serializedValue);
+	}
+
 	public void rename(byte[] oldName, byte[] newName) {
 		delegate.rename(oldName, newName);
 	}
@@ -368,6 +413,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		delegate.save();
 	}
 
+	public ScanResult<byte[]> scan(long cursorId, byte[] pattern, long count) {
+		return delegate.scan(cursorId, pattern, count);
+	}
+
 	public Long sCard(byte[] key) {
 		return delegate.sCard(key);
 	}
@@ -400,6 +449,14 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		delegate.setEx(key, seconds, value);
 	}
 
+	public void pSetEx(byte[] key, long milliseconds, byte[] value) {
+		delegate.pSetEx(key, milliseconds, value);
+	}
+
+	public Boolean pSetNX(byte[] key, long milliseconds, byte[] value) {
+		return delegate.pSetNX(key, milliseconds, value);
+	}
+
 	public Boolean setNX(byte[] key, byte[] value) {
 		return delegate.setNX(key, value);
 	}
@@ -452,6 +509,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.sRem(key, value);
 	}
 
+	public Long sRem(byte[] key, byte[]... values) {
+		return delegate.sRem(key, values);
+	}
+
 	public Long strLen(byte[] key) {
 		return delegate.strLen(key);
 	}
@@ -472,6 +533,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.ttl(key);
 	}
 
+	public Long pTtl(byte[] key) {
+		return delegate.pTtl(key);
+	}
+
 	public DataType type(byte[] key) {
 		return delegate.type(key);
 	}
@@ -488,6 +553,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.zAdd(key, score, value);
 	}
 
+	public Long zAdd(byte[] key, Set<Tuple> tuples) {
+		return delegate.zAdd(key, tuples);
+	}
+
 	public Long zCard(byte[] key) {
 		return delegate.zCard(key);
 	}
@@ -563,6 +632,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.zRem(key, value);
 	}
 
+	public Long zRem(byte[] key, byte[]... values) {
+		return delegate.zRem(key, values);
+	}
+
 	public Long zRemRange(byte[] key, long start, long end) {
 		return delegate.zRemRange(key, start, end);
 	}
@@ -596,6 +669,30 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.zUnionStore(destKey, sets);
 	}
 
+	public void scriptFlush() {
+		delegate.scriptFlush();
+	}
+
+	public void scriptKill() {
+		delegate.scriptKill();
+	}
+
+	public String scriptLoad(byte[] script) {
+		return delegate.scriptLoad(script);
+	}
+
+	public List<Boolean> scriptExists(String... scriptSha1) {
+		return delegate.scriptExists(scriptSha1);
+	}
+
+	public <T> T eval(byte[] script, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		return delegate.eval(script, returnType, numKeys, keysAndArgs);
+	}
+
+	public <T> T evalSha(String scriptSha1, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		return delegate.evalSha(scriptSha1, returnType, numKeys, keysAndArgs);
+	}
+
 	//
 	// String methods
 	//
@@ -668,6 +765,26 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 				serialize(dstKey)));
 	}
 
+	public Long bitCount(String key) {
+		return delegate.bitCount(serialize(key));
+	}
+
+	public Long bitCount(String key, long begin, long end) {
+		return delegate.bitCount(serialize(key), begin, end);
+	}
+
+	public Long bitOp(BitOperation op, String destination, String... keys) {
+		return delegate.bitOp(op, serialize(destination), serializeMulti(keys));
+	}
+
+	public Long bitPos(String key, boolean bit) {
+		return delegate.bitPos(serialize(key), bit);
+	}
+
+	public Long bitPos(String key, boolean bit, long begin, long end) {
+		return delegate.bitPos(serialize(key), bit, begin, end);
+	}
+
 	public Long decr(String key) {
 		return delegate.decr(serialize(key));
 	}
@@ -676,6 +793,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.decrBy(serialize(key), value);
 	}
 
+	public byte[] dump(String key) {
+		return delegate.dump(serialize(key));
+	}
+
 	public Long del(String... keys) {
 		return delegate.del(serializeMulti(keys));
 	}
@@ -696,6 +817,14 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.expireAt(serialize(key), unixTime);
 	}
 
+	public Boolean pExpire(String key, long millis) {
+		return delegate.pExpire(serialize(key), millis);
+	}
+
+	public Boolean pExpireAt(String key, long unixTimeInMillis) {
+		return delegate.pExpireAt(serialize(key), unixTimeInMillis);
+	}
+
 	public String get(String key) {
 		return deserialize(delegate.get(serialize(key)));
 	}
@@ -716,6 +845,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.hDel(serialize(key), serialize(field));
 	}
 
+	public Long hDel(String key, String... fields) {
+		return delegate.hDel(serialize(key), serializeMulti(fields));
+	}
+
 	public Boolean hExists(String key, String field) {
 		return delegate.hExists(serialize(key), serialize(field));
 	}
@@ -832,6 +965,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.persist(serialize(key));
 	}
 
+	public void migrate(String key, String host, int port, int dbIndex, long timeoutInMillis) {
+		delegate.migrate(serialize(key), host, port, dbIndex, timeoutInMillis);
+	}
+
 	public Boolean move(String key, int dbIndex) {
 		return delegate.move(serialize(key), dbIndex);
 	}
@@ -844,6 +981,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.publish(serialize(channel), serialize(message));
 	}
 
+	public void restore(String key, long ttlInMillis, byte[] serializedValue) {
+		delegate.restore(serialize(key), ttlInMillis, serializedValue);
+	}
+
 	public void rename(String oldName, String newName) {
 		delegate.rename(serialize(oldName), serialize(newName));
 	}
@@ -873,6 +1014,12 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.sAdd(serialize(key), serialize(value));
 	}
 
+	public ScanResult<String> scan(long cursorId, String pattern, long count) {
+		ScanResult<byte[]> result = delegate.scan(cursorId, serialize(pattern), count);
+		// null while pipelining/queueing
+		return (result != null ? new ScanResult<String>(result.getCursorId(), deserialize(result.getItems())) : null);
+	}
+
 	public Long sCard(String key) {
 		return delegate.sCard(serialize(key));
 	}
@@ -897,6 +1044,14 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		delegate.setEx(serialize(key), seconds, serialize(value));
 	}
 
+	public void pSetEx(String key, long milliseconds, String value) {
+		delegate.pSetEx(serialize(key), milliseconds, serialize(value));
+	}
+
+	public Boolean pSetNX(String key, long milliseconds, String value) {
+		return delegate.pSetNX(serialize(key), milliseconds, serialize(value));
+	}
+
 	public Boolean setNX(String key, String value) {
 		return delegate.setNX(serialize(key), serialize(value));
 	}
@@ -946,6 +1101,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.sRem(serialize(key), serialize(value));
 	}
 
+	public Long sRem(String key, String... values) {
+		return delegate.sRem(serialize(key), serializeMulti(values));
+	}
+
 	public Long strLen(String key) {
 		return delegate.strLen(serialize(key));
 	}
@@ -966,6 +1125,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.ttl(serialize(key));
 	}
 
+	public Long pTtl(String key) {
+		return delegate.pTtl(serialize(key));
+	}
+
 	public DataType type(String key) {
 		return delegate.type(serialize(key));
 	}
@@ -974,6 +1137,14 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.zAdd(serialize(key), score, serialize(value));
 	}
 
+	public Long zAdd(String key, Set<StringTuple> tuples) {
+		Set<Tuple> rawTuples = new LinkedHashSet<Tuple>(tuples.size());
+		for (StringTuple tuple : tuples) {
+			rawTuples.add(new DefaultTuple(serialize(tuple.getValueAsString()), tuple.getScore()));
+		}
+		return delegate.zAdd(serialize(key), rawTuples);
+	}
+
 	public Long zCard(String key) {
 		return delegate.zCard(serialize(key));
 	}
@@ -1035,6 +1206,10 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.zRem(serialize(key), serialize(value));
 	}
 
+	public Long zRem(String key, String... values) {
+		return delegate.zRem(serialize(key), serializeMulti(values));
+	}
+
 	public Long zRemRange(String key, long start, long end) {
 		return delegate.zRemRange(serialize(key), start, end);
 	}
@@ -1070,10 +1245,45 @@ public class DefaultStringRedisConnection implements StringRedisConnection {
 		return delegate.zUnionStore(serialize(destKey), serializeMulti(sets));
 	}
 
+	public String scriptLoad(String script) {
+		return delegate.scriptLoad(serialize(script));
+	}
+
+	public <T> T eval(String script, ReturnType returnType, int numKeys, String... keysAndArgs) {
+		return this.<T> deserializeScriptResult(delegate.eval(serialize(script), returnType, numKeys,
+				serializeMulti(keysAndArgs)));
+	}
+
+	public <T> T evalSha(String scriptSha1, ReturnType returnType, int numKeys, String... keysAndArgs) {
+		return this.<T> deserializeScriptResult(delegate.evalSha(scriptSha1, returnType, numKeys,
+				serializeMulti(keysAndArgs)));
+	}
+
+	// bulk replies (including the ones nested in multi-bulk replies) are returned as Strings
+	@SuppressWarnings("unchecked")
+	private <T> T deserializeScriptResult(Object result) {
+		if (result instanceof byte[]) {
+			return (T) deserialize((byte[]) result);
+		}
+		if (result instanceof List) {
+			List<Object> raw = (List<Object>) result;
+			List<Object> converted = new ArrayList<Object>(raw.size());
+			for (Object object : raw) {
+				converted.add(deserializeScriptResult(object));
+			}
+			return (T) converted;
+		}
+		return (T) result;
+	}
+
 	public List<Object> closePipeline() {
 		return delegate.closePipeline();
 	}
 
+	public List<PipelineResult> closePipelineResults() {
+		return delegate.closePipelineResults();
+	}
+
 	public boolean isPipelined() {
 		return delegate.isPipelined();
 	}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.redis.RedisSystemException;
+
+/**
+ * Outcome of one of the commands of a pipeline: either the command reply or the error reported for it.
+ * The driver error is converted into a {@link DataAccessException} only when (and if) it is requested.
+ *
+ * @see RedisConnection#closePipelineResults()
+ * @author agent
+ */
+public class PipelineResult {
+
+	private final int index;
+	private final Object value;
+	private final RuntimeException failure;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private DataAccessException exception;
+
+	/**
+	 * Constructs a new, successful <code>PipelineResult</code> instance.
+	 *
+	 * @param index position of the command inside the pipeline
+	 * @param value command reply
+	 */
+	public PipelineResult(int index, Object value) {
+		this.index = index;
+		this.value = value;
+		this.failure = null;
+		this.exceptionTranslator = null;
+	}
+
+	/**
+	 * Constructs a new, failed <code>PipelineResult</code> instance.
+	 *
+	 * @param index position of the command inside the pipeline
+	 * @param failure the (driver) error reported for the command
+	 * @param exceptionTranslator translator used for converting the error (can be null)
+	 */
+	public PipelineResult(int index, RuntimeException failure, PersistenceExceptionTranslator exceptionTranslator) {
+		this.index = index;
+		this.value = null;
+		this.failure = failure;
+		this.exceptionTranslator = exceptionTranslator;
+	}
+
+	/**
+	 * Returns the position of the command inside the pipeline.
+	 *
+	 * @return command index
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Indicates whether the command failed or not.
+	 *
+	 * @return true if the command failed, false otherwise
+	 */
+	public boolean isFailed() {
+		return failure != null;
+	}
+
+	/**
+	 * Returns the command reply or throws the command error (if it failed).
+	 *
+	 * @return command reply
+	 * @throws DataAccessException if the command failed
+	 */
+	public Object get() throws DataAccessException {
+		if (failure != null) {
+			throw getException();
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the command error (if any).
+	 *
+	 * @return command error, null if the command succeeded
+	 */
+	public DataAccessException getException() {
+		if (failure == null) {
+			return null;
+		}
+		if (exception == null) {
+			if (failure instanceof DataAccessException) {
+				exception = (DataAccessException) failure;
+			}
+			else {
+				exception = (exceptionTranslator != null ? exceptionTranslator.translateExceptionIfPossible(failure)
+						: null);
+				if (exception == null) {
+					exception = new RedisSystemException(failure.getMessage(), failure);
+				}
+			}
+		}
+		return exception;
+	}
+
+	/**
+	 * Returns the failed results out of the given ones. Useful for retrying only the failed commands of a pipeline.
+	 *
+	 * @param results pipeline results
+	 * @return the failed results
+	 */
+	public static List<PipelineResult> failures(List<PipelineResult> results) {
+		List<PipelineResult> failures = new ArrayList<PipelineResult>();
+		for (PipelineResult result : results) {
+			if (result.isFailed()) {
+				failures.add(result);
+			}
+		}
+		return failures;
+	}
+
+	public String toString() {
+		return "PipelineResult[" + index + "]=" + (failure != null ? failure : value);
+	}
+}
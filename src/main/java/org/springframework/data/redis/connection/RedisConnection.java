@@ -97,4 +97,16 @@ public interface RedisConnection extends RedisCommands {
 	 * @return the result of the executed commands.
 	 */
 	List<Object> closePipeline() throws RedisPipelineException;
+
+	/**
+	 * Executes the commands in the pipeline and returns a result handle for each of them.
+	 * Unlike {@link #closePipeline()}, failed commands do not cause an exception to be thrown, allowing the successful
+	 * ones to be used and only the failed ones to be retried ("continue on error"). The errors are converted
+	 * lazily, when accessed through the returned handles.
+	 * If the connection is not pipelined, an empty collection is returned.
+	 * 
+	 * @return the results of the executed commands, in the order the commands were issued.
+	 * @see PipelineResult#failures(List)
+	 */
+	List<PipelineResult> closePipelineResults();
 }
\ No newline at end of file
@@ -43,6 +43,13 @@ public interface RedisHashCommands {
 
 	Boolean hDel(byte[] key, byte[] field);
 
+	/**
+	 * Removes the given fields from the hash stored at the given key, in one command.
+	 * 
+	 * @return number of fields actually removed
+	 */
+	Long hDel(byte[] key, byte[]... fields);
+
 	Long hLen(byte[] key);
 
 	Set<byte[]> hKeys(byte[] key);
@@ -34,6 +34,22 @@ public interface RedisKeyCommands {
 
 	Set<byte[]> keys(byte[] pattern);
 
+	/**
+	 * Incrementally iterates over the keys of the current database (<tt>SCAN</tt>). Unlike {@link #keys(byte[])},
+	 * each call does a bounded amount of work so it does not block the server, no matter how many keys it holds.
+	 * Start the iteration with cursor <tt>0</tt> and pass the returned cursor to the next call until
+	 * the result is {@link ScanResult#isFinished() finished}.
+	 * <p/>
+	 * Keys present during the whole iteration are returned at least once; keys added or removed in the meantime
+	 * may or may not be returned.
+	 * 
+	 * @param cursorId cursor returned by the previous call (0 to start the iteration)
+	 * @param pattern glob-style pattern for filtering the keys (can be null for all keys)
+	 * @param count hint for the number of keys examined by the call (ignored if not positive)
+	 * @return the keys of this step and the cursor for the next one
+	 */
+	ScanResult<byte[]> scan(long cursorId, byte[] pattern, long count);
+
 	byte[] randomKey();
 
 	void rename(byte[] oldName, byte[] newName);
@@ -44,12 +60,71 @@ public interface RedisKeyCommands {
 
 	Boolean expireAt(byte[] key, long unixTime);
 
+	/**
+	 * Sets the time to live of the given key, in milliseconds (Redis 2.6 or higher).
+	 * 
+	 * @param key key
+	 * @param millis time to live in milliseconds
+	 * @return true if the timeout was set, false if the key does not exist
+	 */
+	Boolean pExpire(byte[] key, long millis);
+
+	/**
+	 * Sets the expiration of the given key as a Unix timestamp in milliseconds (Redis 2.6 or higher).
+	 * 
+	 * @param key key
+	 * @param unixTimeInMillis expiration time, in milliseconds since the epoch
+	 * @return true if the timeout was set, false if the key does not exist
+	 */
+	Boolean pExpireAt(byte[] key, long unixTimeInMillis);
+
 	Boolean persist(byte[] key);
 
 	Boolean move(byte[] key, int dbIndex);
 
 	Long ttl(byte[] key);
 
+	/**
+	 * Returns the remaining time to live of the given key, in milliseconds (Redis 2.6 or higher).
+	 * 
+	 * @param key key
+	 * @return time to live in milliseconds, negative if the key does not exist or has no expiration
+	 */
+	Long pTtl(byte[] key);
+
+	/**
+	 * Returns the value of the given key serialized in the (opaque) Redis format (<tt>DUMP</tt>, Redis 2.6 or
+	 * higher). The value can be recreated, without any client-side conversion, through
+	 * {@link #restore(byte[], long, byte[])}, possibly on another instance running the same Redis version.
+	 * 
+	 * @param key key
+	 * @return serialized value, null if the key does not exist
+	 */
+	byte[] dump(byte[] key);
+
+	/**
+	 * Creates the given key out of a value serialized through {@link #dump(byte[])} (<tt>RESTORE</tt>, Redis 2.6
+	 * or higher). Fails if the key already exists.
+	 * 
+	 * @param key key
+	 * @param ttlInMillis time to live in milliseconds (0 for none)
+	 * @param serializedValue serialized value
+	 */
+	void restore(byte[] key, long ttlInMillis, byte[] serializedValue);
+
+	/**
+	 * Atomically transfers the given key to the given database of another Redis instance (<tt>MIGRATE</tt>,
+	 * Redis 2.6 or higher). The key is removed from the current instance only once the target acknowledged it;
+	 * the command fails if the key already exists on the target.
+	 * 
+	 * @param key key
+	 * @param host host of the target instance
+	 * @param port port of the target instance
+	 * @param dbIndex database of the target instance
+	 * @param timeoutInMillis maximum idle time (in milliseconds) of the communication with the target instance
+	 */
+	void migrate(byte[] key, String host, int port, int dbIndex, long timeoutInMillis);
+
 	// sort commands
 	List<byte[]> sort(byte[] key, SortParameters params);
 
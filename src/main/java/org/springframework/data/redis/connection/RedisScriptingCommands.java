@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.List;
+
+/**
+ * Scripting commands supported by Redis (2.6 or higher).
+ * <p/>
+ * Scripts are identified by the SHA1 digest of their body (as a lower case hex string). {@link #evalSha} avoids
+ * sending the script body on each call but fails with a <tt>NOSCRIPT</tt> error if the script is not (or no longer)
+ * cached by the server - see {@link org.springframework.data.redis.core.script.ScriptExecutor} for a transparent
+ * fallback to {@link #eval}.
+ * 
+ * @author agent
+ */
+public interface RedisScriptingCommands {
+
+	/**
+	 * Removes all the scripts from the server script cache.
+	 */
+	void scriptFlush();
+
+	/**
+	 * Kills the currently executing script (if it did not perform any write).
+	 */
+	void scriptKill();
+
+	/**
+	 * Loads the given script into the server script cache, without executing it.
+	 * 
+	 * @param script script body
+	 * @return SHA1 digest of the script
+	 */
+	String scriptLoad(byte[] script);
+
+	/**
+	 * Indicates whether the scripts with the given digests are cached by the server.
+	 * 
+	 * @param scriptSha1 SHA1 digests
+	 * @return one flag per digest, in the given order
+	 */
+	List<Boolean> scriptExists(String... scriptSha1);
+
+	/**
+	 * Evaluates the given script.
+	 * 
+	 * @param script script body
+	 * @param returnType expected type of the script reply
+	 * @param numKeys number of keys at the start of <code>keysAndArgs</code>
+	 * @param keysAndArgs the keys (<tt>KEYS</tt>) followed by the arguments (<tt>ARGV</tt>) of the script
+	 * @return script result, converted according to <code>returnType</code>
+	 */
+	<T> T eval(byte[] script, ReturnType returnType, int numKeys, byte[]... keysAndArgs);
+
+	/**
+	 * Evaluates the script cached by the server under the given digest.
+	 * 
+	 * @param scriptSha1 SHA1 digest of the script
+	 * @param returnType expected type of the script reply
+	 * @param numKeys number of keys at the start of <code>keysAndArgs</code>
+	 * @param keysAndArgs the keys (<tt>KEYS</tt>) followed by the arguments (<tt>ARGV</tt>) of the script
+	 * @return script result, converted according to <code>returnType</code>
+	 */
+	<T> T evalSha(String scriptSha1, ReturnType returnType, int numKeys, byte[]... keysAndArgs);
+}
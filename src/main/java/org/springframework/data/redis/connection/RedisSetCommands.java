@@ -29,6 +29,13 @@ public interface RedisSetCommands {
 
 	Boolean sRem(byte[] key, byte[] value);
 
+	/**
+	 * Removes the given members from the set stored at the given key, in one command.
+	 * 
+	 * @return number of members actually removed
+	 */
+	Long sRem(byte[] key, byte[]... values);
+
 	byte[] sPop(byte[] key);
 
 	Boolean sMove(byte[] srcKey, byte[] destKey, byte[] value);
@@ -26,6 +26,13 @@ import java.util.Map;
  */
 public interface RedisStringCommands {
 
+	/**
+	 * Bitwise operation applied by <tt>BITOP</tt>.
+	 */
+	public enum BitOperation {
+		AND, OR, XOR, NOT
+	}
+
 	byte[] get(byte[] key);
 
 	byte[] getSet(byte[] key, byte[] value);
@@ -38,6 +45,29 @@ public interface RedisStringCommands {
 
 	void setEx(byte[] key, long seconds, byte[] value);
 
+	/**
+	 * Sets the value and the time to live (in milliseconds) of the given key, in one atomic command (Redis 2.6
+	 * or higher).
+	 * 
+	 * @param key key
+	 * @param milliseconds time to live in milliseconds
+	 * @param value value
+	 */
+	void pSetEx(byte[] key, long milliseconds, byte[] value);
+
+	/**
+	 * Sets the value and the time to live (in milliseconds) of the given key only if the key does not exist, in
+	 * one atomic command (<tt>SET key value PX milliseconds NX</tt>, Redis 2.6.12 or higher). Suitable for
+	 * locks and other short-lived markers.
+	 * 
+	 * @param key key
+	 * @param milliseconds time to live in milliseconds
+	 * @param value value
+	 * @return true if the key was set, false if it already existed (when pipelining or queueing, the reply of a
+	 *         key that was not set may be reported as null - the nil reply of the command)
+	 */
+	Boolean pSetNX(byte[] key, long milliseconds, byte[] value);
+
 	void mSet(Map<byte[], byte[]> tuple);
 
 	void mSetNX(Map<byte[], byte[]> tuple);
@@ -60,5 +90,60 @@ public interface RedisStringCommands {
 
 	void setBit(byte[] key, long offset, boolean value);
 
+	/**
+	 * Counts the bits set to 1 in the value of the given key (Redis 2.6 or higher).
+	 * 
+	 * @param key key
+	 * @return number of set bits (0 if the key does not exist)
+	 */
+	Long bitCount(byte[] key);
+
+	/**
+	 * Counts the bits set to 1 in the given byte range of the value of the given key (Redis 2.6 or higher).
+	 * Negative indexes count from the end of the value, as for {@link #getRange(byte[], long, long)}.
+	 * 
+	 * @param key key
+	 * @param begin index of the first byte
+	 * @param end index of the last byte (inclusive)
+	 * @return number of set bits within the range
+	 */
+	Long bitCount(byte[] key, long begin, long end);
+
+	/**
+	 * Applies the given bitwise operation between the values of the given keys and stores the result in the
+	 * destination key (Redis 2.6 or higher). Shorter values are treated as zero-padded.
+	 * {@link BitOperation#NOT} accepts exactly one source key.
+	 * 
+	 * @param op bitwise operation
+	 * @param destination key storing the result
+	 * @param keys source keys
+	 * @return length (in bytes) of the stored value
+	 */
+	Long bitOp(BitOperation op, byte[] destination, byte[]... keys);
+
+	/**
+	 * Returns the position of the first bit set to the given value in the value of the given key
+	 * (<tt>BITPOS</tt>, Redis 2.8.7 or higher). A missing key is treated as an empty value; when looking for
+	 * a clear bit in a value with all the bits set, the position right after the value is returned.
+	 * 
+	 * @param key key
+	 * @param bit the bit value to look for
+	 * @return position of the first matching bit, -1 if there is none
+	 */
+	Long bitPos(byte[] key, boolean bit);
+
+	/**
+	 * Returns the position of the first bit set to the given value within the given byte range of the value
+	 * of the given key (<tt>BITPOS</tt>, Redis 2.8.7 or higher). The returned position is absolute, that is
+	 * counted from the start of the value.
+	 * 
+	 * @param key key
+	 * @param bit the bit value to look for
+	 * @param begin index of the first byte
+	 * @param end index of the last byte (inclusive)
+	 * @return position of the first matching bit, -1 if there is none
+	 */
+	Long bitPos(byte[] key, boolean bit, long begin, long end);
+
 	Long strLen(byte[] key);
 }
@@ -44,8 +44,23 @@ public interface RedisZSetCommands {
 
 	Boolean zAdd(byte[] key, double score, byte[] value);
 
+	/**
+	 * Adds the given members (with their scores) to the sorted set stored at the given key, in one command.
+	 * The scores of the existing members are updated.
+	 * 
+	 * @return number of members added (not counting the updated ones)
+	 */
+	Long zAdd(byte[] key, Set<Tuple> tuples);
+
 	Boolean zRem(byte[] key, byte[] value);
 
+	/**
+	 * Removes the given members from the sorted set stored at the given key, in one command.
+	 * 
+	 * @return number of members actually removed
+	 */
+	Long zRem(byte[] key, byte[]... values);
+
 	Double zIncrBy(byte[] key, double increment, byte[] value);
 
 	Long zRank(byte[] key, byte[] value);
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.List;
+
+/**
+ * Expected type of the reply of a Lua script, determining how the reply is converted by the connection.
+ * 
+ * @see RedisScriptingCommands
+ * @author agent
+ */
+public enum ReturnType {
+
+	/** Lua <tt>true</tt> (integer 1) or <tt>false</tt> (nil), returned as a {@link Boolean} */
+	BOOLEAN,
+	/** integer reply, returned as a {@link Long} */
+	INTEGER,
+	/** multi-bulk reply, returned as a {@link List} (with bulk elements as <code>byte[]</code>) */
+	MULTI,
+	/** status reply, returned as a {@link String} */
+	STATUS,
+	/** bulk reply, returned as <code>byte[]</code> */
+	VALUE;
+
+	/**
+	 * Returns the return type matching the given Java type: {@link Boolean} and {@link Long} map to
+	 * {@link #BOOLEAN} and {@link #INTEGER}, {@link List}s to {@link #MULTI}, <code>null</code> (no result) to
+	 * {@link #STATUS} and everything else to {@link #VALUE}.
+	 * 
+	 * @param javaType Java type of the script result (can be null)
+	 * @return matching return type
+	 */
+	public static ReturnType fromJavaType(Class<?> javaType) {
+		if (javaType == null) {
+			return STATUS;
+		}
+		if (javaType == Boolean.class) {
+			return BOOLEAN;
+		}
+		if (javaType == Long.class) {
+			return INTEGER;
+		}
+		if (List.class.isAssignableFrom(javaType)) {
+			return MULTI;
+		}
+		return VALUE;
+	}
+}
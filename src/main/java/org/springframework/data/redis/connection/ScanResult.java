@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.List;
+
+/**
+ * One step of a cursor based iteration (<tt>SCAN</tt>): the elements returned by the step along with the cursor
+ * to use for the next one. The iteration is finished once the returned cursor is <tt>0</tt>.
+ * <p/>
+ * Cursors are unsigned 64-bit numbers; values above {@link Long#MAX_VALUE} are represented as negative longs.
+ *
+ * @see RedisKeyCommands#scan(long, byte[], long)
+ * @author agent
+ */
+public class ScanResult<T> {
+
+	private final long cursorId;
+	private final List<T> items;
+
+	/**
+	 * Constructs a new <code>ScanResult</code> instance.
+	 *
+	 * @param cursorId cursor for the next step of the iteration (0 if finished)
+	 * @param items elements returned by this step
+	 */
+	public ScanResult(long cursorId, List<T> items) {
+		this.cursorId = cursorId;
+		this.items = items;
+	}
+
+	/**
+	 * Returns the cursor to pass to the next step of the iteration.
+	 *
+	 * @return next cursor, 0 if the iteration is finished
+	 */
+	public long getCursorId() {
+		return cursorId;
+	}
+
+	/**
+	 * Returns the elements returned by this step. The same element may be returned by multiple steps of an
+	 * iteration and a step may return no elements at all without the iteration being finished.
+	 *
+	 * @return elements of this step
+	 */
+	public List<T> getItems() {
+		return items;
+	}
+
+	/**
+	 * Indicates whether this is the last step of the iteration.
+	 *
+	 * @return true if the iteration is finished, false otherwise
+	 */
+	public boolean isFinished() {
+		return cursorId == 0;
+	}
+}
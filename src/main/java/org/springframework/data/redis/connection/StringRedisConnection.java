@@ -54,6 +54,8 @@ public interface StringRedisConnection extends RedisConnection {
 
 	Collection<String> keys(String pattern);
 
+	ScanResult<String> scan(long cursorId, String pattern, long count);
+
 	void rename(String oldName, String newName);
 
 	Boolean renameNX(String oldName, String newName);
@@ -62,12 +64,24 @@ public interface StringRedisConnection extends RedisConnection {
 
 	Boolean expireAt(String key, long unixTime);
 
+	Boolean pExpire(String key, long millis);
+
+	Boolean pExpireAt(String key, long unixTimeInMillis);
+
 	Boolean persist(String key);
 
 	Boolean move(String key, int dbIndex);
 
 	Long ttl(String key);
 
+	Long pTtl(String key);
+
+	byte[] dump(String key);
+
+	void restore(String key, long ttlInMillis, byte[] serializedValue);
+
+	void migrate(String key, String host, int port, int dbIndex, long timeoutInMillis);
+
 	String echo(String message);
 
 	// sort commands
@@ -87,6 +101,10 @@ public interface StringRedisConnection extends RedisConnection {
 
 	void setEx(String key, long seconds, String value);
 
+	void pSetEx(String key, long milliseconds, String value);
+
+	Boolean pSetNX(String key, long milliseconds, String value);
+
 	void mSetString(Map<String, String> tuple);
 
 	void mSetNXString(Map<String, String> tuple);
@@ -109,6 +127,16 @@ public interface StringRedisConnection extends RedisConnection {
 
 	void setBit(String key, long offset, boolean value);
 
+	Long bitCount(String key);
+
+	Long bitCount(String key, long begin, long end);
+
+	Long bitOp(BitOperation op, String destination, String... keys);
+
+	Long bitPos(String key, boolean bit);
+
+	Long bitPos(String key, boolean bit, long begin, long end);
+
 	Long strLen(String key);
 
 	Long rPush(String key, String value);
@@ -149,6 +177,8 @@ public interface StringRedisConnection extends RedisConnection {
 
 	Boolean sRem(String key, String value);
 
+	Long sRem(String key, String... values);
+
 	String sPop(String key);
 
 	Boolean sMove(String srcKey, String destKey, String value);
@@ -175,8 +205,12 @@ public interface StringRedisConnection extends RedisConnection {
 
 	Boolean zAdd(String key, double score, String value);
 
+	Long zAdd(String key, Set<StringTuple> tuples);
+
 	Boolean zRem(String key, String value);
 
+	Long zRem(String key, String... values);
+
 	Double zIncrBy(String key, double increment, String value);
 
 	Long zRank(String key, String value);
@@ -233,6 +267,8 @@ public interface StringRedisConnection extends RedisConnection {
 
 	Boolean hDel(String key, String field);
 
+	Long hDel(String key, String... fields);
+
 	Long hLen(String key);
 
 	Set<String> hKeys(String key);
@@ -246,4 +282,10 @@ public interface StringRedisConnection extends RedisConnection {
 	void subscribe(MessageListener listener, String... channels);
 
 	void pSubscribe(MessageListener listener, String... patterns);
+
+	String scriptLoad(String script);
+
+	<T> T eval(String script, ReturnType returnType, int numKeys, String... keysAndArgs);
+
+	<T> T evalSha(String scriptSha1, ReturnType returnType, int numKeys, String... keysAndArgs);
 }
\ No newline at end of file
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.breaker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.util.Assert;
+
+/**
+ * Circuit breaker tracking the outcome of the Redis calls.
+ *
+ * While <em>closed</em>, calls go through and their outcome is counted over a time window. Once enough calls were
+ * made within the window and the failure rate reaches the threshold, the breaker <em>opens</em>: calls are rejected
+ * right away for the configured duration. Afterwards the breaker becomes <em>half-open</em> and lets a single probe
+ * through: if the probe succeeds the breaker closes, otherwise it opens again.
+ *
+ * Connection failures and timeouts count as failures, as do calls slower than the (optional) slow call threshold.
+ * Errors reported by the server for valid connections (such as using a command against the wrong type) do not.
+ *
+ * @author agent
+ */
+public class CircuitBreaker {
+
+	/**
+	 * State of a {@link CircuitBreaker}.
+	 */
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private static final Log log = LogFactory.getLog(CircuitBreaker.class);
+
+	private final AtomicReference<State> state = new AtomicReference<State>(State.CLOSED);
+	// time when the breaker was opened or when the last probe was let through
+	private volatile long stateChanged;
+
+	private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+	private final AtomicInteger calls = new AtomicInteger();
+	private final AtomicInteger failures = new AtomicInteger();
+
+	private volatile int failureRateThreshold = 50;
+	private volatile int minimumCalls = 20;
+	private volatile long windowNanos = TimeUnit.SECONDS.toNanos(10);
+	private volatile long openNanos = TimeUnit.SECONDS.toNanos(5);
+	private volatile long slowCallNanos = 0;
+
+	/**
+	 * Asks for permission to make a call. Returns true if the breaker is closed or if the caller
+	 * is the half-open probe, false if the call needs to be rejected.
+	 *
+	 * @return true if the call can proceed, false otherwise
+	 */
+	public boolean tryAcquire() {
+		State current = state.get();
+		if (current == State.CLOSED) {
+			return true;
+		}
+
+		// open (or half-open with a probe that never reported back) - let a probe through once the delay passed
+		long changed = stateChanged;
+		if (System.nanoTime() - changed < openNanos) {
+			return false;
+		}
+		if (state.compareAndSet(current, State.HALF_OPEN)) {
+			stateChanged = System.nanoTime();
+			if (log.isDebugEnabled()) {
+				log.debug("Circuit breaker half-open; probing Redis");
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Indicates whether calls are currently rejected (the breaker is open and no probe is due).
+	 *
+	 * @return true if calls are rejected, false otherwise
+	 */
+	public boolean isOpen() {
+		return state.get() == State.OPEN && System.nanoTime() - stateChanged < openNanos;
+	}
+
+	/**
+	 * Records the successful completion of a call.
+	 *
+	 * @param durationNanos duration of the call
+	 */
+	public void onSuccess(long durationNanos) {
+		long slow = slowCallNanos;
+		if (slow > 0 && durationNanos >= slow) {
+			onFailure();
+			return;
+		}
+
+		if (state.get() == State.HALF_OPEN) {
+			if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+				resetWindow(System.nanoTime());
+				log.info("Circuit breaker closed; Redis calls are allowed again");
+			}
+			return;
+		}
+		record(false);
+	}
+
+	/**
+	 * Records a failed call.
+	 */
+	public void onFailure() {
+		State current = state.get();
+		if (current == State.HALF_OPEN) {
+			open(State.HALF_OPEN);
+			return;
+		}
+		if (current == State.CLOSED) {
+			record(true);
+		}
+	}
+
+	/**
+	 * Records the outcome of a call that ended with the given exception: connection failures and timeouts
+	 * count as failures while other data access errors count as successful calls.
+	 *
+	 * @param ex exception thrown by the call
+	 * @param durationNanos duration of the call
+	 */
+	public void onException(Throwable ex, long durationNanos) {
+		if (isFailure(ex)) {
+			onFailure();
+		}
+		else {
+			onSuccess(durationNanos);
+		}
+	}
+
+	/**
+	 * Returns the current state of the breaker.
+	 *
+	 * @return breaker state
+	 */
+	public State getState() {
+		return state.get();
+	}
+
+	/**
+	 * Forces the breaker back into the closed state.
+	 */
+	public void reset() {
+		state.set(State.CLOSED);
+		resetWindow(System.nanoTime());
+	}
+
+	protected boolean isFailure(Throwable ex) {
+		return (ex instanceof DataAccessResourceFailureException || ex instanceof TransientDataAccessException
+				|| !(ex instanceof DataAccessException));
+	}
+
+	private void record(boolean failed) {
+		long now = System.nanoTime();
+		long start = windowStart.get();
+		if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+			calls.set(0);
+			failures.set(0);
+		}
+
+		int total = calls.incrementAndGet();
+		int failureCount = (failed ? failures.incrementAndGet() : failures.get());
+
+		if (failed && total >= minimumCalls && failureCount * 100L >= (long) failureRateThreshold * total) {
+			open(State.CLOSED);
+		}
+	}
+
+	private void open(State from) {
+		if (state.compareAndSet(from, State.OPEN)) {
+			stateChanged = System.nanoTime();
+			log.warn("Circuit breaker opened; Redis calls are rejected for the next "
+					+ TimeUnit.NANOSECONDS.toMillis(openNanos) + " ms");
+		}
+	}
+
+	private void resetWindow(long now) {
+		windowStart.set(now);
+		calls.set(0);
+		failures.set(0);
+	}
+
+	/**
+	 * Sets the failure rate (in percent) at which the breaker opens. Default is 50.
+	 *
+	 * @param failureRateThreshold failure rate threshold
+	 */
+	public void setFailureRateThreshold(int failureRateThreshold) {
+		Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 100, "threshold needs to be between 1 and 100");
+		this.failureRateThreshold = failureRateThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of calls within a window before the failure rate is considered. Default is 20.
+	 *
+	 * @param minimumCalls minimum number of calls
+	 */
+	public void setMinimumCalls(int minimumCalls) {
+		this.minimumCalls = minimumCalls;
+	}
+
+	/**
+	 * Sets the length (in milliseconds) of the window over which the calls are counted. Default is 10 seconds.
+	 *
+	 * @param millis window length
+	 */
+	public void setWindow(long millis) {
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	/**
+	 * Sets how long (in milliseconds) the breaker stays open before letting a probe through. Default is 5 seconds.
+	 *
+	 * @param millis open duration
+	 */
+	public void setOpenDuration(long millis) {
+		this.openNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	/**
+	 * Sets the duration (in milliseconds) above which successful calls count as failures.
+	 * Default is 0 (disabled).
+	 *
+	 * @param millis slow call threshold
+	 */
+	public void setSlowCallThreshold(long millis) {
+		this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.breaker;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.springframework.data.redis.RedisCircuitOpenException;
+import org.springframework.data.redis.connection.RedisConnection;
+
+/**
+ * Invocation handler reporting the outcome of the commands executed on a {@link RedisConnection} to a
+ * {@link CircuitBreaker} and rejecting them while the breaker is open. Once half-open, only the probe
+ * (the first command let through by {@link CircuitBreaker#tryAcquire()}) reaches Redis until it reports back.
+ * Pipelined commands are accounted for when the pipeline is closed.
+ *
+ * @author agent
+ */
+class CircuitBreakerInvocationHandler implements InvocationHandler {
+
+	private static final String CLOSE_PIPELINE = "closePipeline";
+	private static final String CLOSE_PIPELINE_RESULTS = "closePipelineResults";
+	private static final String HASH_CODE = "hashCode";
+	private static final String EQUALS = "equals";
+
+	private final RedisConnection target;
+	private final CircuitBreaker circuitBreaker;
+
+	CircuitBreakerInvocationHandler(RedisConnection target, CircuitBreaker circuitBreaker) {
+		this.target = target;
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		Class<?> declaringClass = method.getDeclaringClass();
+		String name = method.getName();
+
+		if (declaringClass == Object.class) {
+			if (name.equals(EQUALS)) {
+				// Only consider equal when proxies are identical.
+				return (proxy == args[0]);
+			}
+			else if (name.equals(HASH_CODE)) {
+				return System.identityHashCode(proxy);
+			}
+			return invokeTarget(method, args);
+		}
+
+		// connection lifecycle and pipelined commands are not guarded (the pipeline execution is)
+		boolean pipelineExecution = (name.equals(CLOSE_PIPELINE) || name.equals(CLOSE_PIPELINE_RESULTS));
+		if (!pipelineExecution && (declaringClass == RedisConnection.class || target.isPipelined())) {
+			return invokeTarget(method, args);
+		}
+
+		if (!circuitBreaker.tryAcquire()) {
+			throw new RedisCircuitOpenException("Redis circuit breaker is open; command " + name + " rejected");
+		}
+
+		long start = System.nanoTime();
+		try {
+			Object result = invokeTarget(method, args);
+			circuitBreaker.onSuccess(System.nanoTime() - start);
+			return result;
+		} catch (Throwable th) {
+			circuitBreaker.onException(th, System.nanoTime() - start);
+			throw th;
+		}
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.breaker;
+
+import java.lang.reflect.Proxy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisCircuitOpenException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link RedisConnectionFactory} decorator guarding the target factory with a {@link CircuitBreaker}.
+ * When the breaker is open, retrieving a connection or executing a command on an existing one fails right away
+ * with a {@link RedisCircuitOpenException} instead of blocking until the configured timeout expires.
+ *
+ * @author agent
+ */
+public class CircuitBreakingRedisConnectionFactory implements RedisConnectionFactory {
+
+	private final RedisConnectionFactory connectionFactory;
+	private final CircuitBreaker circuitBreaker;
+
+	/**
+	 * Constructs a new <code>CircuitBreakingRedisConnectionFactory</code> instance
+	 * using a circuit breaker with the default settings.
+	 *
+	 * @param connectionFactory target connection factory
+	 */
+	public CircuitBreakingRedisConnectionFactory(RedisConnectionFactory connectionFactory) {
+		this(connectionFactory, new CircuitBreaker());
+	}
+
+	/**
+	 * Constructs a new <code>CircuitBreakingRedisConnectionFactory</code> instance.
+	 *
+	 * @param connectionFactory target connection factory
+	 * @param circuitBreaker circuit breaker
+	 */
+	public CircuitBreakingRedisConnectionFactory(RedisConnectionFactory connectionFactory,
+			CircuitBreaker circuitBreaker) {
+		Assert.notNull(connectionFactory, "a valid connection factory is required");
+		Assert.notNull(circuitBreaker, "a valid circuit breaker is required");
+		this.connectionFactory = connectionFactory;
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	public RedisConnection getConnection() {
+		// only check the state - the half-open probe is left to the first command executed on the connection
+		if (circuitBreaker.isOpen()) {
+			throw new RedisCircuitOpenException("Redis circuit breaker is open; cannot get connection");
+		}
+
+		RedisConnection connection;
+		long start = System.nanoTime();
+		try {
+			connection = connectionFactory.getConnection();
+		} catch (RuntimeException ex) {
+			circuitBreaker.onException(ex, System.nanoTime() - start);
+			throw ex;
+		}
+
+		Class<?>[] ifcs = ClassUtils.getAllInterfacesForClass(connection.getClass(), getClass().getClassLoader());
+		return (RedisConnection) Proxy.newProxyInstance(connection.getClass().getClassLoader(), ifcs,
+				new CircuitBreakerInvocationHandler(connection, circuitBreaker));
+	}
+
+	public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+		return connectionFactory.translateExceptionIfPossible(ex);
+	}
+
+	/**
+	 * Returns the circuit breaker guarding the target factory.
+	 *
+	 * @return circuit breaker
+	 */
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * Returns the target connection factory.
+	 *
+	 * @return target connection factory
+	 */
+	public RedisConnectionFactory getConnectionFactory() {
+		return connectionFactory;
+	}
+}
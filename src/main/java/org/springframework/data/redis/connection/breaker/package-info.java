@@ -0,0 +1,5 @@
+/**
+ * Circuit breaker support for failing fast when the Redis server is unavailable or unresponsive.
+ */
+package org.springframework.data.redis.connection.breaker;
+
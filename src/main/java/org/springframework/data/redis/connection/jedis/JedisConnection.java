@@ -26,12 +26,17 @@ import java.util.Properties;
 import java.util.Set;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.PipelineResult;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisPipelineException;
 import org.springframework.data.redis.connection.RedisSubscribedConnectionException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.ScanResult;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
 import org.springframework.data.redis.connection.SortParameters;
 import org.springframework.data.redis.connection.Subscription;
 import org.springframework.util.Assert;
@@ -41,10 +46,12 @@ import org.springframework.util.ReflectionUtils;
 import redis.clients.jedis.BinaryJedis;
 import redis.clients.jedis.BinaryJedisPubSub;
 import redis.clients.jedis.Builder;
+import redis.clients.jedis.BuilderFactory;
 import redis.clients.jedis.Client;
 import redis.clients.jedis.Connection;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
 import redis.clients.jedis.Protocol.Command;
 import redis.clients.jedis.Queable;
 import redis.clients.jedis.SortingParams;
@@ -53,6 +60,9 @@ import redis.clients.jedis.ZParams;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.util.Pool;
+import redis.clients.util.RedisInputStream;
+import redis.clients.util.RedisOutputStream;
+import redis.clients.util.SafeEncoder;
 
 /**
  * {@code RedisConnection} implementation on top of <a
@@ -65,6 +75,11 @@ public class JedisConnection implements RedisConnection {
 	private static final Field CLIENT_FIELD;
 	private static final Method SEND_COMMAND;
 	private static final Method GET_RESPONSE;
+	// raw protocol access, for commands unknown to the driver
+	private static final Method SEND_RAW_COMMAND;
+	private static final Method FLUSH;
+	private static final Field INPUT_STREAM;
+	private static final Field OUTPUT_STREAM;
 
 	static {
 		CLIENT_FIELD = ReflectionUtils.findField(BinaryJedis.class, "client",
@@ -76,8 +91,28 @@ public class JedisConnection implements RedisConnection {
 		GET_RESPONSE = ReflectionUtils.findMethod(Queable.class, "getResponse",
 				Builder.class);
 		ReflectionUtils.makeAccessible(GET_RESPONSE);
+
+		SEND_RAW_COMMAND = ReflectionUtils.findMethod(Protocol.class, "sendCommand", new Class<?>[] {
+				RedisOutputStream.class, byte[].class, byte[][].class });
+		ReflectionUtils.makeAccessible(SEND_RAW_COMMAND);
+		FLUSH = ReflectionUtils.findMethod(Connection.class, "flush");
+		ReflectionUtils.makeAccessible(FLUSH);
+		INPUT_STREAM = ReflectionUtils.findField(Connection.class, "inputStream", RedisInputStream.class);
+		ReflectionUtils.makeAccessible(INPUT_STREAM);
+		OUTPUT_STREAM = ReflectionUtils.findField(Connection.class, "outputStream", RedisOutputStream.class);
+		ReflectionUtils.makeAccessible(OUTPUT_STREAM);
 	}
 
+	// pipeline replies are data errors, which do not affect the connection state
+	private static final PersistenceExceptionTranslator EXCEPTION_TRANSLATOR = new PersistenceExceptionTranslator() {
+		public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+			return JedisUtils.convertJedisAccessException(ex);
+		}
+	};
+
+	private static final byte[] SCAN = "SCAN".getBytes();
+	private static final byte[] BITPOS = "BITPOS".getBytes();
+
 	private final Jedis jedis;
 	private final Client client;
 	private final Transaction transaction;
@@ -118,10 +153,12 @@ public class JedisConnection implements RedisConnection {
 
 		this.dbIndex = dbIndex;
 
-		// select the db
+		// select the db (if needed)
+		// pooled connections are normally pinned to the right db already; the current db is tracked
+		// client-side by Jedis so no command is sent unless a switch is actually required
 		// if this fail, do manual clean-up before propagating the exception
 		// as we're inside the constructor
-		if (dbIndex > 0) {
+		if (currentDb(jedis) != dbIndex) {
 			try {
 				select(dbIndex);
 			} catch (DataAccessException ex) {
@@ -131,6 +168,11 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	private static long currentDb(Jedis jedis) {
+		Long db = jedis.getDB();
+		return (db != null ? db.longValue() : 0);
+	}
+
 	protected DataAccessException convertJedisAccessException(Exception ex) {
 		if (ex instanceof JedisException) {
 			// check connection flag
@@ -147,6 +189,52 @@ public class JedisConnection implements RedisConnection {
 		return new RedisSystemException("Unknown jedis exception", ex);
 	}
 
+	/**
+	 * Sends a command (in a form the driver has no method for) through the driver, so it is queued or pipelined
+	 * like any other command. The reply is expected to be an integer.
+	 */
+	private Long sendIntegerCommand(Command command, byte[]... args) {
+		ReflectionUtils.invokeMethod(SEND_COMMAND, client, command, args);
+		if (isQueueing() || isPipelined()) {
+			queueResponse(BuilderFactory.LONG);
+			return null;
+		}
+		return client.getIntegerReply();
+	}
+
+	/**
+	 * Sends a command (in a form the driver has no method for) through the driver, so it is queued or pipelined
+	 * like any other command. The reply is expected to be a status reply.
+	 */
+	private void sendStatusCommand(Command command, byte[]... args) {
+		ReflectionUtils.invokeMethod(SEND_COMMAND, client, command, args);
+		if (isQueueing() || isPipelined()) {
+			queueResponse(BuilderFactory.STRING);
+			return;
+		}
+		client.getOne();
+	}
+
+	/**
+	 * Registers the reply of a command sent directly through the client with the current pipeline or transaction,
+	 * so that it is read (and converted by the given builder) along with the others.
+	 */
+	private void queueResponse(Builder<?> builder) {
+		ReflectionUtils.invokeMethod(GET_RESPONSE, (isPipelined() ? pipeline : transaction), builder);
+	}
+
+	/**
+	 * Sends a command the driver does not know about (such as <tt>SCAN</tt>) and reads its reply. Bypasses the
+	 * driver command bookkeeping so it must not be used while pipelining or queueing.
+	 */
+	private Object sendRawCommand(byte[] command, byte[]... args) {
+		client.connect();
+		ReflectionUtils.invokeMethod(SEND_RAW_COMMAND, null, ReflectionUtils.getField(OUTPUT_STREAM, client),
+				command, args);
+		ReflectionUtils.invokeMethod(FLUSH, client);
+		return Protocol.read((RedisInputStream) ReflectionUtils.getField(INPUT_STREAM, client));
+	}
+
 	public Object execute(String command, byte[]... args) {
 		Assert.hasText(command, "a valid command needs to be specified");
 		try {
@@ -184,10 +272,7 @@ public class JedisConnection implements RedisConnection {
 		try {
 			if (pool != null) {
 				if (!broken) {
-					// reset the connection
-					if (dbIndex > 0) {
-						select(0);
-					}
+					// no db reset required - the pool switches back to its db on the next borrow, if needed
 					pool.returnResource(jedis);
 					return;
 				}
@@ -257,29 +342,59 @@ public class JedisConnection implements RedisConnection {
 	}
 
 	public List<Object> closePipeline() {
-		if (pipeline != null) {
-			List<Object> execute = pipeline.syncAndReturnAll();
-			if (execute != null && !execute.isEmpty()) {
-				Exception cause = null;
-				for (int i = 0; i < execute.size(); i++) {
-					Object object = execute.get(i);
-					if (object instanceof Exception) {
-						DataAccessException dataAccessException = convertJedisAccessException((Exception) object);
-						if (cause == null) {
-							cause = dataAccessException;
-						}
-						execute.set(i, dataAccessException);
-					}
+		List<PipelineResult> results = closePipelineResults();
+		if (results.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Object> execute = new ArrayList<Object>(results.size());
+		Exception cause = null;
+		for (PipelineResult result : results) {
+			if (result.isFailed()) {
+				DataAccessException dataAccessException = result.getException();
+				if (cause == null) {
+					cause = dataAccessException;
 				}
+				execute.add(dataAccessException);
+			}
+			else {
+				execute.add(result.get());
+			}
+		}
 
-				if (cause != null) {
-					throw new RedisPipelineException(cause, execute);
-				}
+		if (cause != null) {
+			throw new RedisPipelineException(cause, execute);
+		}
+		return execute;
+	}
 
-				return execute;
-			}
+	public List<PipelineResult> closePipelineResults() {
+		if (pipeline == null) {
+			return Collections.emptyList();
 		}
-		return Collections.emptyList();
+
+		List<Object> execute;
+		try {
+			execute = pipeline.syncAndReturnAll();
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		} finally {
+			// the pipeline is done either way
+			pipeline = null;
+		}
+
+		if (execute == null || execute.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<PipelineResult> results = new ArrayList<PipelineResult>(execute.size());
+		for (int i = 0; i < execute.size(); i++) {
+			Object object = execute.get(i);
+			// errors are converted only if accessed
+			results.add(object instanceof RuntimeException ? new PipelineResult(i, (RuntimeException) object,
+					EXCEPTION_TRANSLATOR) : new PipelineResult(i, object));
+		}
+		return results;
 	}
 
 	public List<byte[]> sort(byte[] key, SortParameters params) {
@@ -564,6 +679,10 @@ public class JedisConnection implements RedisConnection {
 
 	public void discard() {
 		try {
+			if (isPipelined()) {
+				pipeline.discard();
+				return;
+			}
 			client.discard();
 		} catch (Exception ex) {
 			throw convertJedisAccessException(ex);
@@ -630,6 +749,31 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public Boolean pExpire(byte[] key, long millis) {
+		try {
+			// sent directly as the driver only accepts int timeouts
+			return JedisUtils.convertCodeReply(sendIntegerCommand(Command.PEXPIRE, key, Protocol.toByteArray(millis)));
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public Boolean pExpireAt(byte[] key, long unixTimeInMillis) {
+		try {
+			if (isQueueing()) {
+				transaction.pexpireAt(key, unixTimeInMillis);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.pexpireAt(key, unixTimeInMillis);
+				return null;
+			}
+			return (jedis.pexpireAt(key, unixTimeInMillis) == 1);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public Set<byte[]> keys(byte[] pattern) {
 		try {
 			if (isQueueing()) {
@@ -646,6 +790,17 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public ScanResult<byte[]> scan(long cursorId, byte[] pattern, long count) {
+		try {
+			if (isQueueing() || isPipelined()) {
+				throw new UnsupportedOperationException();
+			}
+			return JedisUtils.convertScanReply(sendRawCommand(SCAN, JedisUtils.scanArgs(cursorId, pattern, count)));
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public void multi() {
 		if (isQueueing()) {
 			return;
@@ -769,6 +924,57 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public Long pTtl(byte[] key) {
+		try {
+			if (isQueueing()) {
+				transaction.pttl(key);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.pttl(key);
+				return null;
+			}
+			return jedis.pttl(key);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public byte[] dump(byte[] key) {
+		try {
+			if (isQueueing()) {
+				transaction.dump(key);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.dump(key);
+				return null;
+			}
+			return jedis.dump(key);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public void restore(byte[] key, long ttlInMillis, byte[] serializedValue) {
+		try {
+			// sent directly as the driver only accepts int timeouts
+			sendStatusCommand(Command.RESTORE, key, Protocol.toByteArray(ttlInMillis), serializedValue);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public void migrate(byte[] key, String host, int port, int dbIndex, long timeoutInMillis) {
+		try {
+			// sent directly as the driver only accepts int timeouts
+			sendStatusCommand(Command.MIGRATE, SafeEncoder.encode(host), Protocol.toByteArray(port), key,
+					Protocol.toByteArray(dbIndex), Protocol.toByteArray(timeoutInMillis));
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public DataType type(byte[] key) {
 		try {
 			if (isQueueing()) {
@@ -943,6 +1149,35 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public void pSetEx(byte[] key, long milliseconds, byte[] value) {
+		try {
+			// sent directly as the driver only accepts int timeouts
+			ReflectionUtils.invokeMethod(SEND_COMMAND, client, Command.PSETEX, new byte[][] { key,
+					Protocol.toByteArray(milliseconds), value });
+			if (isQueueing() || isPipelined()) {
+				queueResponse(BuilderFactory.STRING);
+				return;
+			}
+			client.getOne();
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public Boolean pSetNX(byte[] key, long milliseconds, byte[] value) {
+		try {
+			ReflectionUtils.invokeMethod(SEND_COMMAND, client, Command.SET,
+					JedisUtils.pSetNXArgs(key, value, milliseconds));
+			if (isQueueing() || isPipelined()) {
+				queueResponse(JedisUtils.SET_REPLY);
+				return null;
+			}
+			return JedisUtils.SET_REPLY.build(client.getOne());
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public Boolean setNX(byte[] key, byte[] value) {
 		try {
 			if (isQueueing()) {
@@ -1042,10 +1277,12 @@ public class JedisConnection implements RedisConnection {
 	public Boolean getBit(byte[] key, long offset) {
 		try {
 			if (isQueueing()) {
-				throw new UnsupportedOperationException();
+				transaction.getbit(key, offset);
+				return null;
 			}
 			if (isPipelined()) {
-				throw new UnsupportedOperationException();
+				pipeline.getbit(key, offset);
+				return null;
 			}
 			// compatibility check for Jedis 2.0.0
 			Object getBit = jedis.getbit(key, offset);
@@ -1063,10 +1300,12 @@ public class JedisConnection implements RedisConnection {
 	public void setBit(byte[] key, long offset, boolean value) {
 		try {
 			if (isQueueing()) {
-				throw new UnsupportedOperationException();
+				transaction.setbit(key, offset, JedisUtils.asBit(value));
+				return;
 			}
 			if (isPipelined()) {
-				throw new UnsupportedOperationException();
+				pipeline.setbit(key, offset, JedisUtils.asBit(value));
+				return;
 			}
 			jedis.setbit(key, offset, JedisUtils.asBit(value));
 		} catch (Exception ex) {
@@ -1074,6 +1313,77 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public Long bitCount(byte[] key) {
+		try {
+			if (isQueueing()) {
+				transaction.bitcount(key);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.bitcount(key);
+				return null;
+			}
+			return jedis.bitcount(key);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public Long bitCount(byte[] key, long begin, long end) {
+		try {
+			if (isQueueing()) {
+				transaction.bitcount(key, begin, end);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.bitcount(key, begin, end);
+				return null;
+			}
+			return jedis.bitcount(key, begin, end);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public Long bitOp(BitOperation op, byte[] destination, byte[]... keys) {
+		try {
+			if (isQueueing()) {
+				transaction.bitop(JedisUtils.convertBitOperation(op), destination, keys);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.bitop(JedisUtils.convertBitOperation(op), destination, keys);
+				return null;
+			}
+			return jedis.bitop(JedisUtils.convertBitOperation(op), destination, keys);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public Long bitPos(byte[] key, boolean bit) {
+		try {
+			if (isQueueing() || isPipelined()) {
+				throw new UnsupportedOperationException();
+			}
+			return (Long) sendRawCommand(BITPOS, key, JedisUtils.asBit(bit));
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public Long bitPos(byte[] key, boolean bit, long begin, long end) {
+		try {
+			if (isQueueing() || isPipelined()) {
+				throw new UnsupportedOperationException();
+			}
+			return (Long) sendRawCommand(BITPOS, key, JedisUtils.asBit(bit), Protocol.toByteArray(begin),
+					Protocol.toByteArray(end));
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public void setRange(byte[] key, byte[] value, long start) {
 		try {
 			if (isQueueing()) {
@@ -1579,6 +1889,22 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public Long sRem(byte[] key, byte[]... values) {
+		try {
+			if (isQueueing()) {
+				transaction.srem(key, values);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.srem(key, values);
+				return null;
+			}
+			return jedis.srem(key, values);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public Set<byte[]> sUnion(byte[]... keys) {
 		try {
 			if (isQueueing()) {
@@ -1631,6 +1957,15 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public Long zAdd(byte[] key, Set<Tuple> tuples) {
+		try {
+			// the driver only accepts a score to member map, which cannot hold members sharing a score
+			return sendIntegerCommand(Command.ZADD, JedisUtils.zAddArgs(key, tuples));
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public Long zCard(byte[] key) {
 		try {
 			if (isQueueing()) {
@@ -1933,6 +2268,22 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public Long zRem(byte[] key, byte[]... values) {
+		try {
+			if (isQueueing()) {
+				transaction.zrem(key, values);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.zrem(key, values);
+				return null;
+			}
+			return jedis.zrem(key, values);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public Long zRemRange(byte[] key, long start, long end) {
 		try {
 			if (isQueueing()) {
@@ -2102,6 +2453,22 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	public Long hDel(byte[] key, byte[]... fields) {
+		try {
+			if (isQueueing()) {
+				transaction.hdel(key, fields);
+				return null;
+			}
+			if (isPipelined()) {
+				pipeline.hdel(key, fields);
+				return null;
+			}
+			return jedis.hdel(key, fields);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
 	public Boolean hExists(byte[] key, byte[] field) {
 		try {
 			if (isQueueing()) {
@@ -2246,6 +2613,98 @@ public class JedisConnection implements RedisConnection {
 		}
 	}
 
+	//
+	// Scripting commands
+	//
+
+	public void scriptFlush() {
+		try {
+			if (isQueueing() || isPipelined()) {
+				client.scriptFlush();
+				queueResponse(BuilderFactory.STRING);
+				return;
+			}
+			jedis.scriptFlush();
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public void scriptKill() {
+		try {
+			if (isQueueing()) {
+				throw new UnsupportedOperationException();
+			}
+			if (isPipelined()) {
+				throw new UnsupportedOperationException();
+			}
+			jedis.scriptKill();
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public String scriptLoad(byte[] script) {
+		try {
+			client.scriptLoad(script);
+			if (isQueueing() || isPipelined()) {
+				queueResponse(BuilderFactory.STRING);
+				return null;
+			}
+			return client.getBulkReply();
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public List<Boolean> scriptExists(String... scriptSha1) {
+		try {
+			client.scriptExists(SafeEncoder.encodeMany(scriptSha1));
+			if (isQueueing() || isPipelined()) {
+				queueResponse(JedisUtils.BOOLEAN_LIST);
+				return null;
+			}
+			return JedisUtils.convertCodeReplies(client.getIntegerMultiBulkReply());
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public <T> T eval(byte[] script, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		try {
+			client.eval(script, numKeys, keysAndArgs);
+			return this.<T> scriptReply(returnType);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	public <T> T evalSha(String scriptSha1, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		try {
+			client.evalsha(SafeEncoder.encode(scriptSha1), numKeys, keysAndArgs);
+			return this.<T> scriptReply(returnType);
+		} catch (Exception ex) {
+			throw convertJedisAccessException(ex);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T scriptReply(final ReturnType returnType) {
+		if (isQueueing() || isPipelined()) {
+			queueResponse(new Builder<Object>() {
+				public Object build(Object data) {
+					return JedisUtils.convertScriptReturn(returnType, data);
+				}
+
+				public String toString() {
+					return returnType.name();
+				}
+			});
+			return null;
+		}
+		return (T) JedisUtils.convertScriptReturn(returnType, client.getOne());
+	}
+
 	//
 	// Pub/Sub functionality
 	//
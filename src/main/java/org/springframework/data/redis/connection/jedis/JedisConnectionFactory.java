@@ -24,11 +24,12 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.metrics.CommandMetrics;
+import org.springframework.data.redis.connection.metrics.Histogram;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 import redis.clients.jedis.JedisShardInfo;
 import redis.clients.jedis.Protocol;
@@ -36,6 +37,11 @@ import redis.clients.jedis.Protocol;
 /**
  * Connection factory creating <a href="http://github.com/xetorthio/jedis">Jedis</a> based connections.
  * 
+ * When pooling is used, the pool is pre-warmed on startup with the configured minimum number of idle connections
+ * (see {@link JedisPoolConfig#setMinIdle(int)}) and idle connections are validated (through <tt>PING</tt>) in the
+ * background according to the pool eviction settings. The maximum size of the pool can optionally be adapted
+ * based on the time spent waiting for connections (see {@link #setAdaptivePoolSizing(boolean)}).
+ * 
  * @author Costin Leau
  */
 public class JedisConnectionFactory implements InitializingBean, DisposableBean, RedisConnectionFactory {
@@ -49,11 +55,16 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	private String password;
 
 	private boolean usePool = true;
-	private JedisPool pool = null;
+	private ManagedJedisPool pool = null;
 	private JedisPoolConfig poolConfig = new JedisPoolConfig();
+	private boolean adaptivePoolSizing = false;
+	private int maxPoolSize = 0;
+	private long poolWaitThreshold = 10;
 
 	private int dbIndex = 0;
 
+	private CommandMetrics metrics;
+
 	/**
 	 * Constructs a new <code>JedisConnectionFactory</code> instance
 	 * with default settings (default connection pooling, no shard information).
@@ -91,7 +102,16 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	protected Jedis fetchJedisConnector() {
 		try {
 			if (usePool && pool != null) {
-				return pool.getResource();
+				long start = System.nanoTime();
+				try {
+					return pool.getResource();
+				} finally {
+					long wait = System.nanoTime() - start;
+					pool.recordBorrow(wait);
+					if (metrics != null) {
+						metrics.recordPoolWait(wait);
+					}
+				}
 			}
 			Jedis jedis = new Jedis(getShardInfo());
 			// force initialization (see Jedis issue #82)
@@ -128,8 +148,19 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		}
 
 		if (usePool) {
-			pool = new JedisPool(poolConfig, shardInfo.getHost(), shardInfo.getPort(), shardInfo.getTimeout(),
-					shardInfo.getPassword());
+			// pin the pooled connections to the configured db so borrowing them does not require a SELECT
+			pool = new ManagedJedisPool(poolConfig, shardInfo.getHost(), shardInfo.getPort(), shardInfo.getTimeout(),
+					shardInfo.getPassword(), dbIndex);
+			pool.setAdaptive(adaptivePoolSizing);
+			pool.setWaitThreshold(poolWaitThreshold);
+			if (maxPoolSize > 0) {
+				pool.setMaxSize(maxPoolSize);
+			}
+			// pay the connection (and authentication) cost upfront rather than on the first requests
+			int warm = pool.warmUp(poolConfig.getMinIdle());
+			if (log.isDebugEnabled() && warm > 0) {
+				log.debug("Pre-created " + warm + " Jedis connection(s)");
+			}
 		}
 	}
 
@@ -292,6 +323,9 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	/**
 	 * Sets the index of the database used by this connection factory.
 	 * Default is 0.
+	 * <p/>
+	 * Pooled connections are pinned to this database so retrieving or releasing them does not issue
+	 * any <tt>SELECT</tt> command. Needs to be set before the factory is initialized.
 	 * 
 	 * @param index database index
 	 */
@@ -299,4 +333,118 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		Assert.isTrue(index >= 0, "invalid DB index (a positive index required)");
 		this.dbIndex = index;
 	}
+
+	/**
+	 * Returns the metrics receiving the pool wait times.
+	 *
+	 * @return pool metrics (can be null)
+	 */
+	public CommandMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Sets the metrics receiving the time spent waiting for pooled connections.
+	 * Default is null (no measurement).
+	 *
+	 * @param metrics pool metrics
+	 * @see org.springframework.data.redis.connection.metrics.InstrumentedRedisConnectionFactory
+	 */
+	public void setMetrics(CommandMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Indicates whether the maximum size of the pool adapts to the observed wait times.
+	 *
+	 * @return true if the pool size is adaptive, false otherwise
+	 */
+	public boolean getAdaptivePoolSizing() {
+		return adaptivePoolSizing;
+	}
+
+	/**
+	 * Turns on or off the adaptive sizing of the pool. When enabled, the maximum number of active connections grows
+	 * (up to {@link #setMaxPoolSize(int)}) when retrieving a connection takes longer than
+	 * {@link #setPoolWaitThreshold(long)} and shrinks back to the configured size once the load decreases.
+	 * Default is false.
+	 *
+	 * @param adaptivePoolSizing whether to adapt the pool size or not
+	 */
+	public void setAdaptivePoolSizing(boolean adaptivePoolSizing) {
+		this.adaptivePoolSizing = adaptivePoolSizing;
+	}
+
+	/**
+	 * Returns the maximum size an adaptive pool can grow to.
+	 *
+	 * @return maximum pool size
+	 */
+	public int getMaxPoolSize() {
+		return maxPoolSize;
+	}
+
+	/**
+	 * Sets the maximum size an adaptive pool can grow to.
+	 * Default is twice the maximum number of active connections of the pool configuration.
+	 *
+	 * @param maxPoolSize maximum pool size
+	 */
+	public void setMaxPoolSize(int maxPoolSize) {
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	/**
+	 * Returns the wait time (in milliseconds) above which an adaptive pool grows.
+	 *
+	 * @return wait threshold in milliseconds
+	 */
+	public long getPoolWaitThreshold() {
+		return poolWaitThreshold;
+	}
+
+	/**
+	 * Sets the wait time (in milliseconds) above which an adaptive pool grows. Default is 10.
+	 *
+	 * @param poolWaitThreshold wait threshold in milliseconds
+	 */
+	public void setPoolWaitThreshold(long poolWaitThreshold) {
+		this.poolWaitThreshold = poolWaitThreshold;
+	}
+
+	/**
+	 * Returns the number of pooled connections currently in use.
+	 *
+	 * @return number of active connections (0 if no pool is used)
+	 */
+	public int getActiveConnections() {
+		return (pool != null ? pool.getNumActive() : 0);
+	}
+
+	/**
+	 * Returns the number of pooled connections currently idle.
+	 *
+	 * @return number of idle connections (0 if no pool is used)
+	 */
+	public int getIdleConnections() {
+		return (pool != null ? pool.getNumIdle() : 0);
+	}
+
+	/**
+	 * Returns the current maximum number of active pooled connections (which might have been adapted).
+	 *
+	 * @return maximum number of active connections (0 if no pool is used)
+	 */
+	public int getMaxActiveConnections() {
+		return (pool != null ? pool.getMaxActive() : 0);
+	}
+
+	/**
+	 * Returns the histogram of the time (in nanoseconds) spent retrieving connections from the pool.
+	 *
+	 * @return borrow latency histogram (null if no pool is used)
+	 */
+	public Histogram getBorrowLatency() {
+		return (pool != null ? pool.getBorrowLatency() : null);
+	}
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.springframework.data.redis.connection.jedis;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.math.BigInteger;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -35,7 +36,10 @@ import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.DefaultTuple;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisListCommands.Position;
+import org.springframework.data.redis.connection.RedisStringCommands.BitOperation;
 import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.ScanResult;
 import org.springframework.data.redis.connection.SortParameters;
 import org.springframework.data.redis.connection.SortParameters.Order;
 import org.springframework.data.redis.connection.SortParameters.Range;
@@ -43,11 +47,14 @@ import org.springframework.util.Assert;
 
 import redis.clients.jedis.BinaryClient.LIST_POSITION;
 import redis.clients.jedis.BinaryJedisPubSub;
+import redis.clients.jedis.BitOP;
+import redis.clients.jedis.Builder;
 import redis.clients.jedis.Protocol;
 import redis.clients.jedis.SortingParams;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.util.SafeEncoder;
 
 /**
  * Helper class featuring methods for Jedis connection handling, providing support for exception translation. 
@@ -60,6 +67,33 @@ public abstract class JedisUtils {
 	private static final String OK_MULTI_CODE = "+OK";
 	private static final byte[] ONE = new byte[] { '1' };
 	private static final byte[] ZERO = new byte[] { '0' };
+	private static final byte[] MATCH = "MATCH".getBytes();
+	private static final byte[] COUNT = "COUNT".getBytes();
+	private static final byte[] PX = "PX".getBytes();
+	private static final byte[] NX = "NX".getBytes();
+	private static final BigInteger UNSIGNED_LONG_RANGE = BigInteger.ONE.shiftLeft(64);
+
+	static final Builder<List<Boolean>> BOOLEAN_LIST = new Builder<List<Boolean>>() {
+		@SuppressWarnings("unchecked")
+		public List<Boolean> build(Object data) {
+			return convertCodeReplies((List<Long>) data);
+		}
+
+		public String toString() {
+			return "List<Boolean>";
+		}
+	};
+
+	// SET with options replies OK if the key was set and nil if the condition was not met
+	static final Builder<Boolean> SET_REPLY = new Builder<Boolean>() {
+		public Boolean build(Object data) {
+			return Boolean.valueOf(data != null);
+		}
+
+		public String toString() {
+			return "Boolean";
+		}
+	};
 
 	/**
 	 * Converts the given, native Jedis exception to Spring's DAO hierarchy.
@@ -112,6 +146,35 @@ public abstract class JedisUtils {
 		return (code != null ? code.intValue() == 1 : null);
 	}
 
+	static List<Boolean> convertCodeReplies(List<Long> codes) {
+		if (codes == null) {
+			return null;
+		}
+		List<Boolean> result = new ArrayList<Boolean>(codes.size());
+		for (Long code : codes) {
+			result.add(convertCodeReply(code));
+		}
+		return result;
+	}
+
+	/**
+	 * Converts the reply of a script to the given return type. Lua <tt>false</tt> is returned as nil and
+	 * <tt>true</tt> as 1 while status replies are read as binary.
+	 */
+	static Object convertScriptReturn(ReturnType returnType, Object reply) {
+		switch (returnType) {
+		case BOOLEAN:
+			if (reply instanceof Long) {
+				return Boolean.valueOf(((Long) reply).longValue() == 1);
+			}
+			return Boolean.valueOf(reply != null);
+		case STATUS:
+			return (reply instanceof byte[] ? SafeEncoder.encode((byte[]) reply) : reply);
+		default:
+			return reply;
+		}
+	}
+
 	static Set<Tuple> convertJedisTuple(Set<redis.clients.jedis.Tuple> tuples) {
 		Set<Tuple> value = new LinkedHashSet<Tuple>(tuples.size());
 		for (redis.clients.jedis.Tuple tuple : tuples) {
@@ -195,6 +258,11 @@ public abstract class JedisUtils {
 		return (Position.AFTER.equals(where) ? LIST_POSITION.AFTER : LIST_POSITION.BEFORE);
 	}
 
+	static BitOP convertBitOperation(BitOperation op) {
+		Assert.notNull(op, "bit operations are mandatory");
+		return BitOP.valueOf(op.name());
+	}
+
 	static Properties info(String string) {
 		Properties info = new Properties();
 		StringReader stringReader = new StringReader(string);
@@ -230,4 +298,47 @@ public abstract class JedisUtils {
 		args.add(Protocol.toByteArray(timeout));
 		return args.toArray(new byte[args.size()][]);
 	}
-}
\ No newline at end of file
+
+	static byte[][] zAddArgs(byte[] key, Set<Tuple> tuples) {
+		final byte[][] args = new byte[1 + tuples.size() * 2][];
+		args[0] = key;
+		int i = 1;
+		for (Tuple tuple : tuples) {
+			args[i++] = Protocol.toByteArray(tuple.getScore());
+			args[i++] = tuple.getValue();
+		}
+		return args;
+	}
+
+	// SET key value PX milliseconds NX
+	static byte[][] pSetNXArgs(byte[] key, byte[] value, long milliseconds) {
+		return new byte[][] { key, value, PX, Protocol.toByteArray(milliseconds), NX };
+	}
+
+	static byte[][] scanArgs(long cursorId, byte[] pattern, long count) {
+		final List<byte[]> args = new ArrayList<byte[]>(5);
+		// cursors are unsigned 64-bit numbers
+		BigInteger cursor = BigInteger.valueOf(cursorId);
+		if (cursorId < 0) {
+			cursor = cursor.add(UNSIGNED_LONG_RANGE);
+		}
+		args.add(cursor.toString().getBytes());
+		if (pattern != null) {
+			args.add(MATCH);
+			args.add(pattern);
+		}
+		if (count > 0) {
+			args.add(COUNT);
+			args.add(Protocol.toByteArray(count));
+		}
+		return args.toArray(new byte[args.size()][]);
+	}
+
+	@SuppressWarnings("unchecked")
+	static ScanResult<byte[]> convertScanReply(Object reply) {
+		List<Object> parts = (List<Object>) reply;
+		long cursorId = new BigInteger(new String((byte[]) parts.get(0))).longValue();
+		List<byte[]> keys = new ArrayList<byte[]>((List<byte[]>) (List<?>) parts.get(1));
+		return new ScanResult<byte[]>(cursorId, keys);
+	}
+}
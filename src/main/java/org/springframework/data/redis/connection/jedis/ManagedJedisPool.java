@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.redis.connection.metrics.Histogram;
+
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+/**
+ * {@link JedisPool} extension providing warm-up, utilization and borrow latency statistics and
+ * (optionally) adaptive sizing of the maximum number of active connections.
+ *
+ * When adaptive sizing is enabled, the pool grows (by a quarter, up to a maximum) whenever borrowing a
+ * connection took longer than a threshold, and shrinks back towards its configured size once the peak
+ * utilization stays below half of the current size for a while. Resizing happens at most once per interval.
+ *
+ * @author agent
+ */
+class ManagedJedisPool extends JedisPool {
+
+	private static final Log log = LogFactory.getLog(ManagedJedisPool.class);
+
+	private final int initialMaxActive;
+	private final int initialMaxIdle;
+	private final Histogram borrowLatency = new Histogram();
+
+	private volatile boolean adaptive = false;
+	private volatile int maxSize;
+	private volatile long waitThresholdNanos = TimeUnit.MILLISECONDS.toNanos(10);
+	private volatile long resizeIntervalNanos = TimeUnit.SECONDS.toNanos(10);
+
+	// 0 means no resize happened yet
+	private final AtomicLong lastResize = new AtomicLong();
+	private final AtomicInteger peakActive = new AtomicInteger();
+
+	ManagedJedisPool(JedisPoolConfig poolConfig, String host, int port, int timeout, String password, int database) {
+		super(poolConfig, host, port, timeout, password, database);
+		this.initialMaxActive = poolConfig.getMaxActive();
+		this.initialMaxIdle = poolConfig.getMaxIdle();
+		this.maxSize = initialMaxActive * 2;
+	}
+
+	/**
+	 * Opens the given number of connections upfront so they are available as idle ones.
+	 * Failures are logged and stop the warm-up (the pool remains usable).
+	 *
+	 * @param connections number of connections to open
+	 * @return the number of opened connections
+	 */
+	int warmUp(int connections) {
+		int created = 0;
+		for (; created < connections; created++) {
+			try {
+				internalPool.addObject();
+			} catch (Exception ex) {
+				log.warn("Cannot pre-create Jedis connection (" + created + " out of " + connections + " created)", ex);
+				break;
+			}
+		}
+		return created;
+	}
+
+	/**
+	 * Records the time spent waiting for a connection and adapts the size of the pool (if enabled).
+	 *
+	 * @param waitNanos borrow time
+	 */
+	void recordBorrow(long waitNanos) {
+		borrowLatency.record(waitNanos);
+		if (!adaptive) {
+			return;
+		}
+
+		int active = internalPool.getNumActive();
+		int peak;
+		while (active > (peak = peakActive.get())) {
+			if (peakActive.compareAndSet(peak, active)) {
+				break;
+			}
+		}
+
+		long now = System.nanoTime();
+		long last = lastResize.get();
+		if (last != 0 && now - last < resizeIntervalNanos) {
+			return;
+		}
+
+		int current = internalPool.getMaxActive();
+		// unbounded pool - nothing to adapt
+		if (current < 0) {
+			return;
+		}
+
+		int size = current;
+		if (waitNanos >= waitThresholdNanos) {
+			size = Math.min(maxSize, current + Math.max(1, current / 4));
+		}
+		else if (peakActive.get() < current / 2) {
+			size = Math.max(initialMaxActive, current - Math.max(1, current / 4));
+		}
+
+		if (lastResize.compareAndSet(last, now)) {
+			peakActive.set(0);
+			if (size != current) {
+				resize(current, size);
+			}
+		}
+	}
+
+	private void resize(int current, int size) {
+		if (log.isDebugEnabled()) {
+			log.debug("Resizing Jedis pool from " + current + " to " + size + " connections");
+		}
+		// keep the idle connections when the pool allows all connections to be idle
+		if (initialMaxIdle >= initialMaxActive) {
+			internalPool.setMaxIdle(size);
+		}
+		internalPool.setMaxActive(size);
+	}
+
+	int getNumActive() {
+		return internalPool.getNumActive();
+	}
+
+	int getNumIdle() {
+		return internalPool.getNumIdle();
+	}
+
+	int getMaxActive() {
+		return internalPool.getMaxActive();
+	}
+
+	Histogram getBorrowLatency() {
+		return borrowLatency;
+	}
+
+	void setAdaptive(boolean adaptive) {
+		this.adaptive = adaptive;
+	}
+
+	void setMaxSize(int maxSize) {
+		this.maxSize = Math.max(maxSize, initialMaxActive);
+	}
+
+	void setWaitThreshold(long millis) {
+		this.waitThresholdNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	void setResizeInterval(long millis) {
+		this.resizeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.memory.InMemoryDatabase.Entry;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+
+/**
+ * Serialization format used by the in-memory store for <tt>DUMP</tt>/<tt>RESTORE</tt>. Like the Redis one, the
+ * format is opaque and versioned and the payload ends with a checksum. The expiration is not part of the payload.
+ *
+ * @author agent
+ */
+abstract class EntryDump {
+
+	static final String BAD_PAYLOAD = "ERR DUMP payload version or checksum are wrong";
+
+	private static final int VERSION = 1;
+
+	/**
+	 * Serializes the value of the given entry.
+	 */
+	@SuppressWarnings("unchecked")
+	static byte[] dump(Entry entry) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		try {
+			out.writeByte(VERSION);
+			out.writeByte(entry.type.ordinal());
+			switch (entry.type) {
+			case LIST:
+				Collection<byte[]> list = (Collection<byte[]>) entry.value;
+				out.writeInt(list.size());
+				for (byte[] element : list) {
+					write(out, element);
+				}
+				break;
+			case SET:
+				Collection<ByteArrayWrapper> set = (Collection<ByteArrayWrapper>) entry.value;
+				out.writeInt(set.size());
+				for (ByteArrayWrapper member : set) {
+					write(out, member.getArray());
+				}
+				break;
+			case ZSET:
+				ScoredSet zset = (ScoredSet) entry.value;
+				out.writeInt(zset.size());
+				for (ScoredSet.Member member : zset.members()) {
+					write(out, member.value.getArray());
+					out.writeDouble(member.score);
+				}
+				break;
+			case HASH:
+				Map<ByteArrayWrapper, byte[]> hash = (Map<ByteArrayWrapper, byte[]>) entry.value;
+				out.writeInt(hash.size());
+				for (Map.Entry<ByteArrayWrapper, byte[]> field : hash.entrySet()) {
+					write(out, field.getKey().getArray());
+					write(out, field.getValue());
+				}
+				break;
+			default:
+				write(out, (byte[]) entry.value);
+			}
+			CRC32 crc = new CRC32();
+			crc.update(bytes.toByteArray());
+			out.writeLong(crc.getValue());
+			out.flush();
+		} catch (IOException ex) {
+			// cannot happen with in-memory streams
+			throw new IllegalStateException(ex);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Recreates an entry (without expiration) out of the given payload.
+	 *
+	 * @throws InvalidDataAccessApiUsageException if the payload is invalid
+	 */
+	static Entry restore(byte[] payload) {
+		if (payload == null || payload.length < 10) {
+			throw new InvalidDataAccessApiUsageException(BAD_PAYLOAD);
+		}
+		int contentLength = payload.length - 8;
+		CRC32 crc = new CRC32();
+		crc.update(payload, 0, contentLength);
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		try {
+			if (in.readByte() != VERSION) {
+				throw new InvalidDataAccessApiUsageException(BAD_PAYLOAD);
+			}
+			int typeIndex = in.readByte();
+			DataType[] types = DataType.values();
+			if (typeIndex < 0 || typeIndex >= types.length) {
+				throw new InvalidDataAccessApiUsageException(BAD_PAYLOAD);
+			}
+			DataType type = types[typeIndex];
+			Object value;
+			switch (type) {
+			case LIST:
+				int length = in.readInt();
+				List<byte[]> list = new LinkedList<byte[]>();
+				for (int i = 0; i < length; i++) {
+					list.add(read(in));
+				}
+				value = list;
+				break;
+			case SET:
+				length = in.readInt();
+				Set<ByteArrayWrapper> set = new LinkedHashSet<ByteArrayWrapper>();
+				for (int i = 0; i < length; i++) {
+					set.add(new ByteArrayWrapper(read(in)));
+				}
+				value = set;
+				break;
+			case ZSET:
+				length = in.readInt();
+				ScoredSet zset = new ScoredSet();
+				for (int i = 0; i < length; i++) {
+					zset.add(new ByteArrayWrapper(read(in)), in.readDouble());
+				}
+				value = zset;
+				break;
+			case HASH:
+				length = in.readInt();
+				Map<ByteArrayWrapper, byte[]> hash = new LinkedHashMap<ByteArrayWrapper, byte[]>();
+				for (int i = 0; i < length; i++) {
+					hash.put(new ByteArrayWrapper(read(in)), read(in));
+				}
+				value = hash;
+				break;
+			case STRING:
+				value = read(in);
+				break;
+			default:
+				throw new InvalidDataAccessApiUsageException(BAD_PAYLOAD);
+			}
+			if (payload.length - in.available() != contentLength || in.readLong() != crc.getValue()) {
+				throw new InvalidDataAccessApiUsageException(BAD_PAYLOAD);
+			}
+			return new Entry(type, value);
+		} catch (IOException ex) {
+			throw new InvalidDataAccessApiUsageException(BAD_PAYLOAD, ex);
+		}
+	}
+
+	private static void write(DataOutputStream out, byte[] value) throws IOException {
+		out.writeInt(value.length);
+		out.write(value);
+	}
+
+	private static byte[] read(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > in.available()) {
+			throw new IOException("invalid length");
+		}
+		byte[] value = new byte[length];
+		in.readFully(value);
+		return value;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+/**
+ * Glob-style matching, following the Redis rules used by <tt>KEYS</tt> and <tt>PSUBSCRIBE</tt>:
+ * <tt>*</tt>, <tt>?</tt>, <tt>[abc]</tt>, <tt>[^a]</tt>, <tt>[a-z]</tt> and <tt>\</tt> for escaping.
+ *
+ * @author agent
+ */
+abstract class GlobPattern {
+
+	static boolean matches(byte[] pattern, byte[] value) {
+		return matches(pattern, 0, value, 0);
+	}
+
+	@SuppressWarnings("fallthrough")
+	private static boolean matches(byte[] pattern, int p, byte[] value, int v) {
+		while (p < pattern.length) {
+			byte c = pattern[p];
+			switch (c) {
+			case '*':
+				while (p + 1 < pattern.length && pattern[p + 1] == '*') {
+					p++;
+				}
+				if (p + 1 == pattern.length) {
+					return true;
+				}
+				for (int i = v; i <= value.length; i++) {
+					if (matches(pattern, p + 1, value, i)) {
+						return true;
+					}
+				}
+				return false;
+			case '?':
+				if (v == value.length) {
+					return false;
+				}
+				v++;
+				break;
+			case '[':
+				if (v == value.length) {
+					return false;
+				}
+				p++;
+				boolean not = (p < pattern.length && pattern[p] == '^');
+				if (not) {
+					p++;
+				}
+				boolean match = false;
+				while (p < pattern.length && pattern[p] != ']') {
+					if (pattern[p] == '\\' && p + 1 < pattern.length) {
+						p++;
+						match |= (pattern[p] == value[v]);
+					}
+					else if (p + 2 < pattern.length && pattern[p + 1] == '-') {
+						int start = pattern[p] & 0xff, end = pattern[p + 2] & 0xff;
+						if (start > end) {
+							int tmp = start;
+							start = end;
+							end = tmp;
+						}
+						int ch = value[v] & 0xff;
+						match |= (ch >= start && ch <= end);
+						p += 2;
+					}
+					else {
+						match |= (pattern[p] == value[v]);
+					}
+					p++;
+				}
+				if (match == not) {
+					return false;
+				}
+				v++;
+				break;
+			case '\\':
+				if (p + 1 < pattern.length) {
+					p++;
+				}
+				// fall through
+			default:
+				if (v == value.length || pattern[p] != value[v]) {
+					return false;
+				}
+				v++;
+			}
+			p++;
+		}
+		return v == value.length;
+	}
+}
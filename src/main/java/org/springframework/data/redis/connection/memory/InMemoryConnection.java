@@ -0,0 +1,2380 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.PipelineResult;
+import org.springframework.data.redis.connection.RedisCommands;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisPubSubCommands;
+import org.springframework.data.redis.connection.RedisSubscribedConnectionException;
+import org.springframework.data.redis.connection.RedisTxCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.ScanResult;
+import org.springframework.data.redis.connection.SortParameters;
+import org.springframework.data.redis.connection.Subscription;
+import org.springframework.data.redis.connection.SortParameters.Order;
+import org.springframework.data.redis.connection.SortParameters.Range;
+import org.springframework.data.redis.connection.memory.InMemoryDatabase.Entry;
+import org.springframework.data.redis.connection.memory.ScoredSet.Member;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisConnection} working against an {@link InMemoryStore}. Commands are executed right away;
+ * queueing (MULTI) and pipelining are handled in {@link #invoke(Method, Object[])}, through which all calls
+ * made on the connection proxy (see {@link InMemoryConnectionFactory}) are dispatched.
+ *
+ * Like Redis, pipelined commands are executed one by one when the pipeline is closed while queued
+ * commands are executed atomically by EXEC.
+ *
+ * @author agent
+ */
+class InMemoryConnection implements RedisConnection {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final byte[] OK = "OK".getBytes(UTF8);
+	private static final Random random = new Random();
+	// default number of keys returned by a SCAN step
+	private static final int SCAN_COUNT = 10;
+	private static final Comparator<ByteArrayWrapper> HASH_ORDER = new Comparator<ByteArrayWrapper>() {
+		public int compare(ByteArrayWrapper o1, ByteArrayWrapper o2) {
+			long h1 = unsignedHash(o1), h2 = unsignedHash(o2);
+			return (h1 < h2 ? -1 : (h1 == h2 ? 0 : 1));
+		}
+	};
+	private static final Map<String, List<Method>> COMMANDS = new HashMap<String, List<Method>>();
+
+	static {
+		for (Method method : RedisCommands.class.getMethods()) {
+			String name = method.getName().toUpperCase();
+			List<Method> methods = COMMANDS.get(name);
+			if (methods == null) {
+				methods = new ArrayList<Method>(2);
+				COMMANDS.put(name, methods);
+			}
+			methods.add(method);
+		}
+	}
+
+	/**
+	 * Queued/pipelined command.
+	 */
+	private static class Invocation {
+		final Method method;
+		final Object[] args;
+
+		Invocation(Method method, Object[] args) {
+			this.method = method;
+			this.args = args;
+		}
+	}
+
+	/**
+	 * Watched key, along with its version at the time it was watched.
+	 */
+	private static class WatchedKey {
+		final InMemoryDatabase database;
+		final ByteArrayWrapper key;
+		final long version;
+
+		WatchedKey(InMemoryDatabase database, ByteArrayWrapper key, long version) {
+			this.database = database;
+			this.key = key;
+			this.version = version;
+		}
+	}
+
+	private final InMemoryStore store;
+	private InMemoryDatabase db;
+
+	private volatile boolean closed = false;
+	private volatile InMemorySubscription subscription;
+	private List<Invocation> pipeline;
+	private List<Invocation> transaction;
+	private boolean executing = false;
+	private final List<WatchedKey> watched = new ArrayList<WatchedKey>();
+
+	InMemoryConnection(InMemoryStore store, int dbIndex) {
+		this.store = store;
+		this.db = store.getDatabase(dbIndex);
+	}
+
+	/**
+	 * Executes the given call, queueing or pipelining it if needed.
+	 */
+	Object invoke(Method method, Object[] args) throws Throwable {
+		Class<?> declaringClass = method.getDeclaringClass();
+		if (declaringClass.isAssignableFrom(RedisCommands.class) && !isSubscriptionMethod(method)) {
+			if (pipeline != null) {
+				pipeline.add(new Invocation(method, args));
+				return null;
+			}
+			if (transaction != null && declaringClass != RedisTxCommands.class) {
+				transaction.add(new Invocation(method, args));
+				return null;
+			}
+			store.commandExecuted();
+		}
+		try {
+			return method.invoke(this, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private static boolean isSubscriptionMethod(Method method) {
+		return (method.getDeclaringClass() == RedisPubSubCommands.class && !"publish".equals(method.getName()));
+	}
+
+	public void close() throws DataAccessException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		pipeline = null;
+		transaction = null;
+		if (!watched.isEmpty()) {
+			unwatch();
+		}
+		InMemorySubscription sub = subscription;
+		if (sub != null) {
+			sub.close();
+		}
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	public Object getNativeConnection() {
+		return store;
+	}
+
+	public boolean isQueueing() {
+		return transaction != null;
+	}
+
+	public boolean isPipelined() {
+		return pipeline != null;
+	}
+
+	public void openPipeline() {
+		if (pipeline == null) {
+			pipeline = new ArrayList<Invocation>();
+		}
+	}
+
+	public List<Object> closePipeline() {
+		List<PipelineResult> results = closePipelineResults();
+		if (results.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Object> execute = new ArrayList<Object>(results.size());
+		Exception cause = null;
+		for (PipelineResult result : results) {
+			if (result.isFailed()) {
+				DataAccessException dataAccessException = result.getException();
+				if (cause == null) {
+					cause = dataAccessException;
+				}
+				execute.add(dataAccessException);
+			}
+			else {
+				execute.add(result.get());
+			}
+		}
+
+		if (cause != null) {
+			throw new RedisPipelineException(cause, execute);
+		}
+		return execute;
+	}
+
+	public List<PipelineResult> closePipelineResults() {
+		List<Invocation> invocations = pipeline;
+		pipeline = null;
+		if (invocations == null || invocations.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<PipelineResult> results = new ArrayList<PipelineResult>(invocations.size());
+		for (int i = 0; i < invocations.size(); i++) {
+			Invocation invocation = invocations.get(i);
+			try {
+				results.add(new PipelineResult(i, invoke(invocation.method, invocation.args)));
+			} catch (RuntimeException ex) {
+				results.add(new PipelineResult(i, ex, null));
+			} catch (Error err) {
+				throw err;
+			} catch (Throwable th) {
+				results.add(new PipelineResult(i, new InvalidDataAccessApiUsageException(th.getMessage(), th), null));
+			}
+		}
+		return results;
+	}
+
+	//
+	// Generic command
+	//
+
+	public Object execute(String command, byte[]... args) {
+		Assert.hasText(command, "a valid command needs to be specified");
+		String name = command.trim().toUpperCase();
+		List<Method> methods = COMMANDS.get(name);
+		if (methods == null || "EXECUTE".equals(name)) {
+			throw new InvalidDataAccessApiUsageException("ERR unknown command '" + command.trim() + "'");
+		}
+
+		byte[][] arguments = reorder(name, (args != null ? args : new byte[0][]));
+		for (Method method : methods) {
+			Object[] converted = convertArguments(method, arguments);
+			if (converted != null) {
+				Object result;
+				try {
+					result = method.invoke(this, converted);
+				} catch (InvocationTargetException ex) {
+					Throwable cause = ex.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					throw new InvalidDataAccessApiUsageException(cause.getMessage(), cause);
+				} catch (IllegalAccessException ex) {
+					throw new InvalidDataAccessApiUsageException(ex.getMessage(), ex);
+				}
+				return convertReply(method, result);
+			}
+		}
+		throw new InvalidDataAccessApiUsageException("ERR wrong number of arguments for '"
+				+ command.trim().toLowerCase() + "' command");
+	}
+
+	// arguments whose order differs between the Redis command and the RedisCommands method
+	private static byte[][] reorder(String name, byte[][] args) {
+		if (args.length == 3 && "SETRANGE".equals(name)) {
+			return new byte[][] { args[0], args[2], args[1] };
+		}
+		if (args.length == 3 && ("ZREVRANGEBYSCORE".equals(name) || "ZREVRANGEBYSCOREWITHSCORES".equals(name))) {
+			return new byte[][] { args[0], args[2], args[1] };
+		}
+		if (args.length > 1 && ("BLPOP".equals(name) || "BRPOP".equals(name) || "BRPOPLPUSH".equals(name))) {
+			byte[][] result = new byte[args.length][];
+			result[0] = args[args.length - 1];
+			System.arraycopy(args, 0, result, 1, args.length - 1);
+			return result;
+		}
+		if (args.length > 0 && "SCAN".equals(name)) {
+			// cursor [MATCH pattern] [COUNT count]
+			if (args.length % 2 == 0) {
+				throw new InvalidDataAccessApiUsageException("ERR syntax error");
+			}
+			byte[][] result = new byte[][] { args[0], null, "0".getBytes(UTF8) };
+			for (int i = 1; i < args.length; i += 2) {
+				String option = new String(args[i], UTF8);
+				if ("MATCH".equalsIgnoreCase(option)) {
+					result[1] = args[i + 1];
+				}
+				else if ("COUNT".equalsIgnoreCase(option)) {
+					result[2] = args[i + 1];
+				}
+				else {
+					throw new InvalidDataAccessApiUsageException("ERR syntax error");
+				}
+			}
+			return result;
+		}
+		return args;
+	}
+
+	private static Object[] convertArguments(Method method, byte[][] args) {
+		Class<?>[] types = method.getParameterTypes();
+		boolean varArgs = method.isVarArgs();
+		if (varArgs ? args.length < types.length : args.length != types.length) {
+			return null;
+		}
+
+		Object[] converted = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
+			Class<?> type = types[i];
+			if (varArgs && i == types.length - 1) {
+				byte[][] rest = new byte[args.length - i][];
+				System.arraycopy(args, i, rest, 0, rest.length);
+				converted[i] = rest;
+			}
+			else if (type == byte[].class) {
+				converted[i] = args[i];
+			}
+			else if (type == long.class) {
+				converted[i] = toLong(args[i]);
+			}
+			else if (type == int.class) {
+				converted[i] = (int) toLong(args[i]);
+			}
+			else if (type == double.class) {
+				converted[i] = toDouble(args[i]);
+			}
+			else if (type == boolean.class) {
+				converted[i] = (toLong(args[i]) != 0);
+			}
+			else if (type == String.class) {
+				converted[i] = new String(args[i], UTF8);
+			}
+			else if (type.isEnum()) {
+				try {
+					converted[i] = enumValue(type.asSubclass(Enum.class), new String(args[i], UTF8).toUpperCase());
+				} catch (IllegalArgumentException ex) {
+					throw new InvalidDataAccessApiUsageException("ERR syntax error");
+				}
+			}
+			else {
+				return null;
+			}
+		}
+		return converted;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object enumValue(Class<? extends Enum> type, String name) {
+		return Enum.valueOf((Class) type, name);
+	}
+
+	private static Object convertReply(Method method, Object result) {
+		if (method.getReturnType() == void.class) {
+			return OK.clone();
+		}
+		if (result instanceof Boolean) {
+			return (((Boolean) result).booleanValue() ? 1L : 0L);
+		}
+		if (result instanceof Double || result instanceof String) {
+			return result.toString().getBytes(UTF8);
+		}
+		if (result instanceof DataType) {
+			return ((DataType) result).code().getBytes(UTF8);
+		}
+		if (result instanceof ScanResult) {
+			ScanResult<?> scan = (ScanResult<?>) result;
+			return Arrays.asList(String.valueOf(scan.getCursorId()).getBytes(UTF8), scan.getItems());
+		}
+		if (result instanceof Properties) {
+			StringBuilder sb = new StringBuilder();
+			for (Map.Entry<Object, Object> entry : ((Properties) result).entrySet()) {
+				sb.append(entry.getKey()).append(':').append(entry.getValue()).append("\r\n");
+			}
+			return sb.toString().getBytes(UTF8);
+		}
+		return result;
+	}
+
+	//
+	// Key commands
+	//
+
+	public Boolean exists(byte[] key) {
+		synchronized (store) {
+			return db.get(wrap(key)) != null;
+		}
+	}
+
+	public Long del(byte[]... keys) {
+		synchronized (store) {
+			long count = 0;
+			for (byte[] key : keys) {
+				if (db.remove(wrap(key)) != null) {
+					count++;
+				}
+			}
+			return count;
+		}
+	}
+
+	public DataType type(byte[] key) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key));
+			return (entry != null ? entry.type : DataType.NONE);
+		}
+	}
+
+	public Set<byte[]> keys(byte[] pattern) {
+		notNull(pattern);
+		synchronized (store) {
+			Set<byte[]> result = new LinkedHashSet<byte[]>();
+			for (ByteArrayWrapper key : db.keys()) {
+				if (GlobPattern.matches(pattern, key.getArray())) {
+					result.add(key.getArray().clone());
+				}
+			}
+			return result;
+		}
+	}
+
+	public ScanResult<byte[]> scan(long cursorId, byte[] pattern, long count) {
+		// the keys are visited in the order of their hash and the cursor is the next hash to visit, so keys present
+		// during the whole iteration are returned no matter what keys are added or removed in between
+		long limit = (count > 0 ? count : SCAN_COUNT);
+		synchronized (store) {
+			List<ByteArrayWrapper> keys = new ArrayList<ByteArrayWrapper>();
+			for (ByteArrayWrapper key : db.keys()) {
+				if (unsignedHash(key) >= cursorId) {
+					keys.add(key);
+				}
+			}
+			Collections.sort(keys, HASH_ORDER);
+
+			List<byte[]> result = new ArrayList<byte[]>();
+			int index = 0;
+			for (; index < keys.size(); index++) {
+				ByteArrayWrapper key = keys.get(index);
+				// keys sharing a hash are returned by the same step
+				if (index >= limit && unsignedHash(key) != unsignedHash(keys.get(index - 1))) {
+					break;
+				}
+				if (pattern == null || GlobPattern.matches(pattern, key.getArray())) {
+					result.add(key.getArray().clone());
+				}
+			}
+
+			long next = (index < keys.size() ? unsignedHash(keys.get(index)) : 0);
+			return new ScanResult<byte[]>(next, result);
+		}
+	}
+
+	private static long unsignedHash(ByteArrayWrapper key) {
+		return key.hashCode() & 0xffffffffL;
+	}
+
+	public byte[] randomKey() {
+		synchronized (store) {
+			List<ByteArrayWrapper> keys = db.keys();
+			return (keys.isEmpty() ? null : keys.get(random.nextInt(keys.size())).getArray().clone());
+		}
+	}
+
+	public void rename(byte[] oldName, byte[] newName) {
+		ByteArrayWrapper newKey = wrap(newName);
+		synchronized (store) {
+			Entry entry = db.remove(wrap(oldName));
+			if (entry == null) {
+				throw new InvalidDataAccessApiUsageException("ERR no such key");
+			}
+			db.put(newKey, entry);
+		}
+	}
+
+	public Boolean renameNX(byte[] oldName, byte[] newName) {
+		ByteArrayWrapper oldKey = wrap(oldName);
+		ByteArrayWrapper newKey = wrap(newName);
+		synchronized (store) {
+			if (db.get(oldKey) == null) {
+				throw new InvalidDataAccessApiUsageException("ERR no such key");
+			}
+			if (db.get(newKey) != null) {
+				return Boolean.FALSE;
+			}
+			db.put(newKey, db.remove(oldKey));
+			return Boolean.TRUE;
+		}
+	}
+
+	public Boolean expire(byte[] key, long seconds) {
+		return expireAt(wrap(key), System.currentTimeMillis() + seconds * 1000);
+	}
+
+	public Boolean expireAt(byte[] key, long unixTime) {
+		return expireAt(wrap(key), unixTime * 1000);
+	}
+
+	public Boolean pExpire(byte[] key, long millis) {
+		return expireAt(wrap(key), System.currentTimeMillis() + millis);
+	}
+
+	public Boolean pExpireAt(byte[] key, long unixTimeInMillis) {
+		return expireAt(wrap(key), unixTimeInMillis);
+	}
+
+	private Boolean expireAt(ByteArrayWrapper key, long millis) {
+		synchronized (store) {
+			Entry entry = db.get(key);
+			if (entry == null) {
+				return Boolean.FALSE;
+			}
+			if (millis <= System.currentTimeMillis()) {
+				db.remove(key);
+			}
+			else {
+				entry.expireAt = millis;
+				db.put(key, entry);
+			}
+			return Boolean.TRUE;
+		}
+	}
+
+	public Boolean persist(byte[] key) {
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.get(wrapper);
+			if (entry == null || entry.expireAt == 0) {
+				return Boolean.FALSE;
+			}
+			entry.expireAt = 0;
+			db.put(wrapper, entry);
+			return Boolean.TRUE;
+		}
+	}
+
+	public Boolean move(byte[] key, int dbIndex) {
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			InMemoryDatabase target = store.getDatabase(dbIndex);
+			if (target == db) {
+				throw new InvalidDataAccessApiUsageException("ERR source and destination objects are the same");
+			}
+			if (db.get(wrapper) == null || target.get(wrapper) != null) {
+				return Boolean.FALSE;
+			}
+			target.put(wrapper, db.remove(wrapper));
+			return Boolean.TRUE;
+		}
+	}
+
+	public Long ttl(byte[] key) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key));
+			if (entry == null || entry.expireAt == 0) {
+				return -1L;
+			}
+			return (entry.expireAt - System.currentTimeMillis() + 500) / 1000;
+		}
+	}
+
+	public Long pTtl(byte[] key) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key));
+			if (entry == null || entry.expireAt == 0) {
+				return -1L;
+			}
+			return entry.expireAt - System.currentTimeMillis();
+		}
+	}
+
+	public byte[] dump(byte[] key) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key));
+			return (entry != null ? EntryDump.dump(entry) : null);
+		}
+	}
+
+	public void restore(byte[] key, long ttlInMillis, byte[] serializedValue) {
+		ByteArrayWrapper wrapper = wrap(key);
+		if (ttlInMillis < 0) {
+			throw new InvalidDataAccessApiUsageException("ERR Invalid TTL value, must be >= 0");
+		}
+		Entry entry = EntryDump.restore(serializedValue);
+		if (ttlInMillis > 0) {
+			entry.expireAt = System.currentTimeMillis() + ttlInMillis;
+		}
+		synchronized (store) {
+			if (db.get(wrapper) != null) {
+				throw new InvalidDataAccessApiUsageException("ERR Target key name is busy.");
+			}
+			db.put(wrapper, entry);
+		}
+	}
+
+	public void migrate(byte[] key, String host, int port, int dbIndex, long timeoutInMillis) {
+		throw new UnsupportedOperationException("Keys cannot be migrated out of the in-memory store");
+	}
+
+	public List<byte[]> sort(byte[] key, SortParameters params) {
+		synchronized (store) {
+			return doSort(wrap(key), params);
+		}
+	}
+
+	public Long sort(byte[] key, SortParameters params, byte[] storeKey) {
+		ByteArrayWrapper destination = wrap(storeKey);
+		synchronized (store) {
+			List<byte[]> sorted = doSort(wrap(key), params);
+			db.remove(destination);
+			if (!sorted.isEmpty()) {
+				LinkedList<byte[]> list = new LinkedList<byte[]>();
+				for (byte[] element : sorted) {
+					list.add(element != null ? element : new byte[0]);
+				}
+				db.put(destination, new Entry(DataType.LIST, list));
+				store.signalPush();
+			}
+			return (long) sorted.size();
+		}
+	}
+
+	private List<byte[]> doSort(ByteArrayWrapper key, SortParameters params) {
+		Entry entry = db.get(key);
+		List<byte[]> elements = new ArrayList<byte[]>();
+		if (entry != null) {
+			switch (entry.type) {
+			case LIST:
+				elements.addAll(list(entry));
+				break;
+			case SET:
+				for (ByteArrayWrapper member : set(entry)) {
+					elements.add(member.getArray());
+				}
+				break;
+			case ZSET:
+				for (Member member : zset(entry).members()) {
+					elements.add(member.value.getArray());
+				}
+				break;
+			default:
+				throw new InvalidDataAccessApiUsageException(InMemoryDatabase.WRONG_TYPE);
+			}
+		}
+
+		final byte[] byPattern = (params != null ? params.getByPattern() : null);
+		final boolean alpha = (params != null && Boolean.TRUE.equals(params.isAlphabetic()));
+		boolean sort = (byPattern == null || indexOf(byPattern, (byte) '*', 0) >= 0);
+
+		if (sort) {
+			final Map<byte[], Object> weights = new HashMap<byte[], Object>(elements.size() * 2);
+			for (byte[] element : elements) {
+				byte[] weight = (byPattern != null ? lookup(byPattern, element) : element);
+				if (alpha) {
+					weights.put(element, (weight != null ? weight : new byte[0]));
+				}
+				else {
+					try {
+						weights.put(element, (weight != null ? Double.valueOf(new String(weight, UTF8)) : 0d));
+					} catch (NumberFormatException ex) {
+						throw new InvalidDataAccessApiUsageException(
+								"ERR One or more scores can't be converted into double");
+					}
+				}
+			}
+			Collections.sort(elements, new Comparator<byte[]>() {
+				public int compare(byte[] o1, byte[] o2) {
+					Object w1 = weights.get(o1), w2 = weights.get(o2);
+					int result = (alpha ? ScoredSet.compareBytes((byte[]) w1, (byte[]) w2) : ((Double) w1)
+							.compareTo((Double) w2));
+					return (result != 0 ? result : ScoredSet.compareBytes(o1, o2));
+				}
+			});
+			if (params != null && params.getOrder() == Order.DESC) {
+				Collections.reverse(elements);
+			}
+		}
+
+		Range limit = (params != null ? params.getLimit() : null);
+		if (limit != null) {
+			int start = (int) Math.max(0, Math.min(limit.getStart(), elements.size()));
+			int end = (limit.getCount() < 0 ? elements.size() : (int) Math.min(elements.size(), start
+					+ limit.getCount()));
+			elements = new ArrayList<byte[]>(elements.subList(start, end));
+		}
+
+		byte[][] getPatterns = (params != null ? params.getGetPattern() : null);
+		List<byte[]> result = new ArrayList<byte[]>(elements.size());
+		for (byte[] element : elements) {
+			if (getPatterns == null || getPatterns.length == 0) {
+				result.add(element.clone());
+			}
+			else {
+				for (byte[] getPattern : getPatterns) {
+					if (getPattern.length == 1 && getPattern[0] == '#') {
+						result.add(element.clone());
+					}
+					else {
+						byte[] value = lookup(getPattern, element);
+						result.add(value != null ? value.clone() : null);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	// resolves SORT BY/GET patterns (key* or key*->field)
+	private byte[] lookup(byte[] pattern, byte[] element) {
+		int star = indexOf(pattern, (byte) '*', 0);
+		if (star < 0) {
+			return null;
+		}
+		int arrow = -1;
+		for (int i = star + 1; i < pattern.length - 2; i++) {
+			if (pattern[i] == '-' && pattern[i + 1] == '>') {
+				arrow = i;
+				break;
+			}
+		}
+		int keyEnd = (arrow >= 0 ? arrow : pattern.length);
+		byte[] key = new byte[keyEnd - 1 + element.length];
+		System.arraycopy(pattern, 0, key, 0, star);
+		System.arraycopy(element, 0, key, star, element.length);
+		System.arraycopy(pattern, star + 1, key, star + element.length, keyEnd - star - 1);
+
+		Entry entry = db.get(new ByteArrayWrapper(key));
+		if (entry == null) {
+			return null;
+		}
+		if (arrow >= 0) {
+			if (entry.type != DataType.HASH) {
+				return null;
+			}
+			byte[] field = new byte[pattern.length - arrow - 2];
+			System.arraycopy(pattern, arrow + 2, field, 0, field.length);
+			return hash(entry).get(new ByteArrayWrapper(field));
+		}
+		return (entry.type == DataType.STRING ? (byte[]) entry.value : null);
+	}
+
+	//
+	// String commands
+	//
+
+	public byte[] get(byte[] key) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.STRING);
+			return (entry != null ? string(entry).clone() : null);
+		}
+	}
+
+	public byte[] getSet(byte[] key, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		synchronized (store) {
+			Entry entry = db.get(wrapper, DataType.STRING);
+			db.put(wrapper, new Entry(DataType.STRING, value.clone()));
+			return (entry != null ? string(entry) : null);
+		}
+	}
+
+	public List<byte[]> mGet(byte[]... keys) {
+		synchronized (store) {
+			List<byte[]> result = new ArrayList<byte[]>(keys.length);
+			for (byte[] key : keys) {
+				Entry entry = db.get(wrap(key));
+				result.add(entry != null && entry.type == DataType.STRING ? string(entry).clone() : null);
+			}
+			return result;
+		}
+	}
+
+	public void set(byte[] key, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		synchronized (store) {
+			db.put(wrapper, new Entry(DataType.STRING, value.clone()));
+		}
+	}
+
+	public Boolean setNX(byte[] key, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		synchronized (store) {
+			if (db.get(wrapper) != null) {
+				return Boolean.FALSE;
+			}
+			db.put(wrapper, new Entry(DataType.STRING, value.clone()));
+			return Boolean.TRUE;
+		}
+	}
+
+	public void setEx(byte[] key, long seconds, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		if (seconds <= 0) {
+			throw new InvalidDataAccessApiUsageException("ERR invalid expire time in SETEX");
+		}
+		Entry entry = new Entry(DataType.STRING, value.clone());
+		entry.expireAt = System.currentTimeMillis() + seconds * 1000;
+		synchronized (store) {
+			db.put(wrapper, entry);
+		}
+	}
+
+	public void pSetEx(byte[] key, long milliseconds, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		if (milliseconds <= 0) {
+			throw new InvalidDataAccessApiUsageException("ERR invalid expire time in PSETEX");
+		}
+		Entry entry = new Entry(DataType.STRING, value.clone());
+		entry.expireAt = System.currentTimeMillis() + milliseconds;
+		synchronized (store) {
+			db.put(wrapper, entry);
+		}
+	}
+
+	public Boolean pSetNX(byte[] key, long milliseconds, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		if (milliseconds <= 0) {
+			throw new InvalidDataAccessApiUsageException("ERR invalid expire time in SET");
+		}
+		synchronized (store) {
+			if (db.get(wrapper) != null) {
+				return Boolean.FALSE;
+			}
+			Entry entry = new Entry(DataType.STRING, value.clone());
+			entry.expireAt = System.currentTimeMillis() + milliseconds;
+			db.put(wrapper, entry);
+			return Boolean.TRUE;
+		}
+	}
+
+	public void mSet(Map<byte[], byte[]> tuple) {
+		synchronized (store) {
+			for (Map.Entry<byte[], byte[]> entry : tuple.entrySet()) {
+				set(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	public void mSetNX(Map<byte[], byte[]> tuple) {
+		synchronized (store) {
+			for (byte[] key : tuple.keySet()) {
+				if (db.get(wrap(key)) != null) {
+					return;
+				}
+			}
+			mSet(tuple);
+		}
+	}
+
+	public Long incr(byte[] key) {
+		return incrBy(key, 1);
+	}
+
+	public Long incrBy(byte[] key, long value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.get(wrapper, DataType.STRING);
+			long current = (entry != null ? toLong(string(entry)) : 0);
+			long result = current + value;
+			if ((current ^ result) < 0 && (value ^ result) < 0) {
+				throw new InvalidDataAccessApiUsageException("ERR increment or decrement would overflow");
+			}
+			if (entry == null) {
+				entry = new Entry(DataType.STRING, null);
+			}
+			entry.value = String.valueOf(result).getBytes(UTF8);
+			db.put(wrapper, entry);
+			return result;
+		}
+	}
+
+	public Long decr(byte[] key) {
+		return incrBy(key, -1);
+	}
+
+	public Long decrBy(byte[] key, long value) {
+		return incrBy(key, -value);
+	}
+
+	public Long append(byte[] key, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.STRING, true);
+			byte[] current = string(entry);
+			byte[] result = new byte[current.length + value.length];
+			System.arraycopy(current, 0, result, 0, current.length);
+			System.arraycopy(value, 0, result, current.length, value.length);
+			entry.value = result;
+			return (long) result.length;
+		}
+	}
+
+	public byte[] getRange(byte[] key, long begin, long end) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.STRING);
+			byte[] value = (entry != null ? string(entry) : new byte[0]);
+			int[] range = range(begin, end, value.length);
+			if (range == null) {
+				return new byte[0];
+			}
+			byte[] result = new byte[range[1] - range[0] + 1];
+			System.arraycopy(value, range[0], result, 0, result.length);
+			return result;
+		}
+	}
+
+	public void setRange(byte[] key, byte[] value, long offset) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		if (offset < 0) {
+			throw new InvalidDataAccessApiUsageException("ERR offset is out of range");
+		}
+		synchronized (store) {
+			if (value.length == 0 && db.get(wrapper, DataType.STRING) == null) {
+				return;
+			}
+			Entry entry = db.getForWrite(wrapper, DataType.STRING, true);
+			byte[] current = string(entry);
+			int length = (int) Math.max(current.length, offset + value.length);
+			byte[] result = new byte[length];
+			System.arraycopy(current, 0, result, 0, current.length);
+			System.arraycopy(value, 0, result, (int) offset, value.length);
+			entry.value = result;
+		}
+	}
+
+	public Boolean getBit(byte[] key, long offset) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.STRING);
+			if (entry == null) {
+				return Boolean.FALSE;
+			}
+			byte[] value = string(entry);
+			int index = (int) (offset >> 3);
+			return (index < value.length && (value[index] & (0x80 >> (offset & 7))) != 0);
+		}
+	}
+
+	public void setBit(byte[] key, long offset, boolean value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		if (offset < 0 || offset >= (4L << 30) * 8) {
+			throw new InvalidDataAccessApiUsageException("ERR bit offset is not an integer or out of range");
+		}
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.STRING, true);
+			byte[] current = string(entry);
+			int index = (int) (offset >> 3);
+			if (index >= current.length) {
+				byte[] grown = new byte[index + 1];
+				System.arraycopy(current, 0, grown, 0, current.length);
+				current = grown;
+				entry.value = current;
+			}
+			int mask = 0x80 >> (offset & 7);
+			current[index] = (byte) (value ? current[index] | mask : current[index] & ~mask);
+		}
+	}
+
+	public Long bitCount(byte[] key) {
+		return bitCount(key, 0, -1);
+	}
+
+	public Long bitCount(byte[] key, long begin, long end) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.STRING);
+			byte[] value = (entry != null ? string(entry) : new byte[0]);
+			int[] range = range(begin, end, value.length);
+			long count = 0;
+			if (range != null) {
+				for (int i = range[0]; i <= range[1]; i++) {
+					count += Integer.bitCount(value[i] & 0xFF);
+				}
+			}
+			return count;
+		}
+	}
+
+	public Long bitOp(BitOperation op, byte[] destination, byte[]... keys) {
+		ByteArrayWrapper wrapper = wrap(destination);
+		if (op == null || keys.length == 0) {
+			throw new InvalidDataAccessApiUsageException("ERR wrong number of arguments for 'bitop' command");
+		}
+		if (BitOperation.NOT == op && keys.length != 1) {
+			throw new InvalidDataAccessApiUsageException("ERR BITOP NOT must be called with a single source key.");
+		}
+		synchronized (store) {
+			byte[][] values = new byte[keys.length][];
+			int length = 0;
+			for (int i = 0; i < keys.length; i++) {
+				Entry entry = db.get(wrap(keys[i]), DataType.STRING);
+				values[i] = (entry != null ? string(entry) : new byte[0]);
+				length = Math.max(length, values[i].length);
+			}
+			if (length == 0) {
+				db.remove(wrapper);
+				return 0L;
+			}
+			byte[] result = new byte[length];
+			for (int index = 0; index < length; index++) {
+				int b = byteAt(values[0], index);
+				if (BitOperation.NOT == op) {
+					b = ~b;
+				}
+				for (int i = 1; i < values.length; i++) {
+					int other = byteAt(values[i], index);
+					switch (op) {
+					case AND:
+						b &= other;
+						break;
+					case OR:
+						b |= other;
+						break;
+					default:
+						b ^= other;
+					}
+				}
+				result[index] = (byte) b;
+			}
+			db.put(wrapper, new Entry(DataType.STRING, result));
+			return (long) length;
+		}
+	}
+
+	private static int byteAt(byte[] value, int index) {
+		return (index < value.length ? value[index] & 0xFF : 0);
+	}
+
+	public Long bitPos(byte[] key, boolean bit) {
+		return bitPos(key, bit, 0, -1, false);
+	}
+
+	public Long bitPos(byte[] key, boolean bit, long begin, long end) {
+		return bitPos(key, bit, begin, end, true);
+	}
+
+	private Long bitPos(byte[] key, boolean bit, long begin, long end, boolean explicitEnd) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.STRING);
+			// a missing key is an empty string, that is an infinite sequence of clear bits
+			if (entry == null) {
+				return (bit ? -1L : 0L);
+			}
+			byte[] value = string(entry);
+			int[] range = range(begin, end, value.length);
+			if (range == null) {
+				return -1L;
+			}
+			for (int i = range[0]; i <= range[1]; i++) {
+				int b = (bit ? value[i] : ~value[i]) & 0xFF;
+				if (b != 0) {
+					return i * 8L + Integer.numberOfLeadingZeros(b) - 24;
+				}
+			}
+			// without an explicit end, the value is considered padded with clear bits
+			return (!bit && !explicitEnd ? (range[1] + 1) * 8L : -1L);
+		}
+	}
+
+	public Long strLen(byte[] key) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.STRING);
+			return (long) (entry != null ? string(entry).length : 0);
+		}
+	}
+
+	//
+	// List commands
+	//
+
+	public Long rPush(byte[] key, byte[]... values) {
+		return push(key, values, false, true);
+	}
+
+	public Long lPush(byte[] key, byte[]... values) {
+		return push(key, values, true, true);
+	}
+
+	public Long rPushX(byte[] key, byte[]... values) {
+		return push(key, values, false, false);
+	}
+
+	public Long lPushX(byte[] key, byte[]... values) {
+		return push(key, values, true, false);
+	}
+
+	private Long push(byte[] key, byte[][] values, boolean head, boolean create) {
+		ByteArrayWrapper wrapper = wrap(key);
+		for (byte[] value : values) {
+			notNull(value);
+		}
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.LIST, create);
+			if (entry == null) {
+				return 0L;
+			}
+			LinkedList<byte[]> list = list(entry);
+			for (byte[] value : values) {
+				if (head) {
+					list.addFirst(value.clone());
+				}
+				else {
+					list.addLast(value.clone());
+				}
+			}
+			store.signalPush();
+			return (long) list.size();
+		}
+	}
+
+	public Long lLen(byte[] key) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.LIST);
+			return (long) (entry != null ? list(entry).size() : 0);
+		}
+	}
+
+	public List<byte[]> lRange(byte[] key, long begin, long end) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.LIST);
+			List<byte[]> result = new ArrayList<byte[]>();
+			if (entry == null) {
+				return result;
+			}
+			LinkedList<byte[]> list = list(entry);
+			int[] range = range(begin, end, list.size());
+			if (range != null) {
+				for (ListIterator<byte[]> it = list.listIterator(range[0]); it.nextIndex() <= range[1];) {
+					result.add(it.next().clone());
+				}
+			}
+			return result;
+		}
+	}
+
+	public void lTrim(byte[] key, long begin, long end) {
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.LIST, false);
+			if (entry == null) {
+				return;
+			}
+			LinkedList<byte[]> list = list(entry);
+			int[] range = range(begin, end, list.size());
+			if (range == null) {
+				list.clear();
+			}
+			else {
+				list.subList(range[1] + 1, list.size()).clear();
+				list.subList(0, range[0]).clear();
+			}
+			db.removeIfEmpty(wrapper, entry);
+		}
+	}
+
+	public byte[] lIndex(byte[] key, long index) {
+		synchronized (store) {
+			Entry entry = db.get(wrap(key), DataType.LIST);
+			if (entry == null) {
+				return null;
+			}
+			LinkedList<byte[]> list = list(entry);
+			long position = (index < 0 ? list.size() + index : index);
+			return (position >= 0 && position < list.size() ? list.get((int) position).clone() : null);
+		}
+	}
+
+	public Long lInsert(byte[] key, Position where, byte[] pivot, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(pivot);
+		notNull(value);
+		synchronized (store) {
+			Entry entry = db.get(wrapper, DataType.LIST);
+			if (entry == null) {
+				return 0L;
+			}
+			LinkedList<byte[]> list = list(entry);
+			for (ListIterator<byte[]> it = list.listIterator(); it.hasNext();) {
+				if (Arrays.equals(pivot, it.next())) {
+					if (where == Position.BEFORE) {
+						it.previous();
+					}
+					it.add(value.clone());
+					db.getForWrite(wrapper, DataType.LIST, false);
+					return (long) list.size();
+				}
+			}
+			return -1L;
+		}
+	}
+
+	public void lSet(byte[] key, long index, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.LIST, false);
+			if (entry == null) {
+				throw new InvalidDataAccessApiUsageException("ERR no such key");
+			}
+			LinkedList<byte[]> list = list(entry);
+			long position = (index < 0 ? list.size() + index : index);
+			if (position < 0 || position >= list.size()) {
+				throw new InvalidDataAccessApiUsageException("ERR index out of range");
+			}
+			list.set((int) position, value.clone());
+		}
+	}
+
+	public Long lRem(byte[] key, long count, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		notNull(value);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.LIST, false);
+			if (entry == null) {
+				return 0L;
+			}
+			LinkedList<byte[]> list = list(entry);
+			long removed = 0;
+			long max = (count == 0 ? Long.MAX_VALUE : Math.abs(count));
+			Iterator<byte[]> it = (count < 0 ? list.descendingIterator() : list.iterator());
+			while (it.hasNext() && removed < max) {
+				if (Arrays.equals(value, it.next())) {
+					it.remove();
+					removed++;
+				}
+			}
+			db.removeIfEmpty(wrapper, entry);
+			return removed;
+		}
+	}
+
+	public byte[] lPop(byte[] key) {
+		synchronized (store) {
+			return pop(wrap(key), true);
+		}
+	}
+
+	public byte[] rPop(byte[] key) {
+		synchronized (store) {
+			return pop(wrap(key), false);
+		}
+	}
+
+	private byte[] pop(ByteArrayWrapper key, boolean head) {
+		Entry entry = db.getForWrite(key, DataType.LIST, false);
+		if (entry == null) {
+			return null;
+		}
+		LinkedList<byte[]> list = list(entry);
+		byte[] value = (head ? list.removeFirst() : list.removeLast());
+		db.removeIfEmpty(key, entry);
+		return value;
+	}
+
+	public List<byte[]> bLPop(int timeout, byte[]... keys) {
+		return blockingPop(timeout, keys, true);
+	}
+
+	public List<byte[]> bRPop(int timeout, byte[]... keys) {
+		return blockingPop(timeout, keys, false);
+	}
+
+	private List<byte[]> blockingPop(int timeout, byte[][] keys, boolean head) {
+		long deadline = System.currentTimeMillis() + timeout * 1000L;
+		synchronized (store) {
+			while (true) {
+				for (byte[] key : keys) {
+					ByteArrayWrapper wrapper = wrap(key);
+					Entry entry = db.get(wrapper, DataType.LIST);
+					if (entry != null) {
+						List<byte[]> result = new ArrayList<byte[]>(2);
+						result.add(key.clone());
+						result.add(pop(wrapper, head));
+						return result;
+					}
+				}
+				if (!await(timeout, deadline)) {
+					return null;
+				}
+			}
+		}
+	}
+
+	public byte[] rPopLPush(byte[] srcKey, byte[] dstKey) {
+		ByteArrayWrapper source = wrap(srcKey);
+		ByteArrayWrapper destination = wrap(dstKey);
+		synchronized (store) {
+			return popPush(source, destination);
+		}
+	}
+
+	public byte[] bRPopLPush(int timeout, byte[] srcKey, byte[] dstKey) {
+		ByteArrayWrapper source = wrap(srcKey);
+		ByteArrayWrapper destination = wrap(dstKey);
+		long deadline = System.currentTimeMillis() + timeout * 1000L;
+		synchronized (store) {
+			while (true) {
+				byte[] value = popPush(source, destination);
+				if (value != null) {
+					return value;
+				}
+				if (!await(timeout, deadline)) {
+					return null;
+				}
+			}
+		}
+	}
+
+	private byte[] popPush(ByteArrayWrapper source, ByteArrayWrapper destination) {
+		// check the destination type upfront
+		db.get(destination, DataType.LIST);
+		byte[] value = pop(source, false);
+		if (value != null) {
+			list(db.getForWrite(destination, DataType.LIST, true)).addFirst(value);
+			store.signalPush();
+			return value.clone();
+		}
+		return null;
+	}
+
+	// waits for a push; returns false if the wait timed out (blocking commands do not block inside EXEC)
+	private boolean await(int timeout, long deadline) {
+		if (executing) {
+			return false;
+		}
+		long remaining = 0;
+		if (timeout > 0) {
+			remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				return false;
+			}
+		}
+		return store.awaitPush(remaining);
+	}
+
+	//
+	// Set commands
+	//
+
+	public Boolean sAdd(byte[] key, byte[]... values) {
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Set<ByteArrayWrapper> set = set(db.getForWrite(wrapper, DataType.SET, true));
+			int added = 0;
+			for (byte[] value : values) {
+				if (set.add(wrapCopy(value))) {
+					added++;
+				}
+			}
+			return added == values.length;
+		}
+	}
+
+	public Boolean sRem(byte[] key, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		ByteArrayWrapper member = wrap(value);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.SET, false);
+			if (entry == null) {
+				return Boolean.FALSE;
+			}
+			boolean removed = set(entry).remove(member);
+			db.removeIfEmpty(wrapper, entry);
+			return removed;
+		}
+	}
+
+	public Long sRem(byte[] key, byte[]... values) {
+		notEmpty(values.length, "srem");
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.SET, false);
+			if (entry == null) {
+				return 0L;
+			}
+			Set<ByteArrayWrapper> set = set(entry);
+			long removed = 0;
+			for (byte[] value : values) {
+				if (set.remove(wrap(value))) {
+					removed++;
+				}
+			}
+			db.removeIfEmpty(wrapper, entry);
+			return removed;
+		}
+	}
+
+	public byte[] sPop(byte[] key) {
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.SET, false);
+			if (entry == null) {
+				return null;
+			}
+			ByteArrayWrapper member = randomMember(set(entry));
+			set(entry).remove(member);
+			db.removeIfEmpty(wrapper, entry);
+			return member.getArray();
+		}
+	}
+
+	public Boolean sMove(byte[] srcKey, byte[] destKey, byte[] value) {
+		ByteArrayWrapper source = wrap(srcKey);
+		ByteArrayWrapper destination = wrap(destKey);
+		ByteArrayWrapper member = wrap(value);
+		synchronized (store) {
+			db.get(destination, DataType.SET);
+			Entry entry = db.get(source, DataType.SET);
+			if (entry == null || !set(entry).contains(member)) {
+				return Boolean.FALSE;
+			}
+			set(db.getForWrite(source, DataType.SET, false)).remove(member);
+			db.removeIfEmpty(source, entry);
+			set(db.getForWrite(destination, DataType.SET, true)).add(member);
+			return Boolean.TRUE;
+		}
+	}
+
+	public Long sCard(byte[] key) {
+		synchronized (store) {
+			return (long) setOf(wrap(key)).size();
+		}
+	}
+
+	public Boolean sIsMember(byte[] key, byte[] value) {
+		synchronized (store) {
+			return setOf(wrap(key)).contains(wrap(value));
+		}
+	}
+
+	public Set<byte[]> sInter(byte[]... keys) {
+		synchronized (store) {
+			return toBytes(inter(keys));
+		}
+	}
+
+	public Long sInterStore(byte[] destKey, byte[]... keys) {
+		synchronized (store) {
+			return storeSet(wrap(destKey), inter(keys));
+		}
+	}
+
+	public Set<byte[]> sUnion(byte[]... keys) {
+		synchronized (store) {
+			return toBytes(union(keys));
+		}
+	}
+
+	public Long sUnionStore(byte[] destKey, byte[]... keys) {
+		synchronized (store) {
+			return storeSet(wrap(destKey), union(keys));
+		}
+	}
+
+	public Set<byte[]> sDiff(byte[]... keys) {
+		synchronized (store) {
+			return toBytes(diff(keys));
+		}
+	}
+
+	public Long sDiffStore(byte[] destKey, byte[]... keys) {
+		synchronized (store) {
+			return storeSet(wrap(destKey), diff(keys));
+		}
+	}
+
+	public Set<byte[]> sMembers(byte[] key) {
+		synchronized (store) {
+			return toBytes(setOf(wrap(key)));
+		}
+	}
+
+	public byte[] sRandMember(byte[] key) {
+		synchronized (store) {
+			Set<ByteArrayWrapper> set = setOf(wrap(key));
+			return (set.isEmpty() ? null : randomMember(set).getArray().clone());
+		}
+	}
+
+	private Set<ByteArrayWrapper> setOf(ByteArrayWrapper key) {
+		Entry entry = db.get(key, DataType.SET);
+		return (entry != null ? set(entry) : Collections.<ByteArrayWrapper> emptySet());
+	}
+
+	private Set<ByteArrayWrapper> inter(byte[][] keys) {
+		Set<ByteArrayWrapper> result = new LinkedHashSet<ByteArrayWrapper>(setOf(wrap(keys[0])));
+		for (int i = 1; i < keys.length; i++) {
+			result.retainAll(setOf(wrap(keys[i])));
+		}
+		return result;
+	}
+
+	private Set<ByteArrayWrapper> union(byte[][] keys) {
+		Set<ByteArrayWrapper> result = new LinkedHashSet<ByteArrayWrapper>();
+		for (byte[] key : keys) {
+			result.addAll(setOf(wrap(key)));
+		}
+		return result;
+	}
+
+	private Set<ByteArrayWrapper> diff(byte[][] keys) {
+		Set<ByteArrayWrapper> result = new LinkedHashSet<ByteArrayWrapper>(setOf(wrap(keys[0])));
+		for (int i = 1; i < keys.length; i++) {
+			result.removeAll(setOf(wrap(keys[i])));
+		}
+		return result;
+	}
+
+	private Long storeSet(ByteArrayWrapper key, Set<ByteArrayWrapper> members) {
+		db.remove(key);
+		if (!members.isEmpty()) {
+			db.put(key, new Entry(DataType.SET, members));
+		}
+		return (long) members.size();
+	}
+
+	private static ByteArrayWrapper randomMember(Set<ByteArrayWrapper> set) {
+		int index = random.nextInt(set.size());
+		Iterator<ByteArrayWrapper> it = set.iterator();
+		for (int i = 0; i < index; i++) {
+			it.next();
+		}
+		return it.next();
+	}
+
+	//
+	// ZSet commands
+	//
+
+	public Boolean zAdd(byte[] key, double score, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		ByteArrayWrapper member = wrapCopy(value);
+		synchronized (store) {
+			return zset(db.getForWrite(wrapper, DataType.ZSET, true)).add(member, score);
+		}
+	}
+
+	public Long zAdd(byte[] key, Set<Tuple> tuples) {
+		notEmpty(tuples.size(), "zadd");
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			ScoredSet zset = zset(db.getForWrite(wrapper, DataType.ZSET, true));
+			long added = 0;
+			for (Tuple tuple : tuples) {
+				if (zset.add(wrapCopy(tuple.getValue()), tuple.getScore())) {
+					added++;
+				}
+			}
+			return added;
+		}
+	}
+
+	public Boolean zRem(byte[] key, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		ByteArrayWrapper member = wrap(value);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.ZSET, false);
+			if (entry == null) {
+				return Boolean.FALSE;
+			}
+			boolean removed = zset(entry).remove(member);
+			db.removeIfEmpty(wrapper, entry);
+			return removed;
+		}
+	}
+
+	public Long zRem(byte[] key, byte[]... values) {
+		notEmpty(values.length, "zrem");
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.ZSET, false);
+			if (entry == null) {
+				return 0L;
+			}
+			ScoredSet zset = zset(entry);
+			long removed = 0;
+			for (byte[] value : values) {
+				if (zset.remove(wrap(value))) {
+					removed++;
+				}
+			}
+			db.removeIfEmpty(wrapper, entry);
+			return removed;
+		}
+	}
+
+	public Double zIncrBy(byte[] key, double increment, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		ByteArrayWrapper member = wrapCopy(value);
+		synchronized (store) {
+			ScoredSet zset = zset(db.getForWrite(wrapper, DataType.ZSET, true));
+			Double score = zset.score(member);
+			double result = (score != null ? score : 0) + increment;
+			zset.add(member, result);
+			return result;
+		}
+	}
+
+	public Long zRank(byte[] key, byte[] value) {
+		return rank(key, value, false);
+	}
+
+	public Long zRevRank(byte[] key, byte[] value) {
+		return rank(key, value, true);
+	}
+
+	private Long rank(byte[] key, byte[] value, boolean reverse) {
+		ByteArrayWrapper member = wrap(value);
+		synchronized (store) {
+			ScoredSet zset = zsetOf(wrap(key));
+			int rank = zset.rank(member);
+			if (rank < 0) {
+				return null;
+			}
+			return (long) (reverse ? zset.size() - 1 - rank : rank);
+		}
+	}
+
+	public Set<byte[]> zRange(byte[] key, long begin, long end) {
+		return values(zRangeMembers(key, begin, end, false));
+	}
+
+	public Set<Tuple> zRangeWithScores(byte[] key, long begin, long end) {
+		return tuples(zRangeMembers(key, begin, end, false));
+	}
+
+	public Set<byte[]> zRevRange(byte[] key, long begin, long end) {
+		return values(zRangeMembers(key, begin, end, true));
+	}
+
+	public Set<Tuple> zRevRangeWithScores(byte[] key, long begin, long end) {
+		return tuples(zRangeMembers(key, begin, end, true));
+	}
+
+	private List<Member> zRangeMembers(byte[] key, long begin, long end, boolean reverse) {
+		synchronized (store) {
+			ScoredSet zset = zsetOf(wrap(key));
+			int[] range = range(begin, end, zset.size());
+			return (range != null ? zset.range(range[0], range[1], reverse) : Collections.<Member> emptyList());
+		}
+	}
+
+	public Set<byte[]> zRangeByScore(byte[] key, double min, double max) {
+		return values(zRangeByScoreMembers(key, min, max, false, 0, -1));
+	}
+
+	public Set<Tuple> zRangeByScoreWithScores(byte[] key, double min, double max) {
+		return tuples(zRangeByScoreMembers(key, min, max, false, 0, -1));
+	}
+
+	public Set<byte[]> zRangeByScore(byte[] key, double min, double max, long offset, long count) {
+		return values(zRangeByScoreMembers(key, min, max, false, offset, count));
+	}
+
+	public Set<Tuple> zRangeByScoreWithScores(byte[] key, double min, double max, long offset, long count) {
+		return tuples(zRangeByScoreMembers(key, min, max, false, offset, count));
+	}
+
+	public Set<byte[]> zRevRangeByScore(byte[] key, double min, double max) {
+		return values(zRangeByScoreMembers(key, min, max, true, 0, -1));
+	}
+
+	public Set<Tuple> zRevRangeByScoreWithScores(byte[] key, double min, double max) {
+		return tuples(zRangeByScoreMembers(key, min, max, true, 0, -1));
+	}
+
+	public Set<byte[]> zRevRangeByScore(byte[] key, double min, double max, long offset, long count) {
+		return values(zRangeByScoreMembers(key, min, max, true, offset, count));
+	}
+
+	public Set<Tuple> zRevRangeByScoreWithScores(byte[] key, double min, double max, long offset, long count) {
+		return tuples(zRangeByScoreMembers(key, min, max, true, offset, count));
+	}
+
+	private List<Member> zRangeByScoreMembers(byte[] key, double min, double max, boolean reverse, long offset,
+			long count) {
+		synchronized (store) {
+			return zsetOf(wrap(key)).rangeByScore(min, max, reverse, offset, count);
+		}
+	}
+
+	public Long zCount(byte[] key, double min, double max) {
+		return (long) zRangeByScoreMembers(key, min, max, false, 0, -1).size();
+	}
+
+	public Long zCard(byte[] key) {
+		synchronized (store) {
+			return (long) zsetOf(wrap(key)).size();
+		}
+	}
+
+	public Double zScore(byte[] key, byte[] value) {
+		ByteArrayWrapper member = wrap(value);
+		synchronized (store) {
+			return zsetOf(wrap(key)).score(member);
+		}
+	}
+
+	public Long zRemRange(byte[] key, long begin, long end) {
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.ZSET, false);
+			if (entry == null) {
+				return 0L;
+			}
+			int[] range = range(begin, end, zset(entry).size());
+			return removeMembers(wrapper, entry, (range != null ? zset(entry).range(range[0], range[1], false)
+					: Collections.<Member> emptyList()));
+		}
+	}
+
+	public Long zRemRangeByScore(byte[] key, double min, double max) {
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.ZSET, false);
+			if (entry == null) {
+				return 0L;
+			}
+			return removeMembers(wrapper, entry, zset(entry).rangeByScore(min, max, false, 0, -1));
+		}
+	}
+
+	private Long removeMembers(ByteArrayWrapper key, Entry entry, List<Member> members) {
+		for (Member member : members) {
+			zset(entry).remove(member.value);
+		}
+		db.removeIfEmpty(key, entry);
+		return (long) members.size();
+	}
+
+	public Long zUnionStore(byte[] destKey, byte[]... sets) {
+		return zUnionStore(destKey, Aggregate.SUM, null, sets);
+	}
+
+	public Long zUnionStore(byte[] destKey, Aggregate aggregate, int[] weights, byte[]... sets) {
+		return zStore(destKey, aggregate, weights, sets, true);
+	}
+
+	public Long zInterStore(byte[] destKey, byte[]... sets) {
+		return zInterStore(destKey, Aggregate.SUM, null, sets);
+	}
+
+	public Long zInterStore(byte[] destKey, Aggregate aggregate, int[] weights, byte[]... sets) {
+		return zStore(destKey, aggregate, weights, sets, false);
+	}
+
+	private Long zStore(byte[] destKey, Aggregate aggregate, int[] weights, byte[][] sets, boolean union) {
+		ByteArrayWrapper destination = wrap(destKey);
+		if (weights != null && weights.length != sets.length) {
+			throw new InvalidDataAccessApiUsageException("ERR syntax error");
+		}
+		synchronized (store) {
+			Map<ByteArrayWrapper, Double> result = null;
+			for (int i = 0; i < sets.length; i++) {
+				Map<ByteArrayWrapper, Double> scores = scoresOf(wrap(sets[i]));
+				double weight = (weights != null ? weights[i] : 1);
+
+				Map<ByteArrayWrapper, Double> next = new LinkedHashMap<ByteArrayWrapper, Double>();
+				if (result == null || union) {
+					if (result != null) {
+						next.putAll(result);
+					}
+					for (Map.Entry<ByteArrayWrapper, Double> entry : scores.entrySet()) {
+						double score = entry.getValue() * weight;
+						Double current = (result != null ? result.get(entry.getKey()) : null);
+						next.put(entry.getKey(), (current != null ? aggregate(aggregate, current, score) : score));
+					}
+				}
+				else {
+					for (Map.Entry<ByteArrayWrapper, Double> entry : result.entrySet()) {
+						Double score = scores.get(entry.getKey());
+						if (score != null) {
+							next.put(entry.getKey(), aggregate(aggregate, entry.getValue(), score * weight));
+						}
+					}
+				}
+				result = next;
+			}
+
+			db.remove(destination);
+			if (result != null && !result.isEmpty()) {
+				ScoredSet zset = zset(db.getForWrite(destination, DataType.ZSET, true));
+				for (Map.Entry<ByteArrayWrapper, Double> entry : result.entrySet()) {
+					zset.add(entry.getKey(), entry.getValue());
+				}
+			}
+			return (long) (result != null ? result.size() : 0);
+		}
+	}
+
+	// sets take part in zset operations with a score of 1
+	private Map<ByteArrayWrapper, Double> scoresOf(ByteArrayWrapper key) {
+		Map<ByteArrayWrapper, Double> scores = new LinkedHashMap<ByteArrayWrapper, Double>();
+		Entry entry = db.get(key);
+		if (entry == null) {
+			return scores;
+		}
+		if (entry.type == DataType.SET) {
+			for (ByteArrayWrapper member : set(entry)) {
+				scores.put(member, 1d);
+			}
+		}
+		else if (entry.type == DataType.ZSET) {
+			for (Member member : zset(entry).members()) {
+				scores.put(member.value, member.score);
+			}
+		}
+		else {
+			throw new InvalidDataAccessApiUsageException(InMemoryDatabase.WRONG_TYPE);
+		}
+		return scores;
+	}
+
+	private static double aggregate(Aggregate aggregate, double current, double score) {
+		switch (aggregate) {
+		case MIN:
+			return Math.min(current, score);
+		case MAX:
+			return Math.max(current, score);
+		default:
+			return current + score;
+		}
+	}
+
+	private ScoredSet zsetOf(ByteArrayWrapper key) {
+		Entry entry = db.get(key, DataType.ZSET);
+		return (entry != null ? zset(entry) : new ScoredSet());
+	}
+
+	private static Set<byte[]> values(List<Member> members) {
+		Set<byte[]> result = new LinkedHashSet<byte[]>(members.size() * 2);
+		for (Member member : members) {
+			result.add(member.value.getArray().clone());
+		}
+		return result;
+	}
+
+	private static Set<Tuple> tuples(List<Member> members) {
+		Set<Tuple> result = new LinkedHashSet<Tuple>(members.size() * 2);
+		for (Member member : members) {
+			result.add(new DefaultTuple(member.value.getArray().clone(), member.score));
+		}
+		return result;
+	}
+
+	//
+	// Hash commands
+	//
+
+	public Boolean hSet(byte[] key, byte[] field, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		ByteArrayWrapper hashField = wrapCopy(field);
+		notNull(value);
+		synchronized (store) {
+			return hash(db.getForWrite(wrapper, DataType.HASH, true)).put(hashField, value.clone()) == null;
+		}
+	}
+
+	public Boolean hSetNX(byte[] key, byte[] field, byte[] value) {
+		ByteArrayWrapper wrapper = wrap(key);
+		ByteArrayWrapper hashField = wrapCopy(field);
+		notNull(value);
+		synchronized (store) {
+			if (hashOf(wrapper).containsKey(hashField)) {
+				return Boolean.FALSE;
+			}
+			hash(db.getForWrite(wrapper, DataType.HASH, true)).put(hashField, value.clone());
+			return Boolean.TRUE;
+		}
+	}
+
+	public byte[] hGet(byte[] key, byte[] field) {
+		ByteArrayWrapper hashField = wrap(field);
+		synchronized (store) {
+			byte[] value = hashOf(wrap(key)).get(hashField);
+			return (value != null ? value.clone() : null);
+		}
+	}
+
+	public List<byte[]> hMGet(byte[] key, byte[]... fields) {
+		synchronized (store) {
+			Map<ByteArrayWrapper, byte[]> hash = hashOf(wrap(key));
+			List<byte[]> result = new ArrayList<byte[]>(fields.length);
+			for (byte[] field : fields) {
+				byte[] value = hash.get(wrap(field));
+				result.add(value != null ? value.clone() : null);
+			}
+			return result;
+		}
+	}
+
+	public void hMSet(byte[] key, Map<byte[], byte[]> hashes) {
+		ByteArrayWrapper wrapper = wrap(key);
+		for (byte[] value : hashes.values()) {
+			notNull(value);
+		}
+		synchronized (store) {
+			Map<ByteArrayWrapper, byte[]> hash = hash(db.getForWrite(wrapper, DataType.HASH, true));
+			for (Map.Entry<byte[], byte[]> entry : hashes.entrySet()) {
+				hash.put(wrapCopy(entry.getKey()), entry.getValue().clone());
+			}
+		}
+	}
+
+	public Long hIncrBy(byte[] key, byte[] field, long delta) {
+		ByteArrayWrapper wrapper = wrap(key);
+		ByteArrayWrapper hashField = wrapCopy(field);
+		synchronized (store) {
+			byte[] current = hashOf(wrapper).get(hashField);
+			long value = (current != null ? toLong(current) : 0);
+			long result = value + delta;
+			if ((value ^ result) < 0 && (delta ^ result) < 0) {
+				throw new InvalidDataAccessApiUsageException("ERR increment or decrement would overflow");
+			}
+			hash(db.getForWrite(wrapper, DataType.HASH, true)).put(hashField, String.valueOf(result).getBytes(UTF8));
+			return result;
+		}
+	}
+
+	public Boolean hExists(byte[] key, byte[] field) {
+		ByteArrayWrapper hashField = wrap(field);
+		synchronized (store) {
+			return hashOf(wrap(key)).containsKey(hashField);
+		}
+	}
+
+	public Boolean hDel(byte[] key, byte[] field) {
+		ByteArrayWrapper wrapper = wrap(key);
+		ByteArrayWrapper hashField = wrap(field);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.HASH, false);
+			if (entry == null) {
+				return Boolean.FALSE;
+			}
+			boolean removed = (hash(entry).remove(hashField) != null);
+			db.removeIfEmpty(wrapper, entry);
+			return removed;
+		}
+	}
+
+	public Long hDel(byte[] key, byte[]... fields) {
+		notEmpty(fields.length, "hdel");
+		ByteArrayWrapper wrapper = wrap(key);
+		synchronized (store) {
+			Entry entry = db.getForWrite(wrapper, DataType.HASH, false);
+			if (entry == null) {
+				return 0L;
+			}
+			Map<ByteArrayWrapper, byte[]> hash = hash(entry);
+			long removed = 0;
+			for (byte[] field : fields) {
+				if (hash.remove(wrap(field)) != null) {
+					removed++;
+				}
+			}
+			db.removeIfEmpty(wrapper, entry);
+			return removed;
+		}
+	}
+
+	public Long hLen(byte[] key) {
+		synchronized (store) {
+			return (long) hashOf(wrap(key)).size();
+		}
+	}
+
+	public Set<byte[]> hKeys(byte[] key) {
+		synchronized (store) {
+			return toBytes(hashOf(wrap(key)).keySet());
+		}
+	}
+
+	public List<byte[]> hVals(byte[] key) {
+		synchronized (store) {
+			Collection<byte[]> values = hashOf(wrap(key)).values();
+			List<byte[]> result = new ArrayList<byte[]>(values.size());
+			for (byte[] value : values) {
+				result.add(value.clone());
+			}
+			return result;
+		}
+	}
+
+	public Map<byte[], byte[]> hGetAll(byte[] key) {
+		synchronized (store) {
+			Map<ByteArrayWrapper, byte[]> hash = hashOf(wrap(key));
+			Map<byte[], byte[]> result = new LinkedHashMap<byte[], byte[]>(hash.size() * 2);
+			for (Map.Entry<ByteArrayWrapper, byte[]> entry : hash.entrySet()) {
+				result.put(entry.getKey().getArray().clone(), entry.getValue().clone());
+			}
+			return result;
+		}
+	}
+
+	private Map<ByteArrayWrapper, byte[]> hashOf(ByteArrayWrapper key) {
+		Entry entry = db.get(key, DataType.HASH);
+		return (entry != null ? hash(entry) : Collections.<ByteArrayWrapper, byte[]> emptyMap());
+	}
+
+	//
+	// Transaction commands
+	//
+
+	public void multi() {
+		if (transaction != null) {
+			throw new InvalidDataAccessApiUsageException("ERR MULTI calls can not be nested");
+		}
+		transaction = new ArrayList<Invocation>();
+	}
+
+	public List<Object> exec() {
+		List<Invocation> invocations = transaction;
+		if (invocations == null) {
+			throw new InvalidDataAccessApiUsageException("ERR EXEC without MULTI");
+		}
+		transaction = null;
+
+		synchronized (store) {
+			boolean modified = false;
+			for (WatchedKey key : watched) {
+				modified |= (key.database.version(key.key) != key.version);
+			}
+			unwatch();
+			if (modified) {
+				return null;
+			}
+
+			List<Object> results = new ArrayList<Object>(invocations.size());
+			executing = true;
+			try {
+				for (Invocation invocation : invocations) {
+					try {
+						store.commandExecuted();
+						results.add(invocation.method.invoke(this, invocation.args));
+					} catch (InvocationTargetException ex) {
+						results.add(ex.getCause());
+					} catch (IllegalAccessException ex) {
+						results.add(new InvalidDataAccessApiUsageException(ex.getMessage(), ex));
+					}
+				}
+			} finally {
+				executing = false;
+			}
+			return results;
+		}
+	}
+
+	public void discard() {
+		if (transaction == null) {
+			throw new InvalidDataAccessApiUsageException("ERR DISCARD without MULTI");
+		}
+		transaction = null;
+		unwatch();
+	}
+
+	public void watch(byte[]... keys) {
+		if (transaction != null) {
+			throw new InvalidDataAccessApiUsageException("ERR WATCH inside MULTI is not allowed");
+		}
+		synchronized (store) {
+			for (byte[] key : keys) {
+				ByteArrayWrapper wrapper = wrapCopy(key);
+				watched.add(new WatchedKey(db, wrapper, db.watch(wrapper)));
+			}
+		}
+	}
+
+	public void unwatch() {
+		synchronized (store) {
+			for (WatchedKey key : watched) {
+				key.database.unwatch(1);
+			}
+			watched.clear();
+		}
+	}
+
+	//
+	// Pub/Sub
+	//
+
+	public boolean isSubscribed() {
+		InMemorySubscription sub = subscription;
+		return (sub != null && sub.isAlive());
+	}
+
+	public Subscription getSubscription() {
+		return subscription;
+	}
+
+	public Long publish(byte[] channel, byte[] message) {
+		notNull(channel);
+		notNull(message);
+		return store.publish(channel, message);
+	}
+
+	public void subscribe(MessageListener listener, byte[]... channels) {
+		subscribe(listener, channels, false);
+	}
+
+	public void pSubscribe(MessageListener listener, byte[]... patterns) {
+		subscribe(listener, patterns, true);
+	}
+
+	// blocks the calling thread until the subscription is closed, like a Redis client does
+	private void subscribe(MessageListener listener, byte[][] targets, boolean patterns) {
+		if (isSubscribed()) {
+			throw new RedisSubscribedConnectionException(
+					"Connection already subscribed; use the connection Subscription to cancel or add new channels");
+		}
+		if (isQueueing() || isPipelined()) {
+			throw new UnsupportedOperationException();
+		}
+
+		InMemorySubscription sub = new InMemorySubscription(listener, store);
+		store.register(sub);
+		if (patterns) {
+			sub.pSubscribe(targets);
+		}
+		else {
+			sub.subscribe(targets);
+		}
+		subscription = sub;
+		sub.await();
+	}
+
+	//
+	// Connection commands
+	//
+
+	public void select(int dbIndex) {
+		synchronized (store) {
+			db = store.getDatabase(dbIndex);
+		}
+	}
+
+	public byte[] echo(byte[] message) {
+		notNull(message);
+		return message.clone();
+	}
+
+	public String ping() {
+		return "PONG";
+	}
+
+	//
+	// Server commands
+	//
+
+	public void bgWriteAof() {
+		// nothing to persist
+	}
+
+	public void bgSave() {
+		store.save();
+	}
+
+	public Long lastSave() {
+		return store.getLastSave();
+	}
+
+	public void save() {
+		store.save();
+	}
+
+	public Long dbSize() {
+		synchronized (store) {
+			return (long) db.size();
+		}
+	}
+
+	public void flushDb() {
+		synchronized (store) {
+			db.clear();
+		}
+	}
+
+	public void flushAll() {
+		store.flushAll();
+	}
+
+	public Properties info() {
+		return store.info();
+	}
+
+	/**
+	 * Since there is no server to stop, clears the store instead.
+	 */
+	public void shutdown() {
+		store.flushAll();
+	}
+
+	public List<String> getConfig(String pattern) {
+		Assert.hasText(pattern, "a valid pattern needs to be specified");
+		return store.getConfig(pattern);
+	}
+
+	public void setConfig(String param, String value) {
+		Assert.hasText(param, "a valid parameter needs to be specified");
+		store.setConfig(param, value);
+	}
+
+	public void resetConfigStats() {
+		store.resetStats();
+	}
+
+	//
+	// Scripting commands
+	//
+	// there is no Lua interpreter: scripts are cached (so EVALSHA reports NOSCRIPT just like Redis) but
+	// cannot be evaluated
+
+	public void scriptFlush() {
+		store.flushScripts();
+	}
+
+	public void scriptKill() {
+		throw new InvalidDataAccessApiUsageException("NOTBUSY No scripts in execution right now.");
+	}
+
+	public String scriptLoad(byte[] script) {
+		notNull(script);
+		return store.loadScript(script);
+	}
+
+	public List<Boolean> scriptExists(String... scriptSha1) {
+		List<Boolean> result = new ArrayList<Boolean>(scriptSha1.length);
+		for (String sha1 : scriptSha1) {
+			result.add(Boolean.valueOf(sha1 != null && store.scriptExists(sha1.toLowerCase())));
+		}
+		return result;
+	}
+
+	public <T> T eval(byte[] script, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		notNull(script);
+		store.loadScript(script);
+		throw new UnsupportedOperationException("Lua scripts cannot be evaluated by the in-memory store");
+	}
+
+	public <T> T evalSha(String scriptSha1, ReturnType returnType, int numKeys, byte[]... keysAndArgs) {
+		if (scriptSha1 == null || !store.scriptExists(scriptSha1.toLowerCase())) {
+			throw new InvalidDataAccessApiUsageException("NOSCRIPT No matching script. Please use EVAL.");
+		}
+		throw new UnsupportedOperationException("Lua scripts cannot be evaluated by the in-memory store");
+	}
+
+	//
+	// Utilities
+	//
+
+	private static void notNull(byte[] value) {
+		if (value == null) {
+			throw new InvalidDataAccessApiUsageException("ERR null arguments are not supported");
+		}
+	}
+
+	// variadic commands need at least one member/field
+	private static void notEmpty(int count, String command) {
+		if (count == 0) {
+			throw new InvalidDataAccessApiUsageException("ERR wrong number of arguments for '" + command + "' command");
+		}
+	}
+
+	private static ByteArrayWrapper wrap(byte[] value) {
+		notNull(value);
+		return new ByteArrayWrapper(value);
+	}
+
+	// used for keys/members that end up being stored
+	private static ByteArrayWrapper wrapCopy(byte[] value) {
+		notNull(value);
+		return new ByteArrayWrapper(value.clone());
+	}
+
+	private static Set<byte[]> toBytes(Collection<ByteArrayWrapper> values) {
+		Set<byte[]> result = new LinkedHashSet<byte[]>(values.size() * 2);
+		for (ByteArrayWrapper value : values) {
+			result.add(value.getArray().clone());
+		}
+		return result;
+	}
+
+	/**
+	 * Normalizes the given (inclusive, possibly negative) range. Returns null if the range is empty.
+	 */
+	private static int[] range(long begin, long end, int size) {
+		if (begin < 0) {
+			begin = Math.max(0, size + begin);
+		}
+		if (end < 0) {
+			end = size + end;
+		}
+		if (end >= size) {
+			end = size - 1;
+		}
+		if (begin > end || begin >= size) {
+			return null;
+		}
+		return new int[] { (int) begin, (int) end };
+	}
+
+	private static int indexOf(byte[] array, byte value, int from) {
+		for (int i = from; i < array.length; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static long toLong(byte[] value) {
+		try {
+			return Long.parseLong(new String(value, UTF8));
+		} catch (NumberFormatException ex) {
+			throw new InvalidDataAccessApiUsageException("ERR value is not an integer or out of range");
+		}
+	}
+
+	private static double toDouble(byte[] value) {
+		try {
+			return Double.parseDouble(new String(value, UTF8));
+		} catch (NumberFormatException ex) {
+			throw new InvalidDataAccessApiUsageException("ERR value is not a valid float");
+		}
+	}
+
+	private static byte[] string(Entry entry) {
+		return (byte[]) entry.value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static LinkedList<byte[]> list(Entry entry) {
+		return (LinkedList<byte[]>) entry.value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Set<ByteArrayWrapper> set(Entry entry) {
+		return (Set<ByteArrayWrapper>) entry.value;
+	}
+
+	private static ScoredSet zset(Entry entry) {
+		return (ScoredSet) entry.value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<ByteArrayWrapper, byte[]> hash(Entry entry) {
+		return (Map<ByteArrayWrapper, byte[]>) entry.value;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import java.lang.reflect.Proxy;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisConnectionFactory} working entirely in memory, without any Redis server. All the connections
+ * created by the factory share the same data, so it can replace a server-backed factory in tests or act as a
+ * (network free) baseline when benchmarking the client-side code.
+ *
+ * The connections support the string, key, list, set, sorted set and hash commands, key expiration,
+ * MULTI/EXEC (including WATCH), pipelining and pub/sub. Persistence, replication and server administration
+ * commands are accepted but have no effect.
+ *
+ * @author agent
+ */
+public class InMemoryConnectionFactory implements RedisConnectionFactory, DisposableBean {
+
+	private final InMemoryStore store;
+	private int dbIndex = 0;
+
+	/**
+	 * Constructs a new <code>InMemoryConnectionFactory</code> instance with 16 databases.
+	 */
+	public InMemoryConnectionFactory() {
+		this(16);
+	}
+
+	/**
+	 * Constructs a new <code>InMemoryConnectionFactory</code> instance.
+	 *
+	 * @param databases number of databases
+	 */
+	public InMemoryConnectionFactory(int databases) {
+		Assert.isTrue(databases > 0, "at least one database is required");
+		this.store = new InMemoryStore(databases);
+	}
+
+	public RedisConnection getConnection() {
+		InMemoryConnection connection = new InMemoryConnection(store, dbIndex);
+		return (RedisConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { RedisConnection.class }, new InMemoryConnectionInvocationHandler(connection));
+	}
+
+	public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+		// the connections throw DataAccessExceptions already
+		return null;
+	}
+
+	/**
+	 * Removes all the data held by the factory.
+	 */
+	public void flushAll() {
+		store.flushAll();
+	}
+
+	public void destroy() {
+		flushAll();
+	}
+
+	/**
+	 * Returns the index of the database.
+	 *
+	 * @return Returns the database index
+	 */
+	public int getDatabase() {
+		return dbIndex;
+	}
+
+	/**
+	 * Sets the index of the database used by the connections created by this factory.
+	 * Default is 0.
+	 *
+	 * @param index database index
+	 */
+	public void setDatabase(int index) {
+		Assert.isTrue(index >= 0 && index < store.getDatabaseCount(), "invalid DB index");
+		this.dbIndex = index;
+	}
+}
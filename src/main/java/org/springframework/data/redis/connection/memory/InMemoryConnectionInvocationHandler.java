@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+/**
+ * Invocation handler routing the calls made on a connection proxy through {@link InMemoryConnection#invoke(Method, Object[])},
+ * so that commands get queued or pipelined when needed.
+ *
+ * @author agent
+ */
+class InMemoryConnectionInvocationHandler implements InvocationHandler {
+
+	private static final String HASH_CODE = "hashCode";
+	private static final String EQUALS = "equals";
+	private static final String TO_STRING = "toString";
+
+	private final InMemoryConnection target;
+
+	InMemoryConnectionInvocationHandler(InMemoryConnection target) {
+		this.target = target;
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			String name = method.getName();
+			if (name.equals(EQUALS)) {
+				// Only consider equal when proxies are identical.
+				return (proxy == args[0]);
+			}
+			else if (name.equals(HASH_CODE)) {
+				return System.identityHashCode(proxy);
+			}
+			else if (name.equals(TO_STRING)) {
+				return "In-memory Redis connection@" + Integer.toHexString(System.identityHashCode(proxy));
+			}
+		}
+		return target.invoke(method, args);
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+
+/**
+ * One of the databases of an {@link InMemoryStore}. Keys expire lazily, when accessed.
+ * Not thread-safe - callers synchronize on the owning store.
+ *
+ * @author agent
+ */
+class InMemoryDatabase {
+
+	static final String WRONG_TYPE = "ERR Operation against a key holding the wrong kind of value";
+
+	/**
+	 * Value stored under a key, along with its type and (optional) expiration time.
+	 */
+	static class Entry {
+		final DataType type;
+		Object value;
+		long expireAt;
+
+		Entry(DataType type, Object value) {
+			this.type = type;
+			this.value = value;
+		}
+
+		boolean isExpired(long now) {
+			return (expireAt > 0 && expireAt <= now);
+		}
+
+		boolean isEmpty() {
+			switch (type) {
+			case LIST:
+			case SET:
+				return ((Collection<?>) value).isEmpty();
+			case ZSET:
+				return ((ScoredSet) value).size() == 0;
+			case HASH:
+				return ((Map<?, ?>) value).isEmpty();
+			default:
+				return false;
+			}
+		}
+	}
+
+	private final Map<ByteArrayWrapper, Entry> data = new HashMap<ByteArrayWrapper, Entry>();
+
+	// modification tracking (for WATCH) - active only while keys are watched
+	private final Map<ByteArrayWrapper, Long> versions = new HashMap<ByteArrayWrapper, Long>();
+	private long version = 0;
+	private long flushVersion = 0;
+	private int watchers = 0;
+
+	/**
+	 * Returns the entry stored under the given key, null if there is none (or if it expired).
+	 */
+	Entry get(ByteArrayWrapper key) {
+		Entry entry = data.get(key);
+		if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+			data.remove(key);
+			touch(key);
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns the entry of the given type stored under the given key, null if there is none.
+	 *
+	 * @throws InvalidDataAccessApiUsageException if the key holds a different type
+	 */
+	Entry get(ByteArrayWrapper key, DataType type) {
+		Entry entry = get(key);
+		if (entry != null && entry.type != type) {
+			throw new InvalidDataAccessApiUsageException(WRONG_TYPE);
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns the entry of the given type for modification, creating it (if required and allowed).
+	 * The key is considered modified.
+	 */
+	Entry getForWrite(ByteArrayWrapper key, DataType type, boolean create) {
+		Entry entry = get(key, type);
+		if (entry == null) {
+			if (!create) {
+				return null;
+			}
+			entry = new Entry(type, newValue(type));
+			data.put(key, entry);
+		}
+		touch(key);
+		return entry;
+	}
+
+	/**
+	 * Removes the entry if it became empty (Redis does not keep empty aggregates).
+	 */
+	void removeIfEmpty(ByteArrayWrapper key, Entry entry) {
+		if (entry != null && entry.isEmpty() && data.get(key) == entry) {
+			data.remove(key);
+		}
+	}
+
+	void put(ByteArrayWrapper key, Entry entry) {
+		data.put(key, entry);
+		touch(key);
+	}
+
+	Entry remove(ByteArrayWrapper key) {
+		Entry entry = get(key);
+		if (entry != null) {
+			data.remove(key);
+			touch(key);
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns the (non-expired) keys, purging the expired ones.
+	 */
+	List<ByteArrayWrapper> keys() {
+		long now = System.currentTimeMillis();
+		List<ByteArrayWrapper> keys = new ArrayList<ByteArrayWrapper>(data.size());
+		for (Iterator<Map.Entry<ByteArrayWrapper, Entry>> it = data.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<ByteArrayWrapper, Entry> entry = it.next();
+			if (entry.getValue().isExpired(now)) {
+				it.remove();
+				touch(entry.getKey());
+			}
+			else {
+				keys.add(entry.getKey());
+			}
+		}
+		return keys;
+	}
+
+	int size() {
+		return keys().size();
+	}
+
+	void clear() {
+		data.clear();
+		if (watchers > 0) {
+			flushVersion = ++version;
+		}
+	}
+
+	/**
+	 * Starts watching the given key, returning its current version.
+	 */
+	long watch(ByteArrayWrapper key) {
+		watchers++;
+		return version(key);
+	}
+
+	/**
+	 * Returns a token that changes whenever the given key is modified, while it is being watched.
+	 */
+	long version(ByteArrayWrapper key) {
+		Long current = versions.get(key);
+		return Math.max(current != null ? current : 0, flushVersion);
+	}
+
+	void unwatch(int keys) {
+		watchers -= keys;
+		if (watchers <= 0) {
+			watchers = 0;
+			versions.clear();
+			flushVersion = 0;
+		}
+	}
+
+	private void touch(ByteArrayWrapper key) {
+		if (watchers > 0) {
+			versions.put(key, ++version);
+		}
+	}
+
+	private static Object newValue(DataType type) {
+		switch (type) {
+		case LIST:
+			return new LinkedList<byte[]>();
+		case SET:
+			return new LinkedHashSet<ByteArrayWrapper>();
+		case ZSET:
+			return new ScoredSet();
+		case HASH:
+			return new LinkedHashMap<ByteArrayWrapper, byte[]>();
+		default:
+			return new byte[0];
+		}
+	}
+}
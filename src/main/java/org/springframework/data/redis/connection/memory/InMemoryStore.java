@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+/**
+ * The data shared by the connections of an {@link InMemoryConnectionFactory}: the databases, the
+ * pub/sub subscriptions and the script cache.
+ *
+ * Like a Redis server, the store executes one command at a time: commands synchronize on the store
+ * (which also makes MULTI/EXEC atomic) while blocked list pops wait on it. Messages are delivered
+ * synchronously, on the publishing thread, outside the lock.
+ *
+ * @author agent
+ */
+class InMemoryStore {
+
+	static final String VERSION = "2.6.0";
+
+	private final InMemoryDatabase[] databases;
+	private final List<InMemorySubscription> subscriptions = new CopyOnWriteArrayList<InMemorySubscription>();
+	private final Map<String, String> config = new LinkedHashMap<String, String>();
+	// script cache, by SHA1 digest
+	private final Map<String, byte[]> scripts = new HashMap<String, byte[]>();
+	private final long started = System.currentTimeMillis();
+	private volatile long lastSave = started / 1000;
+	private final AtomicLong commands = new AtomicLong();
+	private int blocked = 0;
+
+	InMemoryStore(int databases) {
+		this.databases = new InMemoryDatabase[databases];
+		for (int i = 0; i < databases; i++) {
+			this.databases[i] = new InMemoryDatabase();
+		}
+		config.put("databases", String.valueOf(databases));
+		config.put("maxmemory", "0");
+		config.put("timeout", "0");
+	}
+
+	InMemoryDatabase getDatabase(int index) {
+		if (index < 0 || index >= databases.length) {
+			throw new InvalidDataAccessApiUsageException("ERR invalid DB index");
+		}
+		return databases[index];
+	}
+
+	int getDatabaseCount() {
+		return databases.length;
+	}
+
+	void flushAll() {
+		synchronized (this) {
+			for (InMemoryDatabase database : databases) {
+				database.clear();
+			}
+		}
+	}
+
+	void commandExecuted() {
+		commands.incrementAndGet();
+	}
+
+	/**
+	 * Waits (up to the given time, 0 meaning forever) for a list push. Needs to be called while holding the lock.
+	 *
+	 * @return false if the thread was interrupted
+	 */
+	boolean awaitPush(long millis) {
+		blocked++;
+		try {
+			wait(millis);
+			return true;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			blocked--;
+		}
+	}
+
+	/**
+	 * Wakes up the clients blocked on list pops. Needs to be called while holding the lock.
+	 */
+	void signalPush() {
+		if (blocked > 0) {
+			notifyAll();
+		}
+	}
+
+	void register(InMemorySubscription subscription) {
+		subscriptions.add(subscription);
+	}
+
+	void unregister(InMemorySubscription subscription) {
+		subscriptions.remove(subscription);
+	}
+
+	long publish(byte[] channel, byte[] message) {
+		Message msg = new DefaultMessage(channel.clone(), message.clone());
+		long receivers = 0;
+		for (InMemorySubscription subscription : subscriptions) {
+			receivers += subscription.deliver(channel, msg);
+		}
+		return receivers;
+	}
+
+	long getLastSave() {
+		return lastSave;
+	}
+
+	void save() {
+		lastSave = System.currentTimeMillis() / 1000;
+	}
+
+	List<String> getConfig(String pattern) {
+		byte[] glob = pattern.getBytes();
+		List<String> result = new ArrayList<String>();
+		synchronized (this) {
+			for (Map.Entry<String, String> entry : config.entrySet()) {
+				if (GlobPattern.matches(glob, entry.getKey().getBytes())) {
+					result.add(entry.getKey());
+					result.add(entry.getValue());
+				}
+			}
+		}
+		return result;
+	}
+
+	void setConfig(String param, String value) {
+		synchronized (this) {
+			config.put(param, value);
+		}
+	}
+
+	String loadScript(byte[] script) {
+		String sha1 = sha1DigestAsHex(script);
+		synchronized (this) {
+			scripts.put(sha1, script.clone());
+		}
+		return sha1;
+	}
+
+	boolean scriptExists(String sha1) {
+		synchronized (this) {
+			return scripts.containsKey(sha1);
+		}
+	}
+
+	void flushScripts() {
+		synchronized (this) {
+			scripts.clear();
+		}
+	}
+
+	private static String sha1DigestAsHex(byte[] bytes) {
+		byte[] digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1").digest(bytes);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-1 digest not available", ex);
+		}
+		StringBuilder sb = new StringBuilder(digest.length * 2);
+		for (byte b : digest) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	void resetStats() {
+		commands.set(0);
+	}
+
+	Properties info() {
+		Properties info = new Properties();
+		synchronized (this) {
+			info.put("redis_version", VERSION);
+			info.put("redis_mode", "standalone");
+			info.put("os", "in-memory");
+			info.put("uptime_in_seconds", String.valueOf((System.currentTimeMillis() - started) / 1000));
+			info.put("blocked_clients", String.valueOf(blocked));
+			info.put("pubsub_channels", String.valueOf(subscriptions.size()));
+			info.put("total_commands_processed", String.valueOf(commands.get()));
+			info.put("rdb_last_save_time", String.valueOf(lastSave));
+			for (int i = 0; i < databases.length; i++) {
+				int keys = databases[i].size();
+				if (keys > 0) {
+					info.put("db" + i, "keys=" + keys);
+				}
+			}
+		}
+		return info;
+	}
+}
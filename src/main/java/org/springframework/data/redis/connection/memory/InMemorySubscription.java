@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.util.AbstractSubscription;
+import org.springframework.data.redis.connection.util.ByteArrayMap;
+
+/**
+ * In-memory subscription. Registers itself with the store and receives the published messages directly.
+ *
+ * @author agent
+ */
+class InMemorySubscription extends AbstractSubscription {
+
+	private final InMemoryStore store;
+	private final ByteArrayMap<Boolean> channels = new ByteArrayMap<Boolean>();
+	private final ByteArrayMap<Boolean> patterns = new ByteArrayMap<Boolean>();
+	private final CountDownLatch closed = new CountDownLatch(1);
+
+	InMemorySubscription(MessageListener listener, InMemoryStore store) {
+		super(listener);
+		this.store = store;
+	}
+
+	/**
+	 * Delivers the given message, if the channel matches. Channel lookups work directly on the raw bytes so
+	 * subscriptions without patterns do not allocate anything per message.
+	 *
+	 * @return the number of deliveries
+	 */
+	int deliver(byte[] channel, Message message) {
+		int deliveries = 0;
+		if (channels.containsKey(channel)) {
+			getListener().onMessage(message, null);
+			deliveries++;
+		}
+		if (!patterns.isEmpty()) {
+			for (byte[] pattern : patterns.keys()) {
+				if (GlobPattern.matches(pattern, channel)) {
+					getListener().onMessage(message, pattern.clone());
+					deliveries++;
+				}
+			}
+		}
+		return deliveries;
+	}
+
+	/**
+	 * Blocks until the subscription is closed (all channels and patterns are unsubscribed).
+	 */
+	void await() {
+		try {
+			closed.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			close();
+		}
+	}
+
+	void close() {
+		unsubscribe();
+		pUnsubscribe();
+		doClose();
+	}
+
+
+	protected void doSubscribe(byte[]... channels) {
+		add(this.channels, channels);
+	}
+
+
+	protected void doUnsubscribe(boolean all, byte[]... channels) {
+		remove(this.channels, all, channels);
+	}
+
+
+	protected void doPsubscribe(byte[]... patterns) {
+		add(this.patterns, patterns);
+	}
+
+
+	protected void doPUnsubscribe(boolean all, byte[]... patterns) {
+		remove(this.patterns, all, patterns);
+	}
+
+
+	protected void doClose() {
+		channels.clear();
+		patterns.clear();
+		store.unregister(this);
+		closed.countDown();
+	}
+
+	private static void add(ByteArrayMap<Boolean> map, byte[]... values) {
+		for (byte[] value : values) {
+			map.put(value.clone(), Boolean.TRUE);
+		}
+	}
+
+	private static void remove(ByteArrayMap<Boolean> map, boolean all, byte[]... values) {
+		if (all) {
+			map.clear();
+			return;
+		}
+		for (byte[] value : values) {
+			map.remove(value);
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+
+/**
+ * Sorted set value: members ordered by score and then (for equal scores) lexicographically,
+ * with a member to score index.
+ *
+ * @author agent
+ */
+class ScoredSet {
+
+	static class Member {
+		final ByteArrayWrapper value;
+		final double score;
+
+		Member(ByteArrayWrapper value, double score) {
+			this.value = value;
+			this.score = score;
+		}
+	}
+
+	private static final Comparator<Member> ORDER = new Comparator<Member>() {
+		public int compare(Member o1, Member o2) {
+			int result = Double.compare(o1.score, o2.score);
+			if (result != 0) {
+				return result;
+			}
+			if (o1.value == null || o2.value == null) {
+				return (o1.value == null ? (o2.value == null ? 0 : 1) : -1);
+			}
+			return compareBytes(o1.value.getArray(), o2.value.getArray());
+		}
+	};
+
+	private static final ByteArrayWrapper EMPTY = new ByteArrayWrapper(new byte[0]);
+
+	private final Map<ByteArrayWrapper, Double> scores = new HashMap<ByteArrayWrapper, Double>();
+	private final TreeSet<Member> members = new TreeSet<Member>(ORDER);
+
+	/**
+	 * Adds (or updates) the given member.
+	 *
+	 * @return true if the member was added, false if its score was updated
+	 */
+	boolean add(ByteArrayWrapper value, double score) {
+		Double old = scores.put(value, score);
+		if (old != null) {
+			members.remove(new Member(value, old));
+		}
+		members.add(new Member(value, score));
+		return old == null;
+	}
+
+	boolean remove(ByteArrayWrapper value) {
+		Double old = scores.remove(value);
+		if (old == null) {
+			return false;
+		}
+		members.remove(new Member(value, old));
+		return true;
+	}
+
+	Double score(ByteArrayWrapper value) {
+		return scores.get(value);
+	}
+
+	int size() {
+		return scores.size();
+	}
+
+	/**
+	 * Returns the (zero-based) rank of the given member or -1 if it is not part of the set.
+	 */
+	int rank(ByteArrayWrapper value) {
+		Double score = scores.get(value);
+		if (score == null) {
+			return -1;
+		}
+		return members.headSet(new Member(value, score)).size();
+	}
+
+	/**
+	 * Returns the members between the given (inclusive, already normalized) positions.
+	 */
+	List<Member> range(int start, int end, boolean reverse) {
+		List<Member> result = new ArrayList<Member>(Math.max(0, end - start + 1));
+		if (start > end) {
+			return result;
+		}
+		Iterator<Member> it = (reverse ? members.descendingIterator() : members.iterator());
+		for (int i = 0; it.hasNext() && i <= end; i++) {
+			Member member = it.next();
+			if (i >= start) {
+				result.add(member);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the members with a score between min and max (inclusive), skipping <code>offset</code> members
+	 * and returning up to <code>count</code> members (negative for all).
+	 */
+	List<Member> rangeByScore(double min, double max, boolean reverse, long offset, long count) {
+		List<Member> result = new ArrayList<Member>();
+		if (min > max) {
+			return result;
+		}
+		// the empty value sorts before any member with the same score, the null one after all of them
+		NavigableSet<Member> view = members.subSet(new Member(EMPTY, min), true, new Member(null, max), false);
+		if (reverse) {
+			view = view.descendingSet();
+		}
+
+		long skipped = 0;
+		for (Member member : view) {
+			if (skipped++ < offset) {
+				continue;
+			}
+			if (count >= 0 && result.size() >= count) {
+				break;
+			}
+			result.add(member);
+		}
+		return result;
+	}
+
+	Iterable<Member> members() {
+		return members;
+	}
+
+	static int compareBytes(byte[] a, byte[] b) {
+		int length = Math.min(a.length, b.length);
+		for (int i = 0; i < length; i++) {
+			int result = (a[i] & 0xff) - (b[i] & 0xff);
+			if (result != 0) {
+				return result;
+			}
+		}
+		return a.length - b.length;
+	}
+}
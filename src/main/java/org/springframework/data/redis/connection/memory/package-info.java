@@ -0,0 +1,5 @@
+/**
+ * In-memory Redis connection package, useful for tests and for benchmarking the client-side code without a server.
+ */
+package org.springframework.data.redis.connection.memory;
+
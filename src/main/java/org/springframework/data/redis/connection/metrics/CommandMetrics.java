@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+/**
+ * Receiver of the measurements taken on Redis connections. Implement this interface to export the
+ * measurements to a metrics system or use {@link DefaultCommandMetrics} to keep them in memory.
+ *
+ * Implementations are called on the thread executing the command and need to be thread-safe and fast.
+ *
+ * @see InstrumentedRedisConnectionFactory
+ * @author agent
+ */
+public interface CommandMetrics {
+
+	/**
+	 * Records the execution of a command.
+	 *
+	 * @param command command name (as used by {@link org.springframework.data.redis.connection.RedisConnection})
+	 * @param durationNanos execution time in nanoseconds
+	 * @param requestBytes number of bytes of the command arguments (keys, values, fields)
+	 * @param responseBytes number of bytes of the command reply
+	 * @param failed whether the command ended with an exception
+	 */
+	void recordCommand(String command, long durationNanos, long requestBytes, long responseBytes, boolean failed);
+
+	/**
+	 * Records the execution of a pipeline.
+	 *
+	 * @param commands number of commands in the pipeline
+	 * @param durationNanos time spent sending the remaining commands and reading all the replies
+	 * @param requestBytes number of bytes of all the pipelined commands arguments
+	 * @param responseBytes number of bytes of all the replies
+	 * @param failed whether the pipeline ended with an exception
+	 */
+	void recordPipeline(int commands, long durationNanos, long requestBytes, long responseBytes, boolean failed);
+
+	/**
+	 * Records the time spent waiting for a connection to become available.
+	 *
+	 * @param durationNanos wait time in nanoseconds
+	 */
+	void recordPoolWait(long durationNanos);
+}
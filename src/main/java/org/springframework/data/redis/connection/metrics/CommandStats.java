@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics gathered for one command (or for pipelines): number of executions and failures,
+ * transferred bytes and the latency distribution (in nanoseconds).
+ *
+ * @author agent
+ */
+public class CommandStats {
+
+	private final AtomicLong failures = new AtomicLong();
+	private final AtomicLong requestBytes = new AtomicLong();
+	private final AtomicLong responseBytes = new AtomicLong();
+	private final Histogram latency = new Histogram();
+
+	void record(long durationNanos, long request, long response, boolean failed) {
+		latency.record(durationNanos);
+		if (request > 0) {
+			requestBytes.addAndGet(request);
+		}
+		if (response > 0) {
+			responseBytes.addAndGet(response);
+		}
+		if (failed) {
+			failures.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of executions.
+	 *
+	 * @return number of executions
+	 */
+	public long getCount() {
+		return latency.getCount();
+	}
+
+	/**
+	 * Returns the number of executions that ended with an exception.
+	 *
+	 * @return number of failures
+	 */
+	public long getFailures() {
+		return failures.get();
+	}
+
+	/**
+	 * Returns the total number of bytes sent as arguments.
+	 *
+	 * @return request bytes
+	 */
+	public long getRequestBytes() {
+		return requestBytes.get();
+	}
+
+	/**
+	 * Returns the total number of bytes received as replies.
+	 *
+	 * @return response bytes
+	 */
+	public long getResponseBytes() {
+		return responseBytes.get();
+	}
+
+	/**
+	 * Returns the latency histogram (in nanoseconds).
+	 *
+	 * @return latency histogram
+	 */
+	public Histogram getLatency() {
+		return latency;
+	}
+}
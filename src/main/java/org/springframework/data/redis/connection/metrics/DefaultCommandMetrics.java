@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Default, in-memory {@link CommandMetrics} implementation. Keeps {@link CommandStats} per command name
+ * plus aggregated statistics for pipelines and pool waits, which can be polled and exported
+ * (for example through JMX or a metrics library).
+ *
+ * @author agent
+ */
+public class DefaultCommandMetrics implements CommandMetrics {
+
+	private final ConcurrentMap<String, CommandStats> commands = new ConcurrentHashMap<String, CommandStats>();
+	private final CommandStats pipelines = new CommandStats();
+	private final Histogram pipelineSizes = new Histogram();
+	private final Histogram poolWait = new Histogram();
+
+	public void recordCommand(String command, long durationNanos, long requestBytes, long responseBytes,
+			boolean failed) {
+		getOrCreateStats(command).record(durationNanos, requestBytes, responseBytes, failed);
+	}
+
+	public void recordPipeline(int size, long durationNanos, long requestBytes, long responseBytes, boolean failed) {
+		pipelineSizes.record(size);
+		pipelines.record(durationNanos, requestBytes, responseBytes, failed);
+	}
+
+	public void recordPoolWait(long durationNanos) {
+		poolWait.record(durationNanos);
+	}
+
+	private CommandStats getOrCreateStats(String command) {
+		CommandStats stats = commands.get(command);
+		if (stats == null) {
+			stats = new CommandStats();
+			CommandStats existing = commands.putIfAbsent(command, stats);
+			if (existing != null) {
+				stats = existing;
+			}
+		}
+		return stats;
+	}
+
+	/**
+	 * Returns the statistics of the given command.
+	 *
+	 * @param command command name
+	 * @return command statistics, null if the command was not executed
+	 */
+	public CommandStats getCommandStats(String command) {
+		return commands.get(command);
+	}
+
+	/**
+	 * Returns a (live) view of the statistics of all executed commands, keyed by command name.
+	 *
+	 * @return command statistics
+	 */
+	public Map<String, CommandStats> getCommandStats() {
+		return Collections.unmodifiableMap(commands);
+	}
+
+	/**
+	 * Returns the statistics of the executed pipelines (as a whole).
+	 *
+	 * @return pipeline statistics
+	 */
+	public CommandStats getPipelineStats() {
+		return pipelines;
+	}
+
+	/**
+	 * Returns the histogram of the pipeline sizes (number of commands per pipeline).
+	 *
+	 * @return pipeline size histogram
+	 */
+	public Histogram getPipelineSizes() {
+		return pipelineSizes;
+	}
+
+	/**
+	 * Returns the histogram of the time (in nanoseconds) spent waiting for pooled connections.
+	 *
+	 * @return pool wait histogram
+	 */
+	public Histogram getPoolWait() {
+		return poolWait;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non-negative long values (such as latencies in nanoseconds or payload sizes).
+ * Values are recorded into log-linear buckets (in the spirit of HdrHistogram): each power of two range is split
+ * into 16 sub-buckets which bounds the relative error of the reported values to about 6%, independent of the
+ * magnitude. Recording a value is a handful of atomic increments and does not allocate.
+ *
+ * Reading is not atomic with respect to concurrent recording; the reported values are a best-effort snapshot.
+ *
+ * @author agent
+ */
+public class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	// values below this limit get their own bucket
+	private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+	private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records the given value. Negative values are recorded as 0.
+	 *
+	 * @param value value to record
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		counts.incrementAndGet(index(value));
+		count.incrementAndGet();
+		total.addAndGet(value);
+
+		long current;
+		while (value > (current = max.get())) {
+			if (max.compareAndSet(current, value)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return number of recorded values
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns the sum of all recorded values.
+	 *
+	 * @return sum of the recorded values
+	 */
+	public long getTotal() {
+		return total.get();
+	}
+
+	/**
+	 * Returns the highest recorded value (or 0 if nothing was recorded).
+	 *
+	 * @return highest recorded value
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the mean of the recorded values (or 0 if nothing was recorded).
+	 *
+	 * @return mean value
+	 */
+	public double getMean() {
+		long c = count.get();
+		return (c == 0 ? 0 : (double) total.get() / c);
+	}
+
+	/**
+	 * Returns the value below which the given percentage of the recorded values fall. The returned value is the
+	 * upper bound of the matching bucket (capped by the highest recorded value).
+	 *
+	 * @param percentile percentile (between 0 and 100)
+	 * @return value at the given percentile (or 0 if nothing was recorded)
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] snapshot = new long[BUCKETS];
+		long recorded = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			recorded += snapshot[i];
+		}
+		if (recorded == 0) {
+			return 0;
+		}
+
+		double p = Math.min(Math.max(percentile, 0), 100);
+		long target = Math.max(1, (long) Math.ceil(p / 100 * recorded));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= target) {
+				return Math.min(upperBound(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	static int index(long value) {
+		if (value < LINEAR_LIMIT) {
+			return (int) value;
+		}
+		// keep the highest SUB_BUCKET_BITS + 1 bits of the value
+		int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		return (SUB_BUCKETS * shift) + (int) (value >>> shift);
+	}
+
+	static long upperBound(int index) {
+		if (index < LINEAR_LIMIT) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long mantissa = (index % SUB_BUCKETS) + SUB_BUCKETS;
+		long upper = ((mantissa + 1) << shift) - 1;
+		// the last bucket overflows
+		return (upper < 0 ? Long.MAX_VALUE : upper);
+	}
+}
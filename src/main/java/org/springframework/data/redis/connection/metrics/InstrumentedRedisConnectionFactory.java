@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.lang.reflect.Proxy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link RedisConnectionFactory} decorator that measures the commands executed on the returned connections
+ * (count, failures, latency and payload sizes) and the executed pipelines, reporting them to a
+ * {@link CommandMetrics} instance. Optionally, slow commands or commands with large replies are recorded in a
+ * {@link SlowCommandLog}.
+ *
+ * The time spent waiting for a pooled connection is not measured here but by the target factory
+ * (see {@link org.springframework.data.redis.connection.jedis.JedisConnectionFactory#setMetrics(CommandMetrics)}).
+ *
+ * @author agent
+ */
+public class InstrumentedRedisConnectionFactory implements RedisConnectionFactory {
+
+	private final RedisConnectionFactory connectionFactory;
+	private final CommandMetrics metrics;
+	private SlowCommandLog slowCommandLog;
+
+	/**
+	 * Constructs a new <code>InstrumentedRedisConnectionFactory</code> instance
+	 * without any metrics (only the {@link #setSlowCommandLog(SlowCommandLog) slow command log} is used).
+	 *
+	 * @param connectionFactory target connection factory
+	 */
+	public InstrumentedRedisConnectionFactory(RedisConnectionFactory connectionFactory) {
+		this(connectionFactory, null);
+	}
+
+	/**
+	 * Constructs a new <code>InstrumentedRedisConnectionFactory</code> instance.
+	 *
+	 * @param connectionFactory target connection factory
+	 * @param metrics metrics receiving the measurements (can be null)
+	 */
+	public InstrumentedRedisConnectionFactory(RedisConnectionFactory connectionFactory, CommandMetrics metrics) {
+		Assert.notNull(connectionFactory, "a valid connection factory is required");
+		this.connectionFactory = connectionFactory;
+		this.metrics = metrics;
+	}
+
+	public RedisConnection getConnection() {
+		RedisConnection connection = connectionFactory.getConnection();
+		Class<?>[] ifcs = ClassUtils.getAllInterfacesForClass(connection.getClass(), getClass().getClassLoader());
+		return (RedisConnection) Proxy.newProxyInstance(connection.getClass().getClassLoader(), ifcs,
+				new MetricsInvocationHandler(connection, metrics, slowCommandLog));
+	}
+
+	public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+		return connectionFactory.translateExceptionIfPossible(ex);
+	}
+
+	/**
+	 * Returns the target connection factory.
+	 *
+	 * @return target connection factory
+	 */
+	public RedisConnectionFactory getConnectionFactory() {
+		return connectionFactory;
+	}
+
+	/**
+	 * Returns the metrics receiving the measurements.
+	 *
+	 * @return command metrics
+	 */
+	public CommandMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Returns the slow command log.
+	 *
+	 * @return slow command log (can be null)
+	 */
+	public SlowCommandLog getSlowCommandLog() {
+		return slowCommandLog;
+	}
+
+	/**
+	 * Sets the log recording the slow commands and the commands with large replies.
+	 * Default is null (no recording).
+	 *
+	 * @param slowCommandLog slow command log
+	 */
+	public void setSlowCommandLog(SlowCommandLog slowCommandLog) {
+		this.slowCommandLog = slowCommandLog;
+	}
+}
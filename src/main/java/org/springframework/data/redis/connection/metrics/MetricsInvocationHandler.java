@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.PipelineResult;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+
+/**
+ * Invocation handler measuring the commands executed on a {@link RedisConnection} and reporting them to
+ * {@link CommandMetrics} and/or a {@link SlowCommandLog}.
+ * Pipelined commands are not timed individually (they return right away) but are accounted for
+ * as part of their pipeline when it gets closed.
+ *
+ * Just like the connection it decorates, the handler is not thread-safe.
+ *
+ * @author agent
+ */
+class MetricsInvocationHandler implements InvocationHandler {
+
+	private static final String OPEN_PIPELINE = "openPipeline";
+	private static final String CLOSE_PIPELINE = "closePipeline";
+	private static final String CLOSE_PIPELINE_RESULTS = "closePipelineResults";
+	private static final String CLOSE = "close";
+	private static final String HASH_CODE = "hashCode";
+	private static final String EQUALS = "equals";
+
+	private final RedisConnection target;
+	private final CommandMetrics metrics;
+	private final SlowCommandLog slowCommandLog;
+
+	private boolean pipelined = false;
+	private int pipelineCommands;
+	private long pipelineRequestBytes;
+
+	MetricsInvocationHandler(RedisConnection target, CommandMetrics metrics, SlowCommandLog slowCommandLog) {
+		this.target = target;
+		this.metrics = metrics;
+		this.slowCommandLog = slowCommandLog;
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		Class<?> declaringClass = method.getDeclaringClass();
+		String name = method.getName();
+
+		if (declaringClass == Object.class) {
+			if (name.equals(EQUALS)) {
+				// Only consider equal when proxies are identical.
+				return (proxy == args[0]);
+			}
+			else if (name.equals(HASH_CODE)) {
+				return System.identityHashCode(proxy);
+			}
+			return invokeTarget(method, args);
+		}
+
+		// connection lifecycle - not a command
+		if (declaringClass == RedisConnection.class) {
+			if ((name.equals(CLOSE_PIPELINE) || name.equals(CLOSE_PIPELINE_RESULTS)) && pipelined) {
+				return closePipeline(method, args);
+			}
+			Object result = invokeTarget(method, args);
+			if (name.equals(OPEN_PIPELINE) && !pipelined) {
+				pipelined = true;
+				pipelineCommands = 0;
+				pipelineRequestBytes = 0;
+			}
+			else if (name.equals(CLOSE)) {
+				pipelined = false;
+			}
+			return result;
+		}
+
+		if (pipelined) {
+			pipelineCommands++;
+			if (metrics != null) {
+				pipelineRequestBytes += sizeOf(args);
+			}
+			return invokeTarget(method, args);
+		}
+
+		boolean failed = true;
+		Object result = null;
+		long start = System.nanoTime();
+		try {
+			result = invokeTarget(method, args);
+			failed = false;
+			return result;
+		} finally {
+			long duration = System.nanoTime() - start;
+			long responseBytes = (metrics != null || (slowCommandLog != null && slowCommandLog.isTrackingReplyBytes())
+					? sizeOf(result) : 0);
+			if (metrics != null) {
+				metrics.recordCommand(name, duration, sizeOf(args), responseBytes, failed);
+			}
+			if (slowCommandLog != null) {
+				slowCommandLog.inspect(name, args, result, duration, responseBytes, failed);
+			}
+		}
+	}
+
+	private Object closePipeline(Method method, Object[] args) throws Throwable {
+		pipelined = false;
+		boolean failed = true;
+		Object result = null;
+		long start = System.nanoTime();
+		try {
+			result = invokeTarget(method, args);
+			failed = false;
+			return result;
+		} finally {
+			long duration = System.nanoTime() - start;
+			long responseBytes = (metrics != null || (slowCommandLog != null && slowCommandLog.isTrackingReplyBytes())
+					? sizeOf(result) : 0);
+			if (metrics != null) {
+				metrics.recordPipeline(pipelineCommands, duration, pipelineRequestBytes, responseBytes, failed);
+			}
+			if (slowCommandLog != null) {
+				slowCommandLog.inspect(method.getName(), null, result, duration, responseBytes, failed);
+			}
+		}
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	/**
+	 * Returns the (approximate) payload size of the given command argument(s) or reply: the length of the
+	 * binary keys, values and fields. Protocol framing and numeric values are not accounted for.
+	 */
+	static long sizeOf(Object object) {
+		if (object == null) {
+			return 0;
+		}
+		if (object instanceof byte[]) {
+			return ((byte[]) object).length;
+		}
+		if (object instanceof Object[]) {
+			long size = 0;
+			for (Object element : (Object[]) object) {
+				size += sizeOf(element);
+			}
+			return size;
+		}
+		if (object instanceof Collection) {
+			long size = 0;
+			for (Object element : (Collection<?>) object) {
+				size += sizeOf(element);
+			}
+			return size;
+		}
+		if (object instanceof Map) {
+			long size = 0;
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+				size += sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+			}
+			return size;
+		}
+		if (object instanceof PipelineResult) {
+			PipelineResult result = (PipelineResult) object;
+			return (result.isFailed() ? 0 : sizeOf(result.get()));
+		}
+		if (object instanceof Tuple) {
+			return sizeOf(((Tuple) object).getValue());
+		}
+		if (object instanceof String) {
+			return ((String) object).length();
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+/**
+ * Entry of the {@link SlowCommandLog}: a command that was slow or returned a large reply,
+ * along with the call-site that issued it.
+ *
+ * @author agent
+ */
+public class SlowCommand {
+
+	private final long timestamp;
+	private final String command;
+	private final String key;
+	private final long durationNanos;
+	private final long replyBytes;
+	private final int replyElements;
+	private final boolean failed;
+	private final StackTraceElement[] callSite;
+
+	SlowCommand(long timestamp, String command, String key, long durationNanos, long replyBytes, int replyElements,
+			boolean failed, StackTraceElement[] callSite) {
+		this.timestamp = timestamp;
+		this.command = command;
+		this.key = key;
+		this.durationNanos = durationNanos;
+		this.replyBytes = replyBytes;
+		this.replyElements = replyElements;
+		this.failed = failed;
+		this.callSite = callSite;
+	}
+
+	/**
+	 * Returns the time (in milliseconds since the epoch) at which the command completed.
+	 *
+	 * @return completion time
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Returns the command name.
+	 *
+	 * @return command name
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Returns the (first) key used by the command.
+	 *
+	 * @return command key (can be null)
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the command execution time (in nanoseconds).
+	 *
+	 * @return execution time
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * Returns the reply size in bytes or -1 if it was not computed.
+	 *
+	 * @return reply size
+	 */
+	public long getReplyBytes() {
+		return replyBytes;
+	}
+
+	/**
+	 * Returns the number of elements in the reply (for multi-value replies).
+	 *
+	 * @return number of reply elements
+	 */
+	public int getReplyElements() {
+		return replyElements;
+	}
+
+	/**
+	 * Indicates whether the command ended with an exception.
+	 *
+	 * @return true if the command failed, false otherwise
+	 */
+	public boolean isFailed() {
+		return failed;
+	}
+
+	/**
+	 * Returns the stack of the code that issued the command.
+	 *
+	 * @return call-site stack
+	 */
+	public StackTraceElement[] getCallSite() {
+		return callSite;
+	}
+
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(command);
+		if (key != null) {
+			sb.append(" key=").append(key);
+		}
+		sb.append(" took ").append(durationNanos / 1000 / 1000.0).append("ms");
+		sb.append(" reply=");
+		if (replyBytes >= 0) {
+			sb.append(replyBytes).append(" bytes/");
+		}
+		sb.append(replyElements).append(" elements");
+		if (failed) {
+			sb.append(" (failed)");
+		}
+		if (callSite.length > 0) {
+			sb.append(" at ").append(callSite[0]);
+		}
+		return sb.toString();
+	}
+}
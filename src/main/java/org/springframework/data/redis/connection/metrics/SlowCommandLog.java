@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.data.redis.connection.DefaultStringRedisConnection;
+import org.springframework.util.Assert;
+
+/**
+ * Client-side equivalent of the Redis <tt>SLOWLOG</tt>: keeps the most recent commands that were slower than a
+ * threshold or whose reply exceeded a given size (in bytes or elements), along with the key and the call-site
+ * stack that issued them. Typical offenders are <tt>KEYS</tt>, <tt>HGETALL</tt> on large hashes or
+ * <tt>LRANGE 0 -1</tt> on large lists.
+ *
+ * The entries are kept in a bounded ring buffer (older entries are overwritten). Commands that match none
+ * of the criteria only cost a few comparisons; the call-site is captured only for the recorded ones.
+ * The log is plugged in through {@link InstrumentedRedisConnectionFactory#setSlowCommandLog(SlowCommandLog)} and
+ * can be exposed through JMX (it is a standard MBean).
+ *
+ * @author agent
+ */
+public class SlowCommandLog implements SlowCommandLogMBean {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final int MAX_KEY_LENGTH = 128;
+	private static final int MAX_STACK_DEPTH = 32;
+	// package-private in the core package, hence matched by name
+	private static final String CLOSE_SUPPRESSING_CONNECTION = "org.springframework.data.redis.core.CloseSuppressingRedisConnection";
+
+	private final AtomicReferenceArray<SlowCommand> entries;
+	private final AtomicLong sequence = new AtomicLong();
+
+	private volatile long slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(10);
+	private volatile long maxReplyBytes = 0;
+	private volatile int maxReplyElements = 0;
+
+	/**
+	 * Constructs a new <code>SlowCommandLog</code> instance keeping up to 128 entries.
+	 */
+	public SlowCommandLog() {
+		this(128);
+	}
+
+	/**
+	 * Constructs a new <code>SlowCommandLog</code> instance.
+	 *
+	 * @param capacity maximum number of entries kept
+	 */
+	public SlowCommandLog(int capacity) {
+		Assert.isTrue(capacity > 0, "capacity needs to be positive");
+		this.entries = new AtomicReferenceArray<SlowCommand>(capacity);
+	}
+
+	/**
+	 * Indicates whether the size (in bytes) of the replies needs to be computed.
+	 */
+	boolean isTrackingReplyBytes() {
+		return maxReplyBytes > 0;
+	}
+
+	/**
+	 * Inspects an executed command, recording it if it matches any of the criteria.
+	 *
+	 * @param command command name
+	 * @param args command arguments
+	 * @param reply command reply
+	 * @param durationNanos execution time
+	 * @param replyBytes reply size in bytes (if computed)
+	 * @param failed whether the command failed
+	 */
+	void inspect(String command, Object[] args, Object reply, long durationNanos, long replyBytes, boolean failed) {
+		long threshold = slowThresholdNanos;
+		boolean slow = (threshold > 0 && durationNanos >= threshold);
+
+		int elements = elementsOf(reply);
+		if (!slow) {
+			long maxBytes = maxReplyBytes;
+			int maxElements = maxReplyElements;
+			if (!(maxElements > 0 && elements > maxElements) && !(maxBytes > 0 && replyBytes > maxBytes)) {
+				return;
+			}
+		}
+
+		add(new SlowCommand(System.currentTimeMillis(), command, keyOf(args), durationNanos, (isTrackingReplyBytes()
+				? replyBytes : -1), elements, failed, callSite()));
+	}
+
+	void add(SlowCommand entry) {
+		long index = sequence.getAndIncrement();
+		entries.set((int) (index % entries.length()), entry);
+	}
+
+	/**
+	 * Returns the recorded entries, the most recent first.
+	 *
+	 * @return recorded entries
+	 */
+	public List<SlowCommand> getSlowCommands() {
+		int capacity = entries.length();
+		long last = sequence.get();
+		long first = Math.max(0, last - capacity);
+
+		List<SlowCommand> result = new ArrayList<SlowCommand>((int) (last - first));
+		for (long i = last - 1; i >= first; i--) {
+			SlowCommand entry = entries.get((int) (i % capacity));
+			if (entry != null) {
+				result.add(entry);
+			}
+		}
+		return result;
+	}
+
+	public String[] getEntries() {
+		List<SlowCommand> commands = getSlowCommands();
+		String[] result = new String[commands.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = commands.get(i).toString();
+		}
+		return result;
+	}
+
+	public void clear() {
+		for (int i = 0; i < entries.length(); i++) {
+			entries.set(i, null);
+		}
+	}
+
+	public long getRecordedCount() {
+		return sequence.get();
+	}
+
+	public int getCapacity() {
+		return entries.length();
+	}
+
+	public long getSlowThresholdMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+	}
+
+	/**
+	 * Sets the execution time (in milliseconds) above which commands are recorded.
+	 * Default is 10. A value of 0 disables the check.
+	 *
+	 * @param millis threshold in milliseconds
+	 */
+	public void setSlowThresholdMillis(long millis) {
+		this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	public long getMaxReplyBytes() {
+		return maxReplyBytes;
+	}
+
+	/**
+	 * Sets the reply size (in bytes) above which commands are recorded.
+	 * Default is 0 (disabled) since computing the size requires traversing the reply.
+	 *
+	 * @param bytes maximum reply size
+	 */
+	public void setMaxReplyBytes(long bytes) {
+		this.maxReplyBytes = bytes;
+	}
+
+	public int getMaxReplyElements() {
+		return maxReplyElements;
+	}
+
+	/**
+	 * Sets the number of reply elements (for lists, sets, hashes) above which commands are recorded.
+	 * Default is 0 (disabled).
+	 *
+	 * @param elements maximum number of reply elements
+	 */
+	public void setMaxReplyElements(int elements) {
+		this.maxReplyElements = elements;
+	}
+
+	private static int elementsOf(Object reply) {
+		if (reply instanceof Collection) {
+			return ((Collection<?>) reply).size();
+		}
+		if (reply instanceof Map) {
+			return ((Map<?, ?>) reply).size();
+		}
+		return (reply == null ? 0 : 1);
+	}
+
+	private static String keyOf(Object[] args) {
+		if (args == null || args.length == 0) {
+			return null;
+		}
+		Object arg = args[0];
+		if (arg instanceof byte[][]) {
+			byte[][] keys = (byte[][]) arg;
+			arg = (keys.length > 0 ? keys[0] : null);
+		}
+		if (!(arg instanceof byte[])) {
+			return null;
+		}
+		byte[] key = (byte[]) arg;
+		String string = new String(key, 0, Math.min(key.length, MAX_KEY_LENGTH), UTF8);
+		return (key.length > MAX_KEY_LENGTH ? string + "..." : string);
+	}
+
+	/**
+	 * Returns the stack of the code that invoked the connection, skipping the instrumentation, the
+	 * proxy/reflection frames and the connections delegating to it.
+	 */
+	private static StackTraceElement[] callSite() {
+		StackTraceElement[] stack = new Throwable().getStackTrace();
+
+		int start = 0;
+		// skip everything up to (and including) the connection proxy
+		while (start < stack.length && !isProxyFrame(stack[start])) {
+			start++;
+		}
+		// skip any other proxy and the delegating connections (such as the template one) wrapping it
+		while (start < stack.length
+				&& (isProxyFrame(stack[start]) || isReflectionFrame(stack[start]) || isDelegatingFrame(stack[start]))) {
+			start++;
+		}
+		if (start == stack.length) {
+			start = 0;
+		}
+
+		int length = Math.min(stack.length - start, MAX_STACK_DEPTH);
+		StackTraceElement[] callSite = new StackTraceElement[length];
+		System.arraycopy(stack, start, callSite, 0, length);
+		return callSite;
+	}
+
+	private static boolean isProxyFrame(StackTraceElement element) {
+		return element.getClassName().indexOf("$Proxy") >= 0;
+	}
+
+	private static boolean isDelegatingFrame(StackTraceElement element) {
+		String className = element.getClassName();
+		return DefaultStringRedisConnection.class.getName().equals(className)
+				|| CLOSE_SUPPRESSING_CONNECTION.equals(className);
+	}
+
+	private static boolean isReflectionFrame(StackTraceElement element) {
+		String className = element.getClassName();
+		return className.startsWith("java.lang.reflect.") || className.startsWith("sun.reflect.")
+				|| className.startsWith("jdk.internal.reflect.") || className.endsWith("InvocationHandler");
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Instrumentation of Redis connections: command counters, latency histograms, payload sizes and pool metrics.
+ */
+package org.springframework.data.redis.connection.metrics;
+
@@ -33,8 +33,8 @@ import org.springframework.util.ObjectUtils;
  */
 public abstract class AbstractSubscription implements Subscription {
 
-	private final Collection<ByteArrayWrapper> channels = new ArrayList<ByteArrayWrapper>(2);
-	private final Collection<ByteArrayWrapper> patterns = new ArrayList<ByteArrayWrapper>(2);
+	private final ByteArrayMap<Boolean> channels = new ByteArrayMap<Boolean>();
+	private final ByteArrayMap<Boolean> patterns = new ByteArrayMap<Boolean>();
 	private final AtomicBoolean alive = new AtomicBoolean(true);
 	private final MessageListener listener;
 
@@ -163,8 +163,8 @@ public abstract class AbstractSubscription implements Subscription {
 		// shortcut for unsubscribing all patterns
 		if (ObjectUtils.isEmpty(patts)) {
 			if (!this.patterns.isEmpty()) {
-				patts = getPatterns().toArray(new byte[this.patterns.size()][]);
 				synchronized (this.patterns) {
+					patts = this.patterns.keys();
 					this.patterns.clear();
 				}
 			}
@@ -193,8 +193,8 @@ public abstract class AbstractSubscription implements Subscription {
 		// shortcut for unsubscribing all channels
 		if (ObjectUtils.isEmpty(chans)) {
 			if (!this.channels.isEmpty()) {
-				chans = getPatterns().toArray(new byte[this.channels.size()][]);
 				synchronized (this.channels) {
+					chans = this.channels.keys();
 					this.channels.clear();
 				}
 			}
@@ -234,27 +234,28 @@ public abstract class AbstractSubscription implements Subscription {
 	}
 
 
-	private static Collection<byte[]> clone(Collection<ByteArrayWrapper> col) {
-		Collection<byte[]> list = new ArrayList<byte[]>(col.size());
-		for (ByteArrayWrapper wrapper : col) {
-			list.add(wrapper.getArray().clone());
+	private static Collection<byte[]> clone(ByteArrayMap<Boolean> col) {
+		byte[][] keys = col.keys();
+		Collection<byte[]> list = new ArrayList<byte[]>(keys.length);
+		for (byte[] key : keys) {
+			list.add(key.clone());
 		}
 		return list;
 	}
 
 
-	private static void add(Collection<ByteArrayWrapper> col, byte[]... bytes) {
+	private static void add(ByteArrayMap<Boolean> col, byte[]... bytes) {
 		if (!ObjectUtils.isEmpty(bytes)) {
 			for (byte[] bs : bytes) {
-				col.add(new ByteArrayWrapper(bs));
+				col.put(bs, Boolean.TRUE);
 			}
 		}
 	}
 
-	private static void remove(Collection<ByteArrayWrapper> col, byte[]... bytes) {
+	private static void remove(ByteArrayMap<Boolean> col, byte[]... bytes) {
 		if (!ObjectUtils.isEmpty(bytes)) {
 			for (byte[] bs : bytes) {
-				col.remove(new ByteArrayWrapper(bs));
+				col.remove(bs);
 			}
 		}
 	}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Open-addressing map keyed directly by the content of raw byte arrays. Unlike a map keyed by
+ * {@link ByteArrayWrapper}, lookups do not allocate any objects which makes the class suitable for
+ * hot paths such as message dispatching.
+ * <p/>
+ * The map is optimized for frequent reads and rare writes: lookups are lock-free and work against
+ * an immutable snapshot of the table while modifications are serialized and rebuild the table
+ * (copy-on-write). Keys are used as is and must not be modified once added to the map.
+ *
+ * @author agent
+ */
+public class ByteArrayMap<V> {
+
+	private static final int MIN_CAPACITY = 4;
+
+	private static final Table EMPTY = new Table(new byte[MIN_CAPACITY][], new Object[MIN_CAPACITY],
+			new int[MIN_CAPACITY], 0);
+
+	private final Object monitor = new Object();
+
+	private volatile Table table = EMPTY;
+
+	/**
+	 * Returns the value associated with the given key or null if none is found.
+	 *
+	 * @param key key bytes
+	 * @return the associated value or null
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(byte[] key) {
+		if (key == null) {
+			return null;
+		}
+		Table t = table;
+		int index = t.indexOf(key, hash(key));
+		return (index < 0 ? null : (V) t.values[index]);
+	}
+
+	public boolean containsKey(byte[] key) {
+		return (key != null && table.indexOf(key, hash(key)) >= 0);
+	}
+
+	/**
+	 * Associates the given value with the given key, replacing any existing mapping.
+	 *
+	 * @param key key bytes
+	 * @param value value
+	 * @return the previous value or null if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(byte[] key, V value) {
+		checkKey(key);
+		int hash = hash(key);
+		synchronized (monitor) {
+			Table t = table;
+			int index = t.indexOf(key, hash);
+			if (index >= 0) {
+				Object old = t.values[index];
+				if (old != value) {
+					Table copy = t.copy();
+					copy.values[index] = value;
+					table = copy;
+				}
+				return (V) old;
+			}
+			table = t.with(key, hash, value);
+			return null;
+		}
+	}
+
+	/**
+	 * Associates the given value with the given key only if the key is not mapped already.
+	 *
+	 * @param key key bytes
+	 * @param value value
+	 * @return the existing value or null if the given value has been added
+	 */
+	@SuppressWarnings("unchecked")
+	public V putIfAbsent(byte[] key, V value) {
+		checkKey(key);
+		int hash = hash(key);
+		synchronized (monitor) {
+			Table t = table;
+			int index = t.indexOf(key, hash);
+			if (index >= 0) {
+				return (V) t.values[index];
+			}
+			table = t.with(key, hash, value);
+			return null;
+		}
+	}
+
+	/**
+	 * Removes the mapping for the given key.
+	 *
+	 * @param key key bytes
+	 * @return the removed value or null if the key was not mapped
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(byte[] key) {
+		if (key == null) {
+			return null;
+		}
+		int hash = hash(key);
+		synchronized (monitor) {
+			Table t = table;
+			int index = t.indexOf(key, hash);
+			if (index < 0) {
+				return null;
+			}
+			table = t.without(index);
+			return (V) t.values[index];
+		}
+	}
+
+	public void clear() {
+		synchronized (monitor) {
+			table = EMPTY;
+		}
+	}
+
+	public int size() {
+		return table.size;
+	}
+
+	public boolean isEmpty() {
+		return table.size == 0;
+	}
+
+	/**
+	 * Returns a snapshot of the keys held by the map. The returned arrays are the actual keys (not copies).
+	 *
+	 * @return the map keys
+	 */
+	public byte[][] keys() {
+		Table t = table;
+		byte[][] result = new byte[t.size][];
+		int index = 0;
+		for (byte[] key : t.keys) {
+			if (key != null) {
+				result[index++] = key;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a snapshot of the values held by the map.
+	 *
+	 * @return the map values
+	 */
+	@SuppressWarnings("unchecked")
+	public Collection<V> values() {
+		Table t = table;
+		if (t.size == 0) {
+			return Collections.emptyList();
+		}
+		List<V> result = new ArrayList<V>(t.size);
+		for (int i = 0; i < t.keys.length; i++) {
+			if (t.keys[i] != null) {
+				result.add((V) t.values[i]);
+			}
+		}
+		return result;
+	}
+
+	private static void checkKey(byte[] key) {
+		if (key == null) {
+			throw new IllegalArgumentException("non-null key required");
+		}
+	}
+
+	private static int hash(byte[] key) {
+		int h = Arrays.hashCode(key);
+		// spread the higher bits since the table index uses only the lower ones
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Immutable (once published) hash table using linear probing.
+	 * The table is always kept at most half full so probing always ends on an empty slot.
+	 */
+	private static class Table {
+		final byte[][] keys;
+		final Object[] values;
+		final int[] hashes;
+		final int size;
+
+		Table(byte[][] keys, Object[] values, int[] hashes, int size) {
+			this.keys = keys;
+			this.values = values;
+			this.hashes = hashes;
+			this.size = size;
+		}
+
+		int indexOf(byte[] key, int hash) {
+			if (size == 0) {
+				return -1;
+			}
+			int mask = keys.length - 1;
+			for (int i = hash & mask;; i = (i + 1) & mask) {
+				byte[] k = keys[i];
+				if (k == null) {
+					return -1;
+				}
+				if (hashes[i] == hash && (k == key || Arrays.equals(k, key))) {
+					return i;
+				}
+			}
+		}
+
+		Table copy() {
+			return new Table(keys.clone(), values.clone(), hashes.clone(), size);
+		}
+
+		Table with(byte[] key, int hash, Object value) {
+			int newSize = size + 1;
+			int capacity = keys.length;
+			while (newSize * 2 > capacity) {
+				capacity <<= 1;
+			}
+			Table t = new Table(new byte[capacity][], new Object[capacity], new int[capacity], newSize);
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] != null) {
+					t.insert(keys[i], hashes[i], values[i]);
+				}
+			}
+			t.insert(key, hash, value);
+			return t;
+		}
+
+		Table without(int index) {
+			int newSize = size - 1;
+			int capacity = MIN_CAPACITY;
+			while (newSize * 2 > capacity) {
+				capacity <<= 1;
+			}
+			Table t = new Table(new byte[capacity][], new Object[capacity], new int[capacity], newSize);
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] != null && i != index) {
+					t.insert(keys[i], hashes[i], values[i]);
+				}
+			}
+			return t;
+		}
+
+		private void insert(byte[] key, int hash, Object value) {
+			int mask = keys.length - 1;
+			int i = hash & mask;
+			while (keys[i] != null) {
+				i = (i + 1) & mask;
+			}
+			keys[i] = key;
+			hashes[i] = hash;
+			values[i] = value;
+		}
+	}
+}
@@ -22,11 +22,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.springframework.data.redis.connection.DefaultTuple;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.data.redis.serializer.RedisSerializer;
-import org.springframework.data.redis.serializer.SerializationUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -84,6 +84,10 @@ abstract class AbstractOperations<K, V> {
 		return template.execute(callback, b);
 	}
 
+	<T> T execute(KeyCommand<T> command, byte[] key, byte[] arg, byte[] otherArg) {
+		return template.execute(command, key, arg, otherArg);
+	}
+
 	public RedisOperations<K, V> getOperations() {
 		return template;
 	}
@@ -151,13 +155,28 @@ abstract class AbstractOperations<K, V> {
 		return rawKeys;
 	}
 
+	Set<Tuple> rawTupleValues(Set<TypedTuple<V>> values) {
+		Set<Tuple> rawTuples = new LinkedHashSet<Tuple>(values.size());
+		for (TypedTuple<V> value : values) {
+			rawTuples.add(new DefaultTuple(rawValue(value.getValue()), value.getScore()));
+		}
+		return rawTuples;
+	}
+
 	@SuppressWarnings("unchecked")
 	Set<V> deserializeValues(Set<byte[]> rawValues) {
-		return SerializationUtils.deserialize(rawValues, valueSerializer());
+		return template.deserializeValues(rawValues, valueSerializer());
 	}
 
 	@SuppressWarnings("unchecked")
 	Set<TypedTuple<V>> deserializeTupleValues(Set<Tuple> rawValues) {
+		// connection in pipeline/multi mode
+		if (rawValues == null) {
+			return null;
+		}
+		if (template.isLazyDeserialization()) {
+			return new LazyTypedTupleSet<V>(rawValues, valueSerializer());
+		}
 		Set<TypedTuple<V>> set = new LinkedHashSet<TypedTuple<V>>(
 				rawValues.size());
 		for (Tuple rawValue : rawValues) {
@@ -169,17 +188,17 @@ abstract class AbstractOperations<K, V> {
 
 	@SuppressWarnings("unchecked")
 	List<V> deserializeValues(List<byte[]> rawValues) {
-		return SerializationUtils.deserialize(rawValues, valueSerializer());
+		return template.deserializeValues(rawValues, valueSerializer());
 	}
 
 	@SuppressWarnings("unchecked")
 	<T> Set<T> deserializeHashKeys(Set<byte[]> rawKeys) {
-		return SerializationUtils.deserialize(rawKeys, hashKeySerializer());
+		return template.deserializeValues(rawKeys, hashKeySerializer());
 	}
 
 	@SuppressWarnings("unchecked")
 	<T> List<T> deserializeHashValues(List<byte[]> rawValues) {
-		return SerializationUtils.deserialize(rawValues, hashValueSerializer());
+		return template.deserializeValues(rawValues, hashValueSerializer());
 	}
 
 	@SuppressWarnings("unchecked")
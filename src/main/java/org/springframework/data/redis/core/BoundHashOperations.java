@@ -51,5 +51,7 @@ public interface BoundHashOperations<H, HK, HV> extends BoundKeyOperations<H> {
 
 	void delete(Object key);
 
+	Long deleteAll(Collection<?> keys);
+
 	Map<HK, HV> entries();
 }
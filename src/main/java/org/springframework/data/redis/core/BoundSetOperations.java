@@ -64,6 +64,8 @@ public interface BoundSetOperations<K, V> extends BoundKeyOperations<K> {
 
 	Boolean remove(Object o);
 
+	Long removeAll(Collection<?> values);
+
 	V pop();
 
 	Long size();
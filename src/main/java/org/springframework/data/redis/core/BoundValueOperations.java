@@ -34,6 +34,8 @@ public interface BoundValueOperations<K, V> extends BoundKeyOperations<K> {
 
 	Boolean setIfAbsent(V value);
 
+	Boolean setIfAbsent(V value, long timeout, TimeUnit unit);
+
 	V get();
 
 	String get(long start, long end);
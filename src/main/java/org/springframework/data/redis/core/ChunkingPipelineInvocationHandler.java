@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.PipelineResult;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+
+/**
+ * Invocation handler for pipelined {@link RedisConnection}s that syncs the pipeline every given number of commands
+ * (or bytes of arguments), handing the results to a {@link PipelineResultHandler}. This keeps the memory used by
+ * the pending replies bounded regardless of the size of the batch.
+ * The pipeline itself is managed by the handler; close calls are suppressed. Once a chunk is synced, the pipeline
+ * is only reopened when the next command comes in so the final {@link #flush()} never leaves an empty pipeline
+ * open behind.
+ *
+ * @author agent
+ */
+class ChunkingPipelineInvocationHandler implements InvocationHandler {
+
+	private static final String CLOSE = "close";
+	private static final String OPEN_PIPELINE = "openPipeline";
+	private static final String HASH_CODE = "hashCode";
+	private static final String EQUALS = "equals";
+
+	private final RedisConnection target;
+	private final PipelineResultHandler handler;
+	private final int maxCommands;
+	private final long maxBytes;
+
+	// the pipeline is opened by the template before the callback runs
+	private boolean open = true;
+	private long offset = 0;
+	private int commands = 0;
+	private long bytes = 0;
+
+	ChunkingPipelineInvocationHandler(RedisConnection target, PipelineResultHandler handler, int maxCommands,
+			long maxBytes) {
+		this.target = target;
+		this.handler = handler;
+		this.maxCommands = maxCommands;
+		this.maxBytes = maxBytes;
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		Class<?> declaringClass = method.getDeclaringClass();
+		String name = method.getName();
+
+		if (declaringClass == Object.class) {
+			if (name.equals(EQUALS)) {
+				// Only consider equal when proxies are identical.
+				return (proxy == args[0]);
+			}
+			else if (name.equals(HASH_CODE)) {
+				return System.identityHashCode(proxy);
+			}
+			return invokeTarget(method, args);
+		}
+
+		if (declaringClass == RedisConnection.class) {
+			if (name.equals(CLOSE) || name.equals(OPEN_PIPELINE)) {
+				// suppressed - the connection and the pipeline are managed by the template
+				return null;
+			}
+			if (name.startsWith("closePipeline")) {
+				throw new InvalidDataAccessApiUsageException("The pipeline is managed by the template");
+			}
+			return invokeTarget(method, args);
+		}
+
+		if (!open) {
+			target.openPipeline();
+			open = true;
+		}
+		Object result = invokeTarget(method, args);
+		commands++;
+		if (maxBytes > 0) {
+			bytes += sizeOf(args);
+		}
+		if (commands >= maxCommands || (maxBytes > 0 && bytes >= maxBytes)) {
+			flush();
+		}
+		return result;
+	}
+
+	/**
+	 * Closes the pipeline (if open) and hands the results of the pending commands (if any) over.
+	 */
+	void flush() {
+		if (!open) {
+			return;
+		}
+		List<PipelineResult> results = target.closePipelineResults();
+		open = false;
+		if (commands == 0) {
+			return;
+		}
+		long chunkOffset = offset;
+		offset += commands;
+		commands = 0;
+		bytes = 0;
+		handler.handleResults(results, chunkOffset);
+	}
+
+	/**
+	 * Returns the number of commands issued so far.
+	 */
+	long getCommandCount() {
+		return offset + commands;
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	private static long sizeOf(Object[] args) {
+		long size = 0;
+		if (args == null) {
+			return size;
+		}
+		for (Object arg : args) {
+			if (arg instanceof byte[]) {
+				size += ((byte[]) arg).length;
+			}
+			else if (arg instanceof byte[][]) {
+				for (byte[] element : (byte[][]) arg) {
+					size += (element != null ? element.length : 0);
+				}
+			}
+			else if (arg instanceof Collection) {
+				for (Object element : (Collection<?>) arg) {
+					if (element instanceof Tuple) {
+						// value plus (roughly) the score
+						size += ((Tuple) element).getValue().length + 8;
+					}
+				}
+			}
+			else if (arg instanceof Map) {
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) arg).entrySet()) {
+					if (entry.getKey() instanceof byte[]) {
+						size += ((byte[]) entry.getKey()).length;
+					}
+					if (entry.getValue() instanceof byte[]) {
+						size += ((byte[]) entry.getValue()).length;
+					}
+				}
+			}
+		}
+		return size;
+	}
+}
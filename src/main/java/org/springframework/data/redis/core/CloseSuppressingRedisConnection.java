@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import org.springframework.data.redis.connection.DefaultStringRedisConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Connection wrapper that suppresses close calls, exposed to {@link RedisCallback}s instead of the actual connection.
+ * A plain delegating class (which also offers the {@link org.springframework.data.redis.connection.StringRedisConnection}
+ * methods), hence as cheap to create and to call as the connection itself.
+ * 
+ * @see RedisConnection#close()
+ * @author agent
+ */
+class CloseSuppressingRedisConnection extends DefaultStringRedisConnection {
+
+	// stateless, shared by all wrappers
+	private static final RedisSerializer<String> STRING_SERIALIZER = new StringRedisSerializer();
+
+	private final RedisConnection target;
+
+	CloseSuppressingRedisConnection(RedisConnection target) {
+		super(target, STRING_SERIALIZER);
+		this.target = target;
+	}
+
+	
+	public void close() {
+		// suppress, not valid
+	}
+
+	/**
+	 * Returns the connection this wrapper delegates to.
+	 * 
+	 * @return target connection
+	 */
+	RedisConnection getTargetConnection() {
+		return target;
+	}
+
+	public String toString() {
+		return "Close suppressing connection for [" + target + "]";
+	}
+}
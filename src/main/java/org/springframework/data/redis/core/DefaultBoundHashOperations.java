@@ -47,6 +47,10 @@ class DefaultBoundHashOperations<H, HK, HV> extends DefaultBoundKeyOperations<H>
 		ops.delete(getKey(), key);
 	}
 
+	public Long deleteAll(Collection<?> keys) {
+		return ops.deleteAll(getKey(), keys);
+	}
+
 	
 	public HV get(Object key) {
 		return ops.get(getKey(), key);
@@ -118,6 +118,10 @@ class DefaultBoundSetOperations<K, V> extends DefaultBoundKeyOperations<K> imple
 		return ops.remove(getKey(), o);
 	}
 
+	public Long removeAll(Collection<?> values) {
+		return ops.removeAll(getKey(), values);
+	}
+
 	
 	public V pop() {
 		return ops.pop(getKey());
@@ -77,6 +77,10 @@ class DefaultBoundValueOperations<K, V> extends DefaultBoundKeyOperations<K> imp
 		return ops.setIfAbsent(getKey(), value);
 	}
 
+	public Boolean setIfAbsent(V value, long timeout, TimeUnit unit) {
+		return ops.setIfAbsent(getKey(), value, timeout, unit);
+	}
+
 	
 	public void set(V value, long offset) {
 		ops.set(getKey(), value, offset);
@@ -47,6 +47,10 @@ class DefaultBoundZSetOperations<K, V> extends DefaultBoundKeyOperations<K> impl
 		return ops.add(getKey(), value, score);
 	}
 
+	public Long add(Set<TypedTuple<V>> tuples) {
+		return ops.add(getKey(), tuples);
+	}
+
 	
 	public Double incrementScore(V value, double delta) {
 		return ops.incrementScore(getKey(), value, delta);
@@ -122,6 +126,10 @@ class DefaultBoundZSetOperations<K, V> extends DefaultBoundKeyOperations<K> impl
 		return ops.remove(getKey(), o);
 	}
 
+	public Long removeAll(Collection<?> values) {
+		return ops.removeAll(getKey(), values);
+	}
+
 	
 	public void removeRange(long start, long end) {
 		ops.removeRange(getKey(), start, end);
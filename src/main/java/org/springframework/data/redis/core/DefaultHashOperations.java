@@ -31,6 +31,45 @@ import org.springframework.data.redis.connection.RedisConnection;
  */
 class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object> implements HashOperations<K, HK, HV> {
 
+	// shared commands (see KeyCommand)
+	private static final KeyCommand<byte[]> HGET = new KeyCommand<byte[]>() {
+		public byte[] execute(RedisConnection connection, byte[] key, byte[] field, byte[] otherArg) {
+			return connection.hGet(key, field);
+		}
+	};
+
+	private static final KeyCommand<Boolean> HEXISTS = new KeyCommand<Boolean>() {
+		public Boolean execute(RedisConnection connection, byte[] key, byte[] field, byte[] otherArg) {
+			return connection.hExists(key, field);
+		}
+	};
+
+	private static final KeyCommand<Long> HLEN = new KeyCommand<Long>() {
+		public Long execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.hLen(key);
+		}
+	};
+
+	private static final KeyCommand<Object> HSET = new KeyCommand<Object>() {
+		public Object execute(RedisConnection connection, byte[] key, byte[] field, byte[] value) {
+			connection.hSet(key, field, value);
+			return null;
+		}
+	};
+
+	private static final KeyCommand<Boolean> HSETNX = new KeyCommand<Boolean>() {
+		public Boolean execute(RedisConnection connection, byte[] key, byte[] field, byte[] value) {
+			return connection.hSetNX(key, field, value);
+		}
+	};
+
+	private static final KeyCommand<Object> HDEL = new KeyCommand<Object>() {
+		public Object execute(RedisConnection connection, byte[] key, byte[] field, byte[] otherArg) {
+			connection.hDel(key, field);
+			return null;
+		}
+	};
+
 	@SuppressWarnings("unchecked")
 	DefaultHashOperations(RedisTemplate<K, ?> template) {
 		super((RedisTemplate<K, Object>) template);
@@ -39,30 +78,13 @@ class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object> imp
 	@SuppressWarnings("unchecked")
 	
 	public HV get(K key, Object hashKey) {
-		final byte[] rawKey = rawKey(key);
-		final byte[] rawHashKey = rawHashKey(hashKey);
-
-		byte[] rawHashValue = execute(new RedisCallback<byte[]>() {
-			
-			public byte[] doInRedis(RedisConnection connection) {
-				return connection.hGet(rawKey, rawHashKey);
-			}
-		}, true);
-
+		byte[] rawHashValue = execute(HGET, rawKey(key), rawHashKey(hashKey), null);
 		return (HV) deserializeHashValue(rawHashValue);
 	}
 
 	
 	public Boolean hasKey(K key, Object hashKey) {
-		final byte[] rawKey = rawKey(key);
-		final byte[] rawHashKey = rawHashKey(hashKey);
-
-		return execute(new RedisCallback<Boolean>() {
-			
-			public Boolean doInRedis(RedisConnection connection) {
-				return connection.hExists(rawKey, rawHashKey);
-			}
-		}, true);
+		return execute(HEXISTS, rawKey(key), rawHashKey(hashKey), null);
 	}
 
 	
@@ -95,14 +117,7 @@ class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object> imp
 
 	
 	public Long size(K key) {
-		final byte[] rawKey = rawKey(key);
-
-		return execute(new RedisCallback<Long>() {
-			
-			public Long doInRedis(RedisConnection connection) {
-				return connection.hLen(rawKey);
-			}
-		}, true);
+		return execute(HLEN, rawKey(key), null, null);
 	}
 
 	
@@ -156,31 +171,12 @@ class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object> imp
 
 	
 	public void put(K key, HK hashKey, HV value) {
-		final byte[] rawKey = rawKey(key);
-		final byte[] rawHashKey = rawHashKey(hashKey);
-		final byte[] rawHashValue = rawHashValue(value);
-
-		execute(new RedisCallback<Object>() {
-			
-			public Object doInRedis(RedisConnection connection) {
-				connection.hSet(rawKey, rawHashKey, rawHashValue);
-				return null;
-			}
-		}, true);
+		execute(HSET, rawKey(key), rawHashKey(hashKey), rawHashValue(value));
 	}
 
 	
 	public Boolean putIfAbsent(K key, HK hashKey, HV value) {
-		final byte[] rawKey = rawKey(key);
-		final byte[] rawHashKey = rawHashKey(hashKey);
-		final byte[] rawHashValue = rawHashValue(value);
-
-		return execute(new RedisCallback<Boolean>() {
-			
-			public Boolean doInRedis(RedisConnection connection) {
-				return connection.hSetNX(rawKey, rawHashKey, rawHashValue);
-			}
-		}, true);
+		return execute(HSETNX, rawKey(key), rawHashKey(hashKey), rawHashValue(value));
 	}
 
 
@@ -200,14 +196,25 @@ class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object> imp
 
 	
 	public void delete(K key, Object hashKey) {
+		execute(HDEL, rawKey(key), rawHashKey(hashKey), null);
+	}
+
+	public Long deleteAll(K key, Collection<?> hashKeys) {
+		if (hashKeys.isEmpty()) {
+			return 0L;
+		}
 		final byte[] rawKey = rawKey(key);
-		final byte[] rawHashKey = rawHashKey(hashKey);
+		final byte[][] rawHashKeys = new byte[hashKeys.size()][];
 
-		execute(new RedisCallback<Object>() {
+		int i = 0;
+		for (Object hashKey : hashKeys) {
+			rawHashKeys[i++] = rawHashKey(hashKey);
+		}
+
+		return execute(new RedisCallback<Long>() {
 			
-			public Object doInRedis(RedisConnection connection) {
-				connection.hDel(rawKey, rawHashKey);
-				return null;
+			public Long doInRedis(RedisConnection connection) {
+				return connection.hDel(rawKey, rawHashKeys);
 			}
 		}, true);
 	}
@@ -30,6 +30,25 @@ import org.springframework.util.CollectionUtils;
 class DefaultListOperations<K, V> extends AbstractOperations<K, V> implements
 		ListOperations<K, V> {
 
+	// shared commands (see KeyCommand)
+	private static final KeyCommand<byte[]> LPOP = new KeyCommand<byte[]>() {
+		public byte[] execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.lPop(key);
+		}
+	};
+
+	private static final KeyCommand<byte[]> RPOP = new KeyCommand<byte[]>() {
+		public byte[] execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.rPop(key);
+		}
+	};
+
+	private static final KeyCommand<Long> LLEN = new KeyCommand<Long>() {
+		public Long execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.lLen(key);
+		}
+	};
+
 	DefaultListOperations(RedisTemplate<K, V> template) {
 		super(template);
 	}
@@ -44,12 +63,7 @@ class DefaultListOperations<K, V> extends AbstractOperations<K, V> implements
 	}
 
 	public V leftPop(K key) {
-		return execute(new ValueDeserializingRedisCallback(key) {
-
-			protected byte[] inRedis(byte[] rawKey, RedisConnection connection) {
-				return connection.lPop(rawKey);
-			}
-		}, true);
+		return deserializeValue(execute(LPOP, rawKey(key), null, null));
 	}
 
 	public V leftPop(K key, long timeout, TimeUnit unit) {
@@ -100,13 +114,7 @@ class DefaultListOperations<K, V> extends AbstractOperations<K, V> implements
 	}
 
 	public Long size(K key) {
-		final byte[] rawKey = rawKey(key);
-		return execute(new RedisCallback<Long>() {
-
-			public Long doInRedis(RedisConnection connection) {
-				return connection.lLen(rawKey);
-			}
-		}, true);
+		return execute(LLEN, rawKey(key), null, null);
 	}
 
 	public List<V> range(K key, final long start, final long end) {
@@ -130,12 +138,7 @@ class DefaultListOperations<K, V> extends AbstractOperations<K, V> implements
 	}
 
 	public V rightPop(K key) {
-		return execute(new ValueDeserializingRedisCallback(key) {
-
-			protected byte[] inRedis(byte[] rawKey, RedisConnection connection) {
-				return connection.rPop(rawKey);
-			}
-		}, true);
+		return deserializeValue(execute(RPOP, rawKey(key), null, null));
 	}
 
 	public V rightPop(K key, long timeout, TimeUnit unit) {
@@ -29,6 +29,25 @@ import org.springframework.data.redis.connection.RedisConnection;
 class DefaultSetOperations<K, V> extends AbstractOperations<K, V> implements
 		SetOperations<K, V> {
 
+	// shared commands (see KeyCommand)
+	private static final KeyCommand<Boolean> SISMEMBER = new KeyCommand<Boolean>() {
+		public Boolean execute(RedisConnection connection, byte[] key, byte[] value, byte[] otherArg) {
+			return connection.sIsMember(key, value);
+		}
+	};
+
+	private static final KeyCommand<byte[]> SPOP = new KeyCommand<byte[]>() {
+		public byte[] execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.sPop(key);
+		}
+	};
+
+	private static final KeyCommand<Long> SCARD = new KeyCommand<Long>() {
+		public Long execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.sCard(key);
+		}
+	};
+
 	public DefaultSetOperations(RedisTemplate<K, V> template) {
 		super(template);
 	}
@@ -109,14 +128,7 @@ class DefaultSetOperations<K, V> extends AbstractOperations<K, V> implements
 	}
 
 	public Boolean isMember(K key, Object o) {
-		final byte[] rawKey = rawKey(key);
-		final byte[] rawValue = rawValue(o);
-		return execute(new RedisCallback<Boolean>() {
-
-			public Boolean doInRedis(RedisConnection connection) {
-				return connection.sIsMember(rawKey, rawValue);
-			}
-		}, true);
+		return execute(SISMEMBER, rawKey(key), rawValue(o), null);
 	}
 
 	public Set<V> members(K key) {
@@ -165,25 +177,28 @@ class DefaultSetOperations<K, V> extends AbstractOperations<K, V> implements
 		}, true);
 	}
 
-	public V pop(K key) {
-		return execute(new ValueDeserializingRedisCallback(key) {
-
-			protected byte[] inRedis(byte[] rawKey, RedisConnection connection) {
-				return connection.sPop(rawKey);
-			}
-		}, true);
-	}
-
-	public Long size(K key) {
+	public Long removeAll(K key, Collection<?> values) {
+		if (values.isEmpty()) {
+			return 0L;
+		}
 		final byte[] rawKey = rawKey(key);
+		final byte[][] rawValues = rawValue(values.toArray());
 		return execute(new RedisCallback<Long>() {
 
 			public Long doInRedis(RedisConnection connection) {
-				return connection.sCard(rawKey);
+				return connection.sRem(rawKey, rawValues);
 			}
 		}, true);
 	}
 
+	public V pop(K key) {
+		return deserializeValue(execute(SPOP, rawKey(key), null, null));
+	}
+
+	public Long size(K key) {
+		return execute(SCARD, rawKey(key), null, null);
+	}
+
 	public Set<V> union(K key, K otherKey) {
 		return union(key, Collections.singleton(otherKey));
 	}
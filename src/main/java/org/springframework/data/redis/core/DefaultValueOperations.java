@@ -32,30 +32,50 @@ import org.springframework.data.redis.connection.RedisConnection;
  */
 class DefaultValueOperations<K, V> extends AbstractOperations<K, V> implements ValueOperations<K, V> {
 
+	// shared commands (see KeyCommand)
+	private static final KeyCommand<byte[]> GET = new KeyCommand<byte[]>() {
+		public byte[] execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.get(key);
+		}
+	};
+
+	private static final KeyCommand<byte[]> GET_SET = new KeyCommand<byte[]>() {
+		public byte[] execute(RedisConnection connection, byte[] key, byte[] value, byte[] otherArg) {
+			return connection.getSet(key, value);
+		}
+	};
+
+	private static final KeyCommand<Object> SET = new KeyCommand<Object>() {
+		public Object execute(RedisConnection connection, byte[] key, byte[] value, byte[] otherArg) {
+			connection.set(key, value);
+			return null;
+		}
+	};
+
+	private static final KeyCommand<Boolean> SET_NX = new KeyCommand<Boolean>() {
+		public Boolean execute(RedisConnection connection, byte[] key, byte[] value, byte[] otherArg) {
+			return connection.setNX(key, value);
+		}
+	};
+
+	private static final KeyCommand<Long> STRLEN = new KeyCommand<Long>() {
+		public Long execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.strLen(key);
+		}
+	};
+
 	DefaultValueOperations(RedisTemplate<K, V> template) {
 		super(template);
 	}
 
 	
-	public V get(final Object key) {
-
-		return execute(new ValueDeserializingRedisCallback(key) {
-			
-			protected byte[] inRedis(byte[] rawKey, RedisConnection connection) {
-				return connection.get(rawKey);
-			}
-		}, true);
+	public V get(Object key) {
+		return deserializeValue(execute(GET, rawKey(key), null, null));
 	}
 
 	
 	public V getAndSet(K key, V newValue) {
-		final byte[] rawValue = rawValue(newValue);
-		return execute(new ValueDeserializingRedisCallback(key) {
-			
-			protected byte[] inRedis(byte[] rawKey, RedisConnection connection) {
-				return connection.getSet(rawKey, rawValue);
-			}
-		}, true);
+		return deserializeValue(execute(GET_SET, rawKey(key), rawValue(newValue), null));
 	}
 
 	
@@ -171,26 +191,25 @@ class DefaultValueOperations<K, V> extends AbstractOperations<K, V> implements V
 
 	
 	public void set(K key, V value) {
-		final byte[] rawValue = rawValue(value);
-		execute(new ValueDeserializingRedisCallback(key) {
-			
-			protected byte[] inRedis(byte[] rawKey, RedisConnection connection) {
-				connection.set(rawKey, rawValue);
-				return null;
-			}
-		}, true);
+		execute(SET, rawKey(key), rawValue(value), null);
 	}
 
 	
 	public void set(K key, V value, long timeout, TimeUnit unit) {
 		final byte[] rawKey = rawKey(key);
 		final byte[] rawValue = rawValue(value);
-		final long rawTimeout = unit.toSeconds(timeout);
+		final long rawTimeout = unit.toMillis(timeout);
 
 		execute(new RedisCallback<Object>() {
 			
 			public Object doInRedis(RedisConnection connection) throws DataAccessException {
-				connection.setEx(rawKey, (int) rawTimeout, rawValue);
+				// whole seconds go through SETEX, supported by pre-2.6 servers as well
+				if (rawTimeout % 1000 == 0) {
+					connection.setEx(rawKey, rawTimeout / 1000, rawValue);
+				}
+				else {
+					connection.pSetEx(rawKey, rawTimeout, rawValue);
+				}
 				return null;
 			}
 		}, true);
@@ -198,13 +217,19 @@ class DefaultValueOperations<K, V> extends AbstractOperations<K, V> implements V
 
 	
 	public Boolean setIfAbsent(K key, V value) {
+		return execute(SET_NX, rawKey(key), rawValue(value), null);
+	}
+
+	
+	public Boolean setIfAbsent(K key, V value, long timeout, TimeUnit unit) {
 		final byte[] rawKey = rawKey(key);
 		final byte[] rawValue = rawValue(value);
+		final long rawTimeout = unit.toMillis(timeout);
 
 		return execute(new RedisCallback<Boolean>() {
 			
 			public Boolean doInRedis(RedisConnection connection) throws DataAccessException {
-				return connection.setNX(rawKey, rawValue);
+				return connection.pSetNX(rawKey, rawTimeout, rawValue);
 			}
 		}, true);
 	}
@@ -226,13 +251,6 @@ class DefaultValueOperations<K, V> extends AbstractOperations<K, V> implements V
 
 	
 	public Long size(K key) {
-		final byte[] rawKey = rawKey(key);
-
-		return execute(new RedisCallback<Long>() {
-			
-			public Long doInRedis(RedisConnection connection) {
-				return connection.strLen(rawKey);
-			}
-		}, true);
+		return execute(STRLEN, rawKey(key), null, null);
 	}
 }
\ No newline at end of file
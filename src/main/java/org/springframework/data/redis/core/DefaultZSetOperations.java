@@ -29,6 +29,19 @@ import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
  */
 class DefaultZSetOperations<K, V> extends AbstractOperations<K, V> implements ZSetOperations<K, V> {
 
+	// shared commands (see KeyCommand)
+	private static final KeyCommand<Double> ZSCORE = new KeyCommand<Double>() {
+		public Double execute(RedisConnection connection, byte[] key, byte[] value, byte[] otherArg) {
+			return connection.zScore(key, value);
+		}
+	};
+
+	private static final KeyCommand<Long> ZCARD = new KeyCommand<Long>() {
+		public Long execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg) {
+			return connection.zCard(key);
+		}
+	};
+
 	DefaultZSetOperations(RedisTemplate<K, V> template) {
 		super(template);
 	}
@@ -46,6 +59,21 @@ class DefaultZSetOperations<K, V> extends AbstractOperations<K, V> implements ZS
 		}, true);
 	}
 
+	public Long add(K key, Set<TypedTuple<V>> tuples) {
+		if (tuples.isEmpty()) {
+			return 0L;
+		}
+		final byte[] rawKey = rawKey(key);
+		final Set<Tuple> rawValues = rawTupleValues(tuples);
+
+		return execute(new RedisCallback<Long>() {
+
+			public Long doInRedis(RedisConnection connection) {
+				return connection.zAdd(rawKey, rawValues);
+			}
+		}, true);
+	}
+
 
 	public Double incrementScore(K key, V value, final double delta) {
 		final byte[] rawKey = rawKey(key);
@@ -282,6 +310,21 @@ class DefaultZSetOperations<K, V> extends AbstractOperations<K, V> implements ZS
 		}, true);
 	}
 
+	public Long removeAll(K key, Collection<?> values) {
+		if (values.isEmpty()) {
+			return 0L;
+		}
+		final byte[] rawKey = rawKey(key);
+		final byte[][] rawValues = rawValue(values.toArray());
+
+		return execute(new RedisCallback<Long>() {
+
+			public Long doInRedis(RedisConnection connection) {
+				return connection.zRem(rawKey, rawValues);
+			}
+		}, true);
+	}
+
 
 	public Long removeRange(K key, final long start, final long end) {
 		final byte[] rawKey = rawKey(key);
@@ -306,15 +349,7 @@ class DefaultZSetOperations<K, V> extends AbstractOperations<K, V> implements ZS
 
 
 	public Double score(K key, Object o) {
-		final byte[] rawKey = rawKey(key);
-		final byte[] rawValue = rawValue(o);
-
-		return execute(new RedisCallback<Double>() {
-
-			public Double doInRedis(RedisConnection connection) {
-				return connection.zScore(rawKey, rawValue);
-			}
-		}, true);
+		return execute(ZSCORE, rawKey(key), rawValue(o), null);
 	}
 
 
@@ -331,14 +366,7 @@ class DefaultZSetOperations<K, V> extends AbstractOperations<K, V> implements ZS
 
 
 	public Long size(K key) {
-		final byte[] rawKey = rawKey(key);
-
-		return execute(new RedisCallback<Long>() {
-
-			public Long doInRedis(RedisConnection connection) {
-				return connection.zCard(rawKey);
-			}
-		}, true);
+		return execute(ZCARD, rawKey(key), null, null);
 	}
 
 
@@ -29,6 +29,13 @@ public interface HashOperations<H, HK, HV> {
 
 	void delete(H key, Object hashKey);
 
+	/**
+	 * Deletes the given hash keys, through a single command.
+	 * 
+	 * @return number of hash keys actually deleted
+	 */
+	Long deleteAll(H key, Collection<?> hashKeys);
+
 	Boolean hasKey(H key, Object hashKey);
 
 	HV get(H key, Object hashKey);
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import org.springframework.data.redis.connection.RedisConnection;
+
+/**
+ * Stateless Redis command working on raw (serialized) arguments. Unlike a {@link RedisCallback}, which captures
+ * its arguments and thus is created on each call, a command is allocated once and shared by all calls.
+ * Used internally by the template operations for the most common commands.
+ * 
+ * @see RedisTemplate#execute(KeyCommand, byte[], byte[], byte[])
+ * @author agent
+ */
+interface KeyCommand<T> {
+
+	/**
+	 * Executes the command against the given connection.
+	 * 
+	 * @param connection Redis connection
+	 * @param key raw key
+	 * @param arg raw argument (null if not used)
+	 * @param otherArg second raw argument (null if not used)
+	 * @return command result
+	 */
+	T execute(RedisConnection connection, byte[] key, byte[] arg, byte[] otherArg);
+}
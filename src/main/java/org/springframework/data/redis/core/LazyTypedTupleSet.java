@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationUtils;
+
+/**
+ * Read-only set of {@link TypedTuple}s deserializing the tuple values on first access.
+ * The iteration order (by score) of the reply is preserved.
+ * <p/>
+ * As with the other lazy views, {@link #contains(Object)} is a linear scan (deserializing the values up to the
+ * match) and the tuples are assumed to be unique since the raw reply is.
+ * 
+ * @author agent
+ */
+class LazyTypedTupleSet<V> extends AbstractSet<TypedTuple<V>> {
+
+	private final List<V> values;
+	private final Double[] scores;
+
+	LazyTypedTupleSet(Set<Tuple> rawValues, RedisSerializer<V> serializer) {
+		List<byte[]> raw = new ArrayList<byte[]>(rawValues.size());
+		scores = new Double[rawValues.size()];
+
+		int index = 0;
+		for (Tuple tuple : rawValues) {
+			raw.add(tuple.getValue());
+			scores[index++] = tuple.getScore();
+		}
+
+		values = SerializationUtils.deserializeLazily(raw, serializer);
+	}
+
+	public Iterator<TypedTuple<V>> iterator() {
+		return new Iterator<TypedTuple<V>>() {
+			private int index = 0;
+
+			public boolean hasNext() {
+				return index < scores.length;
+			}
+
+			public TypedTuple<V> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				TypedTuple<V> tuple = new DefaultTypedTuple<V>(values.get(index), scores[index]);
+				index++;
+				return tuple;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	public int size() {
+		return scores.length;
+	}
+}
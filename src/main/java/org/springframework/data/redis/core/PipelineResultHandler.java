@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.List;
+
+import org.springframework.data.redis.connection.PipelineResult;
+
+/**
+ * Callback interface receiving the results of a chunked pipeline, one chunk at a time.
+ *
+ * @see RedisOperations#executePipelined(RedisCallback, PipelineResultHandler, int, long)
+ * @author agent
+ */
+public interface PipelineResultHandler {
+
+	/**
+	 * Handles the results of one chunk of pipelined commands. Failed commands do not interrupt the pipeline;
+	 * they are reported through their {@link PipelineResult}.
+	 *
+	 * @param results results of the commands of the chunk
+	 * @param offset position (inside the whole pipeline) of the first command of the chunk; the position of
+	 * each command is <tt>offset + result.getIndex()</tt>
+	 */
+	void handleResults(List<PipelineResult> results, long offset);
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.io.Closeable;
+import java.lang.reflect.Proxy;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Unit of work that binds a single Redis connection to the current thread, so that consecutive
+ * {@link RedisTemplate} (or cache) calls reuse it instead of getting a connection from the factory (and its pool)
+ * for each call. Unlike {@link SessionCallback}, the scope does not require the work to be wrapped in a callback,
+ * making it suitable for interceptors or filters covering a whole request:
+ * 
+ * <pre>
+ * RedisConnectionScope scope = RedisConnectionScope.open(connectionFactory);
+ * try {
+ *     // template calls on this thread use the same connection
+ * } finally {
+ *     scope.close();
+ * }
+ * </pre>
+ * 
+ * Optionally, the fire-and-forget writes (the commands without a reply, such as <tt>SET</tt>) can be pipelined:
+ * they are sent in one go before the next command that returns a reply, or when the scope is closed. Failures
+ * of pipelined writes are thus reported later, by the next command or by {@link #close()}, through a
+ * {@link org.springframework.data.redis.connection.RedisPipelineException}.
+ * <p/>
+ * A scope is bound to the thread that opened it and needs to be closed by the same thread. If a connection is
+ * already bound (by an outer scope or a session), the scope simply reuses it.
+ * 
+ * @author agent
+ */
+public class RedisConnectionScope implements Closeable {
+
+	// bounds the memory used by the pending replies
+	private static final int MAX_PIPELINED_WRITES = 1000;
+
+	private final RedisConnectionFactory factory;
+	private final RedisConnection connection;
+	private final WritePipeliningInvocationHandler pipeliner;
+	private final boolean owner;
+	private boolean closed = false;
+
+	private RedisConnectionScope(RedisConnectionFactory factory, boolean pipelineWrites) {
+		Assert.notNull(factory, "No RedisConnectionFactory specified");
+		this.factory = factory;
+
+		if (TransactionSynchronizationManager.hasResource(factory)) {
+			this.connection = RedisConnectionUtils.getConnection(factory);
+			this.pipeliner = null;
+			this.owner = false;
+		}
+		else if (pipelineWrites) {
+			this.pipeliner = new WritePipeliningInvocationHandler(factory.getConnection(), MAX_PIPELINED_WRITES);
+			this.connection = (RedisConnection) Proxy.newProxyInstance(RedisConnection.class.getClassLoader(),
+					new Class<?>[] { RedisConnection.class }, pipeliner);
+			RedisConnectionUtils.bindConnection(factory, connection);
+			this.owner = true;
+		}
+		else {
+			this.connection = RedisConnectionUtils.bindConnection(factory);
+			this.pipeliner = null;
+			this.owner = true;
+		}
+	}
+
+	/**
+	 * Opens a scope for the given factory, binding a connection to the current thread.
+	 * 
+	 * @param factory connection factory
+	 * @return the scope
+	 */
+	public static RedisConnectionScope open(RedisConnectionFactory factory) {
+		return open(factory, false);
+	}
+
+	/**
+	 * Opens a scope for the given factory, binding a connection to the current thread.
+	 * 
+	 * @param factory connection factory
+	 * @param pipelineWrites whether to pipeline the writes without a reply (ignored when reusing an already bound connection)
+	 * @return the scope
+	 */
+	public static RedisConnectionScope open(RedisConnectionFactory factory, boolean pipelineWrites) {
+		return new RedisConnectionScope(factory, pipelineWrites);
+	}
+
+	/**
+	 * Returns the connection bound by this scope.
+	 * 
+	 * @return the bound connection
+	 */
+	public RedisConnection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * Sends the pending writes (if any) and waits for their replies.
+	 */
+	public void flush() {
+		if (pipeliner != null) {
+			pipeliner.flush();
+		}
+	}
+
+	/**
+	 * Closes the scope, sending the pending writes, then unbinding and closing the connection (unless the
+	 * connection was bound outside the scope).
+	 */
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (owner) {
+			RedisConnectionUtils.unbindConnection(factory);
+		}
+	}
+}
@@ -15,11 +15,14 @@
  */
 package org.springframework.data.redis.core;
 
+import java.lang.reflect.Proxy;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.transaction.support.ResourceHolder;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -53,6 +56,20 @@ public abstract class RedisConnectionUtils {
 		return doGetConnection(factory, true, false);
 	}
 
+	/**
+	 * Gets a Redis connection from the given factory. Is aware of and will return any existing corresponding connections bound to the current thread, 
+	 * for example when using a transaction manager. If {@code enableTransactionSupport} is <tt>true</tt> and a Spring-managed transaction is active,
+	 * the new connection is bound to the transaction: its writes are queued and sent as a single <tt>MULTI</tt>/<tt>EXEC</tt> block on commit or
+	 * discarded on rollback.
+	 * 
+	 * @param factory connection factory for creating the connection
+	 * @param enableTransactionSupport whether to bind the connection to an active Spring-managed transaction
+	 * @return an active Redis connection
+	 */
+	public static RedisConnection getConnection(RedisConnectionFactory factory, boolean enableTransactionSupport) {
+		return doGetConnection(factory, true, false, enableTransactionSupport);
+	}
+
 	/**
 	 * Gets a Redis connection. Is aware of and will return any existing corresponding connections bound to the current thread, 
 	 * for example when using a transaction manager. Will create a new Connection otherwise, if {@code allowCreate} is <tt>true</tt>.
@@ -63,10 +80,25 @@ public abstract class RedisConnectionUtils {
 	 * @return an active Redis connection
 	 */
 	public static RedisConnection doGetConnection(RedisConnectionFactory factory, boolean allowCreate, boolean bind) {
+		return doGetConnection(factory, allowCreate, bind, false);
+	}
+
+	/**
+	 * Gets a Redis connection. Is aware of and will return any existing corresponding connections bound to the current thread, 
+	 * for example when using a transaction manager. Will create a new Connection otherwise, if {@code allowCreate} is <tt>true</tt>.
+	 * 
+	 * @param factory connection factory for creating the connection
+	 * @param allowCreate whether a new (unbound) connection should be created when no connection can be found for the current thread
+	 * @param bind binds the connection to the thread, in case one was created
+	 * @param enableTransactionSupport whether to bind a new connection to an active Spring-managed transaction
+	 * @return an active Redis connection
+	 * @see #getConnection(RedisConnectionFactory, boolean)
+	 */
+	public static RedisConnection doGetConnection(RedisConnectionFactory factory, boolean allowCreate, boolean bind,
+			boolean enableTransactionSupport) {
 		Assert.notNull(factory, "No RedisConnectionFactory specified");
 
 		RedisConnectionHolder connHolder = (RedisConnectionHolder) TransactionSynchronizationManager.getResource(factory);
-		//TODO: investigate tx synchronization
 
 		if (connHolder != null)
 			return connHolder.getConnection();
@@ -80,6 +112,10 @@ public abstract class RedisConnectionUtils {
 
 		RedisConnection conn = factory.getConnection();
 
+		if (enableTransactionSupport && isActualTransactionActive()) {
+			return bindToTransaction(factory, conn);
+		}
+
 		if (bind) {
 			connHolder = new RedisConnectionHolder(conn);
 			TransactionSynchronizationManager.bindResource(factory, connHolder);
@@ -88,6 +124,38 @@ public abstract class RedisConnectionUtils {
 		return conn;
 	}
 
+	/**
+	 * Binds a connection to the current thread, unless one is bound already (for example by an enclosing session,
+	 * {@link RedisConnectionScope} or transaction). With {@code enableTransactionSupport} and an active Spring-managed
+	 * transaction, the connection is bound to the transaction instead and released once it completes.
+	 * 
+	 * @param factory connection factory
+	 * @param enableTransactionSupport whether to bind the connection to an active Spring-managed transaction
+	 * @return true if the caller bound the connection and needs to release it through
+	 * {@link #unbindConnection(RedisConnectionFactory)}, false otherwise
+	 */
+	static boolean bindConnection(RedisConnectionFactory factory, boolean enableTransactionSupport) {
+		if (TransactionSynchronizationManager.hasResource(factory)) {
+			return false;
+		}
+		boolean transactional = (enableTransactionSupport && isActualTransactionActive());
+		doGetConnection(factory, true, true, enableTransactionSupport);
+		return !transactional;
+	}
+
+	/**
+	 * Binds the given connection (created through the given factory) to the current thread.
+	 * 
+	 * @param factory connection factory
+	 * @param conn connection to bind
+	 */
+	static void bindConnection(RedisConnectionFactory factory, RedisConnection conn) {
+		if (log.isDebugEnabled())
+			log.debug("Binding RedisConnection");
+
+		TransactionSynchronizationManager.bindResource(factory, new RedisConnectionHolder(conn));
+	}
+
 	/**
 	 * Closes the given connection, created via the given factory if not managed externally (i.e. not bound to the thread).
 	 * 
@@ -135,6 +203,67 @@ public abstract class RedisConnectionUtils {
 		return (connHolder != null && conn == connHolder.getConnection());
 	}
 
+	private static boolean isActualTransactionActive() {
+		return (TransactionSynchronizationManager.isSynchronizationActive() && TransactionSynchronizationManager
+				.isActualTransactionActive());
+	}
+
+	private static RedisConnection bindToTransaction(RedisConnectionFactory factory, RedisConnection conn) {
+		if (log.isDebugEnabled())
+			log.debug("Binding RedisConnection to the current transaction");
+
+		TransactionalConnectionInvocationHandler handler = new TransactionalConnectionInvocationHandler(conn, factory);
+		RedisConnection txConn = (RedisConnection) Proxy.newProxyInstance(RedisConnection.class.getClassLoader(),
+				new Class<?>[] { RedisConnection.class }, handler);
+		RedisConnectionHolder connHolder = new RedisConnectionHolder(txConn);
+		TransactionSynchronizationManager.bindResource(factory, connHolder);
+		TransactionSynchronizationManager.registerSynchronization(new RedisTransactionSynchronization(factory, conn,
+				handler));
+		return txConn;
+	}
+
+	/**
+	 * Sends the writes recorded during a transaction once it commits (propagating any failure to the committing
+	 * code), drops them otherwise and releases the connection once the transaction completes.
+	 */
+	private static class RedisTransactionSynchronization extends TransactionSynchronizationAdapter {
+
+		private final RedisConnectionFactory factory;
+		private final RedisConnection conn;
+		private final TransactionalConnectionInvocationHandler handler;
+
+		RedisTransactionSynchronization(RedisConnectionFactory factory, RedisConnection conn,
+				TransactionalConnectionInvocationHandler handler) {
+			this.factory = factory;
+			this.conn = conn;
+			this.handler = handler;
+		}
+
+		
+		public void afterCommit() {
+			if (log.isDebugEnabled())
+				log.debug("Transaction committed - executing queued Redis commands");
+			handler.commit();
+		}
+
+		
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(factory);
+			try {
+				if (status != STATUS_COMMITTED && log.isDebugEnabled())
+					log.debug("Transaction rolled back - discarding queued Redis commands");
+				// no-op unless the transaction rolled back or the commit failed
+				handler.discard();
+			} finally {
+				try {
+					handler.closeReadConnection();
+				} finally {
+					conn.close();
+				}
+			}
+		}
+	}
+
 	private static class RedisConnectionHolder implements ResourceHolder {
 
 		private boolean isVoid = false;
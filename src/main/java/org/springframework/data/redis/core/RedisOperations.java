@@ -17,12 +17,14 @@ package org.springframework.data.redis.core;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.query.SortQuery;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
 
@@ -74,6 +76,59 @@ public interface RedisOperations<K, V> {
 	//	 */
 	//	List<V> executePipelined(RedisCallback<?> action);
 
+	/**
+	 * Executes the given action object on a pipelined connection, syncing the pipeline every <tt>maxCommands</tt>
+	 * commands and handing the results, chunk by chunk, to the given handler. Suitable for very large batches as
+	 * the pending replies never exceed one chunk. Failed commands do not interrupt the pipeline.
+	 * Note that the callback <b>cannot</b> return a non-null value as it gets overwritten by the pipeline.
+	 * 
+	 * @param action callback object to execute
+	 * @param handler handler of the pipeline results
+	 * @param maxCommands maximum number of commands per chunk
+	 * @return the number of executed commands
+	 */
+	long executePipelined(RedisCallback<?> action, PipelineResultHandler handler, int maxCommands);
+
+	/**
+	 * Executes the given action object on a pipelined connection, syncing the pipeline every <tt>maxCommands</tt>
+	 * commands or whenever the arguments (keys and values) of the pending commands exceed <tt>maxBytes</tt>.
+	 * 
+	 * @param action callback object to execute
+	 * @param handler handler of the pipeline results
+	 * @param maxCommands maximum number of commands per chunk
+	 * @param maxBytes maximum size (in bytes) of the command arguments per chunk (0 for no limit)
+	 * @return the number of executed commands
+	 * @see #executePipelined(RedisCallback, PipelineResultHandler, int)
+	 */
+	long executePipelined(RedisCallback<?> action, PipelineResultHandler handler, int maxCommands, long maxBytes);
+
+	/**
+	 * Executes the given Lua script, through <tt>EVALSHA</tt> falling back to <tt>EVAL</tt> if the script is not
+	 * cached by the server. The arguments and the result are converted through the value serializer.
+	 * When called on a pipelined or queueing (MULTI) connection, the script is sent along with the other
+	 * commands and null is returned.
+	 * 
+	 * @param script script to execute
+	 * @param keys keys passed to the script (<tt>KEYS</tt>)
+	 * @param args arguments passed to the script (<tt>ARGV</tt>)
+	 * @return script result
+	 */
+	<T> T execute(RedisScript<T> script, List<K> keys, Object... args);
+
+	/**
+	 * Executes the given Lua script, converting its arguments and result through the given serializers.
+	 * 
+	 * @param script script to execute
+	 * @param argsSerializer serializer for the script arguments
+	 * @param resultSerializer serializer for the script result
+	 * @param keys keys passed to the script (<tt>KEYS</tt>)
+	 * @param args arguments passed to the script (<tt>ARGV</tt>)
+	 * @return script result
+	 * @see #execute(RedisScript, List, Object...)
+	 */
+	<T> T execute(RedisScript<T> script, RedisSerializer<?> argsSerializer, RedisSerializer<?> resultSerializer,
+			List<K> keys, Object... args);
+
 
 	Boolean hasKey(K key);
 
@@ -83,8 +138,30 @@ public interface RedisOperations<K, V> {
 
 	DataType type(K key);
 
+	/**
+	 * Returns all the keys matching the given pattern (<tt>KEYS</tt>). The command walks the whole keyspace in one
+	 * go, blocking the server meanwhile, and all the keys are held in memory; prefer {@link #scan(Object, int)}
+	 * on large databases.
+	 * 
+	 * @param pattern glob-style pattern
+	 * @return matching keys
+	 */
 	Set<K> keys(K pattern);
 
+	/**
+	 * Iterates over the keys matching the given pattern incrementally (through <tt>SCAN</tt>). The keys are
+	 * retrieved in small steps as the returned iterator is consumed, each through a dedicated command, so neither
+	 * the server nor the client is blocked or has to hold all the keys at once.
+	 * <p/>
+	 * Keys present during the whole iteration are returned at least once (possibly more); keys added or removed
+	 * in the meantime may or may not be returned. Removing a key through the iterator deletes it.
+	 * 
+	 * @param pattern glob-style pattern (can be null for all keys)
+	 * @param count hint for the number of keys examined by each step
+	 * @return iterator over the matching keys
+	 */
+	Iterator<K> scan(K pattern, int count);
+
 	K randomKey();
 
 	void rename(K oldKey, K newKey);
@@ -93,14 +170,42 @@ public interface RedisOperations<K, V> {
 
 	Boolean expire(K key, long timeout, TimeUnit unit);
 
+	/**
+	 * Sets the given key to expire at the given date, truncated to whole seconds (<tt>EXPIREAT</tt>).
+	 * 
+	 * @param key key
+	 * @param date expiration date
+	 * @return true if the expiration was set, false if the key does not exist
+	 */
 	Boolean expireAt(K key, Date date);
 
+	/**
+	 * Sets the given key to expire at the given Unix time, expressed in the given unit. Timestamps that are not whole
+	 * seconds are sent through <tt>PEXPIREAT</tt> (Redis 2.6 or higher).
+	 * 
+	 * @param key key
+	 * @param timestamp Unix time at which the key expires
+	 * @param unit unit of the timestamp
+	 * @return true if the expiration was set, false if the key does not exist
+	 */
+	Boolean expireAt(K key, long timestamp, TimeUnit unit);
+
 	Boolean persist(K key);
 
 	Boolean move(K key, int dbIndex);
 
 	Long getExpire(K key);
 
+	/**
+	 * Returns the remaining time to live of the given key, converted to the given unit. Units finer than seconds
+	 * are served through <tt>PTTL</tt> (Redis 2.6 or higher).
+	 * 
+	 * @param key key
+	 * @param timeUnit unit of the returned value
+	 * @return time to live, negative if the key does not exist or has no expiration
+	 */
+	Long getExpire(K key, TimeUnit timeUnit);
+
 	void watch(K keys);
 
 	void watch(Collection<K> keys);
@@ -213,6 +318,35 @@ public interface RedisOperations<K, V> {
 
 	Long sort(SortQuery<K> query, K storeKey);
 
+	/**
+	 * Sorts the elements of the given query, retrieving the results in pages of <tt>pageSize</tt> elements
+	 * (through <tt>LIMIT</tt>) and mapping them through the given {@link BulkMapper} as the returned iterator
+	 * is consumed. Only one page is held in memory at a time.
+	 * <p/>
+	 * Note that each page is retrieved through a dedicated <tt>SORT</tt> command so modifications to the sorted
+	 * data in between pages are reflected by the results. 
+	 * 
+	 * @param query sort query
+	 * @param bulkMapper mapper for the sorted elements
+	 * @param pageSize number of sorted elements retrieved at once
+	 * @return iterator over the mapped results
+	 */
+	<T> Iterator<T> sortIterator(SortQuery<K> query, BulkMapper<T, V> bulkMapper, int pageSize);
+
+	/**
+	 * Sorts the elements of the given query, retrieving the results in pages of <tt>pageSize</tt> elements
+	 * and mapping them through the given {@link BulkMapper} as the returned iterator is consumed.
+	 * 
+	 * @see #sortIterator(SortQuery, BulkMapper, int)
+	 * @param query sort query
+	 * @param bulkMapper mapper for the sorted elements
+	 * @param resultSerializer serializer for the sort results
+	 * @param pageSize number of sorted elements retrieved at once
+	 * @return iterator over the mapped results
+	 */
+	<T, S> Iterator<T> sortIterator(SortQuery<K> query, BulkMapper<T, S> bulkMapper,
+			RedisSerializer<S> resultSerializer, int pageSize);
+
 	RedisSerializer<?> getValueSerializer();
 
 	RedisSerializer<?> getKeySerializer();
@@ -20,24 +20,31 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ScanResult;
 import org.springframework.data.redis.connection.SortParameters;
+import org.springframework.data.redis.connection.SortParameters.Range;
 import org.springframework.data.redis.core.query.QueryUtils;
 import org.springframework.data.redis.core.query.SortQuery;
+import org.springframework.data.redis.core.script.DefaultScriptExecutor;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.script.ScriptExecutor;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.SerializationUtils;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
-import org.springframework.util.ClassUtils;
 
 /**
  * Helper class that simplifies Redis data access code.
@@ -76,6 +83,7 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 		RedisOperations<K, V> {
 
 	private boolean exposeConnection = false;
+	private boolean enableTransactionSupport = false;
 	private RedisSerializer<?> defaultSerializer = new JdkSerializationRedisSerializer();
 
 	private RedisSerializer keySerializer = null;
@@ -84,11 +92,19 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 	private RedisSerializer hashValueSerializer = null;
 	private RedisSerializer<String> stringSerializer = new StringRedisSerializer();
 
+	private Executor deserializationExecutor;
+	private int parallelDeserializationThreshold = 5000;
+	private int deserializationChunkSize = 1000;
+	private boolean lazyDeserialization = false;
+
+	private ScriptExecutor<K> scriptExecutor;
+
 	// cache singleton objects (where possible)
 	private ValueOperations<K, V> valueOps;
 	private ListOperations<K, V> listOps;
 	private SetOperations<K, V> setOps;
 	private ZSetOperations<K, V> zSetOps;
+	private HashOperations<K, ?, ?> hashOps;
 
 	/**
 	 * Constructs a new <code>RedisTemplate</code> instance.
@@ -124,6 +140,10 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 			Assert.notNull(defaultSerializer,
 					"default serializer null and not all serializers initialized");
 		}
+
+		if (scriptExecutor == null) {
+			scriptExecutor = new DefaultScriptExecutor<K>(this);
+		}
 	}
 
 	public <T> T execute(RedisCallback<T> action) {
@@ -171,7 +191,7 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 		RedisConnectionFactory factory = getConnectionFactory();
 		RedisConnection conn = null;
 		try {
-			conn = RedisConnectionUtils.getConnection(factory);
+			conn = RedisConnectionUtils.getConnection(factory, enableTransactionSupport);
 
 			boolean existingConnection = TransactionSynchronizationManager
 					.hasResource(factory);
@@ -198,17 +218,103 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 		}
 	}
 
+	/**
+	 * Executes the given command against the given raw arguments. Used by the template operations instead of
+	 * {@link #execute(RedisCallback, boolean)} for their most common commands: the command is shared across calls
+	 * and the connection is always exposed, so no callback or connection proxy is created per call.
+	 * 
+	 * @param <T> return type
+	 * @param command command to execute
+	 * @param key raw key
+	 * @param arg raw argument (can be null)
+	 * @param otherArg second raw argument (can be null)
+	 * @return the command result
+	 */
+	<T> T execute(KeyCommand<T> command, byte[] key, byte[] arg, byte[] otherArg) {
+		RedisConnectionFactory factory = getConnectionFactory();
+		RedisConnection conn = null;
+		try {
+			conn = RedisConnectionUtils.getConnection(factory, enableTransactionSupport);
+
+			boolean existingConnection = TransactionSynchronizationManager
+					.hasResource(factory);
+			preProcessConnection(conn, existingConnection);
+
+			T result = command.execute(conn, key, arg, otherArg);
+			return postProcessResult(result, conn, existingConnection);
+		} finally {
+			RedisConnectionUtils.releaseConnection(conn, factory);
+		}
+	}
+
 	public <T> T execute(SessionCallback<T> session) {
 		RedisConnectionFactory factory = getConnectionFactory();
-		// bind connection
-		RedisConnectionUtils.bindConnection(factory);
+		// bind connection (unless an enclosing session, scope or transaction already did)
+		boolean bound = RedisConnectionUtils.bindConnection(factory, enableTransactionSupport);
 		try {
 			return session.execute(this);
 		} finally {
-			RedisConnectionUtils.unbindConnection(factory);
+			if (bound) {
+				RedisConnectionUtils.unbindConnection(factory);
+			}
 		}
 	}
 
+	public long executePipelined(RedisCallback<?> action, PipelineResultHandler handler, int maxCommands) {
+		return executePipelined(action, handler, maxCommands, 0);
+	}
+
+	public long executePipelined(final RedisCallback<?> action, final PipelineResultHandler handler,
+			final int maxCommands, final long maxBytes) {
+		Assert.notNull(action, "Callback object must not be null");
+		Assert.notNull(handler, "Result handler must not be null");
+		Assert.isTrue(maxCommands > 0, "maxCommands needs to be positive");
+
+		return execute(new RedisCallback<Long>() {
+			public Long doInRedis(RedisConnection connection) throws DataAccessException {
+				if (connection.isPipelined()) {
+					throw new InvalidDataAccessApiUsageException("Connection is already pipelined");
+				}
+
+				ChunkingPipelineInvocationHandler chunker = new ChunkingPipelineInvocationHandler(connection, handler,
+						maxCommands, maxBytes);
+				RedisConnection pipelined = (RedisConnection) Proxy.newProxyInstance(
+						RedisConnection.class.getClassLoader(), new Class<?>[] { RedisConnection.class }, chunker);
+
+				connection.openPipeline();
+				boolean done = false;
+				try {
+					Object result = action.doInRedis(pipelined);
+					if (result != null) {
+						throw new InvalidDataAccessApiUsageException(
+								"Callback cannot returned a non-null value as it gets overwritten by the pipeline");
+					}
+					chunker.flush();
+					done = true;
+				} finally {
+					// drain the pending replies so the connection can be reused
+					if (!done && connection.isPipelined()) {
+						try {
+							connection.closePipelineResults();
+						} catch (RuntimeException ex) {
+							// ignore - the original exception is propagated
+						}
+					}
+				}
+				return chunker.getCommandCount();
+			}
+		});
+	}
+
+	public <T> T execute(RedisScript<T> script, List<K> keys, Object... args) {
+		return scriptExecutor.execute(script, keys, args);
+	}
+
+	public <T> T execute(RedisScript<T> script, RedisSerializer<?> argsSerializer,
+			RedisSerializer<?> resultSerializer, List<K> keys, Object... args) {
+		return scriptExecutor.execute(script, argsSerializer, resultSerializer, keys, args);
+	}
+
 	// @SuppressWarnings("unchecked")
 	// public List<V> executePipelined(final RedisCallback<?> action) {
 	// return executePipelined(action, valueSerializer);
@@ -250,12 +356,16 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 	// });
 	// }
 
+	/**
+	 * Creates the connection exposed to callbacks when the native connection is not exposed.
+	 * The default implementation returns a (cheap) delegating wrapper that suppresses close calls.
+	 * 
+	 * @param pm
+	 *            redis connection
+	 * @return the connection handed to the callback
+	 */
 	protected RedisConnection createRedisConnectionProxy(RedisConnection pm) {
-		Class<?>[] ifcs = ClassUtils.getAllInterfacesForClass(pm.getClass(),
-				getClass().getClassLoader());
-		return (RedisConnection) Proxy.newProxyInstance(pm.getClass()
-				.getClassLoader(), ifcs, new CloseSuppressingInvocationHandler(
-				pm));
+		return new CloseSuppressingRedisConnection(pm);
 	}
 
 	/**
@@ -298,6 +408,36 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 		this.exposeConnection = exposeConnection;
 	}
 
+	/**
+	 * Returns whether the template participates in Spring-managed transactions.
+	 * 
+	 * @return whether transaction support is enabled or not
+	 */
+	public boolean isEnableTransactionSupport() {
+		return enableTransactionSupport;
+	}
+
+	/**
+	 * Sets whether the template participates in Spring-managed transactions
+	 * (for example through <tt>@Transactional</tt>). If enabled, the writes
+	 * issued during a transaction are recorded and sent as a single
+	 * <tt>MULTI</tt>/<tt>EXEC</tt> block once the transaction commits, or
+	 * dropped if it rolls back. Since the writes are deferred, their
+	 * replies are not available (<tt>null</tt>) inside the transaction, while
+	 * reads are executed right away on a separate connection (thus not seeing
+	 * the pending writes). The writes are sent after the transaction itself
+	 * committed; failures are propagated to the code committing the
+	 * transaction.
+	 * 
+	 * Default is "false".
+	 * 
+	 * @param enableTransactionSupport
+	 * @see RedisConnectionUtils#getConnection(RedisConnectionFactory, boolean)
+	 */
+	public void setEnableTransactionSupport(boolean enableTransactionSupport) {
+		this.enableTransactionSupport = enableTransactionSupport;
+	}
+
 	/**
 	 * Returns the default serializer used by this template.
 	 * 
@@ -422,6 +562,142 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 		this.stringSerializer = stringSerializer;
 	}
 
+	/**
+	 * Returns the executor used for deserializing large multi-value replies.
+	 * 
+	 * @return the deserialization executor (null if parallel deserialization is disabled)
+	 */
+	public Executor getDeserializationExecutor() {
+		return deserializationExecutor;
+	}
+
+	/**
+	 * Sets the executor used for deserializing large multi-value replies (such as <tt>LRANGE</tt>,
+	 * <tt>SMEMBERS</tt>, <tt>MGET</tt> or <tt>HVALS</tt>) in parallel chunks. Replies larger than
+	 * {@link #setParallelDeserializationThreshold(int)} are split into chunks of
+	 * {@link #setDeserializationChunkSize(int)} elements; the order of the elements is preserved. 
+	 * The calling thread takes part in the deserialization as well.
+	 * 
+	 * Default is null, meaning all replies are deserialized on the calling thread. 
+	 * 
+	 * @param deserializationExecutor executor for deserializing replies in parallel
+	 */
+	public void setDeserializationExecutor(Executor deserializationExecutor) {
+		this.deserializationExecutor = deserializationExecutor;
+	}
+
+	/**
+	 * Returns the minimum number of elements a reply needs to have for it to be deserialized in parallel.
+	 * 
+	 * @return the parallel deserialization threshold
+	 */
+	public int getParallelDeserializationThreshold() {
+		return parallelDeserializationThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of elements a reply needs to have for it to be deserialized in parallel.
+	 * Default is 5000. Considered only if a {@link #setDeserializationExecutor(Executor) deserialization executor}
+	 * is set.
+	 * 
+	 * @param parallelDeserializationThreshold parallel deserialization threshold
+	 */
+	public void setParallelDeserializationThreshold(int parallelDeserializationThreshold) {
+		this.parallelDeserializationThreshold = parallelDeserializationThreshold;
+	}
+
+	/**
+	 * Returns the number of elements deserialized at once by a parallel task.
+	 * 
+	 * @return the deserialization chunk size
+	 */
+	public int getDeserializationChunkSize() {
+		return deserializationChunkSize;
+	}
+
+	/**
+	 * Sets the number of elements deserialized at once by a parallel task. Default is 1000.
+	 * 
+	 * @param deserializationChunkSize deserialization chunk size
+	 */
+	public void setDeserializationChunkSize(int deserializationChunkSize) {
+		this.deserializationChunkSize = deserializationChunkSize;
+	}
+
+	/**
+	 * Returns whether multi-value replies are deserialized lazily.
+	 * 
+	 * @return whether the replies are deserialized lazily or not
+	 */
+	public boolean isLazyDeserialization() {
+		return lazyDeserialization;
+	}
+
+	/**
+	 * Sets whether multi-value replies (such as <tt>LRANGE</tt>, <tt>SMEMBERS</tt>, <tt>ZRANGE</tt>,
+	 * <tt>MGET</tt>, <tt>HVALS</tt> or <tt>SORT</tt>) are deserialized lazily. If true, the returned
+	 * collections are read-only views holding the raw reply and deserializing each element on first access
+	 * (by index or through iteration), caching the result. Useful for large replies that are mostly filtered
+	 * or paged by the caller. Takes precedence over the parallel deserialization.
+	 * <p/>
+	 * Note that set views keep the reply order but have no hash index: <tt>contains</tt> is a linear scan
+	 * (deserializing elements up to the match) so sets that are queried repeatedly are best copied first.
+	 * 
+	 * Default is "false": the replies are deserialized before being returned.
+	 * 
+	 * @param lazyDeserialization whether to deserialize the replies lazily or not
+	 */
+	public void setLazyDeserialization(boolean lazyDeserialization) {
+		this.lazyDeserialization = lazyDeserialization;
+	}
+
+	/**
+	 * Sets the executor used for running Lua scripts. Default is a {@link DefaultScriptExecutor}.
+	 * 
+	 * @param scriptExecutor script executor
+	 */
+	public void setScriptExecutor(ScriptExecutor<K> scriptExecutor) {
+		this.scriptExecutor = scriptExecutor;
+	}
+
+	/**
+	 * Deserializes a multi-value list reply according to the template deserialization settings.
+	 */
+	<T> List<T> deserializeValues(List<byte[]> rawValues, RedisSerializer<T> serializer) {
+		if (rawValues == null) {
+			return null;
+		}
+		if (lazyDeserialization) {
+			return SerializationUtils.deserializeLazily(rawValues, serializer);
+		}
+		if (isParallel(rawValues)) {
+			return SerializationUtils.deserialize(rawValues, serializer, deserializationExecutor,
+					deserializationChunkSize);
+		}
+		return SerializationUtils.deserialize(rawValues, serializer);
+	}
+
+	/**
+	 * Deserializes a multi-value set reply according to the template deserialization settings.
+	 */
+	<T> Set<T> deserializeValues(Set<byte[]> rawValues, RedisSerializer<T> serializer) {
+		if (rawValues == null) {
+			return null;
+		}
+		if (lazyDeserialization) {
+			return SerializationUtils.deserializeLazily(rawValues, serializer);
+		}
+		if (isParallel(rawValues)) {
+			return SerializationUtils.deserialize(rawValues, serializer, deserializationExecutor,
+					deserializationChunkSize);
+		}
+		return SerializationUtils.deserialize(rawValues, serializer);
+	}
+
+	private boolean isParallel(Collection<byte[]> rawValues) {
+		return (deserializationExecutor != null && rawValues.size() >= parallelDeserializationThreshold);
+	}
+
 	@SuppressWarnings("unchecked")
 	private byte[] rawKey(Object key) {
 		Assert.notNull(key, "non null key required");
@@ -504,12 +780,16 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 
 	public Boolean expire(K key, long timeout, TimeUnit unit) {
 		final byte[] rawKey = rawKey(key);
-		final long rawTimeout = unit.toSeconds(timeout);
+		final long rawTimeout = unit.toMillis(timeout);
 
 		return execute(new RedisCallback<Boolean>() {
 
 			public Boolean doInRedis(RedisConnection connection) {
-				return connection.expire(rawKey, rawTimeout);
+				// whole seconds go through EXPIRE, supported by pre-2.6 servers as well
+				if (rawTimeout % 1000 == 0) {
+					return connection.expire(rawKey, rawTimeout / 1000);
+				}
+				return connection.pExpire(rawKey, rawTimeout);
 			}
 		}, true);
 	}
@@ -526,6 +806,22 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 		}, true);
 	}
 
+	public Boolean expireAt(K key, long timestamp, TimeUnit unit) {
+		final byte[] rawKey = rawKey(key);
+		final long rawTimeout = unit.toMillis(timestamp);
+
+		return execute(new RedisCallback<Boolean>() {
+
+			public Boolean doInRedis(RedisConnection connection) {
+				// whole seconds go through EXPIREAT, supported by pre-2.6 servers as well
+				if (rawTimeout % 1000 == 0) {
+					return connection.expireAt(rawKey, rawTimeout / 1000);
+				}
+				return connection.pExpireAt(rawKey, rawTimeout);
+			}
+		}, true);
+	}
+
 	public void convertAndSend(String channel, Object message) {
 		Assert.hasText(channel, "a non-empty channel is required");
 
@@ -556,6 +852,23 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 		}, true);
 	}
 
+	public Long getExpire(K key, final TimeUnit timeUnit) {
+		final byte[] rawKey = rawKey(key);
+
+		return execute(new RedisCallback<Long>() {
+
+			public Long doInRedis(RedisConnection connection) {
+				boolean millis = (timeUnit.toMillis(1) < 1000);
+				Long ttl = (millis ? connection.pTtl(rawKey) : connection.ttl(rawKey));
+				// negative values (no key or no expiration) are returned as is
+				if (ttl == null || ttl.longValue() < 0) {
+					return ttl;
+				}
+				return timeUnit.convert(ttl.longValue(), (millis ? TimeUnit.MILLISECONDS : TimeUnit.SECONDS));
+			}
+		}, true);
+	}
+
 	@SuppressWarnings("unchecked")
 	public Set<K> keys(K pattern) {
 		final byte[] rawKey = rawKey(pattern);
@@ -567,7 +880,31 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 			}
 		}, true);
 
-		return SerializationUtils.deserialize(rawKeys, keySerializer);
+		return deserializeValues(rawKeys, (RedisSerializer<K>) keySerializer);
+	}
+
+	public Iterator<K> scan(K pattern, int count) {
+		Assert.isTrue(count > 0, "count needs to be positive");
+		return new ScanIterator<K>(this, (pattern != null ? rawKey(pattern) : null), count);
+	}
+
+	/**
+	 * Executes one step of a key iteration. Used by {@link ScanIterator}.
+	 */
+	@SuppressWarnings("unchecked")
+	ScanResult<K> scanPage(final long cursorId, final byte[] rawPattern, final long count) {
+		ScanResult<byte[]> result = execute(new RedisCallback<ScanResult<byte[]>>() {
+
+			public ScanResult<byte[]> doInRedis(RedisConnection connection) {
+				return connection.scan(cursorId, rawPattern, count);
+			}
+		}, true);
+
+		if (result == null) {
+			throw new InvalidDataAccessApiUsageException("Keys cannot be scanned while pipelining or queueing");
+		}
+		return new ScanResult<K>(result.getCursorId(), deserializeValues(result.getItems(),
+				(RedisSerializer<K>) keySerializer));
 	}
 
 	public Boolean persist(K key) {
@@ -717,7 +1054,7 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 			}
 		}, true);
 
-		return SerializationUtils.deserialize(vals, resultSerializer);
+		return deserializeValues(vals, resultSerializer);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -733,25 +1070,57 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 			return Collections.emptyList();
 		}
 
-		int bulkSize = query.getGetPattern().size();
+		List<String> gets = query.getGetPattern();
+		// without any GET, the sorted elements themselves are returned
+		int bulkSize = (gets == null || gets.isEmpty() ? 1 : gets.size());
 		List<T> result = new ArrayList<T>(values.size() / bulkSize + 1);
 
-		List<S> bulk = new ArrayList<S>(bulkSize);
-		for (S s : values) {
-
-			bulk.add(s);
-			if (bulk.size() == bulkSize) {
-				result.add(bulkMapper.mapBulk(Collections
-						.unmodifiableList(bulk)));
-				// create a new list (we could reuse the old one but the client
-				// might hang on to it for some reason)
-				bulk = new ArrayList<S>(bulkSize);
-			}
+		// the values are not reused so each bulk can be a view over them
+		for (int start = 0; start < values.size(); start += bulkSize) {
+			int end = Math.min(start + bulkSize, values.size());
+			result.add(bulkMapper.mapBulk(Collections.unmodifiableList(values
+					.subList(start, end))));
 		}
 
 		return result;
 	}
 
+	@SuppressWarnings("unchecked")
+	public <T> Iterator<T> sortIterator(SortQuery<K> query,
+			BulkMapper<T, V> bulkMapper, int pageSize) {
+		return sortIterator(query, bulkMapper, valueSerializer, pageSize);
+	}
+
+	public <T, S> Iterator<T> sortIterator(SortQuery<K> query,
+			BulkMapper<T, S> bulkMapper, RedisSerializer<S> resultSerializer,
+			int pageSize) {
+		Assert.notNull(bulkMapper, "non null bulk mapper required");
+		Assert.isTrue(pageSize > 0, "page size needs to be positive");
+		return new SortIterator<K, T, S>(this, query, bulkMapper,
+				resultSerializer, pageSize);
+	}
+
+	/**
+	 * Executes the given sort query using the given limit (instead of the query
+	 * one). Used for retrieving the sort results page by page.
+	 */
+	<S> List<S> sortPage(SortQuery<K> query, Range limit,
+			RedisSerializer<S> resultSerializer) {
+		final byte[] rawKey = rawKey(query.getKey());
+		final SortParameters params = QueryUtils.convertQuery(query,
+				stringSerializer, limit);
+
+		List<byte[]> vals = execute(new RedisCallback<List<byte[]>>() {
+
+			public List<byte[]> doInRedis(RedisConnection connection)
+					throws DataAccessException {
+				return connection.sort(rawKey, params);
+			}
+		}, true);
+
+		return deserializeValues(vals, resultSerializer);
+	}
+
 	public Long sort(SortQuery<K> query, K storeKey) {
 		final byte[] rawStoreKey = rawKey(storeKey);
 		final byte[] rawKey = rawKey(query.getKey());
@@ -815,7 +1184,11 @@ public class RedisTemplate<K, V> extends RedisAccessor implements
 		return new DefaultBoundHashOperations<K, HK, HV>(key, this);
 	}
 
+	@SuppressWarnings("unchecked")
 	public <HK, HV> HashOperations<K, HK, HV> opsForHash() {
-		return new DefaultHashOperations<K, HK, HV>(this);
+		if (hashOps == null) {
+			hashOps = new DefaultHashOperations<K, Object, Object>(this);
+		}
+		return (HashOperations<K, HK, HV>) hashOps;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.data.redis.connection.ScanResult;
+
+/**
+ * Iterator over the keys of a database, retrieved step by step through <tt>SCAN</tt>. Only the keys of one step
+ * are held in memory at a time and no connection is held in between steps. {@link #remove()} deletes the last
+ * returned key.
+ *
+ * @author agent
+ */
+class ScanIterator<K> implements Iterator<K> {
+
+	private final RedisTemplate<K, ?> template;
+	private final byte[] pattern;
+	private final long count;
+
+	private long cursorId = 0;
+	private boolean finished = false;
+
+	private List<K> page;
+	private int position;
+	private K last;
+
+	ScanIterator(RedisTemplate<K, ?> template, byte[] pattern, long count) {
+		this.template = template;
+		this.pattern = pattern;
+		this.count = count;
+	}
+
+	public boolean hasNext() {
+		// a step can return no keys without the iteration being finished
+		while (page == null || position >= page.size()) {
+			if (finished) {
+				page = null;
+				return false;
+			}
+			fetchPage();
+		}
+		return true;
+	}
+
+	public K next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		last = page.get(position++);
+		return last;
+	}
+
+	public void remove() {
+		if (last == null) {
+			throw new IllegalStateException();
+		}
+		template.delete(last);
+		last = null;
+	}
+
+	private void fetchPage() {
+		ScanResult<K> result = template.scanPage(cursorId, pattern, count);
+		page = result.getItems();
+		position = 0;
+		cursorId = result.getCursorId();
+		finished = result.isFinished();
+	}
+}
@@ -62,6 +62,13 @@ public interface SetOperations<K, V> {
 
 	Boolean remove(K key, Object o);
 
+	/**
+	 * Removes the given values from the set, through a single command.
+	 * 
+	 * @return number of values actually removed
+	 */
+	Long removeAll(K key, Collection<?> values);
+
 	V pop(K key);
 
 	Long size(K key);
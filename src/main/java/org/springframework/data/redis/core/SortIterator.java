@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.data.redis.connection.SortParameters.Range;
+import org.springframework.data.redis.core.query.SortQuery;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Iterator over the results of a sort query, retrieved page by page (through <tt>LIMIT offset count</tt>).
+ * Each page is split into bulks (one per sorted element) which are handed to the {@link BulkMapper} as they are
+ * consumed. Only one page is held in memory at a time.
+ *
+ * @author agent
+ */
+class SortIterator<K, T, S> implements Iterator<T> {
+
+	private final RedisTemplate<K, ?> template;
+	private final SortQuery<K> query;
+	private final BulkMapper<T, S> bulkMapper;
+	private final RedisSerializer<S> resultSerializer;
+	private final int pageSize;
+	private final int bulkSize;
+
+	private long offset;
+	private long remaining;
+	private boolean exhausted = false;
+
+	private List<S> page;
+	private int position;
+
+	SortIterator(RedisTemplate<K, ?> template, SortQuery<K> query, BulkMapper<T, S> bulkMapper,
+			RedisSerializer<S> resultSerializer, int pageSize) {
+		this.template = template;
+		this.query = query;
+		this.bulkMapper = bulkMapper;
+		this.resultSerializer = resultSerializer;
+		this.pageSize = pageSize;
+
+		List<String> gets = query.getGetPattern();
+		// without any GET, the sorted elements themselves are returned
+		this.bulkSize = (gets == null || gets.isEmpty() ? 1 : gets.size());
+
+		Range limit = query.getLimit();
+		this.offset = (limit != null ? limit.getStart() : 0);
+		this.remaining = (limit != null ? limit.getCount() : Long.MAX_VALUE);
+	}
+
+	public boolean hasNext() {
+		while (page == null || position >= page.size()) {
+			if (exhausted) {
+				page = null;
+				return false;
+			}
+			fetchPage();
+		}
+		return true;
+	}
+
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		int end = Math.min(position + bulkSize, page.size());
+		// the page is not reused so the bulk can be a view over it
+		List<S> bulk = Collections.unmodifiableList(page.subList(position, end));
+		position = end;
+		return bulkMapper.mapBulk(bulk);
+	}
+
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	private void fetchPage() {
+		long count = Math.min(pageSize, remaining);
+		if (count <= 0) {
+			exhausted = true;
+			page = null;
+			return;
+		}
+
+		page = template.sortPage(query, new Range(offset, count), resultSerializer);
+		position = 0;
+
+		long elements = (page == null ? 0 : (page.size() + bulkSize - 1) / bulkSize);
+		if (elements < count) {
+			exhausted = true;
+		}
+		offset += count;
+		remaining -= count;
+	}
+}
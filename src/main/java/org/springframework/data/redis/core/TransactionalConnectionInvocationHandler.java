@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisTxCommands;
+
+/**
+ * Invocation handler for {@link RedisConnection}s bound to a Spring-managed transaction. The writes are recorded
+ * (nothing is sent to Redis) and replayed as a single <tt>MULTI</tt>/<tt>EXEC</tt> block through {@link #commit()}
+ * once the transaction commits, or dropped through {@link #discard()} if it rolls back. The read-only commands
+ * (whose replies would otherwise only be available after the transaction completes) are executed right away on a
+ * separate connection. As a consequence, reads do not see the writes of the ongoing transaction.
+ * The connection is managed by the transaction; close calls are suppressed as are the pipeline and the
+ * <tt>MULTI</tt>/<tt>EXEC</tt> calls of the callers.
+ * 
+ * @author agent
+ */
+class TransactionalConnectionInvocationHandler implements InvocationHandler {
+
+	private static final String CLOSE = "close";
+	private static final String IS_QUEUEING = "isQueueing";
+	private static final String IS_PIPELINED = "isPipelined";
+	private static final String OPEN_PIPELINE = "openPipeline";
+	private static final String SORT = "sort";
+	private static final String HASH_CODE = "hashCode";
+	private static final String EQUALS = "equals";
+
+	private static final Set<String> READ_ONLY_COMMANDS = new HashSet<String>(Arrays.asList(
+			// keys
+			"exists", "keys", "scan", "randomKey", "ttl", "pTtl", "type", "dump",
+			// strings
+			"get", "mGet", "getRange", "strLen", "getBit", "bitCount", "bitPos",
+			// lists
+			"lIndex", "lLen", "lRange",
+			// sets
+			"sCard", "sDiff", "sInter", "sIsMember", "sMembers", "sRandMember", "sUnion",
+			// sorted sets
+			"zCard", "zCount", "zRange", "zRangeByScore", "zRangeByScoreWithScores", "zRangeWithScores", "zRank",
+			"zRevRange", "zRevRangeByScore", "zRevRangeByScoreWithScores", "zRevRangeWithScores", "zRevRank", "zScore",
+			// hashes
+			"hExists", "hGet", "hGetAll", "hKeys", "hLen", "hMGet", "hVals",
+			// pub/sub
+			"isSubscribed", "getSubscription",
+			// server
+			"dbSize", "info", "ping", "echo", "lastSave"));
+
+	private final RedisConnection target;
+	private final RedisConnectionFactory factory;
+	private final List<Invocation> writes = new ArrayList<Invocation>();
+	private RedisConnection readConnection;
+
+	TransactionalConnectionInvocationHandler(RedisConnection target, RedisConnectionFactory factory) {
+		this.target = target;
+		this.factory = factory;
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		Class<?> declaringClass = method.getDeclaringClass();
+		String name = method.getName();
+
+		if (declaringClass == Object.class) {
+			if (name.equals(EQUALS)) {
+				// Only consider equal when proxies are identical.
+				return (proxy == args[0]);
+			}
+			else if (name.equals(HASH_CODE)) {
+				return System.identityHashCode(proxy);
+			}
+			return invokeTarget(target, method, args);
+		}
+
+		if (declaringClass == RedisConnection.class) {
+			if (name.equals(CLOSE) || name.equals(OPEN_PIPELINE)) {
+				// suppressed - the connection is released once the transaction completes
+				return null;
+			}
+			if (name.equals(IS_QUEUEING)) {
+				return Boolean.TRUE;
+			}
+			if (name.equals(IS_PIPELINED)) {
+				return Boolean.FALSE;
+			}
+			if (name.startsWith("closePipeline")) {
+				// the writes are queued until the transaction completes - nothing to sync
+				return Collections.emptyList();
+			}
+			return invokeTarget(target, method, args);
+		}
+
+		if (declaringClass == RedisTxCommands.class) {
+			throw new InvalidDataAccessApiUsageException("Cannot call " + name
+					+ " on a connection bound to a Spring-managed transaction");
+		}
+
+		// SORT is read-only unless it stores its result
+		if (READ_ONLY_COMMANDS.contains(name) || (name.equals(SORT) && args.length == 2)) {
+			if (readConnection == null) {
+				readConnection = factory.getConnection();
+			}
+			return invokeTarget(readConnection, method, args);
+		}
+
+		writes.add(new Invocation(method, args));
+		return null;
+	}
+
+	/**
+	 * Sends the recorded writes (if any) as a single <tt>MULTI</tt>/<tt>EXEC</tt> block.
+	 * 
+	 * @throws DataAccessException if the block or any of its commands failed
+	 */
+	void commit() {
+		if (writes.isEmpty()) {
+			return;
+		}
+		List<Invocation> invocations = new ArrayList<Invocation>(writes);
+		writes.clear();
+
+		target.multi();
+		for (Invocation invocation : invocations) {
+			try {
+				invokeTarget(target, invocation.method, invocation.args);
+			} catch (RuntimeException ex) {
+				throw ex;
+			} catch (Throwable th) {
+				throw new RedisSystemException("Cannot queue " + invocation.method.getName(), th);
+			}
+		}
+
+		List<Object> results = target.exec();
+		if (results == null) {
+			return;
+		}
+		for (Object result : results) {
+			if (result instanceof DataAccessException) {
+				throw (DataAccessException) result;
+			}
+			if (result instanceof Throwable) {
+				throw new RedisSystemException("Transaction command failed", (Throwable) result);
+			}
+		}
+	}
+
+	/**
+	 * Drops the recorded writes and discards the <tt>MULTI</tt> block left open by a failed {@link #commit()} (if
+	 * any).
+	 */
+	void discard() {
+		writes.clear();
+		if (target.isQueueing()) {
+			target.discard();
+		}
+	}
+
+	/**
+	 * Closes the connection used for the read-only commands (if any).
+	 */
+	void closeReadConnection() {
+		if (readConnection != null) {
+			RedisConnection conn = readConnection;
+			readConnection = null;
+			conn.close();
+		}
+	}
+
+	private static Object invokeTarget(RedisConnection target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	/**
+	 * Recorded write, replayed on commit.
+	 */
+	private static class Invocation {
+		final Method method;
+		final Object[] args;
+
+		Invocation(Method method, Object[] args) {
+			this.method = method;
+			this.args = args;
+		}
+	}
+}
@@ -33,6 +33,17 @@ public interface ValueOperations<K, V> {
 
 	Boolean setIfAbsent(K key, V value);
 
+	/**
+	 * Sets the value and the expiration of the given key only if the key does not exist, in one atomic command.
+	 * 
+	 * @param key key
+	 * @param value value
+	 * @param timeout expiration timeout
+	 * @param unit timeout unit (precision up to milliseconds)
+	 * @return true if the key was set, false if it already existed
+	 */
+	Boolean setIfAbsent(K key, V value, long timeout, TimeUnit unit);
+
 	void multiSet(Map<? extends K, ? extends V> m);
 
 	void multiSetIfAbsent(Map<? extends K, ? extends V> m);
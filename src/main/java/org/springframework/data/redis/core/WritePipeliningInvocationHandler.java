@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+
+/**
+ * Invocation handler that pipelines the fire-and-forget writes (the data commands without a reply, such as
+ * <tt>SET</tt> or <tt>LTRIM</tt>) issued on a {@link RedisConnection}. Pending writes are sent before any other
+ * command, so the ordering is preserved and reads see the previous writes, or once the given number of writes is
+ * reached. Connection state queries (such as {@link RedisConnection#isPipelined()}, which the template checks on
+ * each call) do not send the pending writes and report the state without the pipeline used for them. Failed writes are reported when the pipeline is synced, through a
+ * {@link org.springframework.data.redis.connection.RedisPipelineException}.
+ * Closing the connection syncs the pending writes.
+ * 
+ * @see RedisConnectionScope
+ * @author agent
+ */
+class WritePipeliningInvocationHandler implements InvocationHandler {
+
+	private static final String CLOSE = "close";
+	private static final String HASH_CODE = "hashCode";
+	private static final String EQUALS = "equals";
+	private static final String IS_PIPELINED = "isPipelined";
+	private static final String IS_QUEUEING = "isQueueing";
+
+	// connection state queries, answered without sending the pending writes
+	private static final Set<String> STATE_QUERIES = new HashSet<String>();
+
+	private static final Set<Class<?>> DATA_COMMANDS = new HashSet<Class<?>>();
+
+	static {
+		DATA_COMMANDS.add(RedisKeyCommands.class);
+		DATA_COMMANDS.add(RedisStringCommands.class);
+		DATA_COMMANDS.add(RedisListCommands.class);
+		DATA_COMMANDS.add(RedisSetCommands.class);
+		DATA_COMMANDS.add(RedisZSetCommands.class);
+		DATA_COMMANDS.add(RedisHashCommands.class);
+
+		STATE_QUERIES.add(IS_PIPELINED);
+		STATE_QUERIES.add(IS_QUEUEING);
+		STATE_QUERIES.add("isClosed");
+		STATE_QUERIES.add("isSubscribed");
+		STATE_QUERIES.add("getSubscription");
+		STATE_QUERIES.add("getNativeConnection");
+	}
+
+	private final RedisConnection target;
+	private final int maxWrites;
+
+	private int writes = 0;
+
+	WritePipeliningInvocationHandler(RedisConnection target, int maxWrites) {
+		this.target = target;
+		this.maxWrites = maxWrites;
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		Class<?> declaringClass = method.getDeclaringClass();
+		String name = method.getName();
+
+		if (declaringClass == Object.class) {
+			if (name.equals(EQUALS)) {
+				// Only consider equal when proxies are identical.
+				return (proxy == args[0]);
+			}
+			else if (name.equals(HASH_CODE)) {
+				return System.identityHashCode(proxy);
+			}
+			return invokeTarget(method, args);
+		}
+
+		if (declaringClass == RedisConnection.class && name.equals(CLOSE)) {
+			try {
+				flush();
+			} finally {
+				target.close();
+			}
+			return null;
+		}
+
+		if (method.getParameterTypes().length == 0 && STATE_QUERIES.contains(name)) {
+			// the pipeline carrying the pending writes is not visible to the callers
+			if (writes > 0 && (name.equals(IS_PIPELINED) || name.equals(IS_QUEUEING))) {
+				return Boolean.FALSE;
+			}
+			return invokeTarget(method, args);
+		}
+
+		if (method.getReturnType() == void.class && DATA_COMMANDS.contains(declaringClass)
+				&& (writes > 0 || !(target.isPipelined() || target.isQueueing()))) {
+			if (writes == 0) {
+				target.openPipeline();
+			}
+			// counted upfront so the pipeline gets closed even if the command is rejected
+			writes++;
+			invokeTarget(method, args);
+			if (writes >= maxWrites) {
+				flush();
+			}
+			return null;
+		}
+
+		// commands with a reply (as well as openPipeline, multi or select) might depend on the pending writes
+		flush();
+		return invokeTarget(method, args);
+	}
+
+	/**
+	 * Sends the pending writes (if any) and waits for their replies.
+	 */
+	void flush() {
+		if (writes == 0) {
+			return;
+		}
+		writes = 0;
+		target.closePipeline();
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+}
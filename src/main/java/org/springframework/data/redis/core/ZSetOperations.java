@@ -69,6 +69,13 @@ public interface ZSetOperations<K, V> {
 
 	Boolean add(K key, V value, double score);
 
+	/**
+	 * Adds the given values (with their scores) to the sorted set, through a single command.
+	 * 
+	 * @return number of values added (not counting the ones whose score was updated)
+	 */
+	Long add(K key, Set<TypedTuple<V>> tuples);
+
 	Double incrementScore(K key, V value, double delta);
 
 	Long rank(K key, Object o);
@@ -79,6 +86,13 @@ public interface ZSetOperations<K, V> {
 
 	Boolean remove(K key, Object o);
 
+	/**
+	 * Removes the given values from the sorted set, through a single command.
+	 * 
+	 * @return number of values actually removed
+	 */
+	Long removeAll(K key, Collection<?> values);
+
 	Long removeRange(K key, long start, long end);
 
 	Long removeRangeByScore(K key, double min, double max);
@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.springframework.data.redis.connection.DefaultSortParameters;
 import org.springframework.data.redis.connection.SortParameters;
+import org.springframework.data.redis.connection.SortParameters.Range;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
@@ -31,8 +32,22 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 public abstract class QueryUtils {
 
 	public static <K> SortParameters convertQuery(SortQuery<K> query, RedisSerializer<String> stringSerializer) {
+		return convertQuery(query, stringSerializer, query.getLimit());
+	}
+
+	/**
+	 * Converts the given query into {@link SortParameters} using the given limit instead of the query one.
+	 * Used for retrieving the sort results page by page.
+	 * 
+	 * @param query sort query
+	 * @param stringSerializer serializer for the query patterns
+	 * @param limit limit to use
+	 * @return sort parameters
+	 */
+	public static <K> SortParameters convertQuery(SortQuery<K> query, RedisSerializer<String> stringSerializer,
+			Range limit) {
 
-		return new DefaultSortParameters(stringSerializer.serialize(query.getBy()), query.getLimit(), serialize(
+		return new DefaultSortParameters(stringSerializer.serialize(query.getBy()), limit, serialize(
 				query.getGetPattern(), stringSerializer), query.getOrder(), query.isAlphabetic());
 	}
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.scripting.ScriptSource;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.scripting.support.StaticScriptSource;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link RedisScript}. The script body is read from a {@link ScriptSource} (an inline
+ * text or a {@link Resource}) and its SHA1 digest computed once, respectively recomputed only if the source changes.
+ * 
+ * @author agent
+ * @param <T> the script result type
+ */
+public class DefaultRedisScript<T> implements RedisScript<T>, InitializingBean {
+
+	private final Object digestMonitor = new Object();
+
+	private ScriptSource scriptSource;
+	private Class<T> resultType;
+	private String script;
+	private String sha1;
+
+	/**
+	 * Constructs a new <code>DefaultRedisScript</code> instance. The script needs to be set through one of the
+	 * setters.
+	 */
+	public DefaultRedisScript() {
+	}
+
+	/**
+	 * Constructs a new <code>DefaultRedisScript</code> instance.
+	 * 
+	 * @param script script body
+	 * @param resultType script result type (null if the result is to be discarded)
+	 */
+	public DefaultRedisScript(String script, Class<T> resultType) {
+		setScriptText(script);
+		setResultType(resultType);
+	}
+
+	public void afterPropertiesSet() {
+		Assert.notNull(scriptSource, "either the script text, location or source is required");
+	}
+
+	public String getSha1() {
+		synchronized (digestMonitor) {
+			refresh();
+			return sha1;
+		}
+	}
+
+	public Class<T> getResultType() {
+		return resultType;
+	}
+
+	public String getScriptAsString() {
+		synchronized (digestMonitor) {
+			refresh();
+			return script;
+		}
+	}
+
+	// reads the script (and computes its digest) on first access or if the source was modified since
+	private void refresh() {
+		Assert.notNull(scriptSource, "no script specified");
+		if (script == null || scriptSource.isModified()) {
+			try {
+				script = scriptSource.getScriptAsString();
+			} catch (IOException ex) {
+				throw new ScriptingException("Cannot read script from " + scriptSource, ex);
+			}
+			sha1 = ScriptUtils.sha1DigestAsHex(script);
+		}
+	}
+
+	/**
+	 * Sets the script result type.
+	 * 
+	 * @param resultType script result type (null if the result is to be discarded)
+	 */
+	public void setResultType(Class<T> resultType) {
+		this.resultType = resultType;
+	}
+
+	/**
+	 * Sets the script body.
+	 * 
+	 * @param scriptText script body
+	 */
+	public void setScriptText(String scriptText) {
+		Assert.hasText(scriptText, "a non-empty script is required");
+		setScriptSource(new StaticScriptSource(scriptText));
+	}
+
+	/**
+	 * Sets the location of the script body.
+	 * 
+	 * @param location script location
+	 */
+	public void setLocation(Resource location) {
+		setScriptSource(new ResourceScriptSource(location));
+	}
+
+	/**
+	 * Sets the source of the script body.
+	 * 
+	 * @param scriptSource script source
+	 */
+	public void setScriptSource(ScriptSource scriptSource) {
+		synchronized (digestMonitor) {
+			this.scriptSource = scriptSource;
+			this.script = null;
+			this.sha1 = null;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link ScriptExecutor}. Scripts are executed through <tt>EVALSHA</tt>; if the server
+ * does not have the script cached (a <tt>NOSCRIPT</tt> error), the script is sent through <tt>EVAL</tt> which
+ * also caches it for subsequent calls.
+ * <p/>
+ * When the template connection is pipelined or queueing (MULTI), the replies are only available once the
+ * pipeline or transaction is closed so a missing script could not be detected; the script is sent through
+ * <tt>EVAL</tt> instead and its (raw) result returned along with the other ones.
+ * 
+ * @author agent
+ * @param <K> the Redis key type against which the script is executed
+ */
+public class DefaultScriptExecutor<K> implements ScriptExecutor<K> {
+
+	private final RedisTemplate<K, ?> template;
+
+	/**
+	 * Constructs a new <code>DefaultScriptExecutor</code> instance.
+	 * 
+	 * @param template template used for executing the scripts
+	 */
+	public DefaultScriptExecutor(RedisTemplate<K, ?> template) {
+		Assert.notNull(template, "a non-null template is required");
+		this.template = template;
+	}
+
+	public <T> T execute(RedisScript<T> script, List<K> keys, Object... args) {
+		return execute(script, template.getValueSerializer(), template.getValueSerializer(), keys, args);
+	}
+
+	public <T> T execute(final RedisScript<T> script, final RedisSerializer<?> argsSerializer,
+			final RedisSerializer<?> resultSerializer, final List<K> keys, final Object... args) {
+		Assert.notNull(script, "a non-null script is required");
+
+		return template.execute(new RedisCallback<T>() {
+			public T doInRedis(RedisConnection connection) throws DataAccessException {
+				ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+				byte[][] keysAndArgs = keysAndArgs(argsSerializer, keys, args);
+				int numKeys = (keys != null ? keys.size() : 0);
+
+				if (connection.isPipelined() || connection.isQueueing()) {
+					connection.eval(scriptBytes(script), returnType, numKeys, keysAndArgs);
+					return null;
+				}
+				return eval(connection, script, returnType, numKeys, keysAndArgs, resultSerializer);
+			}
+		});
+	}
+
+	/**
+	 * Executes the script through <tt>EVALSHA</tt>, falling back to <tt>EVAL</tt> if the script is not cached.
+	 */
+	protected <T> T eval(RedisConnection connection, RedisScript<T> script, ReturnType returnType, int numKeys,
+			byte[][] keysAndArgs, RedisSerializer<?> resultSerializer) {
+		Object result;
+		try {
+			result = connection.evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+		} catch (RuntimeException ex) {
+			if (!ScriptUtils.exceptionContainsNoScriptError(ex)) {
+				throw ex;
+			}
+			result = connection.eval(scriptBytes(script), returnType, numKeys, keysAndArgs);
+		}
+
+		if (script.getResultType() == null) {
+			return null;
+		}
+		return this.<T> deserializeResult(resultSerializer, result);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected byte[][] keysAndArgs(RedisSerializer argsSerializer, List<K> keys, Object[] args) {
+		RedisSerializer keySerializer = template.getKeySerializer();
+		int numKeys = (keys != null ? keys.size() : 0);
+		int numArgs = (args != null ? args.length : 0);
+
+		byte[][] keysAndArgs = new byte[numKeys + numArgs][];
+		int i = 0;
+		if (keys != null) {
+			for (K key : keys) {
+				keysAndArgs[i++] = keySerializer.serialize(key);
+			}
+		}
+		if (args != null) {
+			for (Object arg : args) {
+				keysAndArgs[i++] = (arg instanceof byte[] ? (byte[]) arg : argsSerializer.serialize(arg));
+			}
+		}
+		return keysAndArgs;
+	}
+
+	/**
+	 * Deserializes the bulk values of the given script result (including the ones nested inside a list).
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected <T> T deserializeResult(RedisSerializer resultSerializer, Object result) {
+		if (result instanceof byte[]) {
+			return (T) (resultSerializer != null ? resultSerializer.deserialize((byte[]) result) : result);
+		}
+		if (result instanceof List) {
+			List<Object> raw = (List<Object>) result;
+			List<Object> converted = new ArrayList<Object>(raw.size());
+			for (Object object : raw) {
+				converted.add(deserializeResult(resultSerializer, object));
+			}
+			return (T) converted;
+		}
+		return (T) result;
+	}
+
+	private static byte[] scriptBytes(RedisScript<?> script) {
+		return script.getScriptAsString().getBytes(ScriptUtils.UTF8);
+	}
+}
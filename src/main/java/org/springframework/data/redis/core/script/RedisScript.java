@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+/**
+ * A Lua script executed by Redis through <tt>EVAL</tt>/<tt>EVALSHA</tt>.
+ * 
+ * @author agent
+ * @param <T> the script result type. Should be one of Long, Boolean, List, or a deserialized value type.
+ *            Can be null if the script returns a throw-away status (i.e "OK").
+ */
+public interface RedisScript<T> {
+
+	/**
+	 * Returns the SHA1 digest of the script, used for executing it through <tt>EVALSHA</tt>.
+	 * 
+	 * @return SHA1 digest of the script (as a lower case hex string)
+	 */
+	String getSha1();
+
+	/**
+	 * Returns the type of the script result.
+	 * 
+	 * @return script result type, null if the script result is to be discarded
+	 */
+	Class<T> getResultType();
+
+	/**
+	 * Returns the script body.
+	 * 
+	 * @return script body
+	 */
+	String getScriptAsString();
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import java.util.List;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Executes {@link RedisScript}s.
+ * 
+ * @author agent
+ * @param <K> the Redis key type against which the script is executed
+ */
+public interface ScriptExecutor<K> {
+
+	/**
+	 * Executes the given script. Arguments and result are converted through the template value serializer.
+	 * 
+	 * @param script script to execute
+	 * @param keys keys passed to the script (<tt>KEYS</tt>)
+	 * @param args arguments passed to the script (<tt>ARGV</tt>)
+	 * @return script result (null when pipelining or queueing)
+	 */
+	<T> T execute(RedisScript<T> script, List<K> keys, Object... args);
+
+	/**
+	 * Executes the given script, using the given serializers for its arguments and result.
+	 * 
+	 * @param script script to execute
+	 * @param argsSerializer serializer for the script arguments
+	 * @param resultSerializer serializer for the script result (applied to each element of a list result)
+	 * @param keys keys passed to the script (<tt>KEYS</tt>)
+	 * @param args arguments passed to the script (<tt>ARGV</tt>)
+	 * @return script result (null when pipelining or queueing)
+	 */
+	<T> T execute(RedisScript<T> script, RedisSerializer<?> argsSerializer, RedisSerializer<?> resultSerializer,
+			List<K> keys, Object... args);
+}
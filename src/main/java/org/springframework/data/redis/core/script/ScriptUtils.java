@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utilities for Lua script handling.
+ * 
+ * @author agent
+ */
+abstract class ScriptUtils {
+
+	static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
+
+	/**
+	 * Returns the SHA1 digest (as a lower case hex string) of the given script body, as computed by Redis.
+	 */
+	static String sha1DigestAsHex(String script) {
+		byte[] digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1").digest(script.getBytes(UTF8));
+		} catch (NoSuchAlgorithmException ex) {
+			throw new ScriptingException("SHA-1 digest not available", ex);
+		}
+		StringBuilder sb = new StringBuilder(digest.length * 2);
+		for (byte b : digest) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Indicates whether the given exception (or one of its causes) is a <tt>NOSCRIPT</tt> error, raised by
+	 * <tt>EVALSHA</tt> when the script is not cached by the server.
+	 */
+	static boolean exceptionContainsNoScriptError(Throwable ex) {
+		Throwable current = ex;
+		while (current != null) {
+			String message = current.getMessage();
+			if (message != null && message.startsWith(NO_SCRIPT_ERROR)) {
+				return true;
+			}
+			current = (current.getCause() != current ? current.getCause() : null);
+		}
+		return false;
+	}
+}
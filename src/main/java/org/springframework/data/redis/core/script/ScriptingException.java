@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import org.springframework.dao.NonTransientDataAccessException;
+
+/**
+ * Exception thrown when a script cannot be read or prepared for execution.
+ * 
+ * @author agent
+ */
+public class ScriptingException extends NonTransientDataAccessException {
+
+	public ScriptingException(String msg) {
+		super(msg);
+	}
+
+	public ScriptingException(String msg, Throwable cause) {
+		super(msg, cause);
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * Lua scripting support: script definitions identified by their SHA1 digest and their execution through
+ * <tt>EVALSHA</tt>, falling back to <tt>EVAL</tt> when the script is not cached by the server.
+ */
+package org.springframework.data.redis.core.script;
+
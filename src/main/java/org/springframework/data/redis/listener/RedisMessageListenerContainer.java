@@ -20,7 +20,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -38,7 +37,7 @@ import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.Subscription;
-import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.connection.util.ByteArrayMap;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.scheduling.SchedulingAwareRunnable;
@@ -98,12 +97,12 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 
 	// lookup maps
-	// to avoid creation of hashes for each message, the maps use raw byte arrays (wrapped to respect the equals/hashcode contract)
+	// to avoid creation of hashes or wrappers for each message, the maps are keyed directly by the raw byte arrays
 
 	// lookup map between patterns and listeners
-	private final Map<ByteArrayWrapper, Collection<MessageListener>> patternMapping = new ConcurrentHashMap<ByteArrayWrapper, Collection<MessageListener>>();
+	private final ByteArrayMap<Collection<MessageListener>> patternMapping = new ByteArrayMap<Collection<MessageListener>>();
 	// lookup map between channels and listeners
-	private final Map<ByteArrayWrapper, Collection<MessageListener>> channelMapping = new ConcurrentHashMap<ByteArrayWrapper, Collection<MessageListener>>();
+	private final ByteArrayMap<Collection<MessageListener>> channelMapping = new ByteArrayMap<Collection<MessageListener>>();
 
 	private final SubscriptionTask subscriptionTask = new SubscriptionTask();
 
@@ -447,16 +446,19 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 		for (Topic topic : topics) {
 
-			ByteArrayWrapper holder = new ByteArrayWrapper(serializer.serialize(topic.getTopic()));
+			byte[] holder = serializer.serialize(topic.getTopic());
 
 			if (topic instanceof ChannelTopic) {
 				Collection<MessageListener> collection = channelMapping.get(holder);
 				if (collection == null) {
 					collection = new CopyOnWriteArraySet<MessageListener>();
-					channelMapping.put(holder, collection);
+					Collection<MessageListener> existing = channelMapping.putIfAbsent(holder, collection);
+					if (existing != null) {
+						collection = existing;
+					}
 				}
 				collection.add(listener);
-				channels.add(holder.getArray());
+				channels.add(holder);
 
 				if (trace)
 					logger.trace("Adding listener '" + listener + "' on channel '" + topic.getTopic() + "'");
@@ -466,10 +468,13 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 				Collection<MessageListener> collection = patternMapping.get(holder);
 				if (collection == null) {
 					collection = new CopyOnWriteArraySet<MessageListener>();
-					patternMapping.put(holder, collection);
+					Collection<MessageListener> existing = patternMapping.putIfAbsent(holder, collection);
+					if (existing != null) {
+						collection = existing;
+					}
 				}
 				collection.add(listener);
-				patterns.add(holder.getArray());
+				patterns.add(holder);
 
 				if (trace)
 					logger.trace("Adding listener '" + listener + "' for pattern '" + topic.getTopic() + "'");
@@ -524,7 +529,7 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 						synchronized (localMonitor) {
 							if (connection != null && connection.isSubscribed()) {
 								done = true;
-								connection.getSubscription().pSubscribe(unwrap(patternMapping.keySet()));
+								connection.getSubscription().pSubscribe(patternMapping.keys());
 							}
 							else {
 								try {
@@ -568,10 +573,10 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 					if (!patternMapping.isEmpty()) {
 						subscriptionExecutor.execute(new PatternSubscriptionTask());
 					}
-					connection.subscribe(new DispatchMessageListener(), unwrap(channelMapping.keySet()));
+					connection.subscribe(new DispatchMessageListener(), channelMapping.keys());
 				}
 				else {
-					connection.pSubscribe(new DispatchMessageListener(), unwrap(patternMapping.keySet()));
+					connection.pSubscribe(new DispatchMessageListener(), patternMapping.keys());
 				}
 
 			} finally {
@@ -597,21 +602,6 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 			}
 		}
 
-		private byte[][] unwrap(Collection<ByteArrayWrapper> holders) {
-			if (CollectionUtils.isEmpty(holders)) {
-				return new byte[0][];
-			}
-
-			byte[][] unwrapped = new byte[holders.size()][];
-
-			int index = 0;
-			for (ByteArrayWrapper arrayHolder : holders) {
-				unwrapped[index++] = arrayHolder.getArray();
-			}
-
-			return unwrapped;
-		}
-
 		void cancel() {
 			if (connection != null) {
 				synchronized (localMonitor) {
@@ -699,12 +689,12 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 			// do channel matching first
 			byte[] channel = message.getChannel();
 
-			Collection<MessageListener> ch = channelMapping.get(new ByteArrayWrapper(channel));
+			Collection<MessageListener> ch = channelMapping.get(channel);
 			Collection<MessageListener> pt = null;
 
 			// followed by pattern matching
 			if (pattern != null && pattern.length > 0) {
-				pt = patternMapping.get(new ByteArrayWrapper(pattern));
+				pt = patternMapping.get(pattern);
 			}
 
 			if (!CollectionUtils.isEmpty(ch)) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+/**
+ * Serializer for {@link Double} values using the ASCII representation understood by Redis
+ * (including <tt>inf</tt>/<tt>-inf</tt> as used for sorted set scores).
+ * Values are written in the same form as {@link Double#toString(double)} (so <tt>3.0</tt> rather than <tt>3</tt>),
+ * keeping the stored format of {@link GenericToStringSerializer}. Integral values (the common case for counters
+ * and scores) are written and read directly as decimal digits; other values fall back to the JDK floating point
+ * conversion.
+ *
+ * <b>Note:</b> Does not handle nulls in any special way delegating everything to the container. Empty values
+ * are deserialized to null, as with {@link GenericToStringSerializer}.
+ *
+ * @see LongRedisSerializer
+ * @author agent
+ */
+public class DoubleRedisSerializer implements RedisSerializer<Double> {
+
+	// Double#toString switches to the computerized scientific notation from 10^7 on
+	private static final long MAX_PLAIN = 10000000L;
+	// max number of digits that are guaranteed to be represented exactly by a double (2^53)
+	private static final int MAX_EXACT_DIGITS = 15;
+
+	private static final byte[] POSITIVE_INFINITY = { 'i', 'n', 'f' };
+	private static final byte[] NEGATIVE_INFINITY = { '-', 'i', 'n', 'f' };
+
+	public Double deserialize(byte[] bytes) {
+		return (bytes == null || bytes.length == 0 ? null : Double.valueOf(parse(bytes)));
+	}
+
+	public byte[] serialize(Double value) {
+		return (value == null ? null : format(value.doubleValue()));
+	}
+
+	static byte[] format(double value) {
+		if (value == Double.POSITIVE_INFINITY) {
+			return POSITIVE_INFINITY.clone();
+		}
+		if (value == Double.NEGATIVE_INFINITY) {
+			return NEGATIVE_INFINITY.clone();
+		}
+
+		long integral = (long) value;
+		// -0.0 is left to the JDK to preserve its sign
+		if (integral == value && integral > -MAX_PLAIN && integral < MAX_PLAIN
+				&& (integral != 0 || Double.doubleToRawLongBits(value) == 0L)) {
+			byte[] digits = LongRedisSerializer.format(integral);
+			byte[] bytes = new byte[digits.length + 2];
+			System.arraycopy(digits, 0, bytes, 0, digits.length);
+			bytes[digits.length] = '.';
+			bytes[digits.length + 1] = '0';
+			return bytes;
+		}
+
+		String string = Double.toString(value);
+		byte[] bytes = new byte[string.length()];
+		// the output is always plain ASCII
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) string.charAt(i);
+		}
+		return bytes;
+	}
+
+	static double parse(byte[] bytes) {
+		int length = integralLength(bytes);
+		if (length > 0) {
+			long value = LongRedisSerializer.parse(bytes, length);
+			// keep the sign of -0 and -0.0
+			return (value == 0 && bytes[0] == '-' ? -0.0d : value);
+		}
+
+		String string = new String(bytes);
+		String lower = string.toLowerCase();
+		if ("inf".equals(lower) || "+inf".equals(lower)) {
+			return Double.POSITIVE_INFINITY;
+		}
+		if ("-inf".equals(lower)) {
+			return Double.NEGATIVE_INFINITY;
+		}
+
+		try {
+			return Double.parseDouble(string);
+		} catch (NumberFormatException ex) {
+			throw new SerializationException("Cannot deserialize '" + string + "' as double", ex);
+		}
+	}
+
+	/**
+	 * Returns the length of the integral digits if the given bytes hold an integral value (optionally followed by
+	 * <tt>.0</tt>) that can be parsed exactly, -1 otherwise.
+	 */
+	private static int integralLength(byte[] bytes) {
+		int length = bytes.length;
+		if (length > 2 && bytes[length - 2] == '.' && bytes[length - 1] == '0') {
+			length -= 2;
+		}
+		if (length == 0) {
+			return -1;
+		}
+		int i = (bytes[0] == '-' || bytes[0] == '+' ? 1 : 0);
+		if (i == length || length - i > MAX_EXACT_DIGITS) {
+			return -1;
+		}
+		for (; i < length; i++) {
+			if (bytes[i] < '0' || bytes[i] > '9') {
+				return -1;
+			}
+		}
+		return length;
+	}
+}
@@ -35,6 +35,12 @@ import org.springframework.util.Assert;
  * as a Spring bean.
  * 
  * <b>Note:</b> Does not handle nulls in any special way delegating everything to the container.
+ * 
+ * <b>Note:</b> {@link Long}, {@link Integer} and {@link Double} values are handled directly (without any
+ * intermediate String) by {@link LongRedisSerializer}, {@link IntegerRedisSerializer} and
+ * {@link DoubleRedisSerializer}, as long as the charset is ASCII compatible and no custom conversion
+ * service or type converter has been set. The stored format is the same; values the fast path cannot parse
+ * (such as hex or padded numbers) are handed to the conversion service as before.
  *
  * @author Costin Leau
  */
@@ -43,6 +49,7 @@ public class GenericToStringSerializer<T> implements RedisSerializer<T>, BeanFac
 	private final Charset charset;
 	private Converter converter = new Converter(new DefaultConversionService());
 	private Class<T> type;
+	private RedisSerializer<T> numberSerializer;
 
 	public GenericToStringSerializer(Class<T> type) {
 		this(type, Charset.forName("UTF8"));
@@ -52,16 +59,41 @@ public class GenericToStringSerializer<T> implements RedisSerializer<T>, BeanFac
 		Assert.notNull(type);
 		this.type = type;
 		this.charset = charset;
+		this.numberSerializer = numberSerializer(type, charset);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> RedisSerializer<T> numberSerializer(Class<T> type, Charset charset) {
+		if (!isAsciiCompatible(charset)) {
+			return null;
+		}
+		if (Long.class.equals(type)) {
+			return (RedisSerializer<T>) new LongRedisSerializer();
+		}
+		if (Integer.class.equals(type)) {
+			return (RedisSerializer<T>) new IntegerRedisSerializer();
+		}
+		if (Double.class.equals(type)) {
+			return (RedisSerializer<T>) new DoubleRedisSerializer();
+		}
+		return null;
+	}
+
+	private static boolean isAsciiCompatible(Charset charset) {
+		String name = charset.name();
+		return ("UTF-8".equals(name) || "US-ASCII".equals(name) || "ISO-8859-1".equals(name));
 	}
 
 	public void setConversionService(ConversionService conversionService) {
 		Assert.notNull(conversionService, "non null conversion service required");
 		converter = new Converter(conversionService);
+		numberSerializer = null;
 	}
 
 	public void setTypeConverter(TypeConverter typeConverter) {
 		Assert.notNull(typeConverter, "non null type converter required");
 		converter = new Converter(typeConverter);
+		numberSerializer = null;
 	}
 
 	
@@ -70,6 +102,14 @@ public class GenericToStringSerializer<T> implements RedisSerializer<T>, BeanFac
 			return null;
 		}
 
+		if (numberSerializer != null) {
+			try {
+				return numberSerializer.deserialize(bytes);
+			} catch (SerializationException ex) {
+				// not plain decimal - let the converter have a go
+			}
+		}
+
 		String string = new String(bytes, charset);
 		return converter.convert(string, type);
 	}
@@ -79,6 +119,9 @@ public class GenericToStringSerializer<T> implements RedisSerializer<T>, BeanFac
 		if (object == null) {
 			return null;
 		}
+		if (numberSerializer != null) {
+			return numberSerializer.serialize(object);
+		}
 		String string = converter.convert(object, String.class);
 		return string.getBytes(charset);
 	}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+/**
+ * Serializer for {@link Integer} values using the ASCII decimal representation understood by Redis.
+ * The digits are written into and read from the byte array directly, without creating intermediate Strings.
+ *
+ * <b>Note:</b> Does not handle nulls in any special way delegating everything to the container. Empty values
+ * are deserialized to null, as with {@link GenericToStringSerializer}.
+ *
+ * @see LongRedisSerializer
+ * @author agent
+ */
+public class IntegerRedisSerializer implements RedisSerializer<Integer> {
+
+	public Integer deserialize(byte[] bytes) {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		long value = LongRedisSerializer.parse(bytes);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw LongRedisSerializer.invalid(bytes, "int");
+		}
+		return Integer.valueOf((int) value);
+	}
+
+	public byte[] serialize(Integer value) {
+		return (value == null ? null : LongRedisSerializer.format(value.longValue()));
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list holding the raw values returned by Redis and deserializing each element on first access.
+ * Decoded elements are cached so each value is deserialized at most once.
+ * <p/>
+ * Like the collections returned in eager mode, instances are not thread-safe.
+ * 
+ * @author agent
+ */
+class LazyDeserializingList<T> extends AbstractList<T> implements RandomAccess {
+
+	// marker for elements not deserialized yet (null being a valid value)
+	private static final Object PENDING = new Object();
+
+	private final byte[][] raw;
+	private final Object[] values;
+	private final RedisSerializer<T> serializer;
+
+	LazyDeserializingList(byte[][] raw, RedisSerializer<T> serializer) {
+		this.raw = raw;
+		this.serializer = serializer;
+		this.values = new Object[raw.length];
+		Arrays.fill(values, PENDING);
+	}
+
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		Object value = values[index];
+		if (value == PENDING) {
+			value = serializer.deserialize(raw[index]);
+			values[index] = value;
+			// the raw value is not needed anymore
+			raw[index] = null;
+		}
+		return (T) value;
+	}
+
+	public int size() {
+		return raw.length;
+	}
+}
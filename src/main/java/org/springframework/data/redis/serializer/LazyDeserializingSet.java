@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+
+/**
+ * Read-only set holding the raw values returned by Redis and deserializing each element on first access.
+ * The iteration order of the reply is preserved. As the raw values are unique, the deserialized ones are
+ * considered unique as well (no equality checks are performed): a serializer mapping different raw values to
+ * equal objects results in a set reporting (and iterating over) duplicates.
+ * <p/>
+ * There is no hash index: {@link #contains(Object)} (and the bulk operations built on it) scans the elements
+ * in order, deserializing them up to the match, which is O(n) rather than the O(1) of the eager
+ * {@link java.util.LinkedHashSet}. Copy the view into a regular set if it is queried repeatedly.
+ * <p/>
+ * Like the collections returned in eager mode, instances are not thread-safe.
+ * 
+ * @see LazyDeserializingList
+ * @author agent
+ */
+class LazyDeserializingSet<T> extends AbstractSet<T> {
+
+	private final LazyDeserializingList<T> values;
+
+	LazyDeserializingSet(byte[][] raw, RedisSerializer<T> serializer) {
+		this.values = new LazyDeserializingList<T>(raw, serializer);
+	}
+
+	public Iterator<T> iterator() {
+		return values.iterator();
+	}
+
+	public int size() {
+		return values.size();
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+/**
+ * Serializer for {@link Long} values using the ASCII decimal representation understood by Redis (and its
+ * INCR/DECR family of commands). The digits are written into and read from the byte array directly, without
+ * creating intermediate Strings.
+ *
+ * <b>Note:</b> Does not handle nulls in any special way delegating everything to the container. Empty values
+ * are deserialized to null, as with {@link GenericToStringSerializer}.
+ *
+ * @author agent
+ */
+public class LongRedisSerializer implements RedisSerializer<Long> {
+
+	private static final byte[] MIN_VALUE = "-9223372036854775808".getBytes();
+
+	public Long deserialize(byte[] bytes) {
+		return (bytes == null || bytes.length == 0 ? null : Long.valueOf(parse(bytes)));
+	}
+
+	public byte[] serialize(Long value) {
+		return (value == null ? null : format(value.longValue()));
+	}
+
+	/**
+	 * Formats the given value as ASCII decimal digits.
+	 *
+	 * @param value value to format
+	 * @return ASCII representation
+	 */
+	static byte[] format(long value) {
+		if (value == Long.MIN_VALUE) {
+			return MIN_VALUE.clone();
+		}
+
+		boolean negative = (value < 0);
+		long v = (negative ? -value : value);
+
+		int size = (negative ? 2 : 1);
+		for (long p = v / 10; p != 0; p /= 10) {
+			size++;
+		}
+
+		byte[] buf = new byte[size];
+		int pos = size;
+		do {
+			buf[--pos] = (byte) ('0' + (v % 10));
+			v /= 10;
+		} while (v != 0);
+
+		if (negative) {
+			buf[0] = '-';
+		}
+		return buf;
+	}
+
+	/**
+	 * Parses the given ASCII decimal digits (with an optional sign) into a long.
+	 *
+	 * @param bytes ASCII representation
+	 * @return parsed value
+	 * @throws SerializationException if the bytes do not represent a valid long
+	 */
+	static long parse(byte[] bytes) {
+		return parse(bytes, bytes.length);
+	}
+
+	/**
+	 * Parses the first <tt>length</tt> bytes of the given array as ASCII decimal digits (with an optional sign).
+	 *
+	 * @param bytes ASCII representation
+	 * @param length number of bytes to parse
+	 * @return parsed value
+	 * @throws SerializationException if the bytes do not represent a valid long
+	 */
+	static long parse(byte[] bytes, int length) {
+		if (length == 0) {
+			throw invalid(bytes, "long");
+		}
+
+		int i = 0;
+		boolean negative = false;
+		byte first = bytes[0];
+		if (first == '-' || first == '+') {
+			if (length == 1) {
+				throw invalid(bytes, "long");
+			}
+			negative = (first == '-');
+			i++;
+		}
+
+		// accumulate negatively (as Long#parseLong does) to handle Long.MIN_VALUE
+		long limit = (negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+		long multmin = limit / 10;
+		long result = 0;
+
+		for (; i < length; i++) {
+			int digit = bytes[i] - '0';
+			if (digit < 0 || digit > 9 || result < multmin) {
+				throw invalid(bytes, "long");
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw invalid(bytes, "long");
+			}
+			result -= digit;
+		}
+
+		return (negative ? result : -result);
+	}
+
+	static SerializationException invalid(byte[] bytes, String type) {
+		return new SerializationException("Cannot deserialize '" + new String(bytes) + "' as " + type);
+	}
+}
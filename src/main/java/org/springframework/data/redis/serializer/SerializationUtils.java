@@ -16,10 +16,18 @@
 package org.springframework.data.redis.serializer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.util.Assert;
 
 /**
  * Utility class with various serialization-related methods. 
@@ -65,4 +73,144 @@ public abstract class SerializationUtils {
 	public static <T> Collection<T> deserialize(Collection<byte[]> rawValues, RedisSerializer<T> redisSerializer) {
 		return deserializeValues(rawValues, List.class, redisSerializer);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Deserializes the given values in chunks, using the given executor. The calling thread takes part in the
+	 * deserialization as well so the method makes progress even if the executor is saturated (or rejects the tasks).
+	 * The order of the values is preserved.
+	 * 
+	 * @param rawValues values to deserialize
+	 * @param redisSerializer serializer to use
+	 * @param executor executor used for deserializing the chunks
+	 * @param chunkSize number of values deserialized by a task at once
+	 * @return the deserialized values
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> deserialize(List<byte[]> rawValues, RedisSerializer<T> redisSerializer,
+			Executor executor, int chunkSize) {
+		// connection in pipeline/multi mode
+		if (rawValues == null) {
+			return null;
+		}
+		Assert.notNull(executor, "non null executor required");
+		Assert.isTrue(chunkSize > 0, "chunk size needs to be positive");
+
+		byte[][] raw = rawValues.toArray(new byte[rawValues.size()][]);
+		Object[] values = new ParallelDeserializer<T>(raw, redisSerializer, chunkSize).run(executor);
+		return new ArrayList<T>((List) Arrays.asList(values));
+	}
+
+	/**
+	 * Deserializes the given values in chunks, using the given executor. The iteration order is preserved.
+	 * 
+	 * @see #deserialize(List, RedisSerializer, Executor, int)
+	 */
+	public static <T> Set<T> deserialize(Set<byte[]> rawValues, RedisSerializer<T> redisSerializer,
+			Executor executor, int chunkSize) {
+		// connection in pipeline/multi mode
+		if (rawValues == null) {
+			return null;
+		}
+		List<T> values = deserialize(new ArrayList<byte[]>(rawValues), redisSerializer, executor, chunkSize);
+		return new LinkedHashSet<T>(values);
+	}
+
+	/**
+	 * Returns a read-only list view over the given values which deserializes each element on first access
+	 * (and caches the result).
+	 * 
+	 * @param rawValues values to deserialize
+	 * @param redisSerializer serializer to use
+	 * @return lazily deserializing list
+	 */
+	public static <T> List<T> deserializeLazily(List<byte[]> rawValues, RedisSerializer<T> redisSerializer) {
+		// connection in pipeline/multi mode
+		if (rawValues == null) {
+			return null;
+		}
+		return new LazyDeserializingList<T>(rawValues.toArray(new byte[rawValues.size()][]), redisSerializer);
+	}
+
+	/**
+	 * Returns a read-only set view over the given values which deserializes each element on first access
+	 * (and caches the result). The iteration order is preserved.
+	 * 
+	 * @param rawValues values to deserialize
+	 * @param redisSerializer serializer to use
+	 * @return lazily deserializing set
+	 */
+	public static <T> Set<T> deserializeLazily(Set<byte[]> rawValues, RedisSerializer<T> redisSerializer) {
+		// connection in pipeline/multi mode
+		if (rawValues == null) {
+			return null;
+		}
+		return new LazyDeserializingSet<T>(rawValues.toArray(new byte[rawValues.size()][]), redisSerializer);
+	}
+
+	/**
+	 * Chunked deserialization task. Chunks are claimed through a shared counter both by the executor threads
+	 * and the calling one; the latter waits for all the chunks to be completed.
+	 */
+	private static class ParallelDeserializer<T> implements Runnable {
+
+		private final byte[][] raw;
+		private final Object[] values;
+		private final RedisSerializer<T> serializer;
+		private final int chunkSize;
+		private final int chunks;
+		private final AtomicInteger nextChunk = new AtomicInteger();
+		private final CountDownLatch done;
+		private final AtomicReference<RuntimeException> error = new AtomicReference<RuntimeException>();
+
+		ParallelDeserializer(byte[][] raw, RedisSerializer<T> serializer, int chunkSize) {
+			this.raw = raw;
+			this.values = new Object[raw.length];
+			this.serializer = serializer;
+			this.chunkSize = chunkSize;
+			this.chunks = (raw.length + chunkSize - 1) / chunkSize;
+			this.done = new CountDownLatch(chunks);
+		}
+
+		Object[] run(Executor executor) {
+			try {
+				for (int i = 1; i < chunks; i++) {
+					executor.execute(this);
+				}
+			} catch (RejectedExecutionException ex) {
+				// the calling thread picks up the remaining chunks
+			}
+
+			run();
+
+			try {
+				done.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new SerializationException("Interrupted while waiting for values to be deserialized", ex);
+			}
+
+			RuntimeException ex = error.get();
+			if (ex != null) {
+				throw ex;
+			}
+			return values;
+		}
+
+		public void run() {
+			for (int chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+				try {
+					if (error.get() == null) {
+						int end = Math.min(raw.length, (chunk + 1) * chunkSize);
+						for (int i = chunk * chunkSize; i < end; i++) {
+							values[i] = serializer.deserialize(raw[i]);
+						}
+					}
+				} catch (RuntimeException ex) {
+					error.compareAndSet(null, ex);
+				} finally {
+					done.countDown();
+				}
+			}
+		}
+	}
+}
@@ -27,7 +27,7 @@ import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.IntegerRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -68,7 +68,7 @@ public class RedisAtomicInteger extends Number implements Serializable, BoundKey
 	private RedisAtomicInteger(String redisCounter, RedisConnectionFactory factory, Integer initialValue) {
 		RedisTemplate<String, Integer> redisTemplate = new RedisTemplate<String, Integer>();
 		redisTemplate.setKeySerializer(new StringRedisSerializer());
-		redisTemplate.setValueSerializer(new GenericToStringSerializer<Integer>(Integer.class));
+		redisTemplate.setValueSerializer(new IntegerRedisSerializer());
 		redisTemplate.setExposeConnection(true);
 		redisTemplate.setConnectionFactory(factory);
 		redisTemplate.afterPropertiesSet();
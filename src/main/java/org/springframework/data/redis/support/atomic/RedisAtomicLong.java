@@ -27,7 +27,7 @@ import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.LongRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -68,7 +68,7 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 	private RedisAtomicLong(String redisCounter, RedisConnectionFactory factory, Long initialValue) {
 		RedisTemplate<String, Long> redisTemplate = new RedisTemplate<String, Long>();
 		redisTemplate.setKeySerializer(new StringRedisSerializer());
-		redisTemplate.setValueSerializer(new GenericToStringSerializer<Long>(Long.class));
+		redisTemplate.setValueSerializer(new LongRedisSerializer());
 		redisTemplate.setExposeConnection(true);
 		redisTemplate.setConnectionFactory(factory);
 		redisTemplate.afterPropertiesSet();
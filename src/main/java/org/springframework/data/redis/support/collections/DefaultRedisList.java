@@ -115,6 +115,11 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 		return listOps.range(0, -1);
 	}
 
+	@SuppressWarnings("unchecked")
+	private E[] toArray(Collection<? extends E> c) {
+		return (E[]) c.toArray();
+	}
+
 	private void cap() {
 		if (capped) {
 			listOps.trim(0, maxSize - 1);
@@ -174,25 +179,32 @@ public class DefaultRedisList<E> extends AbstractRedisCollection<E> implements R
 	}
 
 	
+	public boolean addAll(Collection<? extends E> c) {
+		if (c.isEmpty()) {
+			return false;
+		}
+		listOps.rightPush(toArray(c));
+		cap();
+		return true;
+	}
+
 	public boolean addAll(int index, Collection<? extends E> c) {
+		if (c.isEmpty()) {
+			return false;
+		}
+
 		// insert collection in reverse
 		if (index == 0) {
-			Collection<? extends E> reverseC = CollectionUtils.reverse(c);
-
-			for (E e : reverseC) {
-				listOps.leftPush(e);
-				cap();
-			}
+			listOps.leftPush(toArray(CollectionUtils.reverse(c)));
+			cap();
 			return true;
 		}
 
 		int size = size();
 
 		if (index == size()) {
-			for (E e : c) {
-				listOps.rightPush(e);
-				cap();
-			}
+			listOps.rightPush(toArray(c));
+			cap();
 			return true;
 		}
 
@@ -174,6 +174,15 @@ public class DefaultRedisSet<E> extends AbstractRedisCollection<E> implements Re
 		return result;
 	}
 
+	public boolean removeAll(Collection<?> c) {
+		if (c.isEmpty()) {
+			return false;
+		}
+		Long result = boundSetOps.removeAll(c);
+		checkResult(result);
+		return result.longValue() > 0;
+	}
+
 
 	public int size() {
 		Long result = boundSetOps.size();
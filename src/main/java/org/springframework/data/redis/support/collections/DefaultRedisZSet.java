@@ -17,11 +17,13 @@ package org.springframework.data.redis.support.collections;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.BoundZSetOperations;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 
@@ -183,6 +185,19 @@ public class DefaultRedisZSet<E> extends AbstractRedisCollection<E> implements R
 		return result;
 	}
 
+	public boolean addAll(Collection<? extends E> c) {
+		if (c.isEmpty()) {
+			return false;
+		}
+		Set<TypedTuple<E>> tuples = new LinkedHashSet<TypedTuple<E>>(c.size());
+		for (E e : c) {
+			tuples.add(new DefaultTypedTuple<E>(e, getDefaultScore()));
+		}
+		Long result = boundZSetOps.add(tuples);
+		checkResult(result);
+		return result.longValue() > 0;
+	}
+
 	
 	public void clear() {
 		boundZSetOps.removeRange(0, -1);
@@ -207,6 +222,15 @@ public class DefaultRedisZSet<E> extends AbstractRedisCollection<E> implements R
 		return result;
 	}
 
+	public boolean removeAll(Collection<?> c) {
+		if (c.isEmpty()) {
+			return false;
+		}
+		Long result = boundZSetOps.removeAll(c);
+		checkResult(result);
+		return result.longValue() > 0;
+	}
+
 	
 	public int size() {
 		Long result = boundZSetOps.size();
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.BitOperation;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Bit set backed by a Redis string (bitmap), the {@link java.util.BitSet} counterpart of the Redis collections.
+ * Each bit is addressed by its (zero-based) offset inside the string; unset or missing bits are clear.
+ * <p/>
+ * The bulk operations send all their commands at once through a pipeline, saving one network round-trip per bit.
+ * Note that the bulk operations are not atomic: concurrent modifications may interleave with the pipelined
+ * commands. Operations involving several bit sets (such as {@link #and(RedisBitSet)}) require all the sets to be
+ * accessed through the same database.
+ *
+ * @see java.util.BitSet
+ * @author agent
+ */
+public class RedisBitSet implements RedisStore {
+
+	private volatile String key;
+	private final RedisOperations<String, ?> operations;
+
+	/**
+	 * Constructs a new <code>RedisBitSet</code> instance.
+	 *
+	 * @param key Redis key of the bit set
+	 * @param operations operations used for accessing the bit set
+	 */
+	public RedisBitSet(String key, RedisOperations<String, ?> operations) {
+		Assert.hasText(key, "a valid key is required");
+		Assert.notNull(operations, "operations are required");
+		this.key = key;
+		this.operations = operations;
+	}
+
+	/**
+	 * Returns the value of the bit at the given index.
+	 *
+	 * @param bitIndex bit index
+	 * @return the value of the bit
+	 */
+	public boolean get(final long bitIndex) {
+		return Boolean.TRUE.equals(operations.execute(new RedisCallback<Boolean>() {
+			public Boolean doInRedis(RedisConnection connection) throws DataAccessException {
+				return connection.getBit(rawKey(), bitIndex);
+			}
+		}));
+	}
+
+	/**
+	 * Returns the values of the bits at the given indexes, retrieved through a single pipeline.
+	 *
+	 * @param bitIndexes bit indexes
+	 * @return the values of the bits, in the order of the given indexes
+	 */
+	public boolean[] get(final long... bitIndexes) {
+		List<Object> results = pipeline(new RedisCallback<Object>() {
+			public Object doInRedis(RedisConnection connection) throws DataAccessException {
+				byte[] rawKey = rawKey();
+				for (long bitIndex : bitIndexes) {
+					connection.getBit(rawKey, bitIndex);
+				}
+				return null;
+			}
+		});
+		boolean[] bits = new boolean[bitIndexes.length];
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] = Boolean.TRUE.equals(results.get(i));
+		}
+		return bits;
+	}
+
+	/**
+	 * Sets the bit at the given index to <tt>true</tt>.
+	 *
+	 * @param bitIndex bit index
+	 */
+	public void set(long bitIndex) {
+		set(bitIndex, true);
+	}
+
+	/**
+	 * Sets the bit at the given index to the given value.
+	 *
+	 * @param bitIndex bit index
+	 * @param value bit value
+	 */
+	public void set(final long bitIndex, final boolean value) {
+		operations.execute(new RedisCallback<Object>() {
+			public Object doInRedis(RedisConnection connection) throws DataAccessException {
+				connection.setBit(rawKey(), bitIndex, value);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Sets the bits at the given indexes to <tt>true</tt>, through a single pipeline.
+	 *
+	 * @param bitIndexes bit indexes
+	 */
+	public void set(long... bitIndexes) {
+		setAll(bitIndexes, true);
+	}
+
+	/**
+	 * Sets the bit at the given index to <tt>false</tt>.
+	 *
+	 * @param bitIndex bit index
+	 */
+	public void clear(long bitIndex) {
+		set(bitIndex, false);
+	}
+
+	/**
+	 * Sets the bits at the given indexes to <tt>false</tt>, through a single pipeline.
+	 *
+	 * @param bitIndexes bit indexes
+	 */
+	public void clear(long... bitIndexes) {
+		setAll(bitIndexes, false);
+	}
+
+	/**
+	 * Clears all the bits of this set, by removing the backing key.
+	 */
+	public void clear() {
+		operations.delete(key);
+	}
+
+	/**
+	 * Returns the number of bits set to <tt>true</tt> (<tt>BITCOUNT</tt>).
+	 *
+	 * @return number of set bits
+	 */
+	public long cardinality() {
+		Long count = operations.execute(new RedisCallback<Long>() {
+			public Long doInRedis(RedisConnection connection) throws DataAccessException {
+				return connection.bitCount(rawKey());
+			}
+		});
+		return (count != null ? count : 0);
+	}
+
+	/**
+	 * Indicates whether this set contains no bits set to <tt>true</tt>.
+	 *
+	 * @return true if no bit is set, false otherwise
+	 */
+	public boolean isEmpty() {
+		return cardinality() == 0;
+	}
+
+	/**
+	 * Returns all the bits of this set, as stored by Redis: bit <tt>n</tt> is the <tt>(n % 8)</tt>-th most
+	 * significant bit of byte <tt>n / 8</tt>. Note that this bit order differs from {@link java.util.BitSet#toByteArray()}.
+	 *
+	 * @return the bits of this set (an empty array if the set has no bits)
+	 */
+	public byte[] toByteArray() {
+		byte[] bytes = operations.execute(new RedisCallback<byte[]>() {
+			public byte[] doInRedis(RedisConnection connection) throws DataAccessException {
+				return connection.get(rawKey());
+			}
+		});
+		return (bytes != null ? bytes : new byte[0]);
+	}
+
+	/**
+	 * Returns the index of the first bit set to <tt>true</tt> that occurs on or after the given index
+	 * (<tt>BITPOS</tt>, Redis 2.8.7 or higher).
+	 *
+	 * @param fromIndex the index to start checking from (inclusive)
+	 * @return the index of the next set bit, or -1 if there is no such bit
+	 */
+	public long nextSetBit(long fromIndex) {
+		Assert.isTrue(fromIndex >= 0, "fromIndex needs to be positive");
+		long fromByte = fromIndex >> 3;
+		long position = firstSetBit(fromByte);
+		// BITPOS works on bytes so the bits preceding the index inside its byte need to be skipped
+		if (position >= 0 && position < fromIndex) {
+			for (long bitIndex = fromIndex; bitIndex < (fromByte + 1) << 3; bitIndex++) {
+				if (get(bitIndex)) {
+					return bitIndex;
+				}
+			}
+			position = firstSetBit(fromByte + 1);
+		}
+		return position;
+	}
+
+	private long firstSetBit(final long fromByte) {
+		Long position = operations.execute(new RedisCallback<Long>() {
+			public Long doInRedis(RedisConnection connection) throws DataAccessException {
+				return connection.bitPos(rawKey(), true, fromByte, -1);
+			}
+		});
+		return (position != null ? position : -1);
+	}
+
+	/**
+	 * Performs a logical <b>AND</b> of this set with the given one (<tt>BITOP</tt>), storing the result in this set.
+	 *
+	 * @param set bit set
+	 */
+	public void and(RedisBitSet set) {
+		bitOp(BitOperation.AND, set);
+	}
+
+	/**
+	 * Performs a logical <b>OR</b> of this set with the given one (<tt>BITOP</tt>), storing the result in this set.
+	 *
+	 * @param set bit set
+	 */
+	public void or(RedisBitSet set) {
+		bitOp(BitOperation.OR, set);
+	}
+
+	/**
+	 * Performs a logical <b>XOR</b> of this set with the given one (<tt>BITOP</tt>), storing the result in this set.
+	 *
+	 * @param set bit set
+	 */
+	public void xor(RedisBitSet set) {
+		bitOp(BitOperation.XOR, set);
+	}
+
+	private void bitOp(final BitOperation op, final RedisBitSet set) {
+		Assert.notNull(set, "a bit set is required");
+		operations.execute(new RedisCallback<Object>() {
+			public Object doInRedis(RedisConnection connection) throws DataAccessException {
+				byte[] rawKey = rawKey();
+				connection.bitOp(op, rawKey, rawKey, rawKey(set.getKey()));
+				return null;
+			}
+		});
+	}
+
+	private void setAll(final long[] bitIndexes, final boolean value) {
+		pipeline(new RedisCallback<Object>() {
+			public Object doInRedis(RedisConnection connection) throws DataAccessException {
+				byte[] rawKey = rawKey();
+				for (long bitIndex : bitIndexes) {
+					connection.setBit(rawKey, bitIndex, value);
+				}
+				return null;
+			}
+		});
+	}
+
+	private List<Object> pipeline(final RedisCallback<?> action) {
+		return operations.execute(new RedisCallback<List<Object>>() {
+			public List<Object> doInRedis(RedisConnection connection) throws DataAccessException {
+				if (connection.isPipelined() || connection.isQueueing()) {
+					throw new InvalidDataAccessApiUsageException(
+							"Bulk bit operations cannot be used on pipelined or queueing connections");
+				}
+				connection.openPipeline();
+				boolean done = false;
+				try {
+					action.doInRedis(connection);
+					List<Object> results = connection.closePipeline();
+					done = true;
+					return results;
+				} finally {
+					// drain the pending replies so the connection can be reused
+					if (!done && connection.isPipelined()) {
+						try {
+							connection.closePipelineResults();
+						} catch (RuntimeException ex) {
+							// ignore - the original exception is propagated
+						}
+					}
+				}
+			}
+		});
+	}
+
+	private byte[] rawKey() {
+		return rawKey(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawKey(String key) {
+		return ((RedisSerializer<String>) operations.getKeySerializer()).serialize(key);
+	}
+
+
+	public RedisOperations<String, ?> getOperations() {
+		return operations;
+	}
+
+
+	public String getKey() {
+		return key;
+	}
+
+
+	public DataType getType() {
+		return DataType.STRING;
+	}
+
+
+	public Boolean expire(long timeout, TimeUnit unit) {
+		return operations.expire(key, timeout, unit);
+	}
+
+
+	public Boolean expireAt(Date date) {
+		return operations.expireAt(key, date);
+	}
+
+
+	public Long getExpire() {
+		return operations.getExpire(key);
+	}
+
+
+	public Boolean persist() {
+		return operations.persist(key);
+	}
+
+
+	public void rename(String newKey) {
+		CollectionUtils.rename(key, newKey, operations);
+		key = newKey;
+	}
+
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (o instanceof RedisBitSet) {
+			return key.equals(((RedisBitSet) o).getKey());
+		}
+		return false;
+	}
+
+	public int hashCode() {
+		return 17 * 31 + key.hashCode();
+	}
+
+	public String toString() {
+		return "RedisBitSet for key:" + key;
+	}
+}
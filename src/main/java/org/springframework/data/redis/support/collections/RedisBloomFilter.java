@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Bloom filter backed by a Redis bitmap: a memory-bounded set membership test that may report false positives
+ * (an element reported as present while it was never added) but never false negatives.
+ * <p/>
+ * The filter is sized out of the expected number of elements and the desired false positive probability;
+ * adding more elements than expected increases the false positive probability. Each element is mapped
+ * (through its serialized form) to several bits, which are set or probed all at once through a pipeline.
+ * Removing elements is not supported.
+ *
+ * @see RedisBitSet
+ * @author agent
+ */
+public class RedisBloomFilter<E> implements RedisStore {
+
+	// Redis strings are limited to 512MB, that is 2^32 bits
+	private static final long MAX_BITS = 1L << 32;
+
+	private final RedisBitSet bits;
+	private final RedisOperations<String, E> operations;
+	private final long bitSize;
+	private final int hashFunctions;
+
+	/**
+	 * Constructs a new <code>RedisBloomFilter</code> instance.
+	 *
+	 * @param key Redis key of the filter
+	 * @param operations operations used for accessing the filter (the elements are converted through its value serializer)
+	 * @param expectedElements expected number of elements
+	 * @param falsePositiveProbability desired false positive probability (between 0 and 1, exclusive)
+	 */
+	public RedisBloomFilter(String key, RedisOperations<String, E> operations, long expectedElements,
+			double falsePositiveProbability) {
+		Assert.isTrue(expectedElements > 0, "the expected number of elements needs to be positive");
+		Assert.isTrue(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+				"the false positive probability needs to be between 0 and 1");
+		this.bits = new RedisBitSet(key, operations);
+		this.operations = operations;
+		this.bitSize = (long) Math.ceil(-expectedElements * Math.log(falsePositiveProbability)
+				/ (Math.log(2) * Math.log(2)));
+		Assert.isTrue(bitSize <= MAX_BITS, "the filter exceeds the maximum size of a Redis string");
+		this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedElements * Math.log(2)));
+	}
+
+	/**
+	 * Adds the given element to the filter.
+	 *
+	 * @param element element to add
+	 */
+	public void add(E element) {
+		bits.set(probes(element));
+	}
+
+	/**
+	 * Adds the given elements to the filter, through a single pipeline.
+	 *
+	 * @param elements elements to add
+	 */
+	public void addAll(Collection<? extends E> elements) {
+		long[] indexes = new long[elements.size() * hashFunctions];
+		int index = 0;
+		for (E element : elements) {
+			long[] probes = probes(element);
+			System.arraycopy(probes, 0, indexes, index, probes.length);
+			index += probes.length;
+		}
+		bits.set(indexes);
+	}
+
+	/**
+	 * Indicates whether the given element might have been added to the filter. A <tt>false</tt> reply is
+	 * definitive while a <tt>true</tt> reply is correct with the configured probability.
+	 *
+	 * @param element element to test
+	 * @return false if the element was definitely not added, true if it probably was
+	 */
+	public boolean mightContain(E element) {
+		for (boolean bit : bits.get(probes(element))) {
+			if (!bit) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes all the elements of the filter.
+	 */
+	public void clear() {
+		bits.clear();
+	}
+
+	/**
+	 * Returns the number of bits used by the filter.
+	 *
+	 * @return size of the filter, in bits
+	 */
+	public long getBitSize() {
+		return bitSize;
+	}
+
+	/**
+	 * Returns the number of bits each element is mapped to.
+	 *
+	 * @return number of hash functions
+	 */
+	public int getHashFunctions() {
+		return hashFunctions;
+	}
+
+	// double hashing (Kirsch-Mitzenmacher) - two hashes simulate any number of independent ones
+	private long[] probes(E element) {
+		long[] hash = MurmurHash3.hash128(rawValue(element));
+		long[] probes = new long[hashFunctions];
+		long combined = hash[0];
+		for (int i = 0; i < hashFunctions; i++) {
+			probes[i] = (combined & Long.MAX_VALUE) % bitSize;
+			combined += hash[1];
+		}
+		return probes;
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawValue(E element) {
+		Assert.notNull(element, "null elements are not supported");
+		return ((RedisSerializer<E>) operations.getValueSerializer()).serialize(element);
+	}
+
+
+	public RedisOperations<String, E> getOperations() {
+		return operations;
+	}
+
+
+	public String getKey() {
+		return bits.getKey();
+	}
+
+
+	public DataType getType() {
+		return DataType.STRING;
+	}
+
+
+	public Boolean expire(long timeout, TimeUnit unit) {
+		return bits.expire(timeout, unit);
+	}
+
+
+	public Boolean expireAt(Date date) {
+		return bits.expireAt(date);
+	}
+
+
+	public Long getExpire() {
+		return bits.getExpire();
+	}
+
+
+	public Boolean persist() {
+		return bits.persist();
+	}
+
+
+	public void rename(String newKey) {
+		bits.rename(newKey);
+	}
+
+	public String toString() {
+		return "RedisBloomFilter for key:" + getKey();
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Distinct-count estimator (HyperLogLog) backed by a Redis bitmap. Counts the unique elements added to it
+ * within a fixed amount of memory and a standard error of <tt>1.04 / sqrt(2^precision)</tt> (about 1.6% with the
+ * default precision), no matter how many elements are added.
+ * <p/>
+ * The registers are computed on the client: each register is stored as a group of bits, one per possible rank,
+ * so that adding an element sets a single bit. As a consequence, additions are atomic and can be pipelined
+ * (see {@link #addAll(Collection)}) while estimators can be merged on the server through <tt>BITOP OR</tt>.
+ * With the default precision, the estimator takes about 27KB.
+ *
+ * @see RedisBitSet
+ * @author agent
+ */
+public class RedisHyperLogLog<E> implements RedisStore {
+
+	public static final int DEFAULT_PRECISION = 12;
+
+	private final RedisBitSet bits;
+	private final RedisOperations<String, E> operations;
+	private final int precision;
+	private final int registers;
+	// number of possible ranks, that is bits per register
+	private final int ranks;
+
+	/**
+	 * Constructs a new <code>RedisHyperLogLog</code> instance, using the default precision.
+	 *
+	 * @param key Redis key of the estimator
+	 * @param operations operations used for accessing the estimator
+	 */
+	public RedisHyperLogLog(String key, RedisOperations<String, E> operations) {
+		this(key, operations, DEFAULT_PRECISION);
+	}
+
+	/**
+	 * Constructs a new <code>RedisHyperLogLog</code> instance.
+	 *
+	 * @param key Redis key of the estimator
+	 * @param operations operations used for accessing the estimator (the elements are converted through its value serializer)
+	 * @param precision number of bits used for indexing the registers (between 4 and 16)
+	 */
+	public RedisHyperLogLog(String key, RedisOperations<String, E> operations, int precision) {
+		Assert.isTrue(precision >= 4 && precision <= 16, "the precision needs to be between 4 and 16");
+		this.bits = new RedisBitSet(key, operations);
+		this.operations = operations;
+		this.precision = precision;
+		this.registers = 1 << precision;
+		this.ranks = 64 - precision + 1;
+	}
+
+	/**
+	 * Adds the given element to the estimator.
+	 *
+	 * @param element element to add
+	 */
+	public void add(E element) {
+		bits.set(offset(element));
+	}
+
+	/**
+	 * Adds the given elements to the estimator, through a single pipeline.
+	 *
+	 * @param elements elements to add
+	 */
+	public void addAll(Collection<? extends E> elements) {
+		long[] offsets = new long[elements.size()];
+		int index = 0;
+		for (E element : elements) {
+			offsets[index++] = offset(element);
+		}
+		bits.set(offsets);
+	}
+
+	/**
+	 * Returns the estimated number of distinct elements added to the estimator.
+	 *
+	 * @return estimated cardinality
+	 */
+	public long size() {
+		byte[] bitmap = bits.toByteArray();
+		double sum = 0;
+		int zeros = 0;
+		for (int register = 0; register < registers; register++) {
+			int rank = rank(bitmap, register);
+			if (rank == 0) {
+				zeros++;
+			}
+			sum += 1.0d / (1L << rank);
+		}
+
+		double estimate = alpha() * registers * registers / sum;
+		// small range correction (linear counting)
+		if (estimate <= 2.5d * registers && zeros > 0) {
+			estimate = registers * Math.log((double) registers / zeros);
+		}
+		return Math.round(estimate);
+	}
+
+	/**
+	 * Merges the given estimator into this one, which afterwards counts the elements added to either of them.
+	 * The estimators need to have the same precision.
+	 *
+	 * @param hyperLogLog estimator to merge
+	 */
+	public void merge(RedisHyperLogLog<?> hyperLogLog) {
+		Assert.notNull(hyperLogLog, "an estimator is required");
+		Assert.isTrue(precision == hyperLogLog.precision, "only estimators with the same precision can be merged");
+		bits.or(hyperLogLog.bits);
+	}
+
+	/**
+	 * Removes all the elements of the estimator.
+	 */
+	public void clear() {
+		bits.clear();
+	}
+
+	/**
+	 * Returns the precision of the estimator.
+	 *
+	 * @return number of bits used for indexing the registers
+	 */
+	public int getPrecision() {
+		return precision;
+	}
+
+	// the highest rank recorded for the given register (0 if none)
+	private int rank(byte[] bitmap, int register) {
+		long base = (long) register * ranks;
+		for (int rank = ranks; rank > 0; rank--) {
+			long offset = base + rank - 1;
+			int index = (int) (offset >> 3);
+			if (index < bitmap.length && (bitmap[index] & (0x80 >> (offset & 7))) != 0) {
+				return rank;
+			}
+		}
+		return 0;
+	}
+
+	private double alpha() {
+		switch (registers) {
+		case 16:
+			return 0.673d;
+		case 32:
+			return 0.697d;
+		case 64:
+			return 0.709d;
+		default:
+			return 0.7213d / (1 + 1.079d / registers);
+		}
+	}
+
+	private long offset(E element) {
+		long hash = MurmurHash3.hash128(rawValue(element))[0];
+		int register = (int) (hash >>> (64 - precision));
+		// position of the leftmost 1 in the remaining bits (guarded so the rank never exceeds the maximum)
+		int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+		return (long) register * ranks + rank - 1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawValue(E element) {
+		Assert.notNull(element, "null elements are not supported");
+		return ((RedisSerializer<E>) operations.getValueSerializer()).serialize(element);
+	}
+
+
+	public RedisOperations<String, E> getOperations() {
+		return operations;
+	}
+
+
+	public String getKey() {
+		return bits.getKey();
+	}
+
+
+	public DataType getType() {
+		return DataType.STRING;
+	}
+
+
+	public Boolean expire(long timeout, TimeUnit unit) {
+		return bits.expire(timeout, unit);
+	}
+
+
+	public Boolean expireAt(Date date) {
+		return bits.expireAt(date);
+	}
+
+
+	public Long getExpire() {
+		return bits.getExpire();
+	}
+
+
+	public Boolean persist() {
+		return bits.persist();
+	}
+
+
+	public void rename(String newKey) {
+		bits.rename(newKey);
+	}
+
+	public String toString() {
+		return "RedisHyperLogLog for key:" + getKey();
+	}
+}
@@ -6,7 +6,11 @@
  * For collections without duplicates the obvious candidate is {@link org.springframework.data.redis.support.collections.RedisSet}. Use 
  * {@link org.springframework.data.redis.support.collections.RedisZSet} if a 
  * certain order is required.</p/>
- * Lastly, for key/value associations {@link org.springframework.data.redis.support.collections.RedisMap} providing a Map-like abstraction on top of a Redis hash.
+ * For key/value associations {@link org.springframework.data.redis.support.collections.RedisMap} provides a Map-like abstraction on top of a Redis hash.<p/>
+ * {@link org.springframework.data.redis.support.collections.RedisBitSet} offers a BitSet-like abstraction on top of a Redis bitmap.<p/>
+ * Lastly, for large data sets where approximate answers suffice, {@link org.springframework.data.redis.support.collections.RedisHyperLogLog}
+ * estimates the number of distinct elements and {@link org.springframework.data.redis.support.collections.RedisBloomFilter} tests
+ * membership, both within a fixed amount of memory.
  */
 package org.springframework.data.redis.support.collections;
 
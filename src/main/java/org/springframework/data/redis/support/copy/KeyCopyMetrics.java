@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.copy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and throughput of a key copy performed by {@link RedisKeyCopier}. Updated while the copy runs, hence
+ * the values may be read (from a different thread) to monitor its progress.
+ *
+ * @author agent
+ */
+public class KeyCopyMetrics {
+
+	private final AtomicLong keys = new AtomicLong();
+	private final AtomicLong copied = new AtomicLong();
+	private final AtomicLong missing = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong bytes = new AtomicLong();
+	private final long start = System.currentTimeMillis();
+	private volatile long end = 0;
+	private volatile RuntimeException lastFailure;
+
+	/**
+	 * Returns the number of keys processed so far (copied, missing or failed).
+	 *
+	 * @return number of processed keys
+	 */
+	public long getKeys() {
+		return keys.get();
+	}
+
+	/**
+	 * Returns the number of keys copied to the target.
+	 *
+	 * @return number of copied keys
+	 */
+	public long getCopied() {
+		return copied.get();
+	}
+
+	/**
+	 * Returns the number of keys that disappeared (expired or deleted) from the source before being copied.
+	 *
+	 * @return number of missing keys
+	 */
+	public long getMissing() {
+		return missing.get();
+	}
+
+	/**
+	 * Returns the number of keys that could not be copied, for example because they already exist on the target.
+	 *
+	 * @return number of failed keys
+	 */
+	public long getFailed() {
+		return failed.get();
+	}
+
+	/**
+	 * Returns the size of the serialized payloads transferred to the target.
+	 *
+	 * @return number of transferred bytes
+	 */
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	/**
+	 * Returns the last error encountered by the copy, if any.
+	 *
+	 * @return last error (null if none)
+	 */
+	public RuntimeException getLastFailure() {
+		return lastFailure;
+	}
+
+	/**
+	 * Returns the duration of the copy (so far, if still running).
+	 *
+	 * @return elapsed time in milliseconds
+	 */
+	public long getElapsedTime() {
+		return (end > 0 ? end : System.currentTimeMillis()) - start;
+	}
+
+	/**
+	 * Returns the average number of keys copied per second.
+	 *
+	 * @return copy throughput, in keys per second
+	 */
+	public double getKeysPerSecond() {
+		return perSecond(getCopied());
+	}
+
+	/**
+	 * Returns the average number of bytes transferred per second.
+	 *
+	 * @return copy throughput, in bytes per second
+	 */
+	public double getBytesPerSecond() {
+		return perSecond(getBytes());
+	}
+
+	private double perSecond(long count) {
+		return count * 1000d / Math.max(1, getElapsedTime());
+	}
+
+	void copied(long payloadSize) {
+		keys.incrementAndGet();
+		copied.incrementAndGet();
+		bytes.addAndGet(payloadSize);
+	}
+
+	void missing() {
+		keys.incrementAndGet();
+		missing.incrementAndGet();
+	}
+
+	void failed(long count, RuntimeException failure) {
+		keys.addAndGet(count);
+		failed.addAndGet(count);
+		lastFailure = failure;
+	}
+
+	void finished() {
+		end = System.currentTimeMillis();
+	}
+
+	public String toString() {
+		return "KeyCopyMetrics[keys=" + getKeys() + ", copied=" + getCopied() + ", missing=" + getMissing() + ", failed="
+				+ getFailed() + ", bytes=" + getBytes() + ", elapsedTime=" + getElapsedTime() + "ms, keysPerSecond="
+				+ Math.round(getKeysPerSecond()) + "]";
+	}
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.copy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.PipelineResult;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ScanResult;
+import org.springframework.util.Assert;
+
+/**
+ * Copies keys between two Redis databases or instances, without any client-side conversion: the values are
+ * transferred in the opaque Redis format, through <tt>DUMP</tt> and <tt>RESTORE</tt> (Redis 2.6 or higher),
+ * so the copy costs the same no matter the type or serialization of the values.
+ * <p/>
+ * The keys are processed in batches, each batch being read from the source and written to the target through
+ * one pipeline per side. The batches are copied in parallel by several workers while the source is scanned
+ * (through <tt>SCAN</tt>), so the keys are streamed rather than collected upfront. The (remaining) time to live
+ * of each key is preserved. As the source is not locked, keys modified during the copy may or may not reflect
+ * the modifications.
+ * <p/>
+ * Both instances need to run compatible Redis versions, as the serialization format may change between versions.
+ *
+ * @see RedisConnection#dump(byte[])
+ * @see RedisConnection#restore(byte[], long, byte[])
+ * @author agent
+ */
+public class RedisKeyCopier implements InitializingBean {
+
+	private static final Log log = LogFactory.getLog(RedisKeyCopier.class);
+
+	public static final String DEFAULT_THREAD_NAME_PREFIX = RedisKeyCopier.class.getSimpleName() + "-";
+
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	public static final int DEFAULT_CONCURRENCY = 4;
+
+	// marks the end of the batches - one per worker
+	private static final List<byte[]> NO_MORE_BATCHES = Collections.emptyList();
+
+	private RedisConnectionFactory sourceConnectionFactory;
+	private RedisConnectionFactory targetConnectionFactory;
+	private Executor taskExecutor;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int concurrency = DEFAULT_CONCURRENCY;
+	private boolean replace = false;
+
+	/**
+	 * Constructs a new <code>RedisKeyCopier</code> instance. The instance needs to be configured and
+	 * {@link #afterPropertiesSet() initialized} before being used.
+	 */
+	public RedisKeyCopier() {
+	}
+
+	/**
+	 * Constructs a new, ready to use <code>RedisKeyCopier</code> instance.
+	 *
+	 * @param sourceConnectionFactory factory of the connections to the source
+	 * @param targetConnectionFactory factory of the connections to the target
+	 */
+	public RedisKeyCopier(RedisConnectionFactory sourceConnectionFactory, RedisConnectionFactory targetConnectionFactory) {
+		this.sourceConnectionFactory = sourceConnectionFactory;
+		this.targetConnectionFactory = targetConnectionFactory;
+		afterPropertiesSet();
+	}
+
+	public void afterPropertiesSet() {
+		Assert.notNull(sourceConnectionFactory, "a source connection factory is required");
+		Assert.notNull(targetConnectionFactory, "a target connection factory is required");
+		if (taskExecutor == null) {
+			taskExecutor = new SimpleAsyncTaskExecutor(DEFAULT_THREAD_NAME_PREFIX);
+		}
+	}
+
+	/**
+	 * Copies the keys of the source matching the given pattern. The source is scanned incrementally, while the
+	 * copy is in progress.
+	 *
+	 * @param pattern glob-style pattern (null for all the keys)
+	 * @return metrics of the copy
+	 */
+	public KeyCopyMetrics copy(byte[] pattern) {
+		Copy copy = new Copy();
+		RedisConnection connection = sourceConnectionFactory.getConnection();
+		try {
+			List<byte[]> batch = new ArrayList<byte[]>(batchSize);
+			ScanResult<byte[]> result = null;
+			do {
+				result = connection.scan((result != null ? result.getCursorId() : 0), pattern, batchSize);
+				for (byte[] key : result.getItems()) {
+					batch.add(key);
+					if (batch.size() == batchSize) {
+						copy.submit(batch);
+						batch = new ArrayList<byte[]>(batchSize);
+					}
+				}
+			} while (!result.isFinished());
+			if (!batch.isEmpty()) {
+				copy.submit(batch);
+			}
+		} finally {
+			connection.close();
+			copy.finish();
+		}
+		return copy.metrics;
+	}
+
+	/**
+	 * Copies the given keys. Keys missing from the source are skipped.
+	 *
+	 * @param keys keys to copy
+	 * @return metrics of the copy
+	 */
+	public KeyCopyMetrics copy(Collection<byte[]> keys) {
+		Assert.notNull(keys, "keys are required");
+		Copy copy = new Copy();
+		try {
+			List<byte[]> batch = new ArrayList<byte[]>(batchSize);
+			for (byte[] key : keys) {
+				batch.add(key);
+				if (batch.size() == batchSize) {
+					copy.submit(batch);
+					batch = new ArrayList<byte[]>(batchSize);
+				}
+			}
+			if (!batch.isEmpty()) {
+				copy.submit(batch);
+			}
+		} finally {
+			copy.finish();
+		}
+		return copy.metrics;
+	}
+
+	/**
+	 * One copy run: the batches are handed by the calling thread to the workers through a bounded queue, so that
+	 * the source is not scanned faster than the keys get copied.
+	 */
+	private class Copy {
+		final KeyCopyMetrics metrics = new KeyCopyMetrics();
+		final BlockingQueue<List<byte[]>> batches = new ArrayBlockingQueue<List<byte[]>>(concurrency * 2);
+		final CountDownLatch workers = new CountDownLatch(concurrency);
+
+		Copy() {
+			for (int i = 0; i < concurrency; i++) {
+				taskExecutor.execute(new Runnable() {
+					public void run() {
+						try {
+							for (List<byte[]> batch = take(); batch != NO_MORE_BATCHES; batch = take()) {
+								copyBatch(batch, metrics);
+							}
+						} finally {
+							workers.countDown();
+						}
+					}
+				});
+			}
+		}
+
+		void submit(List<byte[]> batch) {
+			try {
+				while (!batches.offer(batch, 1, TimeUnit.SECONDS)) {
+					if (workers.getCount() == 0) {
+						throw new IllegalStateException("No worker left for copying the keys");
+					}
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while copying the keys", ex);
+			}
+		}
+
+		void finish() {
+			try {
+				for (int i = 0; i < concurrency; i++) {
+					while (!batches.offer(NO_MORE_BATCHES, 1, TimeUnit.SECONDS)) {
+						if (workers.getCount() == 0) {
+							break;
+						}
+					}
+				}
+				workers.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			} finally {
+				metrics.finished();
+			}
+		}
+
+		private List<byte[]> take() {
+			try {
+				return batches.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return NO_MORE_BATCHES;
+			}
+		}
+	}
+
+	/**
+	 * Copies the given keys: <tt>DUMP</tt> and <tt>PTTL</tt> are pipelined on the source, then <tt>RESTORE</tt>
+	 * (preceded by <tt>DEL</tt> when replacing) on the target.
+	 */
+	private void copyBatch(List<byte[]> keys, KeyCopyMetrics metrics) {
+		try {
+			List<PipelineResult> dumps = read(keys);
+			write(keys, dumps, metrics);
+		} catch (RuntimeException ex) {
+			log.warn("Cannot copy batch of " + keys.size() + " keys", ex);
+			metrics.failed(keys.size(), ex);
+		}
+	}
+
+	private List<PipelineResult> read(List<byte[]> keys) {
+		RedisConnection source = sourceConnectionFactory.getConnection();
+		try {
+			source.openPipeline();
+			for (byte[] key : keys) {
+				source.dump(key);
+				source.pTtl(key);
+			}
+			return source.closePipelineResults();
+		} finally {
+			source.close();
+		}
+	}
+
+	private void write(List<byte[]> keys, List<PipelineResult> dumps, KeyCopyMetrics metrics) {
+		// positions (in the target pipeline) of the RESTORE commands and their payload size, per key
+		int[] restores = new int[keys.size()];
+		long[] sizes = new long[keys.size()];
+		int commands = 0;
+
+		RedisConnection target = targetConnectionFactory.getConnection();
+		try {
+			target.openPipeline();
+			for (int i = 0; i < keys.size(); i++) {
+				restores[i] = -1;
+				PipelineResult dump = dumps.get(2 * i);
+				PipelineResult pTtl = dumps.get(2 * i + 1);
+				if (dump.isFailed() || pTtl.isFailed()) {
+					metrics.failed(1, (dump.isFailed() ? dump.getException() : pTtl.getException()));
+					continue;
+				}
+				byte[] payload = (byte[]) dump.get();
+				Long ttl = (Long) pTtl.get();
+				// the key is gone (or just expired)
+				if (payload == null || (ttl != null && ttl == 0)) {
+					metrics.missing();
+					continue;
+				}
+				if (replace) {
+					target.del(keys.get(i));
+					commands++;
+				}
+				target.restore(keys.get(i), (ttl != null && ttl > 0 ? ttl : 0), payload);
+				restores[i] = commands++;
+				sizes[i] = payload.length;
+			}
+			List<PipelineResult> results = target.closePipelineResults();
+			for (int i = 0; i < keys.size(); i++) {
+				if (restores[i] < 0) {
+					continue;
+				}
+				PipelineResult result = results.get(restores[i]);
+				if (result.isFailed()) {
+					metrics.failed(1, result.getException());
+				}
+				else {
+					metrics.copied(sizes[i]);
+				}
+			}
+		} finally {
+			target.close();
+		}
+	}
+
+	/**
+	 * Sets the factory of the connections to the source instance.
+	 *
+	 * @param sourceConnectionFactory source connection factory
+	 */
+	public void setSourceConnectionFactory(RedisConnectionFactory sourceConnectionFactory) {
+		this.sourceConnectionFactory = sourceConnectionFactory;
+	}
+
+	/**
+	 * Sets the factory of the connections to the target instance. Can be the same as the source one, for copying
+	 * keys between databases of the same instance, as long as the factories point to different databases.
+	 *
+	 * @param targetConnectionFactory target connection factory
+	 */
+	public void setTargetConnectionFactory(RedisConnectionFactory targetConnectionFactory) {
+		this.targetConnectionFactory = targetConnectionFactory;
+	}
+
+	/**
+	 * Sets the executor running the copy workers. Needs to run at least {@link #setConcurrency(int) concurrency}
+	 * tasks in parallel. By default, a new thread is created for each worker.
+	 *
+	 * @param taskExecutor executor of the workers
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Sets the number of keys copied through each pipeline (default is {@value #DEFAULT_BATCH_SIZE}).
+	 *
+	 * @param batchSize number of keys per batch
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "batchSize needs to be positive");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Sets the number of batches copied in parallel (default is {@value #DEFAULT_CONCURRENCY}).
+	 *
+	 * @param concurrency number of workers
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "concurrency needs to be positive");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Indicates whether keys existing on the target are replaced or not (default). Keys that are not replaced
+	 * are reported as {@link KeyCopyMetrics#getFailed() failed}.
+	 *
+	 * @param replace whether to replace the existing keys
+	 */
+	public void setReplace(boolean replace) {
+		this.replace = replace;
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Tooling for copying keys between Redis databases or instances.
+ */
+package org.springframework.data.redis.support.copy;
+
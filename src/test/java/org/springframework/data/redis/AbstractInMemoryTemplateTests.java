@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis;
+
+import org.junit.After;
+import org.junit.Before;
+import org.springframework.data.redis.connection.memory.InMemoryConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Base class for tests running a {@link StringRedisTemplate} against a fresh in-memory store, so that they do not
+ * need a Redis server.
+ * 
+ * @author agent
+ */
+public abstract class AbstractInMemoryTemplateTests {
+
+	protected InMemoryConnectionFactory factory;
+	protected StringRedisTemplate template;
+
+	@Before
+	public void setUp() throws Exception {
+		factory = new InMemoryConnectionFactory();
+		template = new StringRedisTemplate(factory);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		factory.destroy();
+	}
+}
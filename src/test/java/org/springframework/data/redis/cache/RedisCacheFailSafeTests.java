@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.RedisCircuitOpenException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * @author agent
+ */
+public class RedisCacheFailSafeTests {
+
+	private RedisCacheManager cacheManager;
+
+	@Before
+	public void setUp() throws Exception {
+		RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+		when(factory.getConnection()).thenThrow(new RedisCircuitOpenException("open"));
+
+		RedisTemplate<Object, Object> template = new RedisTemplate<Object, Object>();
+		template.setConnectionFactory(factory);
+		template.afterPropertiesSet();
+		cacheManager = new RedisCacheManager(template);
+	}
+
+	@Test(expected = RedisCircuitOpenException.class)
+	public void testFailuresArePropagatedByDefault() throws Exception {
+		cacheManager.getCache("cache").get("key");
+	}
+
+	@Test
+	public void testFailSafeCache() throws Exception {
+		cacheManager.setFailSafe(true);
+		Cache cache = cacheManager.getCache("cache");
+		assertNull(cache.get("key"));
+		cache.put("key", "value");
+	}
+
+	@Test(expected = RedisCircuitOpenException.class)
+	public void testEvictionIsNotSkipped() throws Exception {
+		cacheManager.setFailSafe(true);
+		cacheManager.getCache("cache").evict("key");
+	}
+}
@@ -18,14 +18,20 @@ package org.springframework.data.redis.connection;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
@@ -36,10 +42,16 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.Address;
 import org.springframework.data.redis.ConnectionFactoryTracker;
 import org.springframework.data.redis.Person;
+import org.springframework.data.redis.connection.RedisStringCommands.BitOperation;
+import org.springframework.data.redis.connection.StringRedisConnection.StringTuple;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.DefaultScriptExecutor;
+import org.springframework.data.redis.core.script.ScriptExecutor;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -374,4 +386,227 @@ public abstract class AbstractConnectionIntegrationTests {
 		assertArrayEquals(value1.getBytes(), (byte[]) result.get(2));
 		assertArrayEquals(value2.getBytes(), (byte[]) result.get(3));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testMultiMemberCommands() throws Exception {
+		String set = getClass() + "#multi#set";
+		String zset = getClass() + "#multi#zset";
+		String hash = getClass() + "#multi#hash";
+		connection.del(set, zset, hash);
+
+		connection.sAdd(set.getBytes(), "a".getBytes(), "b".getBytes(), "c".getBytes());
+		assertEquals(Long.valueOf(2), connection.sRem(set, "a", "c", "d"));
+		assertEquals(Long.valueOf(1), connection.sCard(set));
+
+		Set<StringTuple> tuples = new LinkedHashSet<StringTuple>();
+		tuples.add(new DefaultStringTuple("x".getBytes(), "x", 1d));
+		tuples.add(new DefaultStringTuple("y".getBytes(), "y", 1d));
+		tuples.add(new DefaultStringTuple("z".getBytes(), "z", 2d));
+		assertEquals(Long.valueOf(3), connection.zAdd(zset, tuples));
+		assertEquals(Long.valueOf(2), connection.zRem(zset, "x", "z", "w"));
+		assertEquals(Long.valueOf(1), connection.zCard(zset));
+
+		connection.hSet(hash, "f1", "v1");
+		connection.hSet(hash, "f2", "v2");
+		connection.hSet(hash, "f3", "v3");
+		assertEquals(Long.valueOf(2), connection.hDel(hash, "f1", "f2", "f4"));
+		assertEquals(Long.valueOf(1), connection.hLen(hash));
+
+		connection.del(set, zset, hash);
+	}
+
+	@Test
+	public void testMillisecondExpiry() throws Exception {
+		String key = getClass() + "#pexpire";
+		connection.del(key);
+
+		connection.pSetEx(key, 5000, "value");
+		long pTtl = connection.pTtl(key);
+		assertTrue(pTtl > 4000 && pTtl <= 5000);
+
+		connection.set(key, "value");
+		assertTrue(connection.pExpire(key, 2500));
+		pTtl = connection.pTtl(key);
+		assertTrue(pTtl > 1500 && pTtl <= 2500);
+		assertTrue(connection.pExpireAt(key, System.currentTimeMillis() + 10000));
+		assertTrue(connection.pTtl(key) > 9000);
+
+		connection.del(key);
+		assertTrue(connection.pSetNX(key, 5000, "first"));
+		assertFalse(connection.pSetNX(key, 5000, "second"));
+		assertEquals("first", connection.get(key));
+		assertTrue(connection.pTtl(key) > 4000);
+		connection.del(key);
+	}
+
+	@Test
+	public void testBitOperations() throws Exception {
+		String key1 = getClass() + "#bits1";
+		String key2 = getClass() + "#bits2";
+		String dest = getClass() + "#bitsdest";
+		connection.del(key1, key2, dest);
+
+		connection.set(key1, "foobar");
+		connection.set(key2, "abcdef");
+		assertEquals(Long.valueOf(26), connection.bitCount(key1));
+		assertEquals(Long.valueOf(4), connection.bitCount(key1, 0, 0));
+		assertEquals(Long.valueOf(6), connection.bitCount(key1, 1, 1));
+		assertEquals(Long.valueOf(6), connection.bitOp(BitOperation.AND, dest, key1, key2));
+		assertEquals("`bc`ab", connection.get(dest));
+		assertEquals(Long.valueOf(6), connection.bitOp(BitOperation.XOR, dest, key1, key2));
+		assertEquals(Long.valueOf(0), connection.bitCount(getClass() + "#missing"));
+
+		connection.del(key1);
+		connection.setBit(key1, 10, true);
+		assertEquals(Long.valueOf(10), connection.bitPos(key1, true));
+		assertEquals(Long.valueOf(0), connection.bitPos(key1, false));
+		assertEquals(Long.valueOf(10), connection.bitPos(key1, true, 1, 1));
+		assertEquals(Long.valueOf(-1), connection.bitPos(key1, true, 2, -1));
+		assertEquals(Long.valueOf(-1), connection.bitPos(getClass() + "#missing", true));
+		assertEquals(Long.valueOf(2), connection.bitOp(BitOperation.NOT, dest, key1));
+		assertEquals(Long.valueOf(15), connection.bitCount(dest));
+		connection.del(key1, key2, dest);
+	}
+
+	@Test
+	public void testDumpAndRestore() throws Exception {
+		String key = getClass() + "#dump";
+		String copy = getClass() + "#restored";
+		connection.del(key, copy);
+		assertNull(connection.dump(key));
+
+		connection.rPush(key, "one");
+		connection.rPush(key, "two");
+		connection.rPush(key, "three");
+		byte[] payload = connection.dump(key);
+		assertNotNull(payload);
+		connection.restore(copy, 5000, payload);
+		assertEquals(Arrays.asList("one", "two", "three"), connection.lRange(copy, 0, -1));
+		assertTrue(connection.pTtl(copy) > 4000);
+		try {
+			connection.restore(copy, 0, payload);
+			fail("expected the existing key to be preserved");
+		} catch (DataAccessException ex) {
+			// expected
+		}
+
+		connection.del(copy);
+		connection.restore(copy, 0, payload);
+		assertEquals(Long.valueOf(-1), connection.pTtl(copy));
+
+		// TTLs beyond the int range are passed as is
+		connection.del(copy);
+		long ttl = Integer.MAX_VALUE + 10000L;
+		connection.restore(copy, ttl, payload);
+		assertTrue(connection.pTtl(copy) > Integer.MAX_VALUE);
+		connection.del(key, copy);
+	}
+
+	@Test
+	public void testScan() throws Exception {
+		String prefix = getClass() + "#scan:";
+		String other = getClass() + "#scanother";
+		Set<String> expected = new HashSet<String>();
+		for (int i = 0; i < 100; i++) {
+			connection.set(prefix + i, "value");
+			expected.add(prefix + i);
+		}
+		connection.set(other, "value");
+
+		Set<String> scanned = new HashSet<String>();
+		long cursorId = 0;
+		int steps = 0;
+		do {
+			ScanResult<String> result = connection.scan(cursorId, prefix + "*", 10);
+			scanned.addAll(result.getItems());
+			cursorId = result.getCursorId();
+			steps++;
+		} while (cursorId != 0);
+
+		assertEquals(expected, scanned);
+		assertTrue(steps > 1);
+
+		// raw replies carry the cursor and the page
+		int found = 0;
+		String cursor = "0";
+		do {
+			List<?> raw = (List<?>) connection.execute("SCAN", cursor, "MATCH", other, "COUNT", "1000");
+			cursor = new String((byte[]) raw.get(0));
+			found += ((List<?>) raw.get(1)).size();
+		} while (!"0".equals(cursor));
+		assertEquals(1, found);
+
+		expected.add(other);
+		connection.del(expected.toArray(new String[expected.size()]));
+	}
+
+	@Test
+	public void testEval() throws Exception {
+		String key = getClass() + "#eval";
+		connection.del(key);
+		assertEquals(Long.valueOf(3), connection.eval("return 1 + ARGV[1]", ReturnType.INTEGER, 0, "2"));
+		assertEquals(key + ":value",
+				connection.eval("return KEYS[1] .. ':' .. ARGV[1]", ReturnType.VALUE, 1, key, "value"));
+		assertEquals(Arrays.asList(key, "value"),
+				connection.eval("return {KEYS[1], ARGV[1]}", ReturnType.MULTI, 1, key, "value"));
+		assertEquals("OK", connection.eval("return redis.call('set', KEYS[1], ARGV[1])", ReturnType.STATUS, 1, key,
+				"value"));
+		assertEquals("value", connection.get(key));
+		connection.del(key);
+	}
+
+	@Test
+	public void testEvalSha() throws Exception {
+		String key = getClass() + "#evalsha";
+		String sha1 = connection.scriptLoad("return KEYS[1]");
+		assertEquals(key, connection.evalSha(sha1, ReturnType.VALUE, 1, key));
+		assertEquals(key, connection.evalSha(sha1.toUpperCase(), ReturnType.VALUE, 1, key));
+	}
+
+	@Test
+	public void testScriptCache() throws Exception {
+		String sha1 = connection.scriptLoad("return 1");
+		assertEquals("e0e1f9fabfc9d4800c877a703b823ac0578ff8db", sha1);
+		assertEquals(Arrays.asList(true, false), connection.scriptExists(sha1, "ffffffffffffffffffffffffffffffffffffffff"));
+
+		connection.scriptFlush();
+		assertEquals(Arrays.asList(false), connection.scriptExists(sha1));
+		try {
+			connection.evalSha(sha1, ReturnType.INTEGER, 0, new String[0]);
+			fail("expected NOSCRIPT error");
+		} catch (InvalidDataAccessApiUsageException ex) {
+			assertTrue(ex.getMessage().startsWith("NOSCRIPT"));
+		}
+	}
+
+	@Test
+	public void testEvalPipelined() throws Exception {
+		String key = getClass() + "#evalpipelined";
+		connection.openPipeline();
+		connection.eval("return 1 + ARGV[1]", ReturnType.INTEGER, 0, "2");
+		connection.eval("return redis.call('set', KEYS[1], ARGV[1])", ReturnType.STATUS, 1, key, "value");
+		connection.get(key);
+		List<Object> results = connection.closePipeline();
+		assertEquals(3, results.size());
+		assertEquals(Long.valueOf(3), results.get(0));
+		assertEquals("value", stringSerializer.deserialize((byte[]) results.get(2)));
+		connection.del(key);
+	}
+
+	@Test
+	public void testScriptExecutorFallsBackToEval() throws Exception {
+		String key = getClass() + "#script";
+		connection.del(key);
+		connection.scriptFlush();
+		DefaultRedisScript<Long> script = new DefaultRedisScript<Long>("return redis.call('incr', KEYS[1])", Long.class);
+		ScriptExecutor<String> executor = new DefaultScriptExecutor<String>(new StringRedisTemplate(
+				getConnectionFactory()));
+
+		assertEquals(Arrays.asList(false), connection.scriptExists(script.getSha1()));
+		assertEquals(Long.valueOf(1), executor.execute(script, Collections.singletonList(key)));
+		// the EVAL fallback caches the script for the next EVALSHA
+		assertEquals(Arrays.asList(true), connection.scriptExists(script.getSha1()));
+		assertEquals(Long.valueOf(2), executor.execute(script, Collections.singletonList(key)));
+		connection.del(key);
+	}
+}
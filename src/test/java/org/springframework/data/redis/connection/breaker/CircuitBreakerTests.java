@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.breaker;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisCircuitOpenException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.breaker.CircuitBreaker.State;
+
+/**
+ * @author agent
+ */
+public class CircuitBreakerTests {
+
+	private final byte[] key = "key".getBytes();
+
+	private CircuitBreaker breaker;
+	private RedisConnection target;
+	private RedisConnectionFactory factory;
+
+	@Before
+	public void setUp() throws Exception {
+		breaker = new CircuitBreaker();
+		breaker.setMinimumCalls(4);
+		breaker.setOpenDuration(50);
+
+		target = mock(RedisConnection.class);
+		RedisConnectionFactory targetFactory = mock(RedisConnectionFactory.class);
+		when(targetFactory.getConnection()).thenReturn(target);
+		factory = new CircuitBreakingRedisConnectionFactory(targetFactory, breaker);
+	}
+
+	@Test
+	public void testOpensOnFailureRate() throws Exception {
+		breaker.onSuccess(0);
+		breaker.onSuccess(0);
+		breaker.onFailure();
+		assertEquals(State.CLOSED, breaker.getState());
+		breaker.onFailure();
+		assertEquals(State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquire());
+	}
+
+	@Test
+	public void testHalfOpenProbe() throws Exception {
+		openBreaker();
+		Thread.sleep(60);
+
+		assertTrue(breaker.tryAcquire());
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		// only one probe
+		assertFalse(breaker.tryAcquire());
+
+		breaker.onFailure();
+		assertEquals(State.OPEN, breaker.getState());
+
+		Thread.sleep(60);
+		assertTrue(breaker.tryAcquire());
+		breaker.onSuccess(0);
+		assertEquals(State.CLOSED, breaker.getState());
+		assertTrue(breaker.tryAcquire());
+	}
+
+	@Test
+	public void testServerErrorsDoNotCount() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			breaker.onException(new InvalidDataAccessApiUsageException("wrong type"), 0);
+		}
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	public void testSlowCallsCountAsFailures() throws Exception {
+		breaker.setSlowCallThreshold(1);
+		for (int i = 0; i < 4; i++) {
+			breaker.onSuccess(5 * 1000 * 1000);
+		}
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	public void testFactoryFailsFast() throws Exception {
+		when(target.get(key)).thenThrow(new RedisConnectionFailureException("timeout"));
+
+		RedisConnection connection = factory.getConnection();
+		for (int i = 0; i < 4; i++) {
+			try {
+				connection.get(key);
+				fail("expected exception");
+			} catch (RedisConnectionFailureException ex) {
+				assertFalse(ex instanceof RedisCircuitOpenException);
+			}
+		}
+		verify(target, times(4)).get(key);
+
+		// existing connections fail fast
+		try {
+			connection.get(key);
+			fail("expected exception");
+		} catch (RedisCircuitOpenException ex) {
+			// expected
+		}
+		// as do new ones
+		try {
+			factory.getConnection();
+			fail("expected exception");
+		} catch (RedisCircuitOpenException ex) {
+			// expected
+		}
+		verify(target, times(4)).get(key);
+
+		// lifecycle methods are not guarded
+		connection.close();
+		verify(target).close();
+	}
+
+	@Test
+	public void testConnectionLetsOnlyTheProbeThroughWhenHalfOpen() throws Exception {
+		RedisConnection connection = factory.getConnection();
+		openBreaker();
+		Thread.sleep(60);
+
+		// the probe is still out - the other commands are rejected
+		assertTrue(breaker.tryAcquire());
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		try {
+			connection.get(key);
+			fail("expected exception");
+		} catch (RedisCircuitOpenException ex) {
+			// expected
+		}
+		verify(target, never()).get(key);
+
+		// a new connection does not consume the probe
+		breaker.onFailure();
+		Thread.sleep(60);
+		RedisConnection other = factory.getConnection();
+		assertEquals(State.OPEN, breaker.getState());
+		other.get(key);
+		assertEquals(State.CLOSED, breaker.getState());
+		connection.get(key);
+		verify(target, times(2)).get(key);
+	}
+
+	private void openBreaker() {
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure();
+		}
+		assertEquals(State.OPEN, breaker.getState());
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.PipelineResult;
+import org.springframework.data.redis.connection.RedisPipelineException;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * @author agent
+ */
+public class JedisConnectionPipelineTests {
+
+	private Pipeline pipeline;
+	private JedisConnection connection;
+	private final List<Object> replies = new ArrayList<Object>();
+
+	@Before
+	public void setUp() throws Exception {
+		Jedis jedis = mock(Jedis.class);
+		pipeline = mock(Pipeline.class);
+		when(jedis.pipelined()).thenReturn(pipeline);
+		when(pipeline.syncAndReturnAll()).thenReturn(replies);
+
+		replies.add("OK");
+		replies.add(new JedisDataException("ERR wrong kind of value"));
+		replies.add(Long.valueOf(3));
+
+		connection = new JedisConnection(jedis);
+	}
+
+	@Test
+	public void testPipelineResults() throws Exception {
+		connection.openPipeline();
+		List<PipelineResult> results = connection.closePipelineResults();
+		assertFalse(connection.isPipelined());
+
+		assertEquals(3, results.size());
+		assertEquals("OK", results.get(0).get());
+		assertNull(results.get(0).getException());
+		assertEquals(3L, results.get(2).get());
+
+		PipelineResult failed = results.get(1);
+		assertTrue(failed.isFailed());
+		assertEquals(1, failed.getIndex());
+		assertTrue(failed.getException() instanceof InvalidDataAccessApiUsageException);
+		// converted once
+		assertSame(failed.getException(), failed.getException());
+		try {
+			failed.get();
+			fail("expected exception");
+		} catch (InvalidDataAccessApiUsageException ex) {
+			// expected
+		}
+
+		List<PipelineResult> failures = PipelineResult.failures(results);
+		assertEquals(1, failures.size());
+		assertSame(failed, failures.get(0));
+	}
+
+	@Test
+	public void testClosePipelineThrowsOnFailures() throws Exception {
+		connection.openPipeline();
+		try {
+			connection.closePipeline();
+			fail("expected exception");
+		} catch (RedisPipelineException ex) {
+			List<Object> result = ex.getPipelineResult();
+			assertEquals("OK", result.get(0));
+			assertTrue(result.get(1) instanceof InvalidDataAccessApiUsageException);
+			assertSame(ex.getCause(), result.get(1));
+		}
+		assertFalse(connection.isPipelined());
+	}
+
+	@Test
+	public void testNotPipelined() throws Exception {
+		assertTrue(connection.closePipelineResults().isEmpty());
+		assertTrue(connection.closePipeline().isEmpty());
+		verify(pipeline, never()).syncAndReturnAll();
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Tests for the Spring transaction support of the template running on top of {@link JedisConnection}: the writes
+ * of a transaction are sent as a <tt>MULTI</tt>/<tt>EXEC</tt> block once it commits.
+ *
+ * @author agent
+ */
+public class JedisConnectionTransactionSupportTests {
+
+	private Jedis jedis;
+	private Client client;
+	private Pipeline pipeline;
+	private Jedis readJedis;
+
+	private boolean inMulti;
+	private final List<Object> replies = new ArrayList<Object>();
+
+	private StringRedisTemplate template;
+	private TransactionTemplate txTemplate;
+
+	@Before
+	public void setUp() throws Exception {
+		jedis = mock(Jedis.class);
+		client = mock(Client.class);
+		pipeline = mock(Pipeline.class);
+		ReflectionTestUtils.setField(jedis, "client", client);
+		when(jedis.pipelined()).thenReturn(pipeline);
+
+		when(jedis.multi()).thenAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				inMulti = true;
+				return null;
+			}
+		});
+		when(client.isInMulti()).thenAnswer(new Answer<Boolean>() {
+			public Boolean answer(InvocationOnMock invocation) throws Throwable {
+				return inMulti;
+			}
+		});
+		when(client.getObjectMultiBulkReply()).thenAnswer(new Answer<List<Object>>() {
+			public List<Object> answer(InvocationOnMock invocation) throws Throwable {
+				inMulti = false;
+				return replies;
+			}
+		});
+
+		readJedis = mock(Jedis.class);
+		ReflectionTestUtils.setField(readJedis, "client", mock(Client.class));
+		when(readJedis.get("key".getBytes())).thenReturn("before".getBytes());
+
+		JedisConnection connection = new JedisConnection(jedis);
+		JedisConnection readConnection = new JedisConnection(readJedis);
+		RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+		when(factory.getConnection()).thenReturn(connection, readConnection);
+
+		template = new StringRedisTemplate(factory);
+		template.setEnableTransactionSupport(true);
+		txTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+	}
+
+	@Test
+	public void testWritesAreSentAsMultiExecOnCommit() throws Exception {
+		replies.add("OK".getBytes());
+		replies.add(Long.valueOf(1));
+
+		txTemplate.execute(new TransactionCallbackWithoutResult() {
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				template.opsForValue().set("key", "value");
+				template.opsForList().leftPush("list", "a");
+				// reads go to a separate connection, nothing is sent until commit
+				assertEquals("before", template.opsForValue().get("key"));
+				verifyZeroInteractions(client);
+			}
+		});
+
+		InOrder inOrder = inOrder(jedis, client);
+		inOrder.verify(jedis).multi();
+		inOrder.verify(client).set("key".getBytes(), "value".getBytes());
+		inOrder.verify(client).lpush("list".getBytes(), new byte[][] { "a".getBytes() });
+		inOrder.verify(client).exec();
+		verify(client, never()).discard();
+		verifyZeroInteractions(pipeline);
+		verify(jedis).quit();
+		verify(readJedis).quit();
+	}
+
+	@Test
+	public void testCommitFailuresArePropagated() throws Exception {
+		replies.add(new JedisDataException("WRONGTYPE Operation against a key holding the wrong kind of value"));
+
+		try {
+			txTemplate.execute(new TransactionCallbackWithoutResult() {
+				protected void doInTransactionWithoutResult(TransactionStatus status) {
+					template.opsForList().leftPush("key", "a");
+				}
+			});
+			fail("expected exception");
+		} catch (RedisSystemException ex) {
+			assertTrue(ex.getCause() instanceof JedisDataException);
+		}
+		verify(client).exec();
+		verify(jedis).quit();
+	}
+
+	@Test
+	public void testRollbackSendsNothing() throws Exception {
+		txTemplate.execute(new TransactionCallbackWithoutResult() {
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				template.opsForValue().set("key", "value");
+				status.setRollbackOnly();
+			}
+		});
+		verify(jedis, never()).multi();
+		verify(client, never()).set(any(byte[].class), any(byte[].class));
+		verify(client, never()).exec();
+		verify(jedis).quit();
+	}
+
+	/**
+	 * Transaction manager without an actual resource, driving only the transaction synchronizations.
+	 */
+	private static class ResourcelessTransactionManager extends AbstractPlatformTransactionManager {
+
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
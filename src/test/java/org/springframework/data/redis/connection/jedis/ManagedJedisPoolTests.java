@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.JedisPoolConfig;
+
+/**
+ * @author agent
+ */
+public class ManagedJedisPoolTests {
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private ManagedJedisPool pool;
+
+	@Before
+	public void setUp() throws Exception {
+		JedisPoolConfig config = new JedisPoolConfig();
+		config.setMaxActive(4);
+		config.setMaxIdle(4);
+		// no server listening - connections are never created
+		pool = new ManagedJedisPool(config, "localhost", 1, 100, null, 0);
+		pool.setResizeInterval(0);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		pool.destroy();
+	}
+
+	@Test
+	public void testFixedSizeByDefault() throws Exception {
+		pool.recordBorrow(SLOW);
+		assertEquals(4, pool.getMaxActive());
+		assertEquals(1, pool.getBorrowLatency().getCount());
+	}
+
+	@Test
+	public void testAdaptiveGrowthAndShrink() throws Exception {
+		pool.setAdaptive(true);
+		pool.setWaitThreshold(10);
+
+		pool.recordBorrow(SLOW);
+		assertEquals(5, pool.getMaxActive());
+		pool.recordBorrow(SLOW);
+		pool.recordBorrow(SLOW);
+		pool.recordBorrow(SLOW);
+		// capped to twice the configured size
+		assertEquals(8, pool.getMaxActive());
+
+		// idle pool - shrinks back to the configured size
+		for (int i = 0; i < 10; i++) {
+			pool.recordBorrow(0);
+		}
+		assertEquals(4, pool.getMaxActive());
+		assertEquals(14, pool.getBorrowLatency().getCount());
+	}
+
+	@Test
+	public void testResizeInterval() throws Exception {
+		pool.setAdaptive(true);
+		pool.setResizeInterval(TimeUnit.MINUTES.toMillis(1));
+		pool.recordBorrow(SLOW);
+		pool.recordBorrow(SLOW);
+		// only the first resize happens within the interval
+		assertEquals(5, pool.getMaxActive());
+	}
+
+	@Test
+	public void testWarmUpFailureIsNotFatal() throws Exception {
+		assertEquals(0, pool.warmUp(2));
+		assertEquals(0, pool.getNumIdle());
+	}
+}
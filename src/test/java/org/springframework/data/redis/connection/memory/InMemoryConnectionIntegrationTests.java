@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.AbstractConnectionIntegrationTests;
+import org.springframework.data.redis.connection.DefaultSortParameters;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisListCommands.Position;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.connection.RedisZSetCommands.Aggregate;
+
+public class InMemoryConnectionIntegrationTests extends AbstractConnectionIntegrationTests {
+
+	private final InMemoryConnectionFactory factory = new InMemoryConnectionFactory();
+
+	protected RedisConnectionFactory getConnectionFactory() {
+		return factory;
+	}
+
+	@Test
+	public void testExpiry() throws Exception {
+		connection.set("exp", "value");
+		assertEquals(Long.valueOf(-1), connection.ttl("exp"));
+		assertTrue(connection.expire("exp", 100));
+		assertTrue(connection.ttl("exp") > 90);
+		assertTrue(connection.persist("exp"));
+		assertEquals(Long.valueOf(-1), connection.ttl("exp"));
+		assertTrue(connection.expireAt("exp", System.currentTimeMillis() / 1000 - 1));
+		assertFalse(connection.exists("exp"));
+	}
+
+	@Test
+	public void testLists() throws Exception {
+		connection.del("list");
+		connection.rPush("list", "b");
+		connection.lPush("list", "a");
+		connection.rPush("list", "d");
+		assertEquals(Long.valueOf(4), connection.lInsert("list", Position.BEFORE, "d", "c"));
+		assertEquals(Arrays.asList("a", "b", "c", "d"), connection.lRange("list", 0, -1));
+		assertEquals("d", connection.lIndex("list", -1));
+		connection.lTrim("list", 1, 2);
+		assertEquals(Arrays.asList("b", "c"), connection.lRange("list", 0, -1));
+		assertEquals("c", connection.rPopLPush("list", "other"));
+		assertEquals(Arrays.asList("other", "c"), connection.bLPop(1, "none", "other"));
+		assertNull(connection.bRPop(1, "none", "other"));
+	}
+
+	@Test
+	public void testBlockingPopWaitsForPush() throws Exception {
+		Thread pusher = new Thread(new Runnable() {
+			public void run() {
+				RedisConnection other = getConnectionFactory().getConnection();
+				try {
+					Thread.sleep(200);
+					other.rPush("queue".getBytes(), "job".getBytes());
+				} catch (InterruptedException ex) {
+					// ignore
+				} finally {
+					other.close();
+				}
+			}
+		});
+		pusher.start();
+		assertEquals(Arrays.asList("queue", "job"), connection.bLPop(5, "queue"));
+		pusher.join();
+	}
+
+	@Test
+	public void testSortedSets() throws Exception {
+		connection.del("z1", "z2", "z3");
+		connection.zAdd("z1", 1, "a");
+		connection.zAdd("z1", 3, "c");
+		assertTrue(connection.zAdd("z1", 2, "b"));
+		assertFalse(connection.zAdd("z1", 2.5, "b"));
+		assertEquals(Double.valueOf(3.5), connection.zIncrBy("z1", 1, "b"));
+		assertEquals(Arrays.asList("a", "c", "b"), new ArrayList<String>(connection.zRange("z1", 0, -1)));
+		assertEquals(Long.valueOf(0), connection.zRevRank("z1", "b"));
+		assertEquals(Arrays.asList("c", "a"), new ArrayList<String>(connection.zRevRange("z1", 1, 2)));
+		assertEquals(2, connection.zRevRangeByScore("z1".getBytes(), 1, 3).size());
+		assertEquals(Long.valueOf(2), connection.zCount("z1", 1, 3));
+
+		connection.zAdd("z2", 10, "a");
+		assertEquals(Long.valueOf(1), connection.zInterStore("z3", Aggregate.MAX, new int[] { 1, 2 }, "z1", "z2"));
+		assertEquals(Double.valueOf(20), connection.zScore("z3", "a"));
+		assertEquals(Long.valueOf(3), connection.zUnionStore("z3", "z1", "z2"));
+		assertEquals(Long.valueOf(2), connection.zRemRangeByScore("z3", 3, 4));
+	}
+
+	@Test
+	public void testSort() throws Exception {
+		connection.del("sort");
+		connection.rPush("sort", "3");
+		connection.rPush("sort", "1");
+		connection.rPush("sort", "2");
+		connection.set("weight_1", "30");
+		connection.set("weight_2", "20");
+		connection.set("weight_3", "10");
+		assertEquals(Arrays.asList("3", "2", "1"), connection.sort("sort", new DefaultSortParameters(
+				"weight_*".getBytes(), null, new byte[0][], null, null)));
+		assertEquals(Arrays.asList("3", "2"), connection.sort("sort", new DefaultSortParameters(null, null,
+				new byte[0][], null, null).limit(0, 2).desc()));
+	}
+
+	@Test
+	public void testMultiExec() throws Exception {
+		connection.set("tx", "1");
+		connection.multi();
+		assertNull(connection.incr("tx"));
+		assertNull(connection.get("tx"));
+		List<Object> results = connection.exec();
+		assertEquals(2, results.size());
+		assertEquals(Long.valueOf(2), results.get(0));
+	}
+
+	@Test
+	public void testWatchAbortsTransaction() throws Exception {
+		connection.set("watched", "1");
+		connection.watch("watched".getBytes());
+
+		RedisConnection other = getConnectionFactory().getConnection();
+		other.set("watched".getBytes(), "2".getBytes());
+		other.close();
+
+		connection.multi();
+		connection.set("watched", "3");
+		assertNull(connection.exec());
+		assertEquals("2", connection.get("watched"));
+	}
+
+	@Test
+	public void testMultiInsidePipeline() throws Exception {
+		connection.openPipeline();
+		connection.multi();
+		connection.set("ptx", "1");
+		connection.incr("ptx");
+		connection.exec();
+		List<Object> results = connection.closePipeline();
+		assertEquals(4, results.size());
+		assertEquals(Arrays.asList(null, Long.valueOf(2)), results.get(3));
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void testWrongType() throws Exception {
+		connection.set("string", "value");
+		connection.lPush("string", "value");
+	}
+
+	@Test
+	public void testVariadicCommandsRejectEmptyArguments() throws Exception {
+		connection.sAdd("set", "member");
+		connection.zAdd("zset", 1, "member");
+		connection.hSet("hash", "field", "value");
+		try {
+			connection.sRem("set", new String[0]);
+			fail("expected srem to be rejected");
+		} catch (InvalidDataAccessApiUsageException ex) {
+			assertTrue(ex.getMessage().startsWith("ERR wrong number of arguments"));
+		}
+		try {
+			connection.zRem("zset", new String[0]);
+			fail("expected zrem to be rejected");
+		} catch (InvalidDataAccessApiUsageException ex) {
+			assertTrue(ex.getMessage().startsWith("ERR wrong number of arguments"));
+		}
+		try {
+			connection.zAdd("zset".getBytes(), Collections.<Tuple> emptySet());
+			fail("expected zadd to be rejected");
+		} catch (InvalidDataAccessApiUsageException ex) {
+			assertTrue(ex.getMessage().startsWith("ERR wrong number of arguments"));
+		}
+		try {
+			connection.hDel("hash", new String[0]);
+			fail("expected hdel to be rejected");
+		} catch (InvalidDataAccessApiUsageException ex) {
+			assertTrue(ex.getMessage().startsWith("ERR wrong number of arguments"));
+		}
+		assertTrue(connection.sIsMember("set", "member"));
+		assertEquals(Long.valueOf(1), connection.zCard("zset"));
+		assertTrue(connection.hExists("hash", "field"));
+	}
+
+	@Test
+	public void testSelectIsolatesDatabases() throws Exception {
+		connection.set("db", "0");
+		connection.select(1);
+		assertFalse(connection.exists("db"));
+		connection.select(0);
+		assertTrue(connection.move("db".getBytes(), 1));
+		assertFalse(connection.exists("db"));
+	}
+
+	// the in-memory store caches scripts but cannot evaluate Lua
+
+	@Test
+	@Ignore
+	public void testEval() throws Exception {
+	}
+
+	@Test
+	@Ignore
+	public void testEvalSha() throws Exception {
+	}
+
+	@Test
+	@Ignore
+	public void testEvalPipelined() throws Exception {
+	}
+
+	@Test
+	@Ignore
+	public void testScriptExecutorFallsBackToEval() throws Exception {
+	}
+}
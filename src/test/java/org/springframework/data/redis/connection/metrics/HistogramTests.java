@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class HistogramTests {
+
+	@Test
+	public void testEmpty() throws Exception {
+		Histogram histogram = new Histogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getValueAtPercentile(99), 0);
+		assertEquals(0.0, histogram.getMean(), 0);
+	}
+
+	@Test
+	public void testBucketsAreContiguous() throws Exception {
+		int previous = Histogram.index(0);
+		for (long value = 1; value < 100000; value++) {
+			int index = Histogram.index(value);
+			assertTrue(index == previous || index == previous + 1);
+			assertTrue(value <= Histogram.upperBound(index));
+			previous = index;
+		}
+		assertEquals(Long.MAX_VALUE, Histogram.upperBound(Histogram.index(Long.MAX_VALUE)));
+	}
+
+	@Test
+	public void testPercentiles() throws Exception {
+		Histogram histogram = new Histogram();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1000000, histogram.getMax());
+		assertEquals(500500.0, histogram.getMean(), 0.001);
+
+		assertEquals(500000, histogram.getValueAtPercentile(50), 500000 * 0.07);
+		assertEquals(990000, histogram.getValueAtPercentile(99), 990000 * 0.07);
+		assertEquals(1000000, histogram.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testNegativeValuesAreRecordedAsZero() throws Exception {
+		Histogram histogram = new Histogram();
+		histogram.record(-5);
+		assertEquals(1, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(100));
+	}
+}
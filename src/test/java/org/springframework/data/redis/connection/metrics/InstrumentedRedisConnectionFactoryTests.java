@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * @author agent
+ */
+public class InstrumentedRedisConnectionFactoryTests {
+
+	private RedisConnection target;
+	private DefaultCommandMetrics metrics;
+	private RedisConnection connection;
+
+	private final byte[] key = "key".getBytes();
+	private final byte[] value = "value".getBytes();
+
+	@Before
+	public void setUp() throws Exception {
+		target = mock(RedisConnection.class);
+		RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+		when(factory.getConnection()).thenReturn(target);
+
+		metrics = new DefaultCommandMetrics();
+		connection = new InstrumentedRedisConnectionFactory(factory, metrics).getConnection();
+	}
+
+	@Test
+	public void testCommandIsRecorded() throws Exception {
+		when(target.get(key)).thenReturn(value);
+		assertArrayEquals(value, connection.get(key));
+		connection.set(key, value);
+
+		CommandStats get = metrics.getCommandStats("get");
+		assertEquals(1, get.getCount());
+		assertEquals(0, get.getFailures());
+		assertEquals(3, get.getRequestBytes());
+		assertEquals(5, get.getResponseBytes());
+
+		CommandStats set = metrics.getCommandStats("set");
+		assertEquals(1, set.getCount());
+		assertEquals(8, set.getRequestBytes());
+		assertEquals(0, set.getResponseBytes());
+	}
+
+	@Test
+	public void testCollectionReplySize() throws Exception {
+		when(target.lRange(key, 0, -1)).thenReturn(Arrays.asList(value, value, value));
+		connection.lRange(key, 0, -1);
+		assertEquals(15, metrics.getCommandStats("lRange").getResponseBytes());
+	}
+
+	@Test
+	public void testFailureIsRecorded() throws Exception {
+		when(target.incr(key)).thenThrow(new InvalidDataAccessApiUsageException("not a number"));
+		try {
+			connection.incr(key);
+			fail("expected exception");
+		} catch (InvalidDataAccessApiUsageException ex) {
+			// expected
+		}
+		assertEquals(1, metrics.getCommandStats("incr").getCount());
+		assertEquals(1, metrics.getCommandStats("incr").getFailures());
+	}
+
+	@Test
+	public void testPipelineIsRecordedAsBatch() throws Exception {
+		List<Object> replies = new ArrayList<Object>();
+		replies.add(value);
+		replies.add(value);
+		when(target.closePipeline()).thenReturn(replies);
+
+		connection.openPipeline();
+		connection.get(key);
+		connection.get(key);
+		connection.set(key, value);
+		assertEquals(replies, connection.closePipeline());
+
+		// pipelined commands are not timed individually
+		assertNull(metrics.getCommandStats("get"));
+		assertEquals(1, metrics.getPipelineStats().getCount());
+		assertEquals(14, metrics.getPipelineStats().getRequestBytes());
+		assertEquals(10, metrics.getPipelineStats().getResponseBytes());
+		assertEquals(3, metrics.getPipelineSizes().getMax());
+
+		// back to regular execution
+		connection.get(key);
+		assertEquals(1, metrics.getCommandStats("get").getCount());
+	}
+
+	@Test
+	public void testLifecycleMethodsAreNotRecorded() throws Exception {
+		connection.isClosed();
+		connection.close();
+		verify(target).close();
+		assertTrue(metrics.getCommandStats().isEmpty());
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.connection.DefaultStringRedisConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * @author agent
+ */
+public class SlowCommandLogTests {
+
+	private RedisConnection target;
+	private SlowCommandLog log;
+	private RedisConnection connection;
+
+	private final byte[] key = "key".getBytes();
+	private final byte[] value = "value".getBytes();
+
+	@Before
+	public void setUp() throws Exception {
+		target = mock(RedisConnection.class);
+		RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+		when(factory.getConnection()).thenReturn(target);
+
+		log = new SlowCommandLog(2);
+		InstrumentedRedisConnectionFactory instrumented = new InstrumentedRedisConnectionFactory(factory);
+		instrumented.setSlowCommandLog(log);
+		connection = instrumented.getConnection();
+	}
+
+	@Test
+	public void testFastCommandsAreIgnored() throws Exception {
+		connection.get(key);
+		connection.set(key, value);
+		assertEquals(0, log.getRecordedCount());
+		assertTrue(log.getSlowCommands().isEmpty());
+	}
+
+	@Test
+	public void testSlowCommandIsRecorded() throws Exception {
+		log.setSlowThresholdMillis(5);
+		when(target.get(key)).thenAnswer(new Answer<byte[]>() {
+			public byte[] answer(InvocationOnMock invocation) throws Throwable {
+				Thread.sleep(20);
+				return value;
+			}
+		});
+
+		connection.get(key);
+		List<SlowCommand> commands = log.getSlowCommands();
+		assertEquals(1, commands.size());
+
+		SlowCommand command = commands.get(0);
+		assertEquals("get", command.getCommand());
+		assertEquals("key", command.getKey());
+		assertTrue(command.getDurationNanos() >= 5 * 1000 * 1000);
+		assertFalse(command.isFailed());
+		// the call-site starts with the caller
+		assertEquals(getClass().getName(), command.getCallSite()[0].getClassName());
+		assertEquals("testSlowCommandIsRecorded", command.getCallSite()[0].getMethodName());
+	}
+
+	@Test
+	public void testCallSiteSkipsDelegatingConnection() throws Exception {
+		log.setSlowThresholdMillis(5);
+		when(target.get(key)).thenAnswer(new Answer<byte[]>() {
+			public byte[] answer(InvocationOnMock invocation) throws Throwable {
+				Thread.sleep(20);
+				return value;
+			}
+		});
+
+		new DefaultStringRedisConnection(connection).get("key");
+		SlowCommand command = log.getSlowCommands().get(0);
+		assertEquals(getClass().getName(), command.getCallSite()[0].getClassName());
+		assertEquals("testCallSiteSkipsDelegatingConnection", command.getCallSite()[0].getMethodName());
+	}
+
+	@Test
+	public void testBigReplyIsRecorded() throws Exception {
+		log.setMaxReplyElements(2);
+		log.setMaxReplyBytes(100);
+		when(target.lRange(key, 0, -1)).thenReturn(Arrays.asList(value, value, value));
+		when(target.hGetAll(key)).thenReturn(null);
+
+		connection.lRange(key, 0, -1);
+		connection.hGetAll(key);
+
+		List<SlowCommand> commands = log.getSlowCommands();
+		assertEquals(1, commands.size());
+		assertEquals("lRange", commands.get(0).getCommand());
+		assertEquals(3, commands.get(0).getReplyElements());
+		assertEquals(15, commands.get(0).getReplyBytes());
+	}
+
+	@Test
+	public void testRingBufferKeepsMostRecent() throws Exception {
+		log.setMaxReplyElements(1);
+		for (int i = 0; i < 5; i++) {
+			byte[] k = ("key" + i).getBytes();
+			when(target.keys(k)).thenReturn(new java.util.HashSet<byte[]>(Arrays.asList(value, key)));
+			connection.keys(k);
+		}
+
+		assertEquals(5, log.getRecordedCount());
+		List<SlowCommand> commands = log.getSlowCommands();
+		assertEquals(2, commands.size());
+		assertEquals("key4", commands.get(0).getKey());
+		assertEquals("key3", commands.get(1).getKey());
+		assertEquals(2, log.getEntries().length);
+
+		log.clear();
+		assertTrue(log.getSlowCommands().isEmpty());
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ByteArrayMapTests {
+
+	private final ByteArrayMap<String> map = new ByteArrayMap<String>();
+
+	@Test
+	public void testLookupByContent() throws Exception {
+		map.put("channel".getBytes(), "a");
+		assertEquals("a", map.get("channel".getBytes()));
+		assertTrue(map.containsKey("channel".getBytes()));
+		assertNull(map.get("channel2".getBytes()));
+		assertNull(map.get(null));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void testPutReplacesValue() throws Exception {
+		assertNull(map.put("key".getBytes(), "a"));
+		assertEquals("a", map.put("key".getBytes(), "b"));
+		assertEquals("b", map.get("key".getBytes()));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void testPutIfAbsent() throws Exception {
+		assertNull(map.putIfAbsent("key".getBytes(), "a"));
+		assertEquals("a", map.putIfAbsent("key".getBytes(), "b"));
+		assertEquals("a", map.get("key".getBytes()));
+	}
+
+	@Test
+	public void testGrowAndRemove() throws Exception {
+		int count = 1000;
+		for (int i = 0; i < count; i++) {
+			map.put(("key-" + i).getBytes(), "value-" + i);
+		}
+		assertEquals(count, map.size());
+		for (int i = 0; i < count; i++) {
+			assertEquals("value-" + i, map.get(("key-" + i).getBytes()));
+		}
+
+		for (int i = 0; i < count; i += 2) {
+			assertEquals("value-" + i, map.remove(("key-" + i).getBytes()));
+		}
+		assertEquals(count / 2, map.size());
+		for (int i = 0; i < count; i++) {
+			if (i % 2 == 0) {
+				assertFalse(map.containsKey(("key-" + i).getBytes()));
+			}
+			else {
+				assertEquals("value-" + i, map.get(("key-" + i).getBytes()));
+			}
+		}
+		assertNull(map.remove("key-0".getBytes()));
+	}
+
+	@Test
+	public void testKeysAndValues() throws Exception {
+		map.put("a".getBytes(), "1");
+		map.put("b".getBytes(), "2");
+		map.put("c".getBytes(), "3");
+
+		Set<String> keys = new HashSet<String>();
+		for (byte[] key : map.keys()) {
+			keys.add(new String(key));
+		}
+		assertEquals(3, keys.size());
+		assertTrue(keys.contains("a") && keys.contains("b") && keys.contains("c"));
+		assertTrue(map.values().containsAll(Arrays.asList("1", "2", "3")));
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.keys().length);
+		assertTrue(map.values().isEmpty());
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.PipelineResult;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+public class ChunkedPipelineTest {
+
+	private RedisTemplate<String, String> template;
+	private RedisConnection connection;
+
+	// commands issued since the pipeline was (re)opened
+	private int pending;
+	private boolean pipelined;
+	private final List<Long> offsets = new ArrayList<Long>();
+	private final List<Integer> sizes = new ArrayList<Integer>();
+
+	private final PipelineResultHandler handler = new PipelineResultHandler() {
+		public void handleResults(List<PipelineResult> results, long offset) {
+			offsets.add(offset);
+			sizes.add(results.size());
+		}
+	};
+
+	@Before
+	public void setUp() throws Exception {
+		connection = mock(RedisConnection.class);
+		RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+		when(factory.getConnection()).thenReturn(connection);
+
+		doAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				pipelined = true;
+				return null;
+			}
+		}).when(connection).openPipeline();
+		when(connection.isPipelined()).thenAnswer(new Answer<Boolean>() {
+			public Boolean answer(InvocationOnMock invocation) throws Throwable {
+				return pipelined;
+			}
+		});
+		doAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				pending++;
+				return null;
+			}
+		}).when(connection).set(any(byte[].class), any(byte[].class));
+		when(connection.closePipelineResults()).thenAnswer(new Answer<List<PipelineResult>>() {
+			public List<PipelineResult> answer(InvocationOnMock invocation) throws Throwable {
+				List<PipelineResult> results = new ArrayList<PipelineResult>();
+				for (int i = 0; i < pending; i++) {
+					results.add(new PipelineResult(i, "OK"));
+				}
+				pending = 0;
+				pipelined = false;
+				return results;
+			}
+		});
+
+		template = new StringRedisTemplate(factory);
+	}
+
+	private RedisCallback<Object> writes(final int count) {
+		return new RedisCallback<Object>() {
+			public Object doInRedis(RedisConnection connection) throws DataAccessException {
+				for (int i = 0; i < count; i++) {
+					connection.set(("key" + i).getBytes(), "0123456789".getBytes());
+				}
+				return null;
+			}
+		};
+	}
+
+	@Test
+	public void testChunksByCommands() throws Exception {
+		assertEquals(25, template.executePipelined(writes(25), handler, 10));
+
+		assertEquals(3, sizes.size());
+		assertEquals(Integer.valueOf(10), sizes.get(0));
+		assertEquals(Integer.valueOf(5), sizes.get(2));
+		assertEquals(Long.valueOf(0), offsets.get(0));
+		assertEquals(Long.valueOf(20), offsets.get(2));
+		assertFalse(pipelined);
+	}
+
+	@Test
+	public void testChunksByBytes() throws Exception {
+		// each command carries 14 bytes (4 of key, 10 of value)
+		template.executePipelined(writes(10), handler, 1000, 50);
+		assertEquals(Integer.valueOf(4), sizes.get(0));
+		assertEquals(Integer.valueOf(4), sizes.get(1));
+		assertEquals(Integer.valueOf(2), sizes.get(2));
+	}
+
+	@Test
+	public void testExactMultipleDoesNotProduceEmptyChunk() throws Exception {
+		template.executePipelined(writes(20), handler, 10);
+		assertEquals(2, sizes.size());
+		assertFalse(pipelined);
+		verify(connection, times(2)).openPipeline();
+	}
+
+	@Test
+	public void testNoCommandsClosesPipeline() throws Exception {
+		assertEquals(0, template.executePipelined(writes(0), handler, 10));
+		assertTrue(sizes.isEmpty());
+		assertFalse(pipelined);
+	}
+
+	@Test
+	public void testFailureDrainsPipeline() throws Exception {
+		try {
+			template.executePipelined(new RedisCallback<Object>() {
+				public Object doInRedis(RedisConnection connection) throws DataAccessException {
+					connection.set("key".getBytes(), "value".getBytes());
+					throw new IllegalStateException();
+				}
+			}, handler, 10);
+			fail("expected exception");
+		} catch (IllegalStateException ex) {
+			// expected
+		}
+		assertFalse(pipelined);
+		assertTrue(sizes.isEmpty());
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void testCallbackCannotClosePipeline() throws Exception {
+		template.executePipelined(new RedisCallback<Object>() {
+			public Object doInRedis(RedisConnection connection) throws DataAccessException {
+				return connection.closePipeline();
+			}
+		}, handler, 10);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.junit.Assert.*;
+import static org.mockito.AdditionalMatchers.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Checks which expiry commands the template sends, so that second precision keeps working with pre-2.6 servers.
+ * 
+ * @author agent
+ */
+public class ExpiryTest {
+
+	private static final byte[] KEY = "key".getBytes();
+
+	private RedisTemplate<String, String> template;
+	private RedisConnection connection;
+
+	@Before
+	public void setUp() throws Exception {
+		connection = mock(RedisConnection.class);
+		RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+		when(factory.getConnection()).thenReturn(connection);
+		when(connection.expireAt(any(byte[].class), anyLong())).thenReturn(Boolean.TRUE);
+		when(connection.pExpireAt(any(byte[].class), anyLong())).thenReturn(Boolean.TRUE);
+
+		template = new StringRedisTemplate(factory);
+	}
+
+	@Test
+	public void testExpireAtDateUsesSeconds() throws Exception {
+		assertTrue(template.expireAt("key", new Date(1500)));
+		verify(connection).expireAt(aryEq(KEY), eq(1L));
+		verify(connection, never()).pExpireAt(any(byte[].class), anyLong());
+	}
+
+	@Test
+	public void testExpireAtWholeSecondsUsesSeconds() throws Exception {
+		assertTrue(template.expireAt("key", 2000, TimeUnit.MILLISECONDS));
+		assertTrue(template.expireAt("key", 3, TimeUnit.SECONDS));
+		verify(connection).expireAt(aryEq(KEY), eq(2L));
+		verify(connection).expireAt(aryEq(KEY), eq(3L));
+		verify(connection, never()).pExpireAt(any(byte[].class), anyLong());
+	}
+
+	@Test
+	public void testExpireAtMillisecondsUsesPExpireAt() throws Exception {
+		assertTrue(template.expireAt("key", 1500, TimeUnit.MILLISECONDS));
+		verify(connection).pExpireAt(aryEq(KEY), eq(1500L));
+		verify(connection, never()).expireAt(any(byte[].class), anyLong());
+	}
+}
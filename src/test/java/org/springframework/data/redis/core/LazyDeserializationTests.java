@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.connection.memory.InMemoryConnectionFactory;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Tests for the lazily deserialized replies of {@link RedisTemplate} (see
+ * {@link RedisTemplate#setLazyDeserialization(boolean)}) and {@link LazyTypedTupleSet}, run against the in-memory
+ * store.
+ *
+ * @author agent
+ */
+public class LazyDeserializationTests {
+
+	private InMemoryConnectionFactory factory;
+	private RedisTemplate<String, String> template;
+	private CountingSerializer serializer;
+
+	@Before
+	public void setUp() {
+		factory = new InMemoryConnectionFactory();
+		serializer = new CountingSerializer();
+		template = new RedisTemplate<String, String>();
+		template.setConnectionFactory(factory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(serializer);
+		template.setLazyDeserialization(true);
+		template.afterPropertiesSet();
+	}
+
+	@After
+	public void tearDown() {
+		factory.destroy();
+	}
+
+	@Test
+	public void testListRange() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			template.opsForList().rightPush("list", "value-" + i);
+		}
+		List<String> values = template.opsForList().range("list", 0, -1);
+		assertEquals(10, values.size());
+		assertEquals(0, serializer.calls.get());
+		assertEquals("value-7", values.get(7));
+		assertEquals(1, serializer.calls.get());
+		try {
+			values.add("value-10");
+			fail("lazy views are read-only");
+		} catch (UnsupportedOperationException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testSetMembers() throws Exception {
+		template.opsForSet().add("set", "a");
+		template.opsForSet().add("set", "b");
+		template.opsForSet().add("set", "c");
+		Set<String> values = template.opsForSet().members("set");
+		assertEquals(3, values.size());
+		assertEquals(0, serializer.calls.get());
+		assertTrue(values.contains("b"));
+		assertFalse(values.contains("d"));
+		assertEquals(3, serializer.calls.get());
+	}
+
+	@Test
+	public void testZSetRange() throws Exception {
+		template.opsForZSet().add("zset", "c", 3);
+		template.opsForZSet().add("zset", "a", 1);
+		template.opsForZSet().add("zset", "b", 2);
+
+		Set<String> values = template.opsForZSet().range("zset", 0, -1);
+		assertEquals(0, serializer.calls.get());
+		assertEquals("[a, b, c]", new ArrayList<String>(values).toString());
+
+		Set<TypedTuple<String>> tuples = template.opsForZSet().rangeWithScores("zset", 0, -1);
+		assertTrue(tuples instanceof LazyTypedTupleSet);
+		Iterator<TypedTuple<String>> it = tuples.iterator();
+		TypedTuple<String> first = it.next();
+		assertEquals("a", first.getValue());
+		assertEquals(Double.valueOf(1), first.getScore());
+		assertEquals(Double.valueOf(2), it.next().getScore());
+		assertEquals(Double.valueOf(3), it.next().getScore());
+		assertFalse(it.hasNext());
+	}
+
+	@Test
+	public void testTypedTupleSet() throws Exception {
+		Set<Tuple> raw = new LinkedHashSet<Tuple>();
+		raw.add(new DefaultTuple(serializer.serialize("one"), 1d));
+		raw.add(new DefaultTuple(serializer.serialize("two"), 2d));
+		raw.add(new DefaultTuple(serializer.serialize("three"), 3d));
+
+		Set<TypedTuple<String>> tuples = new LazyTypedTupleSet<String>(raw, serializer);
+		assertEquals(3, tuples.size());
+		assertEquals(0, serializer.calls.get());
+
+		// contains is a linear scan, decoding the values up to the match
+		assertTrue(tuples.contains(new DefaultTypedTuple<String>("two", 2d)));
+		assertEquals(2, serializer.calls.get());
+		assertFalse(tuples.contains(new DefaultTypedTuple<String>("two", 3d)));
+		assertEquals(3, serializer.calls.get());
+
+		try {
+			tuples.remove(new DefaultTypedTuple<String>("one", 1d));
+			fail("lazy views are read-only");
+		} catch (UnsupportedOperationException ex) {
+			// expected
+		}
+	}
+
+	private static class CountingSerializer extends StringRedisSerializer {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		public String deserialize(byte[] bytes) {
+			calls.incrementAndGet();
+			return super.deserialize(bytes);
+		}
+	}
+}
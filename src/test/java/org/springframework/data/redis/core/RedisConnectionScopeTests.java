@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.AbstractInMemoryTemplateTests;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @author agent
+ */
+public class RedisConnectionScopeTests extends AbstractInMemoryTemplateTests {
+
+	@Test
+	public void testScopeBindsConnection() throws Exception {
+		RedisConnectionScope scope = RedisConnectionScope.open(factory);
+		try {
+			assertSame(scope.getConnection(), RedisConnectionUtils.getConnection(factory));
+		} finally {
+			scope.close();
+		}
+		assertFalse(TransactionSynchronizationManager.hasResource(factory));
+	}
+
+	@Test
+	public void testReadsSeePipelinedWrites() throws Exception {
+		RedisConnectionScope scope = RedisConnectionScope.open(factory, true);
+		try {
+			for (int i = 0; i < 10; i++) {
+				template.opsForValue().set("key" + i, "value" + i);
+			}
+			assertEquals("value9", template.opsForValue().get("key9"));
+		} finally {
+			scope.close();
+		}
+	}
+
+	@Test
+	public void testFailedPipelinedWriteIsReported() throws Exception {
+		RedisConnectionScope scope = RedisConnectionScope.open(factory, true);
+		try {
+			template.opsForList().set("missing", 0, "value");
+			try {
+				template.hasKey("missing");
+				fail("the failed write should have been reported");
+			} catch (RedisPipelineException ex) {
+				// expected
+			}
+		} finally {
+			scope.close();
+		}
+	}
+
+	@Test
+	public void testNestedScopeReusesConnection() throws Exception {
+		RedisConnectionScope scope = RedisConnectionScope.open(factory, true);
+		try {
+			RedisConnectionScope nested = RedisConnectionScope.open(factory);
+			assertSame(scope.getConnection(), nested.getConnection());
+			nested.close();
+			assertSame(scope.getConnection(), RedisConnectionUtils.getConnection(factory));
+		} finally {
+			scope.close();
+		}
+	}
+
+	@Test
+	public void testCloseSendsPendingWrites() throws Exception {
+		RedisConnectionScope scope = RedisConnectionScope.open(factory, true);
+		try {
+			template.opsForValue().set("last", "value");
+		} finally {
+			scope.close();
+		}
+		assertFalse(TransactionSynchronizationManager.hasResource(factory));
+		assertEquals("value", template.opsForValue().get("last"));
+	}
+
+	@Test
+	public void testSessionNestedInScope() throws Exception {
+		RedisConnectionScope scope = RedisConnectionScope.open(factory);
+		try {
+			template.execute(new SessionCallback<Object>() {
+				@SuppressWarnings({ "unchecked", "rawtypes" })
+				public Object execute(RedisOperations operations) throws DataAccessException {
+					operations.opsForValue().set("session", "value");
+					return null;
+				}
+			});
+			// the session used (and left alone) the connection of the scope
+			assertSame(scope.getConnection(), RedisConnectionUtils.getConnection(factory));
+			assertFalse(scope.getConnection().isClosed());
+			assertEquals("value", template.opsForValue().get("session"));
+		} finally {
+			scope.close();
+		}
+		assertFalse(TransactionSynchronizationManager.hasResource(factory));
+	}
+
+	@Test
+	public void testCallbackWritesShareOneSync() throws Exception {
+		template.opsForList().rightPush("list", "a");
+		template.opsForList().rightPush("list", "b");
+		template.opsForList().rightPush("list", "c");
+		AtomicInteger syncs = new AtomicInteger();
+		RedisConnectionFactory countingFactory = syncCountingFactory(syncs);
+		StringRedisTemplate countingTemplate = new StringRedisTemplate(countingFactory);
+		Map<String, String> entries = new HashMap<String, String>();
+		entries.put("field", "value");
+		entries.put("other", "value");
+
+		RedisConnectionScope scope = RedisConnectionScope.open(countingFactory, true);
+		try {
+			// both go through RedisCallbacks, which check whether the connection is pipelined
+			countingTemplate.opsForList().trim("list", 0, 1);
+			countingTemplate.opsForHash().putAll("hash", entries);
+			countingTemplate.opsForValue().set("key", "value");
+			assertEquals(0, syncs.get());
+		} finally {
+			scope.close();
+		}
+		assertEquals(1, syncs.get());
+		assertEquals(Long.valueOf(2), template.opsForList().size("list"));
+		assertEquals(Long.valueOf(2), template.opsForHash().size("hash"));
+		assertEquals("value", template.opsForValue().get("key"));
+	}
+
+	// counts the pipeline syncs of the connections created by the in-memory factory
+	private RedisConnectionFactory syncCountingFactory(final AtomicInteger syncs) {
+		RedisConnectionFactory countingFactory = mock(RedisConnectionFactory.class);
+		when(countingFactory.getConnection()).thenAnswer(new Answer<RedisConnection>() {
+			public RedisConnection answer(InvocationOnMock invocation) throws Throwable {
+				final RedisConnection connection = factory.getConnection();
+				return (RedisConnection) Proxy.newProxyInstance(RedisConnection.class.getClassLoader(),
+						new Class<?>[] { RedisConnection.class }, new InvocationHandler() {
+							public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+								if (method.getName().startsWith("closePipeline")) {
+									syncs.incrementAndGet();
+								}
+								try {
+									return method.invoke(connection, args);
+								} catch (InvocationTargetException ex) {
+									throw ex.getTargetException();
+								}
+							}
+						});
+			}
+		});
+		return countingFactory;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.AbstractInMemoryTemplateTests;
+import org.springframework.data.redis.core.query.SortQueryBuilder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * @author agent
+ */
+public class RedisTransactionSupportTests extends AbstractInMemoryTemplateTests {
+
+	private TransactionTemplate txTemplate;
+
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		template.setEnableTransactionSupport(true);
+		txTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+	}
+
+	@Test
+	public void testWritesAreDeferredUntilCommit() throws Exception {
+		template.opsForValue().set("tx", "before");
+		txTemplate.execute(new TransactionCallbackWithoutResult() {
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				template.opsForValue().set("tx", "committed");
+				template.opsForList().rightPush("txList", "a");
+				assertEquals("before", template.opsForValue().get("tx"));
+				assertFalse(template.hasKey("txList"));
+			}
+		});
+		assertEquals("committed", template.opsForValue().get("tx"));
+		assertEquals(Long.valueOf(1), template.opsForList().size("txList"));
+		assertFalse(TransactionSynchronizationManager.hasResource(factory));
+	}
+
+	@Test
+	public void testRollbackDiscardsWrites() throws Exception {
+		template.opsForValue().set("tx", "before");
+		txTemplate.execute(new TransactionCallbackWithoutResult() {
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				template.opsForValue().set("tx", "rolled back");
+				status.setRollbackOnly();
+			}
+		});
+		assertEquals("before", template.opsForValue().get("tx"));
+		assertFalse(TransactionSynchronizationManager.hasResource(factory));
+	}
+
+	@Test
+	public void testSortWithoutStoreKeyIsARead() throws Exception {
+		template.opsForList().rightPush("sortList", "2");
+		template.opsForList().rightPush("sortList", "1");
+
+		txTemplate.execute(new TransactionCallbackWithoutResult() {
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				assertEquals(Arrays.asList("1", "2"), template.sort(SortQueryBuilder.sort("sortList").build()));
+				// storing the result is a write
+				assertNull(template.sort(SortQueryBuilder.sort("sortList").build(), "sorted"));
+				assertFalse(template.hasKey("sorted"));
+			}
+		});
+		assertEquals(Arrays.asList("1", "2"), template.opsForList().range("sorted", 0, -1));
+	}
+
+	@Test
+	public void testCommitFailuresArePropagated() throws Exception {
+		template.opsForValue().set("string", "value");
+
+		try {
+			txTemplate.execute(new TransactionCallbackWithoutResult() {
+				protected void doInTransactionWithoutResult(TransactionStatus status) {
+					template.opsForValue().set("other", "value");
+					template.opsForList().rightPush("string", "a");
+				}
+			});
+			fail("expected exception");
+		} catch (DataAccessException ex) {
+			// expected
+		}
+		// like EXEC, the other commands of the block are still applied
+		assertEquals("value", template.opsForValue().get("other"));
+		assertFalse(TransactionSynchronizationManager.hasResource(factory));
+	}
+
+	@Test
+	public void testSessionNestedInTransaction() throws Exception {
+		txTemplate.execute(new TransactionCallbackWithoutResult() {
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				template.opsForValue().set("before", "value");
+				template.execute(new WritingSession("session"));
+				// the session did not release the connection of the transaction
+				assertTrue(TransactionSynchronizationManager.hasResource(factory));
+				template.opsForValue().set("after", "value");
+				assertFalse(template.hasKey("session"));
+			}
+		});
+		assertEquals("value", template.opsForValue().get("before"));
+		assertEquals("value", template.opsForValue().get("session"));
+		assertEquals("value", template.opsForValue().get("after"));
+		assertFalse(TransactionSynchronizationManager.hasResource(factory));
+	}
+
+	@Test
+	public void testSessionOpeningTransactionalConnection() throws Exception {
+		// a session opening the transactional connection leaves it to the transaction as well
+		txTemplate.execute(new TransactionCallbackWithoutResult() {
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				template.execute(new WritingSession("first"));
+				assertTrue(TransactionSynchronizationManager.hasResource(factory));
+				template.opsForValue().set("second", "value");
+				status.setRollbackOnly();
+			}
+		});
+		assertFalse(template.hasKey("first"));
+		assertFalse(template.hasKey("second"));
+		assertFalse(TransactionSynchronizationManager.hasResource(factory));
+	}
+
+	private static class WritingSession implements SessionCallback<Object> {
+
+		private final String key;
+
+		WritingSession(String key) {
+			this.key = key;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object execute(RedisOperations operations) throws DataAccessException {
+			operations.opsForValue().set(key, "value");
+			return null;
+		}
+	}
+
+	/**
+	 * Transaction manager without an actual resource, driving only the transaction synchronizations.
+	 */
+	private static class ResourcelessTransactionManager extends AbstractPlatformTransactionManager {
+
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
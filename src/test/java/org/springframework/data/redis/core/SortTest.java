@@ -15,23 +15,127 @@
  */
 package org.springframework.data.redis.core;
 
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.SortParameters;
+import org.springframework.data.redis.connection.SortParameters.Range;
+import org.springframework.data.redis.core.query.SortQuery;
 import org.springframework.data.redis.core.query.SortQueryBuilder;
 
 public class SortTest {
 
+	// number of elements in the sorted (fake) list
+	private static final int ELEMENTS = 25;
+
+	private RedisTemplate<String, String> template;
+	private RedisConnection connection;
+	private final List<Range> requestedPages = new ArrayList<Range>();
+
 	@Before
 	public void setUp() throws Exception {
+		connection = mock(RedisConnection.class);
+		RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+		when(factory.getConnection()).thenReturn(connection);
+
+		// returns 'name-i' and 'age-i' for each sorted element (as if GET name_* GET age_* was used)
+		when(connection.sort(any(byte[].class), any(SortParameters.class))).thenAnswer(new Answer<List<byte[]>>() {
+			public List<byte[]> answer(InvocationOnMock invocation) throws Throwable {
+				Range limit = ((SortParameters) invocation.getArguments()[1]).getLimit();
+				requestedPages.add(limit);
+				long start = (limit != null ? limit.getStart() : 0);
+				long end = (limit != null ? Math.min(ELEMENTS, start + limit.getCount()) : ELEMENTS);
+				List<byte[]> result = new ArrayList<byte[]>();
+				for (long i = start; i < end; i++) {
+					result.add(("name-" + i).getBytes());
+					result.add(("age-" + i).getBytes());
+				}
+				return result;
+			}
+		});
+
+		template = new StringRedisTemplate(factory);
 	}
 
 	@After
 	public void tearDown() throws Exception {
+		requestedPages.clear();
 	}
 
 	public void testBasicDSL() throws Exception {
 		SortQueryBuilder.sort("list").build();
 	}
 
+	private SortQuery<String> query() {
+		return SortQueryBuilder.sort("list").get("name_*").get("age_*").build();
+	}
+
+	private final BulkMapper<String, String> mapper = new BulkMapper<String, String>() {
+		public String mapBulk(List<String> tuple) {
+			assertEquals(2, tuple.size());
+			return tuple.get(0) + "/" + tuple.get(1);
+		}
+	};
+
+	@Test
+	public void testSortWithBulkMapper() throws Exception {
+		List<String> result = template.sort(query(), mapper);
+		assertEquals(ELEMENTS, result.size());
+		assertEquals("name-0/age-0", result.get(0));
+		assertEquals("name-24/age-24", result.get(24));
+	}
+
+	@Test
+	public void testSortIterator() throws Exception {
+		Iterator<String> it = template.sortIterator(query(), mapper, 10);
+
+		int count = 0;
+		while (it.hasNext()) {
+			assertEquals("name-" + count + "/age-" + count, it.next());
+			count++;
+		}
+		assertEquals(ELEMENTS, count);
+
+		// 3 pages: 10 + 10 + 5 (the last one being incomplete signals the end)
+		assertEquals(3, requestedPages.size());
+		assertEquals(20, requestedPages.get(2).getStart());
+		assertEquals(10, requestedPages.get(2).getCount());
+	}
+
+	@Test
+	public void testSortIteratorIsLazy() throws Exception {
+		Iterator<String> it = template.sortIterator(query(), mapper, 5);
+		assertEquals(0, requestedPages.size());
+		assertEquals("name-0/age-0", it.next());
+		assertEquals(1, requestedPages.size());
+		verify(connection, times(1)).sort(any(byte[].class), any(SortParameters.class));
+	}
+
+	@Test
+	public void testSortIteratorHonorsQueryLimit() throws Exception {
+		SortQuery<String> query = SortQueryBuilder.sort("list").get("name_*").get("age_*").limit(3, 7).build();
+		Iterator<String> it = template.sortIterator(query, mapper, 5);
+
+		List<String> result = new ArrayList<String>();
+		while (it.hasNext()) {
+			result.add(it.next());
+		}
+		assertEquals(7, result.size());
+		assertEquals("name-3/age-3", result.get(0));
+		assertEquals("name-9/age-9", result.get(6));
+		assertEquals(2, requestedPages.size());
+		assertEquals(2, requestedPages.get(1).getCount());
+	}
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.redis.AbstractInMemoryTemplateTests;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * @author agent
+ */
+public class StringRedisTemplateTests extends AbstractInMemoryTemplateTests {
+
+	@Test
+	public void testHashAndSet() throws Exception {
+		template.opsForHash().put("hash", "field", "value");
+		template.opsForSet().add("set", "member");
+		assertEquals("value", template.opsForHash().get("hash", "field"));
+		assertTrue(template.opsForSet().isMember("set", "member"));
+	}
+
+	@Test
+	public void testKeys() throws Exception {
+		template.opsForValue().set("key", "value");
+		template.opsForSet().add("set", "member");
+		assertTrue(template.keys("*").containsAll(Arrays.asList("key", "set")));
+		assertEquals(Collections.singleton("set"), template.keys("s*"));
+	}
+
+	@Test
+	public void testScan() throws Exception {
+		Set<String> expected = new HashSet<String>();
+		for (int i = 0; i < 50; i++) {
+			template.opsForValue().set("tscan:" + i, "value");
+			expected.add("tscan:" + i);
+		}
+		template.opsForValue().set("tother", "value");
+
+		Set<String> scanned = new HashSet<String>();
+		for (Iterator<String> it = template.scan("tscan:*", 8); it.hasNext();) {
+			assertTrue(scanned.add(it.next()));
+		}
+		assertEquals(expected, scanned);
+	}
+
+	@Test
+	public void testScanIteratorRemovesKeys() throws Exception {
+		for (int i = 0; i < 50; i++) {
+			template.opsForValue().set("tscan:" + i, "value");
+		}
+		template.opsForValue().set("tother", "value");
+
+		for (Iterator<String> it = template.scan("tscan:*", 8); it.hasNext();) {
+			it.next();
+			it.remove();
+		}
+		assertTrue(template.keys("tscan:*").isEmpty());
+		assertTrue(template.hasKey("tother"));
+	}
+
+	@Test
+	public void testSetWithMillisecondTimeout() throws Exception {
+		template.opsForValue().set("texp", "value", 1500, TimeUnit.MILLISECONDS);
+		long ttl = template.getExpire("texp", TimeUnit.MILLISECONDS);
+		assertTrue(ttl > 1000 && ttl <= 1500);
+		long seconds = template.getExpire("texp");
+		assertTrue(seconds == 1 || seconds == 2);
+	}
+
+	@Test
+	public void testExpire() throws Exception {
+		template.opsForValue().set("texp", "value");
+		assertTrue(template.expire("texp", 250, TimeUnit.MILLISECONDS));
+		assertTrue(template.getExpire("texp", TimeUnit.MILLISECONDS) <= 250);
+		assertTrue(template.expire("texp", 1, TimeUnit.MINUTES));
+		assertEquals(Long.valueOf(60), template.getExpire("texp", TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testExpireAt() throws Exception {
+		template.opsForValue().set("texp", "value");
+		long now = System.currentTimeMillis();
+		assertTrue(template.expireAt("texp", now + 1500, TimeUnit.MILLISECONDS));
+		long ttl = template.getExpire("texp", TimeUnit.MILLISECONDS);
+		assertTrue(ttl > 1000 && ttl <= 1500);
+		assertTrue(template.expireAt("texp", new Date(now + 60000)));
+		assertTrue(template.getExpire("texp") > 50);
+		assertFalse(template.expireAt("missing", new Date(now + 60000)));
+	}
+
+	@Test
+	public void testSetIfAbsentWithTimeout() throws Exception {
+		ValueOperations<String, String> ops = template.opsForValue();
+		assertTrue(ops.setIfAbsent("texp", "lock", 500, TimeUnit.MILLISECONDS));
+		assertFalse(ops.setIfAbsent("texp", "lock", 500, TimeUnit.MILLISECONDS));
+		assertTrue(template.getExpire("texp", TimeUnit.MILLISECONDS) > 0);
+	}
+
+	@Test
+	public void testOperationsAreCached() throws Exception {
+		assertSame(template.opsForHash(), template.opsForHash());
+	}
+
+	@Test
+	public void testValueOperations() throws Exception {
+		ValueOperations<String, String> valueOps = template.opsForValue();
+		assertNull(valueOps.get("value"));
+		assertTrue(valueOps.setIfAbsent("value", "one"));
+		assertFalse(valueOps.setIfAbsent("value", "two"));
+		assertEquals("one", valueOps.getAndSet("value", "three"));
+		assertEquals(Long.valueOf(5), valueOps.size("value"));
+	}
+
+	@Test
+	public void testHashOperations() throws Exception {
+		HashOperations<String, String, String> hashOps = template.opsForHash();
+		hashOps.put("hash", "field", "value");
+		assertFalse(hashOps.putIfAbsent("hash", "field", "other"));
+		assertTrue(hashOps.hasKey("hash", "field"));
+		assertEquals(Long.valueOf(1), hashOps.size("hash"));
+		hashOps.delete("hash", "field");
+		assertNull(hashOps.get("hash", "field"));
+	}
+
+	@Test
+	public void testListOperations() throws Exception {
+		template.opsForList().rightPush("list", "a");
+		template.opsForList().rightPush("list", "b");
+		assertEquals(Long.valueOf(2), template.opsForList().size("list"));
+		assertEquals("a", template.opsForList().leftPop("list"));
+		assertEquals("b", template.opsForList().rightPop("list"));
+	}
+
+	@Test
+	public void testZSetOperations() throws Exception {
+		template.opsForZSet().add("zset", "member", 1.5);
+		assertEquals(Double.valueOf(1.5), template.opsForZSet().score("zset", "member"));
+		assertEquals(Long.valueOf(1), template.opsForZSet().size("zset"));
+	}
+
+	@Test
+	public void testCallbackCannotCloseConnection() throws Exception {
+		assertEquals(Boolean.FALSE, template.execute(new RedisCallback<Boolean>() {
+			public Boolean doInRedis(RedisConnection connection) {
+				connection.close();
+				return connection.isClosed();
+			}
+		}));
+	}
+
+	@Test
+	public void testConnectionUsableAfterCloseInCallback() throws Exception {
+		template.opsForValue().set("key", "value");
+		assertEquals("value", template.execute(new RedisCallback<String>() {
+			public String doInRedis(RedisConnection connection) {
+				connection.close();
+				return ((StringRedisConnection) connection).get("key");
+			}
+		}));
+	}
+
+	@Test
+	public void testBulkOperationsIgnoreEmptyCollections() throws Exception {
+		template.opsForSet().add("set", "member");
+		template.opsForZSet().add("zset", "member", 1);
+		template.opsForHash().put("hash", "field", "value");
+		assertEquals(Long.valueOf(0), template.opsForSet().removeAll("set", Collections.emptySet()));
+		assertEquals(Long.valueOf(0), template.opsForZSet().removeAll("zset", Collections.emptySet()));
+		assertEquals(Long.valueOf(0),
+				template.opsForZSet().add("zset", Collections.<TypedTuple<String>> emptySet()));
+		assertEquals(Long.valueOf(0), template.opsForHash().deleteAll("hash", Collections.emptySet()));
+		assertEquals(Long.valueOf(1), template.opsForSet().size("set"));
+		assertEquals(Long.valueOf(1), template.opsForZSet().size("zset"));
+		assertEquals(Long.valueOf(1), template.opsForHash().size("hash"));
+	}
+}
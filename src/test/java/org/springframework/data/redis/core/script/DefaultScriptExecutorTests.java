@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.script;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * @author agent
+ */
+public class DefaultScriptExecutorTests {
+
+	private static final String SCRIPT = "return redis.call('GET', KEYS[1])";
+
+	private RedisConnection connection;
+	private StringRedisTemplate template;
+	private DefaultRedisScript<String> script;
+
+	@Before
+	public void setUp() {
+		connection = mock(RedisConnection.class);
+		RedisConnectionFactory factory = mock(RedisConnectionFactory.class);
+		when(factory.getConnection()).thenReturn(connection);
+		template = new StringRedisTemplate(factory);
+		script = new DefaultRedisScript<String>(SCRIPT, String.class);
+	}
+
+	@Test
+	public void testSha1() throws Exception {
+		assertEquals("e0e1f9fabfc9d4800c877a703b823ac0578ff8db", new DefaultRedisScript<Long>("return 1", Long.class)
+				.getSha1());
+		assertEquals(ScriptUtils.sha1DigestAsHex(SCRIPT), script.getSha1());
+	}
+
+	@Test
+	public void testEvalSha() throws Exception {
+		when(connection.evalSha(eq(script.getSha1()), eq(ReturnType.VALUE), eq(1), (byte[][]) anyVararg()))
+				.thenReturn("bar".getBytes());
+
+		assertEquals("bar", template.execute(script, Collections.singletonList("foo")));
+		verify(connection, never()).eval(any(byte[].class), any(ReturnType.class), anyInt(), (byte[][]) anyVararg());
+	}
+
+	@Test
+	public void testNoScriptFallback() throws Exception {
+		when(connection.evalSha(anyString(), any(ReturnType.class), anyInt(), (byte[][]) anyVararg())).thenThrow(
+				new InvalidDataAccessApiUsageException("NOSCRIPT No matching script. Please use EVAL."));
+		when(connection.eval(any(byte[].class), eq(ReturnType.VALUE), eq(1), (byte[][]) anyVararg())).thenReturn(
+				"bar".getBytes());
+
+		assertEquals("bar", template.execute(script, Collections.singletonList("foo")));
+		verify(connection).eval(eq(SCRIPT.getBytes()), eq(ReturnType.VALUE), eq(1), (byte[][]) anyVararg());
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void testOtherErrorsPropagated() throws Exception {
+		when(connection.evalSha(anyString(), any(ReturnType.class), anyInt(), (byte[][]) anyVararg())).thenThrow(
+				new InvalidDataAccessApiUsageException("ERR Error running script"));
+		template.execute(script, Collections.singletonList("foo"));
+	}
+
+	@Test
+	public void testPipelinedUsesEval() throws Exception {
+		when(connection.isPipelined()).thenReturn(true);
+
+		assertNull(template.execute(script, Collections.singletonList("foo"), "arg"));
+		verify(connection).eval(eq(SCRIPT.getBytes()), eq(ReturnType.VALUE), eq(1), (byte[][]) anyVararg());
+		verify(connection, never()).evalSha(anyString(), any(ReturnType.class), anyInt(), (byte[][]) anyVararg());
+	}
+
+	@Test
+	public void testListResultDeserialized() throws Exception {
+		DefaultRedisScript<List> listScript = new DefaultRedisScript<List>("return KEYS", List.class);
+		when(connection.evalSha(anyString(), eq(ReturnType.MULTI), eq(2), (byte[][]) anyVararg())).thenReturn(
+				Arrays.asList("a".getBytes(), 1L));
+
+		assertEquals(Arrays.asList("a", 1L), template.execute(listScript, Arrays.asList("a", "b")));
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class SerializationUtilsTests {
+
+	private final StringRedisSerializer serializer = new StringRedisSerializer();
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private List<byte[]> rawValues(int size) {
+		List<byte[]> raw = new ArrayList<byte[]>(size);
+		for (int i = 0; i < size; i++) {
+			raw.add(serializer.serialize("value-" + i));
+		}
+		return raw;
+	}
+
+	@Test
+	public void testParallelDeserializationPreservesOrder() throws Exception {
+		List<String> values = SerializationUtils.deserialize(rawValues(10007), serializer, executor, 100);
+		assertEquals(10007, values.size());
+		for (int i = 0; i < values.size(); i++) {
+			assertEquals("value-" + i, values.get(i));
+		}
+	}
+
+	@Test
+	public void testParallelSetDeserializationPreservesOrder() throws Exception {
+		Set<byte[]> raw = new LinkedHashSet<byte[]>(rawValues(500));
+		Set<String> values = SerializationUtils.deserialize(raw, serializer, executor, 7);
+		int i = 0;
+		for (String value : values) {
+			assertEquals("value-" + i++, value);
+		}
+		assertEquals(500, i);
+	}
+
+	@Test
+	public void testParallelDeserializationWithRejectingExecutor() throws Exception {
+		Executor rejecting = new Executor() {
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		};
+		List<String> values = SerializationUtils.deserialize(rawValues(1000), serializer, rejecting, 10);
+		assertEquals(1000, values.size());
+		assertEquals("value-999", values.get(999));
+	}
+
+	@Test(expected = SerializationException.class)
+	public void testParallelDeserializationPropagatesErrors() throws Exception {
+		RedisSerializer<String> failing = new RedisSerializer<String>() {
+			public byte[] serialize(String t) {
+				return null;
+			}
+
+			public String deserialize(byte[] bytes) {
+				String value = serializer.deserialize(bytes);
+				if ("value-777".equals(value)) {
+					throw new SerializationException("cannot deserialize " + value);
+				}
+				return value;
+			}
+		};
+		SerializationUtils.deserialize(rawValues(1000), failing, executor, 10);
+	}
+
+	@Test
+	public void testLazyDeserialization() throws Exception {
+		final AtomicInteger calls = new AtomicInteger();
+		RedisSerializer<String> counting = new RedisSerializer<String>() {
+			public byte[] serialize(String t) {
+				return serializer.serialize(t);
+			}
+
+			public String deserialize(byte[] bytes) {
+				calls.incrementAndGet();
+				return serializer.deserialize(bytes);
+			}
+		};
+
+		List<String> values = SerializationUtils.deserializeLazily(rawValues(100), counting);
+		assertEquals(100, values.size());
+		assertEquals(0, calls.get());
+		assertEquals("value-42", values.get(42));
+		assertEquals("value-42", values.get(42));
+		assertEquals(1, calls.get());
+		assertEquals("value-0", values.iterator().next());
+		assertEquals(2, calls.get());
+		assertNull(SerializationUtils.deserializeLazily((List<byte[]>) null, counting));
+	}
+
+	@Test
+	public void testLazySetDeserialization() throws Exception {
+		Set<byte[]> raw = new LinkedHashSet<byte[]>(rawValues(50));
+		Set<String> values = SerializationUtils.deserializeLazily(raw, serializer);
+		assertEquals(50, values.size());
+		int i = 0;
+		for (String value : values) {
+			assertEquals("value-" + i++, value);
+		}
+		assertTrue(values.contains("value-10"));
+		assertFalse(values.contains("value-50"));
+		try {
+			values.add("value-50");
+			fail("lazy sets are read-only");
+		} catch (UnsupportedOperationException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testLazySetContainsDeserializesUpToTheMatch() throws Exception {
+		final AtomicInteger calls = new AtomicInteger();
+		RedisSerializer<String> counting = new RedisSerializer<String>() {
+			public byte[] serialize(String t) {
+				return serializer.serialize(t);
+			}
+
+			public String deserialize(byte[] bytes) {
+				calls.incrementAndGet();
+				return serializer.deserialize(bytes);
+			}
+		};
+
+		Set<String> values = SerializationUtils.deserializeLazily(new LinkedHashSet<byte[]>(rawValues(100)), counting);
+		assertEquals(0, calls.get());
+		assertTrue(values.contains("value-9"));
+		assertEquals(10, calls.get());
+		// decoded elements are cached
+		assertTrue(values.contains("value-9"));
+		assertEquals(10, calls.get());
+		assertFalse(values.contains("missing"));
+		assertEquals(100, calls.get());
+		assertNull(SerializationUtils.deserializeLazily((Set<byte[]>) null, counting));
+	}
+
+	@Test
+	public void testLazySetAssumesUniqueValues() throws Exception {
+		RedisSerializer<String> collapsing = new RedisSerializer<String>() {
+			public byte[] serialize(String t) {
+				return serializer.serialize(t);
+			}
+
+			public String deserialize(byte[] bytes) {
+				return "same";
+			}
+		};
+
+		Set<String> values = SerializationUtils.deserializeLazily(new LinkedHashSet<byte[]>(rawValues(3)), collapsing);
+		// no equality checks are done, the view mirrors the raw reply
+		assertEquals(3, values.size());
+		assertEquals(Arrays.asList("same", "same", "same"), new ArrayList<String>(values));
+	}
+
+	@Test
+	public void testLazySetPropagatesErrorsOnAccess() throws Exception {
+		RedisSerializer<String> failing = new RedisSerializer<String>() {
+			public byte[] serialize(String t) {
+				return null;
+			}
+
+			public String deserialize(byte[] bytes) {
+				throw new SerializationException("cannot deserialize");
+			}
+		};
+
+		Set<String> values = SerializationUtils.deserializeLazily(new LinkedHashSet<byte[]>(rawValues(3)), failing);
+		assertEquals(3, values.size());
+		try {
+			values.iterator().next();
+			fail("expected exception");
+		} catch (SerializationException ex) {
+			// expected
+		}
+	}
+}
@@ -172,4 +172,102 @@ public class SimpleRedisSerializerTests {
 		assertEquals(p1, serializer.deserialize(serializer.serialize(p1)));
 		assertEquals(p1, serializer.deserialize(serializer.serialize(p1)));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testLongSerializer() throws Exception {
+		LongRedisSerializer serializer = new LongRedisSerializer();
+		long[] values = { 0, 1, -1, 9, 10, -10, 123456789, Long.MAX_VALUE, Long.MIN_VALUE };
+		for (long value : values) {
+			byte[] bytes = serializer.serialize(value);
+			assertEquals(Long.toString(value), new String(bytes));
+			assertEquals(Long.valueOf(value), serializer.deserialize(bytes));
+		}
+		assertEquals(Long.valueOf(42), serializer.deserialize("+42".getBytes()));
+		assertNull(serializer.serialize(null));
+		assertNull(serializer.deserialize(null));
+		assertNull(serializer.deserialize(new byte[0]));
+	}
+
+	@Test
+	public void testLongSerializerRejectsInvalidInput() throws Exception {
+		LongRedisSerializer serializer = new LongRedisSerializer();
+		String[] values = { "-", "1a", "1.5", "9223372036854775808", "-9223372036854775809" };
+		for (String value : values) {
+			try {
+				serializer.deserialize(value.getBytes());
+				fail("expected exception for '" + value + "'");
+			} catch (SerializationException ex) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testIntegerSerializer() throws Exception {
+		IntegerRedisSerializer serializer = new IntegerRedisSerializer();
+		int[] values = { 0, -7, 300, Integer.MAX_VALUE, Integer.MIN_VALUE };
+		for (int value : values) {
+			byte[] bytes = serializer.serialize(value);
+			assertEquals(Integer.toString(value), new String(bytes));
+			assertEquals(Integer.valueOf(value), serializer.deserialize(bytes));
+		}
+		try {
+			serializer.deserialize("2147483648".getBytes());
+			fail("expected exception");
+		} catch (SerializationException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testDoubleSerializer() throws Exception {
+		DoubleRedisSerializer serializer = new DoubleRedisSerializer();
+		double[] values = { 0, -0.0d, 3, -3, 1.5, -2.25, 1e20, 1e-7, Double.MAX_VALUE, Double.MIN_VALUE,
+				Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+		for (double value : values) {
+			assertEquals(Double.valueOf(value), serializer.deserialize(serializer.serialize(value)));
+		}
+		// same format as Double#toString
+		double[] formats = { 0, -0.0d, 3, -3, 9999999, 10000000, 1.5, 1e20, 1e-7 };
+		for (double value : formats) {
+			assertEquals(Double.toString(value), new String(serializer.serialize(value)));
+		}
+		assertEquals(Double.valueOf(3), serializer.deserialize("3".getBytes()));
+		assertEquals(Double.valueOf(-3), serializer.deserialize("-3.0".getBytes()));
+		assertNull(serializer.deserialize(new byte[0]));
+		assertEquals("inf", new String(serializer.serialize(Double.POSITIVE_INFINITY)));
+		assertEquals(Double.valueOf(Double.POSITIVE_INFINITY), serializer.deserialize("+inf".getBytes()));
+		assertEquals(Double.valueOf(Double.NEGATIVE_INFINITY), serializer.deserialize("-inf".getBytes()));
+		assertEquals(Double.valueOf(10.5), serializer.deserialize("10.5".getBytes()));
+	}
+
+	@Test
+	public void testGenericToStringSerializerNumbers() throws Exception {
+		GenericToStringSerializer<Long> longs = new GenericToStringSerializer<Long>(Long.class);
+		assertEquals("-1234", new String(longs.serialize(-1234L)));
+		assertEquals(Long.valueOf(-1234), longs.deserialize("-1234".getBytes()));
+
+		GenericToStringSerializer<Integer> ints = new GenericToStringSerializer<Integer>(Integer.class);
+		assertEquals(Integer.valueOf(77), ints.deserialize(ints.serialize(77)));
+
+		GenericToStringSerializer<Double> doubles = new GenericToStringSerializer<Double>(Double.class);
+		assertEquals(Double.valueOf(0.25), doubles.deserialize(doubles.serialize(0.25)));
+		assertEquals("3.0", new String(doubles.serialize(3d)));
+	}
+
+	@Test
+	public void testGenericToStringSerializerKeepsConversionServiceParsing() throws Exception {
+		GenericToStringSerializer<Long> longs = new GenericToStringSerializer<Long>(Long.class);
+		assertNull(longs.deserialize(new byte[0]));
+		assertEquals(Long.valueOf(16), longs.deserialize("0x10".getBytes()));
+		assertEquals(Long.valueOf(5), longs.deserialize(" 5 ".getBytes()));
+
+		GenericToStringSerializer<Integer> ints = new GenericToStringSerializer<Integer>(Integer.class);
+		assertNull(ints.deserialize(new byte[0]));
+		assertEquals(Integer.valueOf(255), ints.deserialize("#FF".getBytes()));
+
+		GenericToStringSerializer<Double> doubles = new GenericToStringSerializer<Double>(Double.class);
+		assertNull(doubles.deserialize(new byte[0]));
+		assertEquals(Double.valueOf(2.5), doubles.deserialize(" 2.5 ".getBytes()));
+	}
+}
@@ -21,6 +21,7 @@ import java.util.Collection;
 import org.springframework.data.redis.Person;
 import org.springframework.data.redis.SettingsUtils;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.memory.InMemoryConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
@@ -77,6 +78,19 @@ public abstract class CollectionTestParams {
 		jsonPersonTemplate.setValueSerializer(jsonSerializer);
 		jsonPersonTemplate.afterPropertiesSet();
 
+		// in-memory store
+		InMemoryConnectionFactory memoryConnFactory = new InMemoryConnectionFactory();
+
+		RedisTemplate<String, String> memoryStringTemplate = new StringRedisTemplate(memoryConnFactory);
+		RedisTemplate<String, Person> memoryPersonTemplate = new RedisTemplate<String, Person>();
+		memoryPersonTemplate.setConnectionFactory(memoryConnFactory);
+		memoryPersonTemplate.afterPropertiesSet();
+
+		RedisTemplate<String, Person> memoryJsonPersonTemplate = new RedisTemplate<String, Person>();
+		memoryJsonPersonTemplate.setConnectionFactory(memoryConnFactory);
+		memoryJsonPersonTemplate.setValueSerializer(jsonSerializer);
+		memoryJsonPersonTemplate.afterPropertiesSet();
+
 		return Arrays.asList(new Object[][] {
 				{ stringFactory, stringTemplate },
 				// { stringFactory, stringTemplateJR },
@@ -86,6 +100,9 @@ public abstract class CollectionTestParams {
 				{ personFactory, xstreamPersonTemplate },
 				// { stringFactory, xstreamStringTemplateJR },
 				// { personFactory, xstreamPersonTemplateJR },
-				{ personFactory, jsonPersonTemplate } });
+				{ personFactory, jsonPersonTemplate },
+				{ stringFactory, memoryStringTemplate },
+				{ personFactory, memoryPersonTemplate },
+				{ personFactory, memoryJsonPersonTemplate } });
 	}
 }
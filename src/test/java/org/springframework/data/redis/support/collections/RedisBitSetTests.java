@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.AbstractInMemoryTemplateTests;
+
+/**
+ * @author agent
+ */
+public class RedisBitSetTests extends AbstractInMemoryTemplateTests {
+
+	private RedisBitSet bits;
+	private RedisBitSet other;
+
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		bits = new RedisBitSet("tbits", template);
+		other = new RedisBitSet("tbits:other", template);
+	}
+
+	@Test
+	public void testSetAndGet() throws Exception {
+		assertTrue(bits.isEmpty());
+		bits.set(1, 7, 9, 20);
+		assertEquals(4, bits.cardinality());
+		assertTrue(bits.get(7));
+		assertFalse(bits.get(8));
+		assertTrue(Arrays.equals(new boolean[] { false, true, true, false, true }, bits.get(0, 1, 7, 8, 20)));
+	}
+
+	@Test
+	public void testNextSetBit() throws Exception {
+		bits.set(1, 7, 9, 20);
+		assertEquals(1, bits.nextSetBit(0));
+		assertEquals(7, bits.nextSetBit(2));
+		assertEquals(9, bits.nextSetBit(8));
+		assertEquals(-1, bits.nextSetBit(21));
+	}
+
+	@Test
+	public void testClearBits() throws Exception {
+		bits.set(1, 7, 9, 20);
+		bits.clear(7, 20);
+		assertFalse(bits.get(7));
+		assertEquals(2, bits.cardinality());
+		bits.clear();
+		assertTrue(bits.isEmpty());
+	}
+
+	@Test
+	public void testAnd() throws Exception {
+		bits.set(1, 9);
+		other.set(9, 30);
+		bits.and(other);
+		assertTrue(Arrays.equals(new boolean[] { false, true, false }, bits.get(1, 9, 30)));
+	}
+
+	@Test
+	public void testOr() throws Exception {
+		bits.set(1, 9);
+		other.set(9, 30);
+		bits.or(other);
+		assertTrue(Arrays.equals(new boolean[] { true, true, true }, bits.get(1, 9, 30)));
+		assertEquals(3, bits.cardinality());
+	}
+
+	@Test
+	public void testXor() throws Exception {
+		bits.set(1, 9);
+		other.set(9, 30);
+		bits.xor(other);
+		assertTrue(Arrays.equals(new boolean[] { true, false, true }, bits.get(1, 9, 30)));
+		other.set(1);
+		other.clear(9);
+		bits.xor(other);
+		assertTrue(bits.isEmpty());
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.AbstractInMemoryTemplateTests;
+
+/**
+ * @author agent
+ */
+public class RedisBloomFilterTests extends AbstractInMemoryTemplateTests {
+
+	private RedisBloomFilter<String> filter;
+	private List<String> elements;
+
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		filter = new RedisBloomFilter<String>("tbloom", template, 1000, 0.01);
+		elements = new ArrayList<String>();
+		for (int i = 0; i < 1000; i++) {
+			elements.add("member:" + i);
+		}
+	}
+
+	@Test
+	public void testSizing() throws Exception {
+		assertEquals(9586, filter.getBitSize());
+		assertEquals(7, filter.getHashFunctions());
+	}
+
+	@Test
+	public void testAddedElementsAreFound() throws Exception {
+		filter.addAll(elements);
+		filter.add("extra");
+		for (String element : elements) {
+			assertTrue(filter.mightContain(element));
+		}
+		assertTrue(filter.mightContain("extra"));
+	}
+
+	@Test
+	public void testFalsePositiveRate() throws Exception {
+		filter.addAll(elements);
+		int falsePositives = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (filter.mightContain("other:" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 50);
+	}
+
+	@Test
+	public void testClear() throws Exception {
+		filter.add("extra");
+		filter.clear();
+		assertFalse(filter.mightContain("extra"));
+		assertFalse(template.hasKey("tbloom"));
+	}
+
+	@Test
+	public void testSizeLimitedToRedisString() throws Exception {
+		// just below 2^32 bits (512MB)
+		RedisBloomFilter<String> filter = new RedisBloomFilter<String>("tbloom", template, 2900000000L, 0.5);
+		assertTrue(filter.getBitSize() <= (1L << 32));
+		try {
+			new RedisBloomFilter<String>("tbloom", template, 3000000000L, 0.5);
+			fail("expected exception");
+		} catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.collections;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.AbstractInMemoryTemplateTests;
+
+/**
+ * @author agent
+ */
+public class RedisHyperLogLogTests extends AbstractInMemoryTemplateTests {
+
+	private RedisHyperLogLog<String> visitors;
+	private RedisHyperLogLog<String> other;
+
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		visitors = new RedisHyperLogLog<String>("thll", template);
+		other = new RedisHyperLogLog<String>("thll:other", template);
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		assertEquals(0, visitors.size());
+	}
+
+	@Test
+	public void testSizeEstimate() throws Exception {
+		addVisitors(visitors, 0, 20000);
+		assertEquals(20000, visitors.size(), 20000 * 0.05);
+	}
+
+	@Test
+	public void testDuplicatesAreNotCounted() throws Exception {
+		addVisitors(visitors, 0, 1000);
+		long size = visitors.size();
+		addVisitors(visitors, 0, 1000);
+		visitors.add("visitor:1");
+		assertEquals(size, visitors.size());
+	}
+
+	@Test
+	public void testMerge() throws Exception {
+		addVisitors(visitors, 0, 20000);
+		addVisitors(other, 10000, 30000);
+		visitors.merge(other);
+		assertEquals(30000, visitors.size(), 30000 * 0.05);
+	}
+
+	@Test
+	public void testClear() throws Exception {
+		visitors.add("visitor:1");
+		visitors.clear();
+		assertEquals(0, visitors.size());
+		assertFalse(template.hasKey("thll"));
+	}
+
+	private static void addVisitors(RedisHyperLogLog<String> hyperLogLog, int from, int to) {
+		List<String> batch = new ArrayList<String>();
+		for (int i = from; i < to; i++) {
+			batch.add("visitor:" + i);
+			if (batch.size() == 1000) {
+				hyperLogLog.addAll(batch);
+				batch.clear();
+			}
+		}
+		hyperLogLog.addAll(batch);
+	}
+}
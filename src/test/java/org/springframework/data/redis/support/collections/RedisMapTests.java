@@ -22,6 +22,7 @@ import org.junit.runners.Parameterized.Parameters;
 import org.springframework.data.redis.Person;
 import org.springframework.data.redis.SettingsUtils;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.memory.InMemoryConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.JacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.OxmSerializer;
@@ -85,12 +86,21 @@ public class RedisMapTests extends AbstractRedisMapTests<Object, Object> {
 		jsonPersonTemplate.setHashValueSerializer(jsonStringSerializer);
 		jsonPersonTemplate.afterPropertiesSet();
 
+		// in-memory store
+		InMemoryConnectionFactory memoryConnFactory = new InMemoryConnectionFactory();
+
+		RedisTemplate memoryGenericTemplate = new RedisTemplate();
+		memoryGenericTemplate.setConnectionFactory(memoryConnFactory);
+		memoryGenericTemplate.afterPropertiesSet();
+
 		return Arrays.asList(new Object[][] {
 				{ stringFactory, stringFactory, genericTemplate },
 				{ personFactory, personFactory, genericTemplate },
 				{ stringFactory, personFactory, genericTemplate },
 				{ personFactory, stringFactory, genericTemplate },
 				{ personFactory, stringFactory, xstreamGenericTemplate },
-				{ personFactory, stringFactory, jsonPersonTemplate } });
+				{ personFactory, stringFactory, jsonPersonTemplate },
+				{ stringFactory, stringFactory, memoryGenericTemplate },
+				{ personFactory, personFactory, memoryGenericTemplate } });
 	}
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.support.copy;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.connection.DefaultStringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.memory.InMemoryConnectionFactory;
+
+/**
+ * @author agent
+ */
+public class RedisKeyCopierTests {
+
+	private InMemoryConnectionFactory sourceFactory;
+	private InMemoryConnectionFactory targetFactory;
+	private StringRedisConnection source;
+	private StringRedisConnection target;
+	private RedisKeyCopier copier;
+
+	@Before
+	public void setUp() {
+		sourceFactory = new InMemoryConnectionFactory();
+		targetFactory = new InMemoryConnectionFactory();
+		source = new DefaultStringRedisConnection(sourceFactory.getConnection());
+		target = new DefaultStringRedisConnection(targetFactory.getConnection());
+		copier = new RedisKeyCopier(sourceFactory, targetFactory);
+		copier.setBatchSize(7);
+		copier.setConcurrency(3);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		source.close();
+		target.close();
+		sourceFactory.destroy();
+		targetFactory.destroy();
+	}
+
+	@Test
+	public void testCopyPattern() throws Exception {
+		for (int i = 0; i < 50; i++) {
+			source.set("string:" + i, "value" + i);
+		}
+		source.rPush("copy:list", "a");
+		source.rPush("copy:list", "b");
+		source.rPush("copy:list", "c");
+		source.hSet("copy:hash", "field", "value");
+		source.zAdd("copy:zset", 2, "two");
+		source.zAdd("copy:zset", 1, "one");
+		source.sAdd("copy:set", "member");
+		source.pSetEx("copy:expiring", 60000, "value");
+		source.set("other", "value");
+
+		KeyCopyMetrics metrics = copier.copy("copy:*".getBytes());
+		assertEquals(5, metrics.getKeys());
+		assertEquals(5, metrics.getCopied());
+		assertEquals(0, metrics.getFailed());
+		assertTrue(metrics.getBytes() > 0);
+
+		assertEquals(Arrays.asList("a", "b", "c"), target.lRange("copy:list", 0, -1));
+		assertEquals("value", target.hGet("copy:hash", "field"));
+		assertEquals(Arrays.asList("one", "two"), new ArrayList<String>(target.zRange("copy:zset", 0, -1)));
+		assertTrue(target.sIsMember("copy:set", "member"));
+		assertTrue(target.pTtl("copy:expiring") > 50000);
+		assertEquals(Long.valueOf(-1), target.pTtl("copy:list"));
+		assertFalse(target.exists("other"));
+		assertFalse(target.exists("string:1"));
+
+		metrics = copier.copy((byte[]) null);
+		assertEquals(56, metrics.getKeys());
+		assertEquals(51, metrics.getCopied());
+		// the keys copied before cannot be restored again
+		assertEquals(5, metrics.getFailed());
+		assertNotNull(metrics.getLastFailure());
+		assertEquals("value42", target.get("string:42"));
+	}
+
+	@Test
+	public void testCopyKeys() throws Exception {
+		source.set("key", "value");
+		target.set("key", "old");
+		List<byte[]> keys = Arrays.asList("key".getBytes(), "missing".getBytes());
+
+		KeyCopyMetrics metrics = copier.copy(keys);
+		assertEquals(1, metrics.getFailed());
+		assertEquals(1, metrics.getMissing());
+		assertEquals("old", target.get("key"));
+
+		copier.setReplace(true);
+		metrics = copier.copy(keys);
+		assertEquals(1, metrics.getCopied());
+		assertEquals(0, metrics.getFailed());
+		assertEquals("value", target.get("key"));
+	}
+}